@@ -0,0 +1,11 @@
+package com.epam.esm.gym.broker.gateway;
+
+/**
+ * The identity carried by a verified JWT.
+ *
+ * @param subject   the username of the token owner
+ * @param roles     the roles claim of the token, may be {@code null}
+ * @param expiresAt the expiration of the token in milliseconds since the epoch
+ */
+public record AuthenticatedToken(String subject, String roles, long expiresAt) {
+}
@@ -1,22 +1,115 @@
 package com.epam.esm.gym.broker.gateway;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+/**
+ * Authenticates requests at the gateway before they are routed to a backend service.
+ *
+ * <p>The bearer token is verified locally by the {@link GatewayTokenVerifier}, so missing, forged,
+ * expired and malformed tokens are rejected with {@code 401} without reaching the backend. The identity of a
+ * verified token is forwarded in the {@value #USER_HEADER} and {@value #ROLES_HEADER} headers.
+ * Clients cannot set these headers themselves: they are removed from every incoming request,
+ * including requests to the public paths.</p>
+ */
 @Component
 public class AuthenticationGateWayFilter implements GatewayFilter {
 
+    public static final String USER_HEADER = "X-Authenticated-User";
+    public static final String ROLES_HEADER = "X-Authenticated-Roles";
+
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationGateWayFilter.class);
+    private static final String BEARER = "Bearer ";
+
+    private final GatewayTokenVerifier verifier;
+    private final GatewayJwtProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * Creates the filter.
+     *
+     * @param verifier   the verifier of bearer tokens
+     * @param properties the public paths
+     */
+    public AuthenticationGateWayFilter(GatewayTokenVerifier verifier, GatewayJwtProperties properties) {
+        this.verifier = verifier;
+        this.properties = properties;
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
-            return exchange.getResponse().setComplete();
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(USER_HEADER);
+                    headers.remove(ROLES_HEADER);
+                })
+                .build();
+        if (isPublic(request.getPath().value())) {
+            return chain.filter(exchange.mutate().request(request).build());
+        }
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER) || authHeader.length() == BEARER.length()) {
+            return unauthorized(exchange);
         }
-        return chain.filter(exchange);
+        return Mono.defer(() -> verifier.verify(authHeader.substring(BEARER.length())))
+                .onErrorResume(e -> {
+                    log.debug("Rejected token for {}: {}", request.getPath(), e.getMessage());
+                    return Mono.empty();
+                })
+                .flatMap(token -> chain.filter(exchange.mutate()
+                                .request(withIdentity(request, token))
+                                .build())
+                        .thenReturn(true))
+                .switchIfEmpty(Mono.defer(() -> unauthorized(exchange).thenReturn(false)))
+                .then();
+    }
+
+    /**
+     * Checks whether the path is reachable without a token.
+     *
+     * @param path the request path
+     * @return {@code true} if the path matches one of the public paths
+     */
+    private boolean isPublic(String path) {
+        return properties.getPublicPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /**
+     * Adds the identity of the verified token to the request forwarded to the backend.
+     *
+     * @param request the incoming request without identity headers
+     * @param token   the verified token
+     * @return the request to forward
+     */
+    private ServerHttpRequest withIdentity(ServerHttpRequest request, AuthenticatedToken token) {
+        return request.mutate()
+                .headers(headers -> {
+                    headers.set(USER_HEADER, token.subject());
+                    if (token.roles() != null) {
+                        headers.set(ROLES_HEADER, token.roles());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Completes the exchange with {@code 401 Unauthorized}.
+     *
+     * @param exchange the current exchange
+     * @return completion of the response
+     */
+    private Mono<Void> unauthorized(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return exchange.getResponse().setComplete();
     }
 }
@@ -0,0 +1,87 @@
+package com.epam.esm.gym.broker.gateway;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for verifying JWTs at the gateway.
+ * <p>
+ * Tokens are verified against the JSON Web Key Set published by the user service. The key set is
+ * cached for {@link #jwksRefreshInterval} and verified tokens are cached until they expire,
+ * bounded by {@link #claimsCacheMaxSize} entries.
+ * </p>
+ */
+@Component
+@ConfigurationProperties("gateway.jwt")
+public class GatewayJwtProperties {
+
+    /**
+     * The location of the JSON Web Key Set of the user service, resolved through the load balancer.
+     */
+    private String jwksUri = "http://USER-SERVICE/.well-known/jwks.json";
+
+    /**
+     * How long the key set is used before it is fetched again, in milliseconds.
+     */
+    private long jwksRefreshInterval = 300000;
+
+    /**
+     * The minimum delay between two fetches after an unknown key or a failed fetch, in milliseconds.
+     */
+    private long jwksReloadBackoff = 5000;
+
+    /**
+     * The maximum number of cached verified tokens.
+     */
+    private int claimsCacheMaxSize = 10000;
+
+    /**
+     * Path patterns reachable without a token.
+     */
+    private List<String> publicPaths = new ArrayList<>(List.of(
+            "/api/trainers/register",
+            "/api/trainees/register"));
+
+    public String getJwksUri() {
+        return jwksUri;
+    }
+
+    public void setJwksUri(String jwksUri) {
+        this.jwksUri = jwksUri;
+    }
+
+    public long getJwksRefreshInterval() {
+        return jwksRefreshInterval;
+    }
+
+    public void setJwksRefreshInterval(long jwksRefreshInterval) {
+        this.jwksRefreshInterval = jwksRefreshInterval;
+    }
+
+    public long getJwksReloadBackoff() {
+        return jwksReloadBackoff;
+    }
+
+    public void setJwksReloadBackoff(long jwksReloadBackoff) {
+        this.jwksReloadBackoff = jwksReloadBackoff;
+    }
+
+    public int getClaimsCacheMaxSize() {
+        return claimsCacheMaxSize;
+    }
+
+    public void setClaimsCacheMaxSize(int claimsCacheMaxSize) {
+        this.claimsCacheMaxSize = claimsCacheMaxSize;
+    }
+
+    public List<String> getPublicPaths() {
+        return publicPaths;
+    }
+
+    public void setPublicPaths(List<String> publicPaths) {
+        this.publicPaths = publicPaths;
+    }
+}
@@ -0,0 +1,158 @@
+package com.epam.esm.gym.broker.gateway;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verifies the signature and expiry of JWTs against the keys published by the user service.
+ *
+ * <p>Verified tokens are cached by their SHA-256 digest until they expire, so a client repeating a
+ * token skips signature verification. When the cache is full, expired entries are dropped first and
+ * then the entries closest to expiry. Only valid tokens are cached.</p>
+ *
+ * <p>The gateway does not see revocations; a logged out token passes the gateway until it expires
+ * and is rejected by the user service.</p>
+ */
+@Component
+public class GatewayTokenVerifier {
+
+    public static final String ROLES_CLAIM = "roles";
+    public static final String CACHE_REQUESTS = "gateway.jwt.cache.requests";
+    public static final String CACHE_SIZE = "gateway.jwt.cache.size";
+
+    private final JwksKeyStore keyStore;
+    private final GatewayJwtProperties properties;
+    private final JwtParser parser;
+    private final Map<String, AuthenticatedToken> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Creates the verifier and registers its cache metrics.
+     *
+     * @param keyStore   the cache of the published signing keys
+     * @param properties the cache settings
+     * @param registry   the meter registry
+     */
+    public GatewayTokenVerifier(JwksKeyStore keyStore, GatewayJwtProperties properties, MeterRegistry registry) {
+        this.keyStore = keyStore;
+        this.properties = properties;
+        this.parser = Jwts.parser().keyLocator(new LocatorAdapter<Key>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                Key key = keyStore.key(header.getKeyId());
+                if (key == null) {
+                    throw new UnknownSigningKeyException(header.getKeyId());
+                }
+                return key;
+            }
+        }).build();
+        this.hits = registry.counter(CACHE_REQUESTS, "result", "hit");
+        this.misses = registry.counter(CACHE_REQUESTS, "result", "miss");
+        Gauge.builder(CACHE_SIZE, entries, Map::size)
+                .description("Number of cached verified tokens")
+                .register(registry);
+    }
+
+    /**
+     * Verifies the token, using the cached result if the token was verified before.
+     * A token signed with an unknown key is verified again after reloading the key set.
+     *
+     * @param token the JWT token
+     * @return the identity carried by the token, or an error if the token is invalid or expired
+     */
+    public Mono<AuthenticatedToken> verify(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        AuthenticatedToken cached = entries.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+            entries.remove(digest, cached);
+        }
+        misses.increment();
+        return keyStore.keys()
+                .map(keys -> parse(token))
+                .onErrorResume(UnknownSigningKeyException.class, e -> keyStore.reload().map(keys -> parse(token)))
+                .doOnNext(verified -> store(digest, verified));
+    }
+
+    /**
+     * Verifies the token against the cached keys.
+     *
+     * @param token the JWT token
+     * @return the identity carried by the token
+     */
+    private AuthenticatedToken parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Date expiration = claims.getExpiration();
+        return new AuthenticatedToken(claims.getSubject(), claims.get(ROLES_CLAIM, String.class),
+                expiration == null ? 0 : expiration.getTime());
+    }
+
+    /**
+     * Caches a verified token until it expires.
+     *
+     * @param digest   the digest of the token
+     * @param verified the identity carried by the token
+     */
+    private void store(String digest, AuthenticatedToken verified) {
+        long now = System.currentTimeMillis();
+        if (verified.expiresAt() <= now) {
+            return;
+        }
+        if (entries.size() >= properties.getClaimsCacheMaxSize()) {
+            evict(now);
+        }
+        entries.put(digest, verified);
+    }
+
+    /**
+     * Makes room for a new entry, dropping expired entries first and the entries
+     * closest to expiry after that.
+     *
+     * @param now the current time in milliseconds
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        while (!entries.isEmpty() && entries.size() >= properties.getClaimsCacheMaxSize()) {
+            entries.entrySet().stream()
+                    .min(Map.Entry.comparingByValue((a, b) -> Long.compare(a.expiresAt(), b.expiresAt())))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    /**
+     * Returns the digest identifying the token in the cache.
+     *
+     * @param token the JWT token
+     * @return the URL-safe Base64 encoded SHA-256 digest of the token
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.epam.esm.gym.broker.gateway;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Configures the client fetching the JSON Web Key Set of the user service.
+ */
+@Configuration
+public class JwksClientConfig {
+
+    /**
+     * Creates a web client builder resolving service ids through the discovery service.
+     *
+     * @return the load balanced web client builder
+     */
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+}
@@ -0,0 +1,146 @@
+package com.epam.esm.gym.broker.gateway;
+
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache of the public keys published by the user service as a JSON Web Key Set.
+ *
+ * <p>The key set is fetched lazily and kept for {@code gateway.jwt.jwks-refresh-interval}. A token
+ * naming an unknown key id triggers an early fetch, at most once per
+ * {@code gateway.jwt.jwks-reload-backoff}, so keys pre-published by the user service are picked up
+ * without letting invalid tokens hammer it. Concurrent fetches are collapsed into one, and a failed
+ * fetch keeps the previous keys; the same backoff applies before a stale or missing key set is
+ * fetched again, so an unreachable user service is not called on every request.</p>
+ */
+@Component
+public class JwksKeyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyStore.class);
+
+    private final WebClient webClient;
+    private final GatewayJwtProperties properties;
+    private final AtomicReference<Mono<Map<String, Key>>> pending = new AtomicReference<>();
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile long fetchedAt;
+    private volatile long attemptedAt;
+
+    /**
+     * Creates the key store.
+     *
+     * @param webClientBuilder the load balanced builder of the client fetching the key set
+     * @param properties       the key set location and refresh settings
+     */
+    public JwksKeyStore(@LoadBalanced WebClient.Builder webClientBuilder, GatewayJwtProperties properties) {
+        this.webClient = webClientBuilder.build();
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the cached key with the given id without fetching the key set.
+     *
+     * @param kid the key id from the token header
+     * @return the key, or {@code null} if it is unknown
+     */
+    public Key key(String kid) {
+        return kid == null ? null : keys.get(kid);
+    }
+
+    /**
+     * Returns the current keys, fetching the key set first if it is missing or stale.
+     *
+     * @return the keys by key id
+     */
+    public Mono<Map<String, Key>> keys() {
+        if (fetchedAt > 0 && System.currentTimeMillis() - fetchedAt < properties.getJwksRefreshInterval()) {
+            return Mono.just(keys);
+        }
+        return fetchUnlessAttemptedRecently();
+    }
+
+    /**
+     * Fetches the key set again after a token named an unknown key, unless it was fetched recently.
+     *
+     * @return the keys by key id
+     */
+    public Mono<Map<String, Key>> reload() {
+        return fetchUnlessAttemptedRecently();
+    }
+
+    /**
+     * Fetches the key set unless a fetch was attempted within the reload backoff,
+     * joining a fetch that is still in progress.
+     *
+     * @return the keys by key id
+     */
+    private Mono<Map<String, Key>> fetchUnlessAttemptedRecently() {
+        if (pending.get() == null
+                && System.currentTimeMillis() - attemptedAt < properties.getJwksReloadBackoff()) {
+            return Mono.just(keys);
+        }
+        return fetch();
+    }
+
+    /**
+     * Fetches the key set, joining a fetch that is already in progress.
+     *
+     * @return the keys by key id
+     */
+    private Mono<Map<String, Key>> fetch() {
+        Mono<Map<String, Key>> current = pending.get();
+        if (current != null) {
+            return current;
+        }
+        Mono<Map<String, Key>> request = webClient.get()
+                .uri(properties.getJwksUri())
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(this::parse)
+                .doOnNext(loaded -> {
+                    keys = loaded;
+                    fetchedAt = System.currentTimeMillis();
+                    log.debug("Loaded {} signing keys from {}", loaded.size(), properties.getJwksUri());
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to fetch signing keys from {}: {}", properties.getJwksUri(), e.getMessage());
+                    return Mono.just(keys);
+                })
+                .doFinally(signal -> pending.set(null))
+                .cache();
+        if (!pending.compareAndSet(null, request)) {
+            Mono<Map<String, Key>> concurrent = pending.get();
+            return concurrent != null ? concurrent : Mono.just(keys);
+        }
+        attemptedAt = System.currentTimeMillis();
+        return request;
+    }
+
+    /**
+     * Parses a JSON Web Key Set, keeping only the public keys.
+     *
+     * @param json the key set document
+     * @return the public keys by key id
+     */
+    private Map<String, Key> parse(String json) {
+        JwkSet set = Jwks.setParser().build().parse(json);
+        Map<String, Key> parsed = new HashMap<>();
+        set.getKeys().forEach(jwk -> {
+            if (jwk instanceof PublicJwk<?> publicJwk && publicJwk.getId() != null) {
+                parsed.put(publicJwk.getId(), publicJwk.toKey());
+            }
+        });
+        return Map.copyOf(parsed);
+    }
+}
@@ -5,9 +5,22 @@ import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Configures the routes of the gateway.
+ * Every route is authenticated by the {@link AuthenticationGateWayFilter}. These are the only routes:
+ * the configuration defines none and the discovery locator is disabled, so no route to a backend
+ * service bypasses the filter.
+ */
 @Configuration
 public class RoutesConfig {
 
+    /**
+     * Creates the routes to the backend services.
+     *
+     * @param builder                     the route builder
+     * @param authenticationGateWayFilter the filter verifying bearer tokens
+     * @return the route locator
+     */
     @Bean
     public RouteLocator userServiceRoute(
             RouteLocatorBuilder builder,
@@ -17,12 +30,16 @@ public class RoutesConfig {
                         .filters(f -> f.filter(authenticationGateWayFilter))
                         .uri("lb://USER-SERVICE"))
                 .route("training-service", spec -> spec.path("/api/trainings/**")
+                        .filters(f -> f.filter(authenticationGateWayFilter))
                         .uri("lb://TRAINING-SERVICE"))
                 .route("workload-service", spec -> spec.path("/api/workload/**")
+                        .filters(f -> f.filter(authenticationGateWayFilter))
                         .uri("lb://WORKLOAD-SERVICE"))
                 .route("trainer-service", spec -> spec.path("/api/trainers/**")
+                        .filters(f -> f.filter(authenticationGateWayFilter))
                         .uri("lb://TRAINER-SERVICE"))
                 .route("trainee-service", spec -> spec.path("/api/trainees/**")
+                        .filters(f -> f.filter(authenticationGateWayFilter))
                         .uri("lb://TRAINEE-SERVICE"))
                 .build();
     }
@@ -0,0 +1,18 @@
+package com.epam.esm.gym.broker.gateway;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Thrown when a token names a signing key that is not in the cached key set.
+ */
+public class UnknownSigningKeyException extends JwtException {
+
+    /**
+     * Creates the exception.
+     *
+     * @param kid the key id from the token header
+     */
+    public UnknownSigningKeyException(String kid) {
+        super("Unknown signing key: " + kid);
+    }
+}
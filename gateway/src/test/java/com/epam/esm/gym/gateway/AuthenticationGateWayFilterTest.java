@@ -0,0 +1,186 @@
+package com.epam.esm.gym.gateway;
+
+import com.epam.esm.gym.broker.gateway.AuthenticationGateWayFilter;
+import com.epam.esm.gym.broker.gateway.GatewayJwtProperties;
+import com.epam.esm.gym.broker.gateway.GatewayTokenVerifier;
+import com.epam.esm.gym.broker.gateway.JwksKeyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for the {@link AuthenticationGateWayFilter} class.
+ * Tokens are signed with a generated key published through a stubbed JWKS endpoint.
+ */
+class AuthenticationGateWayFilterTest {
+
+    private static final String KID = "key-1";
+    private static final String USERNAME = "John.Doe";
+
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange);
+        return Mono.empty();
+    };
+    private KeyPair keyPair;
+    private AuthenticationGateWayFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        String jwks = new ObjectMapper().writeValueAsString(Map.of("keys", List.of(
+                Jwks.builder().key((RSAPublicKey) keyPair.getPublic()).id(KID).build())));
+        WebClient.Builder webClient = WebClient.builder().exchangeFunction(request -> {
+            jwksRequests.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(jwks)
+                    .build());
+        });
+        GatewayJwtProperties properties = new GatewayJwtProperties();
+        GatewayTokenVerifier verifier = new GatewayTokenVerifier(
+                new JwksKeyStore(webClient, properties), properties, new SimpleMeterRegistry());
+        filter = new AuthenticationGateWayFilter(verifier, properties);
+    }
+
+    @Test
+    void testValidTokenForwardsIdentity() {
+        MockServerWebExchange exchange = exchange("/api/trainees/" + USERNAME, token(KID, 60000));
+
+        filter.filter(exchange, chain).block();
+
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertEquals(USERNAME, headers.getFirst(AuthenticationGateWayFilter.USER_HEADER));
+        assertEquals("TRAINEE", headers.getFirst(AuthenticationGateWayFilter.ROLES_HEADER));
+    }
+
+    @Test
+    void testVerifiedTokenIsCached() {
+        String token = token(KID, 60000);
+
+        filter.filter(exchange("/api/trainings", token), chain).block();
+        filter.filter(exchange("/api/trainings", token), chain).block();
+
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    void testMissingTokenIsRejected() {
+        MockServerWebExchange exchange = exchange("/api/users", null);
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(forwarded.get());
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+        MockServerWebExchange exchange = exchange("/api/users", token(KID, -60000));
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(forwarded.get());
+    }
+
+    @Test
+    void testForgedTokenIsRejected() {
+        MockServerWebExchange exchange = exchange("/api/workload", token("unknown", 60000));
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(forwarded.get());
+    }
+
+    @Test
+    void testBlankTokenIsRejected() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer    "));
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(forwarded.get());
+    }
+
+    @Test
+    void testFailedKeyFetchIsNotRepeatedWithinBackoff() {
+        AtomicInteger failedRequests = new AtomicInteger();
+        WebClient.Builder webClient = WebClient.builder().exchangeFunction(request -> {
+            failedRequests.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        });
+        GatewayJwtProperties properties = new GatewayJwtProperties();
+        AuthenticationGateWayFilter unavailable = new AuthenticationGateWayFilter(new GatewayTokenVerifier(
+                new JwksKeyStore(webClient, properties), properties, new SimpleMeterRegistry()), properties);
+        String token = token(KID, 60000);
+
+        MockServerWebExchange first = exchange("/api/trainings", token);
+        unavailable.filter(first, chain).block();
+        unavailable.filter(exchange("/api/trainings", token), chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, first.getResponse().getStatusCode());
+        assertEquals(1, failedRequests.get());
+    }
+
+    @Test
+    void testSpoofedIdentityIsRemovedOnPublicPath() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("/api/trainees/register")
+                .header(AuthenticationGateWayFilter.USER_HEADER, "admin"));
+
+        filter.filter(exchange, chain).block();
+
+        assertNull(forwarded.get().getRequest().getHeaders().getFirst(AuthenticationGateWayFilter.USER_HEADER));
+    }
+
+    private MockServerWebExchange exchange(String path, String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path)
+                .header(AuthenticationGateWayFilter.USER_HEADER, "admin");
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private String token(String kid, long lifetime) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .subject(USERNAME)
+                .claim(GatewayTokenVerifier.ROLES_CLAIM, "TRAINEE")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + lifetime))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+}
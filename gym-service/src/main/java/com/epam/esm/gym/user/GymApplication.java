@@ -3,12 +3,15 @@ package com.epam.esm.gym.user;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The entry point of the Gym application.
  *
- * <p>This class contains the main method which is used to launch the Spring Boot application.</p>
+ * <p>This class contains the main method which is used to launch the Spring Boot application.
+ * Scheduling is enabled for the trainer synchronisation and the outbox relay.</p>
  */
+@EnableScheduling
 @EnableFeignClients
 @SpringBootApplication
 public class GymApplication {
@@ -1,8 +1,10 @@
 package com.epam.esm.gym.user.actuator;
 
+import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -63,4 +65,17 @@ public class MetricsConfig {
         meterRegistry.gauge("custom_metric_one", 42);
         meterRegistry.counter("custom_metric_two").increment();
     }
+
+    /**
+     * Registers the aspect that backs {@link io.micrometer.core.annotation.Timed} on Spring beans.
+     *
+     * <p>Without this aspect the {@code @Timed} annotations placed on broker publishers are ignored.
+     * Timers created through it are registered in the same {@link MeterRegistry} as the custom metrics.</p>
+     *
+     * @return the {@link TimedAspect} bound to the application meter registry
+     */
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
 }
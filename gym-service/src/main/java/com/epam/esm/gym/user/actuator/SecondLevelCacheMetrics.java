@@ -0,0 +1,67 @@
+package com.epam.esm.gym.user.actuator;
+
+import com.epam.esm.gym.user.entity.TrainingType;
+import com.epam.esm.gym.user.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Exposes the hit ratio of every Hibernate second-level cache region of the service as a gauge.
+ *
+ * <p>The raw hit and miss counters of the regions are published by the Hibernate metrics binder;
+ * the ratio is what the cache is tuned by, so it is published directly, tagged by region.
+ * Nothing is registered unless the second-level cache is enabled, and the ratios stay at zero
+ * unless Hibernate statistics are enabled as well.</p>
+ */
+@Component
+public class SecondLevelCacheMetrics {
+
+    public static final String HIT_RATIO = "hibernate.cache.hit.ratio";
+
+    private static final Map<String, BiFunction<Statistics, String, CacheRegionStatistics>> REGIONS = Map.of(
+            User.CACHE_REGION, Statistics::getDomainDataRegionStatistics,
+            User.USERNAME_CACHE_REGION, Statistics::getDomainDataRegionStatistics,
+            TrainingType.CACHE_REGION, Statistics::getDomainDataRegionStatistics,
+            TrainingType.SPECIALIZATION_CACHE_REGION, Statistics::getQueryRegionStatistics);
+
+    /**
+     * Registers a hit ratio gauge for every cache region.
+     *
+     * @param entityManagerFactory the entity manager factory owning the cache regions
+     * @param registry             the meter registry
+     */
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry registry) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        REGIONS.forEach((region, lookup) -> Gauge.builder(HIT_RATIO, statistics,
+                        stats -> hitRatio(lookup.apply(stats, region)))
+                .description("Share of second-level cache lookups answered without the database")
+                .tag("region", region)
+                .register(registry));
+    }
+
+    /**
+     * Computes the hit ratio of a cache region.
+     *
+     * @param region the statistics of the region, {@code null} if statistics are disabled
+     * @return the share of hits among all lookups, {@code 0} if there were no lookups
+     */
+    static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return 0;
+        }
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? 0 : (double) region.getHitCount() / lookups;
+    }
+}
@@ -0,0 +1,83 @@
+package com.epam.esm.gym.user.actuator;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counts the SQL work done by the current thread between {@link #begin()} and {@link #end()}.
+ *
+ * <p>The global Hibernate statistics add up the work of all concurrent requests, so they cannot
+ * tell which endpoint issued a statement. These counters are bound to the thread serving one
+ * request instead: prepared statements are counted by {@link SqlStatisticsConfig#statementInspector()},
+ * loaded entities and lazily fetched collections by {@link SqlStatisticsListener}. Work outside a
+ * begun scope is not counted.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long entitiesLoaded;
+    private long collectionsFetched;
+
+    /**
+     * Starts counting on the current thread, replacing any scope begun earlier.
+     *
+     * @return the counters of the new scope
+     */
+    public static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return the counters of the ended scope, or {@code null} if none was begun
+     */
+    public static SqlStatistics end() {
+        SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    /**
+     * Counts a prepared statement in the scope of the current thread, if any.
+     */
+    static void statementPrepared() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    /**
+     * Counts a loaded entity in the scope of the current thread, if any.
+     */
+    static void entityLoaded() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entitiesLoaded++;
+        }
+    }
+
+    /**
+     * Counts a lazily fetched collection in the scope of the current thread, if any.
+     */
+    static void collectionFetched() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.collectionsFetched++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d statements, %d entities loaded, %d collections fetched",
+                statements, entitiesLoaded, collectionsFetched);
+    }
+}
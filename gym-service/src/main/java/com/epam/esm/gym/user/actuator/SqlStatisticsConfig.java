@@ -0,0 +1,55 @@
+package com.epam.esm.gym.user.actuator;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hooks the per-thread {@link SqlStatistics} counters into Hibernate.
+ *
+ * <p>Statements are counted by a {@link StatementInspector}, which sees every SQL string Hibernate
+ * prepares; entities and collections by a {@link SqlStatisticsListener} on the session factory.</p>
+ *
+ * @see SqlStatisticsInterceptor
+ */
+@Configuration
+public class SqlStatisticsConfig {
+
+    /**
+     * Creates the inspector counting prepared statements; it leaves the SQL unchanged.
+     *
+     * @return the statement inspector
+     */
+    @Bean
+    public StatementInspector statementInspector() {
+        return sql -> {
+            SqlStatistics.statementPrepared();
+            return sql;
+        };
+    }
+
+    /**
+     * Registers the statement inspector with Hibernate.
+     *
+     * @param statementInspector the statement inspector
+     * @return the customizer of the Hibernate settings
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(StatementInspector statementInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+
+    /**
+     * Creates the listener counting loaded entities and lazily fetched collections.
+     *
+     * @param entityManagerFactory the entity manager factory to listen to
+     * @return the listener
+     */
+    @Bean
+    public SqlStatisticsListener sqlStatisticsListener(EntityManagerFactory entityManagerFactory) {
+        return new SqlStatisticsListener(entityManagerFactory);
+    }
+}
@@ -0,0 +1,76 @@
+package com.epam.esm.gym.user.actuator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the SQL work of every handled request as histograms tagged by endpoint.
+ *
+ * <p>Counting starts before the handler runs and ends after the response is written, so lazy
+ * loading during serialization is included. The distributions of prepared statements, loaded
+ * entities and lazily fetched collections are published per HTTP method and URI pattern; an endpoint
+ * whose statement count grows with the size of its response shows up as a widening histogram.
+ * The counters of the request are also kept in the {@link #ATTRIBUTE} request attribute.</p>
+ */
+public class SqlStatisticsInterceptor implements HandlerInterceptor {
+
+    public static final String ATTRIBUTE = SqlStatistics.class.getName();
+    public static final String STATEMENTS = "http.server.requests.sql.statements";
+    public static final String ENTITIES_LOADED = "http.server.requests.sql.entities.loaded";
+    public static final String COLLECTIONS_FETCHED = "http.server.requests.sql.collections.fetched";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param registry the meter registry
+     */
+    public SqlStatisticsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatistics.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        SqlStatistics statistics = SqlStatistics.end();
+        if (statistics == null) {
+            return;
+        }
+        request.setAttribute(ATTRIBUTE, statistics);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        record(STATEMENTS, "SQL statements prepared per request", tags, statistics.getStatements());
+        record(ENTITIES_LOADED, "Entities loaded per request", tags, statistics.getEntitiesLoaded());
+        record(COLLECTIONS_FETCHED, "Collections fetched lazily per request", tags,
+                statistics.getCollectionsFetched());
+    }
+
+    /**
+     * Records one value into the histogram of the endpoint.
+     *
+     * @param name        the meter name
+     * @param description the meter description
+     * @param tags        the endpoint tags
+     * @param value       the value of the request
+     */
+    private void record(String name, String description, Tags tags, long value) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(value);
+    }
+}
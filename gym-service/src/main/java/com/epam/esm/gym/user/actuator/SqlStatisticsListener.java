@@ -0,0 +1,44 @@
+package com.epam.esm.gym.user.actuator;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Counts loaded entities and lazily fetched collections into the {@link SqlStatistics} of the current thread.
+ *
+ * <p>A collection is only initialized through an event when it is fetched lazily, by a statement
+ * of its own; collections fetched with their owner do not fire it. A growing collection count per
+ * request is therefore the signature of an N+1 access pattern. Entities are counted whenever they
+ * are loaded into a session, including from the second-level cache, which Hibernate's own entity
+ * load statistics leave out.</p>
+ */
+public class SqlStatisticsListener implements PostLoadEventListener, InitializeCollectionEventListener {
+
+    /**
+     * Creates the listener and appends it to the event listeners of the session factory.
+     *
+     * @param entityManagerFactory the entity manager factory to listen to
+     */
+    public SqlStatisticsListener(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_LOAD, this);
+        listeners.appendListeners(EventType.INIT_COLLECTION, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlStatistics.entityLoaded();
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        SqlStatistics.collectionFetched();
+    }
+}
@@ -0,0 +1,234 @@
+package com.epam.esm.gym.user.broker;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes JMS messages asynchronously through a bounded in-process queue.
+ *
+ * <p>Messages are queued by the caller and sent by a fixed number of dedicated sender threads,
+ * so request threads no longer wait on the broker. The returned future completes once the
+ * message has been handed over to the broker, or stored in the outbox when it was spilled,
+ * and completes exceptionally if the send fails or the message is rejected or dropped.
+ * When the queue is full the configured {@link OverflowPolicy} decides what happens.</p>
+ *
+ * <p>Queued messages live in memory only and are sent independently of the caller's
+ * database transaction. Events that must survive a restart or must not be sent for a
+ * rolled back change belong in the {@link OutboxService} instead.</p>
+ */
+@Slf4j
+@Component
+public class AsyncJmsPublisher {
+
+    private static final long POLL_TIMEOUT = 100;
+
+    private final MessageTransport transport;
+    private final JmsMetrics jmsMetrics;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncPublishProperties properties;
+    private final BlockingDeque<PendingMessage> queue;
+    private ExecutorService senders;
+    private volatile boolean stopped;
+
+    /**
+     * Creates the publisher and registers the send queue gauges.
+     *
+     * @param transport          the transport publishing to the broker
+     * @param jmsMetrics         the publish metrics recorder
+     * @param outboxService      the outbox used by the {@link OverflowPolicy#SPILL_TO_OUTBOX} policy
+     * @param transactionManager the transaction manager used when spilling to the outbox
+     * @param properties         the queue and sender settings
+     */
+    public AsyncJmsPublisher(MessageTransport transport,
+                             JmsMetrics jmsMetrics,
+                             OutboxService outboxService,
+                             PlatformTransactionManager transactionManager,
+                             AsyncPublishProperties properties) {
+        this.transport = transport;
+        this.jmsMetrics = jmsMetrics;
+        this.outboxService = outboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new LinkedBlockingDeque<>(properties.getCapacity());
+        jmsMetrics.registerSendQueue(queue, properties.getCapacity());
+    }
+
+    /**
+     * Starts the sender threads.
+     */
+    @PostConstruct
+    public void start() {
+        int threads = properties.getSenderThreads();
+        senders = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("jms-sender-", 0).factory());
+        for (int i = 0; i < threads; i++) {
+            senders.execute(this::drain);
+        }
+    }
+
+    /**
+     * Stops accepting messages and gives the sender threads time to drain the queue.
+     * Messages still queued after the shutdown timeout are failed.
+     */
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (senders == null) {
+            return;
+        }
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(properties.getShutdownTimeout(), TimeUnit.MILLISECONDS)) {
+                senders.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            senders.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        PendingMessage message;
+        while ((message = queue.poll()) != null) {
+            log.warn("Message to {} was not sent before shutdown", message.destination());
+            message.future().completeExceptionally(
+                    new IllegalStateException("Publisher stopped before the message was sent"));
+        }
+    }
+
+    /**
+     * Queues a message for asynchronous delivery to the specified JMS destination.
+     *
+     * @param destination the JMS queue or topic to send the message to
+     * @param key         the ordering key of the message, may be {@code null}
+     * @param payload     the message to send
+     * @return a future completed when the message has been sent or stored in the outbox
+     */
+    public CompletableFuture<Void> publish(String destination, String key, String payload) {
+        PendingMessage message = new PendingMessage(destination, key, payload, new CompletableFuture<>());
+        if (stopped) {
+            message.future().completeExceptionally(new RejectedExecutionException("Publisher is stopped"));
+        } else if (!queue.offer(message)) {
+            overflow(message);
+        }
+        return message.future();
+    }
+
+    /**
+     * Handles a message that did not fit into the send queue according to the overflow policy.
+     *
+     * @param message the message to handle
+     */
+    private void overflow(PendingMessage message) {
+        OverflowPolicy policy = properties.getOverflowPolicy();
+        jmsMetrics.recordOverflow(message.destination(), policy);
+        switch (policy) {
+            case BLOCK -> block(message);
+            case DROP_OLDEST -> dropOldest(message);
+            case SPILL_TO_OUTBOX -> spill(message);
+            default -> throw new IllegalStateException("Unsupported overflow policy " + policy);
+        }
+    }
+
+    /**
+     * Waits for free space in the send queue and rejects the message if none becomes available in time.
+     *
+     * @param message the message to queue
+     */
+    private void block(PendingMessage message) {
+        try {
+            if (!queue.offer(message, properties.getBlockTimeout(), TimeUnit.MILLISECONDS)) {
+                message.future().completeExceptionally(new RejectedExecutionException(
+                        "Send queue is full, message to " + message.destination() + " rejected"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            message.future().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Discards the oldest queued messages until the new message fits into the send queue.
+     *
+     * @param message the message to queue
+     */
+    private void dropOldest(PendingMessage message) {
+        while (!queue.offer(message)) {
+            PendingMessage dropped = queue.pollFirst();
+            if (dropped != null) {
+                log.warn("Send queue is full, dropping message to {}", dropped.destination());
+                dropped.future().completeExceptionally(new RejectedExecutionException(
+                        "Message to " + dropped.destination() + " dropped from a full send queue"));
+            }
+        }
+    }
+
+    /**
+     * Stores the message in the outbox, joining the caller's transaction if there is one.
+     *
+     * @param message the message to store
+     */
+    private void spill(PendingMessage message) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxService.enqueuePayload(message.destination(), message.key(), message.payload()));
+            message.future().complete(null);
+        } catch (RuntimeException e) {
+            log.error("Failed to spill message to {} into the outbox: {}", message.destination(), e.getMessage());
+            message.future().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Sends queued messages until the publisher is stopped and the queue is empty.
+     */
+    private void drain() {
+        while (!stopped || !queue.isEmpty()) {
+            try {
+                PendingMessage message = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (message != null) {
+                    send(message);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends a single message and completes its future with the outcome.
+     *
+     * @param message the message to send
+     */
+    private void send(PendingMessage message) {
+        try {
+            jmsMetrics.recordPublish(message.destination(),
+                    () -> transport.send(message.destination(), message.key(), message.payload()));
+            message.future().complete(null);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish message to {}: {}", message.destination(), e.getMessage());
+            message.future().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A message waiting in the send queue together with the future reported back to the caller.
+     *
+     * @param destination the JMS destination
+     * @param key         the ordering key, may be {@code null}
+     * @param payload     the message body
+     * @param future      the future completed with the send outcome
+     */
+    private record PendingMessage(String destination, String key, String payload, CompletableFuture<Void> future) {
+    }
+}
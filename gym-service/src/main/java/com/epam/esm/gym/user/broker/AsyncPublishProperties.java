@@ -0,0 +1,55 @@
+package com.epam.esm.gym.user.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for asynchronous JMS publishing.
+ * <p>
+ * Messages published asynchronously are placed on a bounded in-process queue and sent by
+ * dedicated sender threads. Callers opt in per use case through the feature flags below.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("jms.async")
+public class AsyncPublishProperties {
+
+    /**
+     * The maximum number of messages waiting to be sent.
+     */
+    private int capacity = 1000;
+
+    /**
+     * The number of threads draining the send queue.
+     */
+    private int senderThreads = 2;
+
+    /**
+     * What to do with a message when the send queue is full.
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * How long the {@link OverflowPolicy#BLOCK} policy waits for free space, in milliseconds.
+     */
+    private long blockTimeout = 5000;
+
+    /**
+     * How long the sender threads are given to drain the queue on shutdown, in milliseconds.
+     */
+    private long shutdownTimeout = 10000;
+
+    /**
+     * Whether workload updates are published asynchronously.
+     */
+    private boolean workloadUpdates;
+
+    /**
+     * Whether training events are published asynchronously.
+     */
+    private boolean trainingEvents;
+}
@@ -0,0 +1,26 @@
+package com.epam.esm.gym.user.broker;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MessageTransport} sending workload events to ActiveMQ queues.
+ * The ordering key is ignored, since queues give no per-key ordering.
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "workload.transport.type", havingValue = "jms", matchIfMissing = true)
+public class JmsMessageTransport implements MessageTransport {
+
+    private final JmsTemplate jmsTemplate;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void send(String destination, String key, String payload) {
+        jmsTemplate.convertAndSend(destination, payload);
+    }
+}
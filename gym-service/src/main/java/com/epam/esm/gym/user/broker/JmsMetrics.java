@@ -0,0 +1,107 @@
+package com.epam.esm.gym.user.broker;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records Micrometer meters for messages published to the JMS broker.
+ *
+ * <p>Every publish is timed and tagged by destination and outcome, failed publishes are
+ * counted by exception type, and the number of sends currently in progress is exposed
+ * as a gauge per destination. Messages routed to the dead letter queue show up under the
+ * dead letter destination tag, which is what the dashboard uses for the DLQ rate.</p>
+ *
+ * <p>For asynchronous publishing the depth of the in-process send queue and the overflows
+ * handled by the configured {@link OverflowPolicy} are recorded as well.</p>
+ */
+@Component
+@AllArgsConstructor
+public class JmsMetrics {
+
+    public static final String PUBLISH_TIMER = "jms.publish";
+    public static final String PUBLISH_ERRORS = "jms.publish.errors";
+    public static final String PUBLISH_IN_FLIGHT = "jms.publish.in.flight";
+    public static final String SEND_QUEUE_DEPTH = "jms.send.queue.depth";
+    public static final String SEND_QUEUE_CAPACITY = "jms.send.queue.capacity";
+    public static final String SEND_QUEUE_OVERFLOW = "jms.send.queue.overflow";
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the given send operation while recording its duration, outcome and in-flight count.
+     * Exceptions thrown by the operation are counted and rethrown unchanged.
+     *
+     * @param destination the JMS destination the message is sent to
+     * @param send        the operation performing the actual send
+     */
+    public void recordPublish(String destination, Runnable send) {
+        AtomicInteger active = inFlight(destination);
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        active.incrementAndGet();
+        try {
+            send.run();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            registry.counter(PUBLISH_ERRORS,
+                    "destination", destination,
+                    "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            active.decrementAndGet();
+            sample.stop(Timer.builder(PUBLISH_TIMER)
+                    .description("Time taken to hand a message over to the JMS broker")
+                    .tags("destination", destination, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Registers the depth and capacity gauges of the asynchronous send queue.
+     *
+     * @param queue    the send queue
+     * @param capacity the maximum number of queued messages
+     */
+    public void registerSendQueue(Collection<?> queue, int capacity) {
+        Gauge.builder(SEND_QUEUE_DEPTH, queue, Collection::size)
+                .description("Number of messages waiting in the asynchronous send queue")
+                .register(registry);
+        Gauge.builder(SEND_QUEUE_CAPACITY, () -> capacity)
+                .description("Maximum number of messages in the asynchronous send queue")
+                .register(registry);
+    }
+
+    /**
+     * Counts a message that did not fit into the asynchronous send queue.
+     *
+     * @param destination the JMS destination of the message
+     * @param policy      the overflow policy that handled the message
+     */
+    public void recordOverflow(String destination, OverflowPolicy policy) {
+        registry.counter(SEND_QUEUE_OVERFLOW,
+                "destination", destination,
+                "policy", policy.name()).increment();
+    }
+
+    /**
+     * Returns the in-flight counter for the destination, registering its gauge on first use.
+     *
+     * @param destination the JMS destination
+     * @return the counter backing the {@value #PUBLISH_IN_FLIGHT} gauge
+     */
+    AtomicInteger inFlight(String destination) {
+        return inFlight.computeIfAbsent(destination, key -> registry.gauge(
+                PUBLISH_IN_FLIGHT, Tags.of("destination", key), new AtomicInteger()));
+    }
+}
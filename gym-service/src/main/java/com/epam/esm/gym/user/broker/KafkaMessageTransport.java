@@ -0,0 +1,45 @@
+package com.epam.esm.gym.user.broker;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link MessageTransport} sending workload events to Kafka topics.
+ *
+ * <p>Records are keyed by the trainer username, so all events of one trainer land on the same
+ * partition and are consumed in order, while different trainers are spread over the partitions
+ * and can be consumed in parallel. Sends wait for the broker acknowledgement, so callers such
+ * as the outbox relay see failures the same way as with JMS.</p>
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "workload.transport.type", havingValue = "kafka")
+public class KafkaMessageTransport implements MessageTransport {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransportProperties properties;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws KafkaException if the record is not acknowledged within the send timeout
+     */
+    @Override
+    public void send(String destination, String key, String payload) {
+        try {
+            kafkaTemplate.send(destination, key, payload).get(properties.getSendTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while sending to " + destination, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Failed to send to " + destination, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.jms.dto.TrainingResponse;
+import com.epam.esm.gym.jms.dto.WorkloadRequest;
+import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
+import com.epam.esm.gym.user.entity.Training;
+
+/**
+ * Derives the ordering key of a workload event, which is the username of the trainer it concerns.
+ */
+public final class MessageKeys {
+
+    private MessageKeys() {
+    }
+
+    /**
+     * Returns the trainer username the message belongs to.
+     *
+     * @param message the message object
+     * @return the trainer username, or {@code null} if the message does not concern a single trainer
+     */
+    public static String of(Object message) {
+        if (message instanceof TrainingResponse training) {
+            return training.getTrainerName();
+        }
+        if (message instanceof WorkloadRequest request) {
+            return request.trainerUsername();
+        }
+        if (message instanceof TrainerProfile profile) {
+            return profile.getUsername();
+        }
+        if (message instanceof com.epam.esm.gym.jms.dto.TrainerProfile profile) {
+            return profile.username();
+        }
+        if (message instanceof Training training && training.getTrainer() != null) {
+            return training.getTrainer().getUsername();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.epam.esm.gym.user.broker;
+
+/**
+ * Transport used to deliver workload events to the workload service.
+ *
+ * <p>The implementation is selected by the {@code workload.transport.type} property:
+ * {@link JmsMessageTransport} for ActiveMQ, the default, or {@link KafkaMessageTransport}
+ * for Kafka. Destinations are the queue names from
+ * {@link com.epam.esm.gym.jms.ActiveMQConfig}, used as topic names on Kafka.</p>
+ */
+public interface MessageTransport {
+
+    /**
+     * Sends the payload to the destination and waits until the broker has accepted it.
+     *
+     * @param destination the queue or topic to send the message to
+     * @param key         the ordering key, usually the trainer username; may be {@code null}
+     * @param payload     the message body
+     */
+    void send(String destination, String key, String payload);
+}
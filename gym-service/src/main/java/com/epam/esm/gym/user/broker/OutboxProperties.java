@@ -0,0 +1,45 @@
+package com.epam.esm.gym.user.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the transactional outbox relay.
+ * <p>
+ * The relay polls the outbox table at a fixed delay, publishes pending events in batches and
+ * retries failed events with an exponential backoff until {@link #maxAttempts} is reached.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("outbox")
+public class OutboxProperties {
+
+    /**
+     * The number of events published per relay run.
+     */
+    private int batchSize = 100;
+
+    /**
+     * The number of failed publishes after which an event is left for manual inspection.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * The delay before the first retry, in milliseconds; doubled on every further failure.
+     */
+    private long retryBackoff = 1000;
+
+    /**
+     * The upper bound of the retry delay, in milliseconds.
+     */
+    private long maxRetryBackoff = 300000;
+
+    /**
+     * How long published events are kept before being purged, in hours.
+     */
+    private long retentionHours = 24;
+}
@@ -0,0 +1,172 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.user.dao.JpaOutboxEventDao;
+import com.epam.esm.gym.user.entity.OutboxEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Background relay publishing pending {@link OutboxEvent} rows to the broker.
+ *
+ * <p>Every run locks a batch of due events, publishes them in insertion order and marks them
+ * as published in the same transaction. The batch stops at the first failure, because the broker
+ * is most likely unavailable; the failed event is rescheduled with an exponential backoff.
+ * Events are delivered at least once, so consumers must tolerate duplicates.</p>
+ *
+ * <p>Sends go straight to the {@link MessageTransport} rather than through the transactional
+ * {@link WorkloadJmsService}, whose failures would mark the relay transaction rollback-only
+ * and lose the retry bookkeeping.</p>
+ *
+ * <p>The relay exposes the outbox depth, the age of the oldest pending event and the publish lag
+ * of every relayed event as metrics.</p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    public static final String DEPTH = "outbox.depth";
+    public static final String LAG = "outbox.lag";
+    public static final String PUBLISH_LAG = "outbox.publish.lag";
+    public static final String FAILURES = "outbox.publish.failures";
+
+    private final JpaOutboxEventDao dao;
+    private final MessageTransport transport;
+    private final JmsMetrics jmsMetrics;
+    private final OutboxProperties properties;
+    private final MeterRegistry registry;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    /**
+     * Creates the relay and registers the outbox gauges.
+     *
+     * @param dao         the outbox repository
+     * @param transport   the transport publishing to the broker
+     * @param jmsMetrics  the publish metrics recorder
+     * @param properties  the relay batching and retry settings
+     * @param registry    the meter registry
+     */
+    public OutboxRelay(JpaOutboxEventDao dao,
+                       MessageTransport transport,
+                       JmsMetrics jmsMetrics,
+                       OutboxProperties properties,
+                       MeterRegistry registry) {
+        this.dao = dao;
+        this.transport = transport;
+        this.jmsMetrics = jmsMetrics;
+        this.properties = properties;
+        this.registry = registry;
+        Gauge.builder(DEPTH, depth, AtomicLong::get)
+                .description("Number of outbox events not yet published")
+                .register(registry);
+        TimeGauge.builder(LAG, oldestPending, TimeUnit.MILLISECONDS, this::ageMillis)
+                .description("Age of the oldest outbox event not yet published")
+                .register(registry);
+    }
+
+    /**
+     * Publishes the next batch of due outbox events and refreshes the outbox gauges.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.relay-interval:1000}")
+    public void relay() {
+        List<OutboxEvent> batch = dao.findPublishable(
+                properties.getMaxAttempts(), LocalDateTime.now(), PageRequest.of(0, properties.getBatchSize()));
+        for (OutboxEvent event : batch) {
+            if (!publish(event)) {
+                break;
+            }
+        }
+        depth.set(dao.countByPublishedAtIsNull());
+        oldestPending.set(dao.findFirstByPublishedAtIsNullOrderByIdAsc()
+                .map(OutboxEvent::getCreatedAt)
+                .orElse(null));
+    }
+
+    /**
+     * Deletes published events older than the configured retention.
+     */
+    @Transactional
+    @Scheduled(cron = "${outbox.cleanup-cron:0 0 * * * *}")
+    public void purgePublished() {
+        int deleted = dao.deletePublishedBefore(LocalDateTime.now().minusHours(properties.getRetentionHours()));
+        log.info("Purged {} published outbox events", deleted);
+    }
+
+    /**
+     * Publishes a single event and records the outcome on the entity.
+     *
+     * @param event the event to publish
+     * @return {@code true} if the event was published, {@code false} if it was rescheduled
+     */
+    private boolean publish(OutboxEvent event) {
+        try {
+            jmsMetrics.recordPublish(event.getDestination(),
+                    () -> transport.send(event.getDestination(), event.getMessageKey(), event.getPayload()));
+        } catch (RuntimeException e) {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(e.getMessage()));
+            event.setAvailableAt(LocalDateTime.now().plus(Duration.ofMillis(backoff(attempts))));
+            registry.counter(FAILURES, "destination", event.getDestination()).increment();
+            log.error("Failed to publish outbox event {} to {} (attempt {}): {}",
+                    event.getId(), event.getDestination(), attempts, e.getMessage());
+            return false;
+        }
+        LocalDateTime publishedAt = LocalDateTime.now();
+        event.setPublishedAt(publishedAt);
+        Timer.builder(PUBLISH_LAG)
+                .description("Time between an outbox event being written and published")
+                .tag("destination", event.getDestination())
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(Duration.between(event.getCreatedAt(), publishedAt));
+        return true;
+    }
+
+    /**
+     * Computes the retry delay for the given number of failed attempts.
+     *
+     * @param attempts the number of failed attempts so far
+     * @return the delay in milliseconds, capped at the configured maximum
+     */
+    long backoff(int attempts) {
+        long delay = properties.getRetryBackoff() << Math.min(attempts - 1, 20);
+        return Math.min(delay, properties.getMaxRetryBackoff());
+    }
+
+    /**
+     * Returns the age of the given pending event time.
+     *
+     * @param reference the holder of the oldest pending creation time
+     * @return the age in milliseconds, or {@code 0} if nothing is pending
+     */
+    private double ageMillis(AtomicReference<LocalDateTime> reference) {
+        LocalDateTime createdAt = reference.get();
+        return createdAt == null ? 0 : Duration.between(createdAt, LocalDateTime.now()).toMillis();
+    }
+
+    /**
+     * Shortens an error message to fit into the {@code last_error} column.
+     *
+     * @param message the error message
+     * @return the message limited to 1000 characters
+     */
+    private String truncate(String message) {
+        return message == null || message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
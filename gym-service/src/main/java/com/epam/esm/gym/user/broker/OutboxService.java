@@ -0,0 +1,70 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.user.dao.JpaOutboxEventDao;
+import com.epam.esm.gym.user.entity.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service for writing broker messages to the transactional outbox.
+ * Messages are stored as JSON in the caller's database transaction, so they are persisted
+ * if and only if the business change is committed. Publishing is left to the {@link OutboxRelay},
+ * which keeps broker latency and broker outages out of the request path.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class OutboxService {
+
+    private final JpaOutboxEventDao dao;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Converts a DTO object to JSON and stores it in the outbox for the specified destination.
+     * Must be called within an existing transaction.
+     *
+     * @param destination the JMS queue or topic the message will be published to
+     * @param dto         the object to convert to JSON and publish
+     * @return the stored {@link OutboxEvent}
+     * @throws IllegalArgumentException if the object cannot be converted to JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> OutboxEvent enqueue(String destination, T dto) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            log.error(e.getMessage());
+            throw new IllegalArgumentException(e.getMessage());
+        }
+        return enqueuePayload(destination, MessageKeys.of(dto), payload);
+    }
+
+    /**
+     * Stores an already serialized message in the outbox for the specified destination.
+     * Must be called within an existing transaction.
+     *
+     * @param destination the JMS queue or topic the message will be published to
+     * @param key         the ordering key of the message, may be {@code null}
+     * @param payload     the message body as it will be sent to the broker
+     * @return the stored {@link OutboxEvent}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent enqueuePayload(String destination, String key, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return dao.save(OutboxEvent.builder()
+                .destination(destination)
+                .messageKey(key)
+                .payload(payload)
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+    }
+}
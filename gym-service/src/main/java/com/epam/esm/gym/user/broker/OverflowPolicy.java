@@ -0,0 +1,22 @@
+package com.epam.esm.gym.user.broker;
+
+/**
+ * Defines what the {@link AsyncJmsPublisher} does with a message when its send queue is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Waits for free space up to the configured timeout, then rejects the message.
+     */
+    BLOCK,
+
+    /**
+     * Discards the oldest queued message to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Stores the message in the transactional outbox, from where the relay publishes it later.
+     */
+    SPILL_TO_OUTBOX
+}
@@ -0,0 +1,58 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.jms.dto.TokenRevocation;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jms.JmsException;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.stereotype.Service;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.TOKEN_REVOCATION_TOPIC;
+
+/**
+ * Keeps the {@link TokenRevocationIndex} of all gym-service instances in sync.
+ * Revocations are published to a topic every instance subscribes to; applying them is
+ * idempotent, so an instance receiving its own announcement is harmless.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TokenRevocationBroadcaster {
+
+    private final JmsTemplate jmsTemplate;
+    private final ObjectMapper objectMapper;
+    private final TokenRevocationIndex index;
+
+    /**
+     * Announces a revocation to all instances. A broker failure is logged and not rethrown,
+     * since the revocation is already applied locally and stored in the database,
+     * from where other instances pick it up on their next start.
+     *
+     * @param revocation the revocation to announce
+     */
+    public void publish(TokenRevocation revocation) {
+        try {
+            jmsTemplate.convertAndSend(TOKEN_REVOCATION_TOPIC, objectMapper.writeValueAsString(revocation));
+        } catch (JsonProcessingException | JmsException e) {
+            log.error("Failed to announce token revocation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies a revocation announced by any instance to the local index.
+     *
+     * @param json the JSON representation of the {@link TokenRevocation}
+     */
+    @JmsListener(destination = TOKEN_REVOCATION_TOPIC, containerFactory = "jmsListenerContainerFactory")
+    public void receive(String json) {
+        try {
+            index.apply(objectMapper.readValue(json, TokenRevocation.class));
+        } catch (JsonProcessingException e) {
+            log.error("Invalid token revocation: {}", e.getMessage());
+        }
+    }
+}
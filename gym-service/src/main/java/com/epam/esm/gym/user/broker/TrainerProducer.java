@@ -1,17 +1,21 @@
 package com.epam.esm.gym.user.broker;
 
+import com.epam.esm.gym.jms.dto.TrainerListChunk;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.jms.dto.WorkloadRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
 import com.epam.esm.gym.user.exception.UserNotFoundException;
 import com.epam.esm.gym.user.service.TrainerService;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.jms.annotation.JmsListener;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
@@ -29,6 +33,7 @@ public class TrainerProducer {
 
     private final WorkloadJmsService workloadService;
     private final TrainerService trainerService;
+    private final TrainerSyncProperties syncProperties;
 
     /**
      * {@inheritDoc}
@@ -37,6 +42,7 @@ public class TrainerProducer {
      * @param username the username of the trainer to be published
      * @throws com.epam.esm.gym.user.exception.UserNotFoundException if no trainer is found with the specified username
      */
+    @Timed(value = "jms.producer", extraTags = {"destination", TRAINER_QUEUE})
     @JmsListener(destination = USERNAME_QUEUE, containerFactory = "jmsListenerContainerFactory")
     public void publishTrainer(String username) {
         validate(username);
@@ -52,20 +58,35 @@ public class TrainerProducer {
     }
 
     /**
-     * Publishes a list of trainers to a specified queue every Monday at midnight.
-     * If no trainers are found, an error message is sent to the dead letter queue.
-     * This method is scheduled to run automatically at the specified cron expression.
+     * Publishes the full list of trainers to the trainers queue in fixed-size chunks.
+     * Trainers are read page by page, so neither side holds the whole list at once; every chunk
+     * carries the batch id, its sequence number and the watermark, and the last one is flagged as the end marker.
+     * Without trainers a single empty end marker is sent, so the consumer still replaces its list.
+     * The {@link TrainerSyncPublisher} sends the list as its full resync.
+     *
+     * @param watermark the position up to which the list covers all trainer changes
      */
-    @Scheduled(cron = "0 0 0 * * MON")
-    public void publishTrainerList() {
-        List<TrainerProfile> profiles = trainerService.findAll();
-        if (profiles.isEmpty()) {
-            workloadService.convertAndSend(ERROR_QUEUE, "Users Not Found");
-            log.error("Users Not Found");
-        } else {
-            workloadService.convertAndSend(TRAINERS_QUEUE, profiles);
-            log.info("Publish successfully as Json {}", profiles);
+    @Timed(value = "jms.producer", extraTags = {"destination", TRAINERS_QUEUE})
+    public void publishTrainerList(String watermark) {
+        Slice<com.epam.esm.gym.jms.dto.TrainerProfile> page =
+                trainerService.findSyncProfiles(PageRequest.of(0, syncProperties.getChunkSize()));
+        String batchId = UUID.randomUUID().toString();
+        long trainers = 0;
+        while (true) {
+            workloadService.convertAndSend(TRAINERS_QUEUE, TrainerListChunk.builder()
+                    .batchId(batchId)
+                    .sequence(page.getNumber())
+                    .last(!page.hasNext())
+                    .watermark(watermark)
+                    .trainers(page.getContent())
+                    .build());
+            trainers += page.getNumberOfElements();
+            if (!page.hasNext()) {
+                break;
+            }
+            page = trainerService.findSyncProfiles(page.nextPageable());
         }
+        log.info("Published trainer list {} of {} trainers in {} chunks", batchId, trainers, page.getNumber() + 1);
     }
 
     /**
@@ -111,4 +132,29 @@ public class TrainerProducer {
     public void publishWorkloadResponse(WorkloadRequest request) {
         workloadService.convertAndSend(request.actionType().getQueue(), request);
     }
+
+    /**
+     * Queues a TrainingResponse for asynchronous publication to the specified JMS queue.
+     *
+     * @param destination the JMS queue to publish to
+     * @param request     the TrainingResponse to be published; if {@code null},
+     *                    an error message is sent to the error queue instead
+     * @return a future completed when the message has been handed over to the broker
+     */
+    public CompletableFuture<Void> publishTrainingResponseAsync(String destination, TrainingResponse request) {
+        if (request != null) {
+            return workloadService.convertAndSendAsync(destination, request);
+        }
+        return workloadService.convertAndSendAsync(ERROR_QUEUE, "Workload Request cannot be null");
+    }
+
+    /**
+     * Queues a workload request for asynchronous publication to the queue of its action type.
+     *
+     * @param request the workload request to be published
+     * @return a future completed when the message has been handed over to the broker
+     */
+    public CompletableFuture<Void> publishWorkloadResponseAsync(WorkloadRequest request) {
+        return workloadService.convertAndSendAsync(request.actionType().getQueue(), request);
+    }
 }
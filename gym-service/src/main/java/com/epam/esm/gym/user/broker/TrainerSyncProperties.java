@@ -0,0 +1,45 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.jms.dto.TrainerSyncAck;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the delta trainer synchronisation.
+ * <p>
+ * The publisher sends the trainers changed since the consumer's acknowledged watermark at a fixed
+ * delay and falls back to a full resync when the consumer has no watermark yet or has not
+ * acknowledged anything for {@link #fullResyncAfter} milliseconds.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("trainer.sync")
+public class TrainerSyncProperties {
+
+    /**
+     * The name of the consumer whose watermark drives the deltas.
+     */
+    private String consumer = TrainerSyncAck.WORKLOAD_CONSUMER;
+
+    /**
+     * How far before the watermark a delta starts, in milliseconds, to pick up changes committed late.
+     * A trainer is stamped with the application clock when its change is flushed, not when it commits,
+     * so the overlap must exceed the longest transaction writing trainers plus the clock skew between
+     * instances; a change committed later than that behind the watermark is missed until the next full resync.
+     */
+    private long overlap = 5000;
+
+    /**
+     * How long without an acknowledgement before a full resync is sent, in milliseconds.
+     */
+    private long fullResyncAfter = 86400000;
+
+    /**
+     * The number of trainers per chunk when the full trainer list is published.
+     */
+    private int chunkSize = 100;
+}
@@ -0,0 +1,130 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.jms.dto.TrainerSyncAck;
+import com.epam.esm.gym.jms.dto.TrainerSyncBatch;
+import com.epam.esm.gym.jms.dto.TrainerProfile;
+import com.epam.esm.gym.user.dao.JpaSyncWatermarkDao;
+import com.epam.esm.gym.user.entity.SyncWatermark;
+import com.epam.esm.gym.user.service.TrainerService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_ACK_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_QUEUE;
+
+/**
+ * Service keeping the workload service's copy of the trainers up to date.
+ *
+ * <p>Every run sends the trainers whose {@code updatedAt} lies after the consumer's acknowledged
+ * watermark, together with the new watermark. The consumer acknowledges the batch once it has been
+ * applied, which moves the watermark forward; unacknowledged changes are simply sent again.
+ * Empty deltas are sent as well, so a healthy consumer keeps acknowledging.
+ * A delta is read as flat trainer rows with their trainings loaded in one batched query, so it takes
+ * a fixed number of statements whatever the number of changed trainers.
+ * A full resync replacing the consumer's data is only sent as a fallback, when the consumer has
+ * never acknowledged a batch or has been silent for longer than the configured limit. It is published
+ * by the {@link TrainerProducer} as a chunked trainer list, so the trainers are never all held in memory.</p>
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TrainerSyncPublisher {
+
+    private final JpaSyncWatermarkDao watermarkDao;
+    private final TrainerService trainerService;
+    private final TrainerProducer trainerProducer;
+    private final WorkloadJmsService workloadService;
+    private final ObjectMapper objectMapper;
+    private final TrainerSyncProperties properties;
+
+    /**
+     * Publishes the trainers changed since the last acknowledged watermark,
+     * or all trainers if a full resync is due.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${trainer.sync.interval:60000}")
+    public void publishChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        SyncWatermark state = watermarkDao.findById(properties.getConsumer())
+                .orElseGet(() -> SyncWatermark.builder().consumer(properties.getConsumer()).build());
+        if (isFullResyncDue(state, now)) {
+            trainerProducer.publishTrainerList(now.toString());
+            state.setFullResyncAt(now);
+            watermarkDao.save(state);
+        } else if (state.getWatermark() != null) {
+            LocalDateTime since = state.getWatermark().minus(Duration.ofMillis(properties.getOverlap()));
+            publish(trainerService.findChangedSyncProfiles(since, now), now);
+        }
+    }
+
+    /**
+     * Moves the consumer's watermark forward once it has applied a batch.
+     * Acknowledgements of batches older than the current watermark only refresh the acknowledgement time.
+     *
+     * @param json the JSON representation of the {@link TrainerSyncAck}
+     */
+    @Transactional
+    @JmsListener(destination = TRAINERS_SYNC_ACK_QUEUE, containerFactory = "jmsListenerContainerFactory")
+    public void acknowledge(String json) {
+        TrainerSyncAck ack;
+        try {
+            ack = objectMapper.readValue(json, TrainerSyncAck.class);
+        } catch (JsonProcessingException e) {
+            log.error("Invalid trainer sync acknowledgement: {}", e.getMessage());
+            return;
+        }
+        LocalDateTime watermark = LocalDateTime.parse(ack.watermark());
+        SyncWatermark state = watermarkDao.findById(ack.consumer())
+                .orElseGet(() -> SyncWatermark.builder().consumer(ack.consumer()).build());
+        if (state.getWatermark() == null || watermark.isAfter(state.getWatermark())) {
+            state.setWatermark(watermark);
+        }
+        state.setAcknowledgedAt(LocalDateTime.now());
+        watermarkDao.save(state);
+        log.info("Consumer {} acknowledged trainer changes up to {}", ack.consumer(), watermark);
+    }
+
+    /**
+     * Decides whether the consumer needs a full resync instead of a delta.
+     * A full resync is due when the consumer has not acknowledged anything within the configured limit,
+     * unless one has already been sent within that limit and is still waiting to be acknowledged.
+     *
+     * @param state the consumer's synchronisation state
+     * @param now   the current time
+     * @return {@code true} if all trainers should be sent
+     */
+    boolean isFullResyncDue(SyncWatermark state, LocalDateTime now) {
+        LocalDateTime limit = now.minus(Duration.ofMillis(properties.getFullResyncAfter()));
+        boolean acknowledged = state.getWatermark() != null
+                && state.getAcknowledgedAt() != null
+                && state.getAcknowledgedAt().isAfter(limit);
+        boolean resyncPending = state.getFullResyncAt() != null && state.getFullResyncAt().isAfter(limit);
+        return !acknowledged && !resyncPending;
+    }
+
+    /**
+     * Sends the changed trainers to the synchronisation queue as a delta batch.
+     *
+     * @param trainers  the trainers to send
+     * @param watermark the upper bound of the changes covered by the batch
+     */
+    private void publish(List<TrainerProfile> trainers, LocalDateTime watermark) {
+        TrainerSyncBatch batch = TrainerSyncBatch.builder()
+                .watermark(watermark.toString())
+                .fullResync(false)
+                .trainers(trainers)
+                .build();
+        workloadService.convertAndSend(TRAINERS_SYNC_QUEUE, batch);
+        log.info("Published {} changed trainers up to {}", trainers.size(), watermark);
+    }
+}
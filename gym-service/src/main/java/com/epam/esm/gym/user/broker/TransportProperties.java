@@ -0,0 +1,31 @@
+package com.epam.esm.gym.user.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the transport delivering workload events.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("workload.transport")
+public class TransportProperties {
+
+    /**
+     * The transport to use, {@code jms} or {@code kafka}.
+     */
+    private String type = "jms";
+
+    /**
+     * The number of partitions of the workload topics when Kafka is used.
+     */
+    private int partitions = 6;
+
+    /**
+     * How long a Kafka send waits for the broker acknowledgement, in milliseconds.
+     */
+    private long sendTimeout = 5000;
+}
@@ -5,12 +5,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jms.core.JmsTemplate;
 import org.springframework.retry.annotation.CircuitBreaker;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
 
@@ -18,14 +18,20 @@ import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
  * Service for handling JMS (Java Message Service) operations related to trainer workloads.
  * It supports sending messages to destinations, including sending and receiving responses,
  * and converting objects to JSON using Jackson's ObjectMapper.
+ * Messages are delivered through the configured {@link MessageTransport}, keyed by the trainer
+ * they concern, and every send is timed and counted per destination through {@link JmsMetrics}.
+ * The {@code convertAndSendAsync} variants hand the message over to the {@link AsyncJmsPublisher}
+ * instead of waiting on the broker.
  */
 @Slf4j
 @Service
 @AllArgsConstructor
 public class WorkloadJmsService {
 
-    private final JmsTemplate jmsTemplate;
+    private final MessageTransport transport;
     private final ObjectMapper objectMapper;
+    private final JmsMetrics jmsMetrics;
+    private final AsyncJmsPublisher asyncPublisher;
 
     /**
      * Sends a simple string message to the specified JMS destination.
@@ -36,7 +42,7 @@ public class WorkloadJmsService {
     @Transactional
     @CircuitBreaker(openTimeout = 5000, resetTimeout = 10000)
     public void convertAndSend(String destination, String message) {
-        jmsTemplate.convertAndSend(destination, message);
+        send(destination, null, message);
     }
 
     /**
@@ -49,7 +55,7 @@ public class WorkloadJmsService {
     public <T> void convertAndSend(String destination, T dto) {
         String json = getJson(dto);
         if (json != null) {
-            convertAndSend(destination, json);
+            send(destination, MessageKeys.of(dto), json);
         }
     }
 
@@ -61,7 +67,42 @@ public class WorkloadJmsService {
      */
     @Transactional
     public void convertAndSend(String destination, List<TrainerProfile> profiles) {
-        jmsTemplate.convertAndSend(destination, getJson(profiles));
+        send(destination, null, getJson(profiles));
+    }
+
+    /**
+     * Queues a simple string message for asynchronous delivery to the specified JMS destination.
+     *
+     * @param destination the JMS queue or topic to send the message to
+     * @param message     the message to send
+     * @return a future completed when the message has been handed over to the broker
+     */
+    public CompletableFuture<Void> convertAndSendAsync(String destination, String message) {
+        return asyncPublisher.publish(destination, null, message);
+    }
+
+    /**
+     * Converts a DTO object to JSON on the calling thread and queues it for asynchronous
+     * delivery to the specified JMS destination.
+     *
+     * @param destination the JMS queue or topic to send the message to
+     * @param dto         the object to convert to JSON and send
+     * @return a future completed when the message has been handed over to the broker
+     * @throws IllegalArgumentException if the object cannot be converted to JSON
+     */
+    public <T> CompletableFuture<Void> convertAndSendAsync(String destination, T dto) {
+        return asyncPublisher.publish(destination, MessageKeys.of(dto), getJson(dto));
+    }
+
+    /**
+     * Sends the payload through the transport while recording the publish metrics.
+     *
+     * @param destination the JMS queue or topic to send the message to
+     * @param key         the ordering key of the message, may be {@code null}
+     * @param payload     the message body
+     */
+    private void send(String destination, String key, String payload) {
+        jmsMetrics.recordPublish(destination, () -> transport.send(destination, key, payload));
     }
 
     /**
@@ -0,0 +1,58 @@
+package com.epam.esm.gym.user.config;
+
+import com.epam.esm.gym.user.broker.TransportProperties;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.ADD_TRAINING_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.DELETE_TRAINING_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_SUMMARY_QUEUE;
+
+/**
+ * Configuration of the Kafka topics carrying workload events.
+ *
+ * <p>Active only when {@code workload.transport.type} is {@code kafka}. Every workload destination
+ * becomes a topic with the configured number of partitions; records are keyed by trainer username,
+ * so the partition count bounds how many workload consumers can share the load.</p>
+ *
+ * @see com.epam.esm.gym.user.broker.KafkaMessageTransport
+ */
+@Configuration
+@ConditionalOnProperty(name = "workload.transport.type", havingValue = "kafka")
+public class KafkaTransportConfig {
+
+    /**
+     * Declares the workload topics so they are created with the configured partition count.
+     *
+     * @param properties the transport settings
+     * @return the topics to create
+     */
+    @Bean
+    public KafkaAdmin.NewTopics workloadTopics(TransportProperties properties) {
+        return new KafkaAdmin.NewTopics(
+                topic(ADD_TRAINING_QUEUE, properties),
+                topic(DELETE_TRAINING_QUEUE, properties),
+                topic(TRAINER_QUEUE, properties),
+                topic(TRAINERS_QUEUE, properties),
+                topic(TRAINERS_SYNC_QUEUE, properties),
+                topic(TRAINER_SUMMARY_QUEUE, properties));
+    }
+
+    /**
+     * Builds a topic definition with the configured partition count.
+     *
+     * @param name       the topic name
+     * @param properties the transport settings
+     * @return the topic definition
+     */
+    private NewTopic topic(String name, TransportProperties properties) {
+        return TopicBuilder.name(name).partitions(properties.getPartitions()).build();
+    }
+}
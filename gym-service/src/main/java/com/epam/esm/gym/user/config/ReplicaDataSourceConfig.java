@@ -0,0 +1,95 @@
+package com.epam.esm.gym.user.config;
+
+import com.epam.esm.gym.user.dao.routing.ReadYourWritesGuard;
+import com.epam.esm.gym.user.dao.routing.ReplicaProperties;
+import com.epam.esm.gym.user.dao.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration of the primary and replica connection pools behind one routing data source.
+ *
+ * <p>Active only when {@code datasource.replica.enabled} is {@code true}; otherwise the data source
+ * is auto-configured from {@code spring.datasource} and serves all work. The primary pool is built
+ * from {@code spring.datasource} as before, the replica pool from {@code datasource.replica}. Both
+ * pools are beans so they are closed on shutdown, but only the routing data source is injected.</p>
+ *
+ * @see ReplicaRoutingDataSource
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Creates the pool of the primary database.
+     *
+     * @param properties the {@code spring.datasource} settings
+     * @return the primary pool
+     */
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Creates the read-only pool of the replica, logging in like the primary unless configured otherwise.
+     *
+     * @param properties the {@code spring.datasource} settings
+     * @param replica    the replica settings
+     * @return the replica pool
+     */
+    @Bean(autowireCandidate = false)
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, ReplicaProperties replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    /**
+     * Creates the guard keeping a user's reads on the primary after the user's own write.
+     *
+     * @param replica the replica settings
+     * @return the guard
+     */
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(ReplicaProperties replica) {
+        return new ReadYourWritesGuard(replica);
+    }
+
+    /**
+     * Creates the data source used by JPA and JDBC, routing each transaction to the primary or the replica.
+     * The connection is fetched lazily, once the read-only flag of the transaction is known.
+     *
+     * @param properties the {@code spring.datasource} settings
+     * @param replica    the replica settings
+     * @param guard      the read-your-writes guard
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReplicaProperties replica,
+                                 ReadYourWritesGuard guard) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource(properties), replicaDataSource(properties, replica), guard));
+    }
+}
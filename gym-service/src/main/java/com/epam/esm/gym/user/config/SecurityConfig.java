@@ -2,6 +2,7 @@ package com.epam.esm.gym.user.config;
 
 import com.epam.esm.gym.user.security.filter.BruteForceProtectionFilter;
 import com.epam.esm.gym.user.security.filter.JwtAuthenticationFilter;
+import com.epam.esm.gym.user.security.service.BoundedPasswordEncoder;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -13,8 +14,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -31,6 +30,9 @@ import java.util.List;
  * requirements, security filters, and access control policies. It ensures that
  * the application meets its security standards and protects resources appropriately.</p>
  *
+ * <p>Passwords are encoded by the {@link BoundedPasswordEncoder}, which hashes them on a
+ * dedicated executor instead of the request threads.</p>
+ *
  * @author Pavlo Poliak
  * @since 1.0
  */
@@ -67,6 +69,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(request -> request
                         .requestMatchers(
                                 "/actuator/**",
+                                "/.well-known/jwks.json",
                                 "/api/trainers/register",
                                 "/api/trainees/register",
                                 "/api/login",
@@ -91,22 +94,6 @@ public class SecurityConfig {
                 .build();
     }
 
-    /**
-     * Provides a {@link PasswordEncoder} bean for encoding passwords.
-     *
-     * <p>This method returns a {@link BCryptPasswordEncoder}, which uses the BCrypt
-     * hashing algorithm to securely encode user passwords.</p>
-     *
-     * @return the configured {@link PasswordEncoder}.
-     * Password encoding is critical for ensuring that user passwords are stored securely.
-     * @see org.springframework.security.crypto.password.PasswordEncoder
-     * @since 1.0
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
-    }
-
     /**
      * Configures CORS settings for the application.
      *
@@ -1,14 +1,20 @@
 package com.epam.esm.gym.user.config;
 
+import com.epam.esm.gym.user.actuator.SqlStatisticsInterceptor;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -31,8 +37,25 @@ import java.time.format.DateTimeFormatter;
  */
 @EnableWebMvc
 @Configuration
+@AllArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    /**
+     * The registry receiving the per-request SQL statistics; the global registry if none is configured.
+     */
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Registers the {@link SqlStatisticsInterceptor}, which records the SQL work of every request.
+     *
+     * @param registry the {@link InterceptorRegistry} to configure
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(
+                new SqlStatisticsInterceptor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+    }
+
     /**
      * Configures resource handlers for serving Swagger UI and webjars.
      *
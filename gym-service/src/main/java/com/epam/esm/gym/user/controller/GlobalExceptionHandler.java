@@ -2,12 +2,14 @@ package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
 import com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException;
+import com.epam.esm.gym.user.exception.PasswordHashingUnavailableException;
 import com.epam.esm.gym.user.exception.TokenNotFoundException;
 import com.epam.esm.gym.user.exception.UserAlreadyExistsException;
 import com.epam.esm.gym.user.exception.UserNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -61,6 +63,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(new MessageResponse(message));
     }
 
+    /**
+     * Handles {@link PasswordHashingUnavailableException} exceptions.
+     *
+     * @param ex the {@link PasswordHashingUnavailableException} to handle
+     * @return a {@link ResponseEntity} containing a {@link MessageResponse} with the error message
+     * and HTTP status {@link HttpStatus#SERVICE_UNAVAILABLE}
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<MessageResponse> handlePasswordHashingUnavailableException(
+            PasswordHashingUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new MessageResponse(ex.getMessage()));
+    }
+
     /**
      * Handles {@link UserAlreadyExistsException} exceptions.
      *
@@ -0,0 +1,36 @@
+package com.epam.esm.gym.user.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JWKS API publishes the public keys verifying the JWTs issued by this service.
+ * Other services fetch and cache the key set to verify tokens locally, selecting the key
+ * by the {@code kid} header of the token.
+ *
+ * @author Pavlo Poliak
+ * @version 1.0.0
+ * @since 1.0
+ */
+@Tag(name = "JWKS API", description = "Publishes the public keys verifying issued JWTs")
+public interface IJwksController {
+
+    /**
+     * Returns the published signing keys as a JSON Web Key Set.
+     *
+     * @return A {@link ResponseEntity} with status 200 containing the key set and the cache lifetime.
+     */
+    @Operation(
+            summary = "JSON Web Key Set",
+            description = "Returns the public keys verifying the JWTs issued by this service.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Key set returned successfully")
+            }
+    )
+    ResponseEntity<Map<String, List<Map<String, Object>>>> jwks();
+}
@@ -1,22 +1,29 @@
 package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
 import com.epam.esm.gym.user.dto.trainee.PutTraineeRequest;
 import com.epam.esm.gym.user.dto.trainee.FullTraineeProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.TrainerResponse;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
+import com.epam.esm.gym.user.service.profile.BulkRegistrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -37,24 +44,29 @@ import java.util.Map;
 public interface ITraineeController {
 
     /**
-     * Retrieves all trainee profiles.
+     * Retrieves one page of trainee profiles.
      * Accessible only to users with 'ROLE_ADMIN' or 'ROLE_TRAINER' authority.
-     * Returns a list of TraineeProfile objects representing all trainees in the system.
-     * Uses the TraineeService to fetch the list of trainees.
-     * Provides a response with HTTP 200 if the operation is successful.
-     * In case of an error, appropriate HTTP status codes are returned.
-     * Useful for admins and trainers who need to view all trainees.
+     * Trainees are ordered by id; the next page is requested with the cursor returned by the previous one.
+     * Provides a response with HTTP 200 if the operation is successful
+     * and HTTP 400 if the cursor or the page size is invalid.
+     *
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param size   the maximum number of trainees on the page
+     * @return ResponseEntity containing the page of trainee profiles
      */
     @Operation(
             summary = "Get All Trainees",
-            description = "Retrieve a list of all trainee profiles. Accessible by ADMIN and TRAINER roles.",
+            description = "Retrieve one page of trainee profiles. Accessible by ADMIN and TRAINER roles.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of trainees"),
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of trainees"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized access"),
                     @ApiResponse(responseCode = "403", description = "Forbidden access")
             }
     )
-    ResponseEntity<List<FullTraineeProfileResponse>> getAllTrainees();
+    ResponseEntity<CursorPage<FullTraineeProfileResponse>> getAllTrainees(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size);
 
     /**
      * Registers a new trainee with the provided details.
@@ -78,6 +90,26 @@ public interface ITraineeController {
     ResponseEntity<ProfileResponse> registerTrainee(
             @Valid @RequestBody PostTraineeRequest request);
 
+    /**
+     * Registers many trainees at once, for example when onboarding a partner gym.
+     * Accessible only to users with 'ROLE_ADMIN' authority.
+     * Streams the generated usernames and passwords back as newline delimited JSON.
+     */
+    @Operation(
+            summary = "Register Trainees in Bulk",
+            description = "Register up to 10000 trainees and stream their credentials as NDJSON. "
+                    + "Accessible by ADMIN role only.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Credentials of the registered trainees"),
+                    @ApiResponse(responseCode = "400", description = "Bad request due to validation errors"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized access"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden access")
+            }
+    )
+    ResponseEntity<StreamingResponseBody> registerTrainees(
+            @RequestBody @NotEmpty @Size(max = BulkRegistrationService.MAX_REQUESTS)
+            List<@Valid PostTraineeRequest> requests);
+
     /**
      * Retrieves a specific trainee profile by username.
      * Only accessible by users with 'ROLE_TRAINER' or 'ROLE_ADMIN' authority.
@@ -167,26 +199,35 @@ public interface ITraineeController {
             @Valid @RequestBody List<String> trainersUsernames);
 
     /**
-     * Retrieves all training sessions associated with a specific trainee.
+     * Retrieves one page of the training sessions associated with a specific trainee.
      * Requires the trainee's username and optional query parameters for filtering.
      * Accessible by users with 'ROLE_TRAINER' or 'ROLE_ADMIN' authority.
-     * Returns a list of TrainingResponse objects representing the trainee's trainings.
-     * Handles query parameters to filter or sort the training sessions.
-     * Returns HTTP 200 for a successful retrieval or appropriate error codes if issues occur.
+     * Trainings are ordered by id; the next page is requested with the cursor returned by the previous one.
+     * Returns HTTP 200 for a successful retrieval, HTTP 400 if the cursor or the page size is invalid,
+     * or appropriate error codes if other issues occur.
+     *
+     * @param username the username of the trainee
+     * @param params   the filter parameters: periodFrom, periodTo, trainerName and trainingType
+     * @param cursor   the continuation token of the previous page, absent for the first page
+     * @param size     the maximum number of trainings to return
+     * @return the page of trainings
      */
     @Operation(
             summary = "Get Trainee Trainings",
-            description = "Retrieve the list of trainings for a trainee. Accessible by TRAINER and ADMIN roles.",
+            description = "Retrieve one page of trainings for a trainee. Accessible by TRAINER and ADMIN roles.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of trainings"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
                     @ApiResponse(responseCode = "404", description = "Trainee not found"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized access"),
                     @ApiResponse(responseCode = "403", description = "Forbidden access")
             }
     )
-    ResponseEntity<List<TrainingResponse>> getTraineeTrainings(
+    ResponseEntity<CursorPage<TrainingResponse>> getTraineeTrainings(
             @PathVariable String username,
-            @RequestParam Map<String, String> params);
+            @RequestParam Map<String, String> params,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size);
 
     /**
      * Activates or deactivates a trainee profile.
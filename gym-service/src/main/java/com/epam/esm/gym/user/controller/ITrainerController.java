@@ -1,19 +1,26 @@
 package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.UpdateTrainerRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
 import com.epam.esm.gym.user.dto.trainer.TrainerRequest;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
+import com.epam.esm.gym.user.service.profile.BulkRegistrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -37,23 +44,28 @@ import java.util.List;
 public interface ITrainerController {
 
     /**
-     * Retrieves a list of all trainers.
+     * Retrieves one page of trainers.
      *
-     * <p>This endpoint is accessible by users with roles ADMIN or TRAINER. It returns a list of all trainer
-     * profiles available in the system.</p>
+     * <p>This endpoint is accessible by users with roles ADMIN or TRAINER. Trainers are ordered by id;
+     * the next page is requested with the cursor returned by the previous one.</p>
      *
-     * @return A {@link ResponseEntity} containing a list of {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile}.
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param size   the maximum number of trainers on the page
+     * @return A {@link ResponseEntity} containing a page of {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile}.
      */
     @Operation(
             summary = "Get All Trainers",
-            description = "Retrieve a list of all trainers. Accessible by users with role ADMIN or TRAINER.",
+            description = "Retrieve one page of trainers. Accessible by users with role ADMIN or TRAINER.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "List of trainers retrieved successfully"),
+                    @ApiResponse(responseCode = "200", description = "Page of trainers retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized access"),
                     @ApiResponse(responseCode = "403", description = "Forbidden access")
             }
     )
-    ResponseEntity<List<TrainerProfile>> getAllTrainers();
+    ResponseEntity<CursorPage<TrainerProfile>> getAllTrainers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size);
 
     /**
      * Creates a new trainer profile.
@@ -77,6 +89,30 @@ public interface ITrainerController {
     )
     ResponseEntity<ProfileResponse> registerTrainerProfile(@Valid @RequestBody TrainerRequest request);
 
+    /**
+     * Creates many trainer profiles at once.
+     *
+     * <p>This endpoint allows ADMIN users to onboard the trainers of a partner gym in one request.
+     * The generated usernames and passwords are streamed back as newline delimited JSON.</p>
+     *
+     * @param requests the {@link TrainerRequest} objects containing the trainer details.
+     * @return A {@link ResponseEntity} streaming the credentials of the created trainers.
+     */
+    @Operation(
+            summary = "Create Trainer Profiles in Bulk",
+            description = "Create up to 10000 trainer profiles and stream their credentials as NDJSON. "
+                    + "Accessible only by ADMIN.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Credentials of the created trainers"),
+                    @ApiResponse(responseCode = "400", description = "Bad request due to validation error"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized access"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden access")
+            }
+    )
+    ResponseEntity<StreamingResponseBody> registerTrainerProfiles(
+            @RequestBody @NotEmpty @Size(max = BulkRegistrationService.MAX_REQUESTS)
+            List<@Valid TrainerRequest> requests);
+
     /**
      * Assigns a trainee to the currently authenticated trainer.
      *
@@ -1,5 +1,6 @@
 package com.epam.esm.gym.user.controller;
 
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.training.TrainingRequest;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.user.dto.training.TrainingTypeDto;
@@ -7,8 +8,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -50,23 +54,28 @@ public interface ITrainingController {
     ResponseEntity<List<TrainingTypeDto>> getTrainingTypes();
 
     /**
-     * Retrieves a list of all available trainings.
-     * This endpoint is accessible by users with TRAINER and ADMIN roles.
-     * It returns a list of all training sessions available in the system.
+     * Retrieves one page of trainings.
+     * This endpoint is accessible by users with TRAINER, TRAINEE and ADMIN roles.
+     * Trainings are ordered by id; the next page is requested with the cursor returned by the previous one.
      *
-     * @return a {@link ResponseEntity} containing a list of {@link TrainingResponse}
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param size   the maximum number of trainings on the page
+     * @return a {@link ResponseEntity} containing a page of {@link TrainingResponse}
      * objects representing the available trainings.
      */
     @Operation(
-            summary = "Get Training Types",
-            description = "Retrieve a list of all available training types. Accessible by TRAINER and ADMIN roles.",
+            summary = "Get Trainings",
+            description = "Retrieve one page of trainings. Accessible by TRAINER, TRAINEE and ADMIN roles.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the training types"),
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of trainings"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized access"),
                     @ApiResponse(responseCode = "403", description = "Forbidden access")
             }
     )
-    ResponseEntity<List<TrainingResponse>> getTrainings();
+    ResponseEntity<CursorPage<TrainingResponse>> getTrainings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size);
 
 
     /**
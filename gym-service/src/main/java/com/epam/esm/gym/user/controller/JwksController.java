@@ -0,0 +1,52 @@
+package com.epam.esm.gym.user.controller;
+
+import com.epam.esm.gym.user.security.service.JwtSigningKey;
+import com.epam.esm.gym.user.security.service.SigningKeyProperties;
+import com.epam.esm.gym.user.security.service.SigningKeyService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller publishing the JWT signing keys.
+ *
+ * <p>The key set is served at the well-known JWKS location and may be cached by verifiers for
+ * {@code jwt.signing.jwks-max-age} seconds. New keys are published before they start signing, so a
+ * cached key set stays valid across a rotation.</p>
+ *
+ * @author Pavlo Poliak
+ * @version 1.0.0
+ * @since 1.0
+ */
+@RestController
+@AllArgsConstructor
+public class JwksController implements IJwksController {
+
+    private final SigningKeyService signingKeyService;
+    private final SigningKeyProperties properties;
+
+    /**
+     * Returns the published signing keys as a JSON Web Key Set.
+     *
+     * @return a {@link ResponseEntity} containing the key set
+     */
+    @Override
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        if (signingKeyService.publishedKeys().isEmpty()) {
+            signingKeyService.currentKey();
+        }
+        List<Map<String, Object>> keys = signingKeyService.publishedKeys().stream()
+                .map(JwtSigningKey::toJwk)
+                .toList();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(properties.getJwksMaxAge())).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
@@ -0,0 +1,33 @@
+package com.epam.esm.gym.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes objects as newline delimited JSON, one object per line.
+ * Used by the streaming endpoints, which flush every batch so the client receives it immediately.
+ */
+final class NdjsonWriter {
+
+    private NdjsonWriter() {
+    }
+
+    /**
+     * Writes the values as JSON lines and flushes the stream.
+     *
+     * @param objectMapper the mapper serializing the values
+     * @param output       the response stream
+     * @param values       the values to write
+     * @throws IOException if the stream cannot be written
+     */
+    static void write(ObjectMapper objectMapper, OutputStream output, List<?> values) throws IOException {
+        for (Object value : values) {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+        }
+        output.flush();
+    }
+}
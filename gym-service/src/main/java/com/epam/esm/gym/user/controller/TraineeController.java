@@ -1,6 +1,7 @@
 package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
 import com.epam.esm.gym.user.dto.trainee.PutTraineeRequest;
@@ -9,9 +10,16 @@ import com.epam.esm.gym.user.dto.trainer.TrainerResponse;
 import com.epam.esm.gym.user.dto.trainer.TrainerResponseDto;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.user.service.TraineeService;
+import com.epam.esm.gym.user.service.profile.BulkRegistrationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -24,8 +32,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -41,21 +49,25 @@ import java.util.Map;
 public class TraineeController implements ITraineeController {
 
     private final TraineeService service;
+    private final BulkRegistrationService bulkRegistration;
+    private final ObjectMapper objectMapper;
 
     /**
      * {@inheritDoc}
-     * Retrieves all trainee profiles.
+     * Retrieves one page of trainee profiles.
      *
-     * @return ResponseEntity containing a list of TraineeProfile objects.
-     * Returns HTTP 200 if the operation is successful.
-     * In case of an error, appropriate HTTP status codes are returned.
-     * Useful for admins and trainers who need to view all trainees.
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param size   the maximum number of trainees on the page
+     * @return ResponseEntity containing the page of trainee profiles.
+     * Returns HTTP 200 if the operation is successful and HTTP 400 for an invalid cursor or size.
      */
     @Override
     @GetMapping
     @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_TRAINER')")
-    public ResponseEntity<List<FullTraineeProfileResponse>> getAllTrainees() {
-        return ResponseEntity.ok(service.findAll(new ArrayList<>()));
+    public ResponseEntity<CursorPage<FullTraineeProfileResponse>> getAllTrainees(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(service.findPage(cursor, size));
     }
 
     /**
@@ -75,6 +87,26 @@ public class TraineeController implements ITraineeController {
         return ResponseEntity.ok(service.register(request));
     }
 
+    /**
+     * {@inheritDoc}
+     * Registers the trainees in chunks and streams the generated credentials back
+     * as newline delimited JSON, one {@link ProfileResponse} per line.
+     *
+     * @param requests the trainees to register
+     * @return ResponseEntity streaming the credentials of the registered trainees
+     */
+    @Override
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @PostMapping(value = "/register/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> registerTrainees(
+            @RequestBody @NotEmpty @Size(max = BulkRegistrationService.MAX_REQUESTS)
+            List<@Valid PostTraineeRequest> requests) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> bulkRegistration.registerTrainees(requests,
+                        credentials -> NdjsonWriter.write(objectMapper, output, credentials)));
+    }
+
     /**
      * Retrieves a list of trainee profiles based on the provided usernames.
      * The usernames are supplied as request parameters in a batch query.
@@ -165,22 +197,25 @@ public class TraineeController implements ITraineeController {
 
     /**
      * {@inheritDoc}
-     * Retrieves all training sessions associated with a specific trainee.
+     * Retrieves one page of the training sessions associated with a specific trainee.
      *
      * @param username the username of the trainee whose training sessions are to be retrieved.
      * @param params   optional query parameters for filtering the training sessions.
-     * @return ResponseEntity containing a list of TrainingResponse objects representing the trainee's trainings.
+     * @param cursor   the continuation token of the previous page, absent for the first page
+     * @param size     the maximum number of trainings to return
+     * @return ResponseEntity containing a page of TrainingResponse objects representing the trainee's trainings.
      * Accessible by users with 'ROLE_TRAINER' or 'ROLE_ADMIN' authority.
-     * Handles query parameters to filter or sort the training sessions.
-     * Returns HTTP 200 for a successful retrieval or appropriate error codes if issues occur.
+     * Returns HTTP 200 for a successful retrieval and HTTP 400 for an invalid cursor or size.
      */
     @Override
     @GetMapping("/{username}/trainings")
     @PreAuthorize("hasAuthority('ROLE_TRAINER') or hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<List<TrainingResponse>> getTraineeTrainings(
+    public ResponseEntity<CursorPage<TrainingResponse>> getTraineeTrainings(
             @PathVariable String username,
-            @RequestParam Map<String, String> params) {
-        return ResponseEntity.ok(service.getTraineeTrainingsByName(username, params));
+            @RequestParam Map<String, String> params,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(service.getTraineeTrainingsByName(username, params, cursor, size));
     }
 
     /**
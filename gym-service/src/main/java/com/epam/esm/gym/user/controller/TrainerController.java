@@ -1,6 +1,7 @@
 package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.UpdateTrainerRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
@@ -9,9 +10,16 @@ import com.epam.esm.gym.user.dto.training.TrainingProfile;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.user.service.TrainerService;
 import com.epam.esm.gym.user.service.TrainingService;
+import com.epam.esm.gym.user.service.profile.BulkRegistrationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -25,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -54,19 +63,25 @@ public class TrainerController implements ITrainerController {
 
     private final TrainerService trainerService;
     private final TrainingService trainingService;
+    private final BulkRegistrationService bulkRegistration;
+    private final ObjectMapper objectMapper;
 
     /**
      * {@inheritDoc}
-     * Retrieves a list of all trainers.
+     * Retrieves one page of trainers.
      *
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param size   the maximum number of trainers on the page
      * @return {@link ResponseEntity} with status 200 if trainers are successfully retrieved,
-     * or status 401 if unauthorized, and 403 if forbidden.
+     * status 400 for an invalid cursor or size, 401 if unauthorized, and 403 if forbidden.
      */
     @Override
     @GetMapping
     @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_TRAINER')")
-    public ResponseEntity<List<TrainerProfile>> getAllTrainers() {
-        return ResponseEntity.ok(trainerService.findAll());
+    public ResponseEntity<CursorPage<TrainerProfile>> getAllTrainers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(trainerService.findPage(cursor, size));
     }
 
     /**
@@ -85,6 +100,26 @@ public class TrainerController implements ITrainerController {
         return ResponseEntity.ok(trainerService.registerTrainer(request));
     }
 
+    /**
+     * {@inheritDoc}
+     * Registers the trainers in chunks and streams the generated credentials back
+     * as newline delimited JSON, one {@link ProfileResponse} per line.
+     *
+     * @param requests the trainers to register
+     * @return {@link ResponseEntity} streaming the credentials of the registered trainers
+     */
+    @Override
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @PostMapping(value = "/register/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> registerTrainerProfiles(
+            @RequestBody @NotEmpty @Size(max = BulkRegistrationService.MAX_REQUESTS)
+            List<@Valid TrainerRequest> requests) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> bulkRegistration.registerTrainers(requests,
+                        credentials -> NdjsonWriter.write(objectMapper, output, credentials)));
+    }
+
     /**
      * {@inheritDoc}
      * Assigns a trainee to the trainer who is currently authenticated.
@@ -2,12 +2,15 @@ package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
 import com.epam.esm.gym.jms.dto.WorkloadRequest;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.training.TrainingRequest;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.user.dto.training.TrainingTypeDto;
 import com.epam.esm.gym.user.service.TrainingService;
 import com.epam.esm.gym.user.service.WorkloadService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -81,18 +85,22 @@ public class TrainingController implements ITrainingController {
     }
 
     /**
-     * Retrieves a list of trainings accessible by users with roles of 'TRAINER', 'TRAINEE', or 'ADMIN'.
-     * This method delegates the request to the {@link TrainingService} to fetch the list of trainings and
-     * returns them as a response. Access is controlled through Spring Security annotations to ensure that
+     * Retrieves one page of trainings accessible by users with roles of 'TRAINER', 'TRAINEE', or 'ADMIN'.
+     * This method delegates the request to the {@link TrainingService} to fetch the page of trainings and
+     * returns it as a response. Access is controlled through Spring Security annotations to ensure that
      * only users with the appropriate roles can access this endpoint.
      *
-     * @return a {@link ResponseEntity} containing a list of {@link TrainingResponse} objects with status OK.
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param size   the maximum number of trainings on the page
+     * @return a {@link ResponseEntity} containing a page of {@link TrainingResponse} objects with status OK.
      */
     @Override
     @GetMapping()
     @PreAuthorize("hasAuthority('ROLE_TRAINER') or hasAuthority('ROLE_TRAINEE') or hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<List<TrainingResponse>> getTrainings() {
-        return ResponseEntity.ok(trainingService.getAllTrainings());
+    public ResponseEntity<CursorPage<TrainingResponse>> getTrainings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(trainingService.findPage(cursor, size));
     }
 
     /**
@@ -1,22 +1,26 @@
 package com.epam.esm.gym.user.controller;
 
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.UserResponse;
 import com.epam.esm.gym.user.service.UserService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 /**
  * REST controller for managing users.
  * <p>This controller provides endpoints for retrieving all users, and adding new users.</p>
  */
+@Validated
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/users")
@@ -25,14 +29,18 @@ public class UserController {
     public final UserService service;
 
     /**
-     * Retrieves a list of all users.
+     * Retrieves one page of users ordered by id.
      *
-     * @return a list of {@link com.epam.esm.gym.user.dto.profile.UserResponse} objects.
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param size   the maximum number of users on the page
+     * @return a page of {@link com.epam.esm.gym.user.dto.profile.UserResponse} objects.
      */
     @GetMapping
     @PreAuthorize("hasAuthority('ROLE_ADMIN')")
-    public ResponseEntity<List<UserResponse>> getUsers() {
-        return ResponseEntity.ok(service.findAll());
+    public ResponseEntity<CursorPage<UserResponse>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(service.findPage(cursor, size));
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link OutboxEvent} entities.
+ * Provides the queries used by the outbox relay to pick, publish and clean up pending events.
+ */
+@Repository
+public interface JpaOutboxEventDao extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the next batch of pending events that are due for publishing, oldest first.
+     * Rows locked by another relay instance are skipped instead of waited for.
+     *
+     * @param maxAttempts events that failed this many times are no longer picked
+     * @param now         the current time; events scheduled for a later retry are skipped
+     * @param pageable    the batch size
+     * @return the locked batch of events
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL " +
+            "AND e.attempts < :maxAttempts AND e.availableAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findPublishable(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * Counts the events that have not been published yet.
+     *
+     * @return the outbox depth
+     */
+    long countByPublishedAtIsNull();
+
+    /**
+     * Finds the oldest event that has not been published yet.
+     *
+     * @return an Optional containing the oldest pending event, or empty if the outbox is drained
+     */
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullOrderByIdAsc();
+
+    /**
+     * Deletes events that were published before the given time.
+     *
+     * @param before the retention boundary
+     * @return the number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
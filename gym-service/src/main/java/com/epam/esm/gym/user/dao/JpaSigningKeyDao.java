@@ -0,0 +1,39 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.entity.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link SigningKey} entities.
+ * Provides the queries used to load the published JWT signing keys and drop expired ones.
+ */
+@Repository
+public interface JpaSigningKeyDao extends JpaRepository<SigningKey, String> {
+
+    /**
+     * Finds the keys that are still published, newest first.
+     *
+     * @param now the current time
+     * @return the published keys
+     */
+    List<SigningKey> findByExpiresAtAfterOrderByCreatedAtDesc(LocalDateTime now);
+
+    /**
+     * Deletes the keys that are no longer published.
+     *
+     * @param now the current time
+     * @return the number of deleted keys
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SigningKey k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
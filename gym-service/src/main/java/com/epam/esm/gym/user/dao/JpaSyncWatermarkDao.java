@@ -0,0 +1,12 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.entity.SyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link SyncWatermark} entities, keyed by consumer name.
+ */
+@Repository
+public interface JpaSyncWatermarkDao extends JpaRepository<SyncWatermark, String> {
+}
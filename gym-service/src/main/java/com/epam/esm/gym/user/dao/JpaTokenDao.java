@@ -1,9 +1,15 @@
 package com.epam.esm.gym.user.dao;
 
 import com.epam.esm.gym.user.entity.Token;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,10 +29,50 @@ public interface JpaTokenDao extends JpaRepository<Token, Long> {
     Set<Token> findAllValidAccessTokenByUserId(Integer id);
 
     /**
-     * Finds a token by its access token string.
+     * Finds a token by the digest of its JWT.
      *
-     * @param jwt the access token string to search for
+     * @param digest the digest of the JWT to search for
      * @return an {@link Optional} containing the token if found, otherwise empty
      */
-    Optional<Token> findByAccessToken(String jwt);
+    Optional<Token> findByTokenDigest(String digest);
+
+    /**
+     * Retrieves the digests of revoked tokens that have not expired yet.
+     *
+     * @param now the current time
+     * @return the digests of the revoked tokens
+     */
+    @Query("SELECT t.tokenDigest FROM Token t WHERE t.revoked = true AND t.expiresAt > :now")
+    List<String> findRevokedDigests(@Param("now") LocalDateTime now);
+
+    /**
+     * Revokes all tokens of a user with a single statement.
+     *
+     * @param userId the user ID whose tokens are revoked
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("UPDATE Token t SET t.revoked = true, t.expired = true WHERE t.user.id = :userId AND t.revoked = false")
+    int revokeAllByUserId(@Param("userId") Integer userId);
+
+    /**
+     * Retrieves the IDs of tokens that have expired, oldest first.
+     * Rows without an expiration predate its tracking and are treated as expired.
+     *
+     * @param now      the current time
+     * @param pageable the batch size
+     * @return the IDs of the expired tokens
+     */
+    @Query("SELECT t.id FROM Token t WHERE t.expiresAt < :now OR t.expiresAt IS NULL ORDER BY t.id")
+    List<Integer> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Deletes the tokens with the given IDs.
+     *
+     * @param ids the IDs of the tokens to delete
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Query("DELETE FROM Token t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Integer> ids);
 }
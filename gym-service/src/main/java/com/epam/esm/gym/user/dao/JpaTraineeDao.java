@@ -1,11 +1,14 @@
 package com.epam.esm.gym.user.dao;
 
 import com.epam.esm.gym.user.entity.Trainee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,49 @@ public interface JpaTraineeDao extends JpaRepository<Trainee, Long> {
     @Query("SELECT t FROM Trainee t WHERE t.user.username = :username")
     Optional<Trainee> findByUsername(@Param("username") String username);
 
+    /**
+     * Finds the id of the trainee with the given username.
+     *
+     * @param username the username of the trainee
+     * @return an {@link Optional} containing the trainee id if found, otherwise empty
+     */
+    @Query("SELECT t.id FROM Trainee t WHERE t.user.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    /**
+     * Retrieves the ids of the trainers assigned to the trainee.
+     *
+     * @param traineeId the trainee id
+     * @return the ids of the assigned trainers
+     */
+    @Query("SELECT tr.id FROM Trainee t JOIN t.trainers tr WHERE t.id = :traineeId")
+    List<Long> findTrainerIds(@Param("traineeId") Long traineeId);
+
+    /**
+     * Assigns the given trainers to the trainee with a single statement.
+     * The trainers must not be assigned to the trainee yet.
+     *
+     * @param traineeId  the trainee id
+     * @param trainerIds the ids of the trainers to assign
+     * @return the number of assignments inserted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO trainee_trainer (trainee_id, trainer_id) " +
+            "SELECT CAST(:traineeId AS BIGINT), tr.id FROM trainer tr WHERE tr.id IN :trainerIds", nativeQuery = true)
+    int addTrainers(@Param("traineeId") Long traineeId, @Param("trainerIds") Collection<Long> trainerIds);
+
+    /**
+     * Unassigns the given trainers from the trainee with a single statement.
+     *
+     * @param traineeId  the trainee id
+     * @param trainerIds the ids of the trainers to unassign
+     * @return the number of assignments deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM trainee_trainer WHERE trainee_id = :traineeId AND trainer_id IN :trainerIds",
+            nativeQuery = true)
+    int removeTrainers(@Param("traineeId") Long traineeId, @Param("trainerIds") Collection<Long> trainerIds);
+
     /**
      * Retrieves a list of trainees associated with the specified usernames.
      *
@@ -32,4 +78,42 @@ public interface JpaTraineeDao extends JpaRepository<Trainee, Long> {
      */
     @Query("SELECT t FROM Trainee t JOIN User u ON t.user.id = u.id WHERE u.username IN :usernames")
     List<Trainee> findAllByUsernames(@Param("usernames") List<String> usernames);
+
+    /**
+     * Retrieves the ids of the trainees following the given id, ordered by id.
+     *
+     * @param after    the last id of the previous page, {@code 0} for the first page
+     * @param pageable the maximum number of ids to return
+     * @return the trainee ids of the page
+     */
+    @Query("SELECT t.id FROM Trainee t WHERE t.id > :after ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+
+    /**
+     * Fetches the trainees with the given ids along with their users and trainers.
+     *
+     * @param ids the trainee ids
+     * @return the trainees ordered by id
+     */
+    @Query("SELECT DISTINCT t FROM Trainee t " +
+            "LEFT JOIN FETCH t.user " +
+            "LEFT JOIN FETCH t.trainers tr " +
+            "LEFT JOIN FETCH tr.user " +
+            "LEFT JOIN FETCH tr.trainingType " +
+            "WHERE t.id IN :ids ORDER BY t.id")
+    List<Trainee> findWithTrainersByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Fetches the trainee with the given username along with its user and trainers.
+     *
+     * @param username the username of the trainee
+     * @return an {@link Optional} containing the trainee if found, otherwise empty
+     */
+    @Query("SELECT t FROM Trainee t " +
+            "JOIN FETCH t.user u " +
+            "LEFT JOIN FETCH t.trainers tr " +
+            "LEFT JOIN FETCH tr.user " +
+            "LEFT JOIN FETCH tr.trainingType " +
+            "WHERE u.username = :username")
+    Optional<Trainee> findWithTrainersByUsername(@Param("username") String username);
 }
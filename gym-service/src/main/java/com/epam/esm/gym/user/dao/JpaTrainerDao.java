@@ -1,6 +1,11 @@
 package com.epam.esm.gym.user.dao;
 
+import com.epam.esm.gym.user.dao.projection.TrainerRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTraineeRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTrainingRow;
 import com.epam.esm.gym.user.entity.Trainer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +13,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +34,29 @@ public interface JpaTrainerDao extends JpaRepository<Trainer, Long> {
     @Query("SELECT t FROM Trainer t LEFT JOIN FETCH t.trainees WHERE t.user.username = :username")
     Optional<Trainer> findByUsername(@Param("username") String username);
 
+    /**
+     * Finds the trainer with the given username as a flat row.
+     *
+     * @param username the username of the trainer
+     * @return an Optional containing the trainer row if found, or empty if not
+     */
+    @Query("SELECT new com.epam.esm.gym.user.dao.projection.TrainerRow(" +
+            "t.id, u.username, u.firstName, u.lastName, u.active, tt.specialization) " +
+            "FROM Trainer t JOIN t.user u JOIN t.trainingType tt WHERE u.username = :username")
+    Optional<TrainerRow> findRowByUsername(@Param("username") String username);
+
+    /**
+     * Finds the trainers with the given usernames along with their users and training types.
+     *
+     * @param usernames the usernames of the trainers to be found
+     * @return the trainers found
+     */
+    @Query("SELECT t FROM Trainer t " +
+            "JOIN FETCH t.user u " +
+            "LEFT JOIN FETCH t.trainingType " +
+            "WHERE u.username IN :usernames")
+    List<Trainer> findAllByUsernameIn(@Param("usernames") Collection<String> usernames);
+
     /**
      * Retrieves a list of trainers that are not assigned to the specified username and have no associated trainings.
      *
@@ -64,14 +94,77 @@ public interface JpaTrainerDao extends JpaRepository<Trainer, Long> {
             @Param("trainerUsername") String trainerUsername,
             @Param("traineeUsername") String traineeUsername);
     /**
-     * Fetches all Trainers along with their associated Trainings, Trainees, and Training Sessions.
+     * Retrieves one page of trainers as flat rows ordered by id.
      *
-     * @return a list of Trainers with their related entities.
+     * @param pageable the page to retrieve
+     * @return a slice of trainer rows
      */
-    @Query("SELECT t FROM Trainer t " +
-            "LEFT JOIN FETCH t.user u " +
-            "LEFT JOIN FETCH t.trainingType tt " +
-            "LEFT JOIN FETCH t.trainingSessions ts " +
-            "WHERE u.permission = 'ROLE_TRAINER'")
-    List<Trainer> findAllWithUsers();
-}
\ No newline at end of file
+    @Query("SELECT new com.epam.esm.gym.user.dao.projection.TrainerRow(" +
+            "t.id, u.username, u.firstName, u.lastName, u.active, tt.specialization) " +
+            "FROM Trainer t JOIN t.user u JOIN t.trainingType tt " +
+            "WHERE u.permission = 'ROLE_TRAINER' ORDER BY t.id")
+    Slice<TrainerRow> findRows(Pageable pageable);
+
+    /**
+     * Retrieves the trainers following the given id as flat rows ordered by id.
+     *
+     * @param after    the last id of the previous page, {@code 0} for the first page
+     * @param pageable the maximum number of trainers to return
+     * @return the trainer rows of the page
+     */
+    @Query("SELECT new com.epam.esm.gym.user.dao.projection.TrainerRow(" +
+            "t.id, u.username, u.firstName, u.lastName, u.active, tt.specialization) " +
+            "FROM Trainer t JOIN t.user u JOIN t.trainingType tt " +
+            "WHERE u.permission = 'ROLE_TRAINER' AND t.id > :after ORDER BY t.id")
+    List<TrainerRow> findRowsAfter(@Param("after") long after, Pageable pageable);
+
+    /**
+     * Retrieves the trainees assigned to the given trainers as flat rows.
+     *
+     * @param trainerIds the trainer ids
+     * @return the trainee rows ordered by trainer id and username
+     */
+    @Query("SELECT new com.epam.esm.gym.user.dao.projection.TrainerTraineeRow(" +
+            "tr.id, u.username, u.firstName, u.lastName, te.address, u.active) " +
+            "FROM Trainee te JOIN te.trainers tr JOIN te.user u " +
+            "WHERE tr.id IN :trainerIds ORDER BY tr.id, u.username")
+    List<TrainerTraineeRow> findTraineeRowsByTrainerIdIn(@Param("trainerIds") Collection<Long> trainerIds);
+
+    /**
+     * Retrieves the trainings conducted by the given trainers as flat rows.
+     *
+     * @param trainerIds the trainer ids
+     * @return the training rows ordered by trainer id and training id
+     */
+    @Query("SELECT new com.epam.esm.gym.user.dao.projection.TrainerTrainingRow(" +
+            "t.trainer.id, t.trainingName, ty.specialization, t.trainingDate, t.trainingDuration) " +
+            "FROM Training t LEFT JOIN t.type ty " +
+            "WHERE t.trainer.id IN :trainerIds ORDER BY t.trainer.id, t.id")
+    List<TrainerTrainingRow> findTrainingRowsByTrainerIdIn(@Param("trainerIds") Collection<Long> trainerIds);
+
+    /**
+     * Retrieves the trainers changed within the given window as flat rows ordered by id.
+     *
+     * @param since the exclusive lower bound of the change time
+     * @param until the inclusive upper bound of the change time
+     * @return the rows of the trainers changed in the window
+     */
+    @Query("SELECT new com.epam.esm.gym.user.dao.projection.TrainerRow(" +
+            "t.id, u.username, u.firstName, u.lastName, u.active, tt.specialization) " +
+            "FROM Trainer t JOIN t.user u JOIN t.trainingType tt " +
+            "WHERE u.permission = 'ROLE_TRAINER' AND t.updatedAt > :since AND t.updatedAt <= :until ORDER BY t.id")
+    List<TrainerRow> findRowsChangedBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    /**
+     * Marks the trainer as changed, so the next delta synchronisation picks it up.
+     * Used for changes that do not update the trainer row itself, such as training or user changes.
+     *
+     * @param username the username of the trainer
+     * @param now      the change time
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Trainer t SET t.updatedAt = :now WHERE t.user.id = " +
+            "(SELECT u.id FROM User u WHERE u.username = :username)")
+    void touch(@Param("username") String username, @Param("now") LocalDateTime now);
+}
@@ -1,6 +1,8 @@
 package com.epam.esm.gym.user.dao;
 
+import com.epam.esm.gym.user.entity.Specialization;
 import com.epam.esm.gym.user.entity.Training;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -54,4 +56,49 @@ public interface JpaTrainingDao extends JpaRepository<Training, Long> {
             @Param("username") String username,
             @Param("trainingDate") LocalDate trainingDate);
 
+    /**
+     * Retrieves the trainings following the given id, ordered by id, along with their trainers and types.
+     *
+     * @param after    the last id of the previous page, {@code 0} for the first page
+     * @param pageable the maximum number of trainings to return
+     * @return the trainings of the page
+     */
+    @Query("SELECT t FROM Training t " +
+            "JOIN FETCH t.trainer tr " +
+            "JOIN FETCH tr.user " +
+            "LEFT JOIN FETCH t.type " +
+            "WHERE t.id > :after ORDER BY t.id")
+    List<Training> findPageAfter(@Param("after") long after, Pageable pageable);
+
+    /**
+     * Retrieves the trainings of a trainee following the given id that match the optional filters,
+     * ordered by id, along with their trainers and types. A {@code null} filter is not applied.
+     *
+     * @param traineeId    the id of the trainee
+     * @param after        the last id of the previous page, {@code 0} for the first page
+     * @param periodFrom   the earliest training date
+     * @param periodTo     the latest training date
+     * @param trainerName  the username of the trainer, compared case-insensitively
+     * @param trainingType the specialization of the training
+     * @param pageable     the maximum number of trainings to return
+     * @return the trainings of the page
+     */
+    @Query("SELECT t FROM Training t " +
+            "JOIN FETCH t.trainer tr " +
+            "JOIN FETCH tr.user u " +
+            "JOIN FETCH t.type ty " +
+            "WHERE t.trainee.id = :traineeId AND t.id > :after " +
+            "AND (:periodFrom IS NULL OR t.trainingDate >= :periodFrom) " +
+            "AND (:periodTo IS NULL OR t.trainingDate <= :periodTo) " +
+            "AND (:trainerName IS NULL OR LOWER(u.username) = LOWER(:trainerName)) " +
+            "AND (:trainingType IS NULL OR ty.specialization = :trainingType) " +
+            "ORDER BY t.id")
+    List<Training> findTraineeTrainingsAfter(
+            @Param("traineeId") Long traineeId,
+            @Param("after") long after,
+            @Param("periodFrom") LocalDate periodFrom,
+            @Param("periodTo") LocalDate periodTo,
+            @Param("trainerName") String trainerName,
+            @Param("trainingType") Specialization trainingType,
+            Pageable pageable);
 }
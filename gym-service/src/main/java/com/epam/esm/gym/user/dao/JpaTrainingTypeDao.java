@@ -2,7 +2,10 @@ package com.epam.esm.gym.user.dao;
 
 import com.epam.esm.gym.user.entity.Specialization;
 import com.epam.esm.gym.user.entity.TrainingType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,10 +20,15 @@ public interface JpaTrainingTypeDao extends JpaRepository<TrainingType, Long> {
 
     /**
      * Finds a training type by its specialization.
+     * The result is kept in the query cache, which is invalidated by any write to the training types.
      *
      * @param specialization the specialization associated with the training type
      * @return an {@link Optional} containing the training type if found, otherwise empty
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TrainingType.SPECIALIZATION_CACHE_REGION)
+    })
     Optional<TrainingType> findBySpecialization(Specialization specialization);
 
     /**
@@ -2,29 +2,22 @@ package com.epam.esm.gym.user.dao;
 
 import com.epam.esm.gym.user.entity.RoleType;
 import com.epam.esm.gym.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Repository interface for managing {@link User} entities.
  * Provides methods for accessing user data, including finding users by username,
  * checking the existence of usernames, and retrieving users with specific permissions.
+ * Lookups by username are served by {@link NaturalIdUserDao} through the natural id cache.
  */
 @Repository
-public interface JpaUserDao extends JpaRepository<User, Long> {
-
-    /**
-     * Finds a user by their username.
-     *
-     * @param username the username to search for
-     * @return an Optional containing the found user, or empty if no user is found
-     */
-    Optional<User> findByUsername(String username);
+public interface JpaUserDao extends JpaRepository<User, Long>, NaturalIdUserDao {
 
     /**
      * Finds users by their username.
@@ -54,4 +47,14 @@ public interface JpaUserDao extends JpaRepository<User, Long> {
      * @return true if a user with the given username exists, false otherwise
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Retrieves the users following the given id, ordered by id.
+     *
+     * @param after    the last id of the previous page, {@code 0} for the first page
+     * @param pageable the maximum number of users to return
+     * @return the users of the page
+     */
+    @Query("SELECT u FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<User> findPageAfter(@Param("after") long after, Pageable pageable);
 }
@@ -0,0 +1,50 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.entity.UsernameSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link UsernameSequence} entities.
+ * Provides the atomic increment used to hand out unique username suffixes.
+ */
+@Repository
+public interface JpaUsernameSequenceDao extends JpaRepository<UsernameSequence, String> {
+
+    /**
+     * Advances the counter of the base name, locking its row until the transaction ends.
+     *
+     * @param baseName the base name of the username
+     * @param count    the number of values to reserve
+     * @return the number of updated rows, {@code 0} if the base name has no counter yet
+     */
+    @Modifying
+    @Query("UPDATE UsernameSequence s SET s.lastValue = s.lastValue + :count WHERE s.baseName = :baseName")
+    int increment(@Param("baseName") String baseName, @Param("count") long count);
+
+    /**
+     * Creates the counter of the base name.
+     * Fails with a constraint violation if another transaction created it first.
+     *
+     * @param baseName  the base name of the username
+     * @param lastValue the last value handed out by this call
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @Query("INSERT INTO UsernameSequence (baseName, lastValue) VALUES (:baseName, :lastValue)")
+    int create(@Param("baseName") String baseName, @Param("lastValue") long lastValue);
+
+    /**
+     * Reads the counter of the base name.
+     *
+     * @param baseName the base name of the username
+     * @return an Optional containing the last value handed out, or empty if the base name has no counter
+     */
+    @Query("SELECT s.lastValue FROM UsernameSequence s WHERE s.baseName = :baseName")
+    Optional<Long> findLastValue(@Param("baseName") String baseName);
+}
@@ -0,0 +1,23 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Repository fragment looking users up by their natural id, the username.
+ *
+ * <p>The lookup goes through the Hibernate natural id cache and the second-level cache of
+ * {@link User}, so repeated lookups of the same username, such as those of the JWT filter,
+ * login and token refresh, are answered without a query.</p>
+ */
+public interface NaturalIdUserDao {
+
+    /**
+     * Finds a user by their username.
+     *
+     * @param username the username to search for
+     * @return an Optional containing the found user, or empty if no user is found
+     */
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,35 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Natural id implementation of {@link NaturalIdUserDao}.
+ *
+ * <p>The natural id API needs a Hibernate session that stays open for the whole load, so the lookup
+ * joins the current transaction or, outside of one, runs with transaction synchronization only. It is
+ * deliberately not read-only: users are looked up to authenticate requests, which must not see a
+ * lagging replica, so outside a read-only transaction the lookup is served by the primary.</p>
+ */
+public class NaturalIdUserDaoImpl implements NaturalIdUserDao {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<User> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
@@ -0,0 +1,106 @@
+package com.epam.esm.gym.user.dao.migration;
+
+import com.epam.esm.gym.user.entity.Token;
+import com.epam.esm.gym.user.security.service.JwtProvider;
+import com.epam.esm.gym.user.security.service.TokenDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Migration 6, which moves {@code tokens} rows written before tokens were stored as digests to the
+ * {@link Token} mapping.
+ *
+ * <p>The {@code token_digest} and {@code expires_at} columns are added, the digest of every row still
+ * holding a raw token is computed, and rows without an expiration are given a full token lifetime.
+ * The raw {@code access_token} column only loses its not-null constraint, so instances of the previous
+ * release keep working during a rolling deploy; dropping it is left to a later migration, once no such
+ * instance runs. The digest is computed in Java because it must match {@link TokenDigest} exactly.
+ * On a schema without the raw column nothing is done.</p>
+ */
+@Slf4j
+@Component
+public class TokenDigestMigration implements JavaMigration {
+
+    private static final String TABLE = "tokens";
+    private static final String LEGACY_COLUMN = "access_token";
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("6");
+    }
+
+    @Override
+    public String getDescription() {
+        return "token digests";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        int migrated = migrate(new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true)));
+        log.info("Replaced {} stored access tokens with their digests", migrated);
+    }
+
+    /**
+     * Stores the digest of every raw token still in the table and makes the raw token column optional.
+     *
+     * @param jdbcTemplate the template running on the migration's connection
+     * @return the number of rows given a digest
+     */
+    int migrate(JdbcTemplate jdbcTemplate) {
+        if (!hasLegacyColumn(jdbcTemplate)) {
+            return 0;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN IF NOT EXISTS token_digest VARCHAR(43)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP");
+        Timestamp expiresAt = new Timestamp(System.currentTimeMillis() + JwtProvider.TOKEN_LIFETIME);
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, " + LEGACY_COLUMN + " FROM " + TABLE
+                        + " WHERE token_digest IS NULL AND " + LEGACY_COLUMN + " IS NOT NULL",
+                (rs, rowNum) -> new Object[]{TokenDigest.of(rs.getString(2)), expiresAt, rs.getLong(1)});
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + TABLE + " SET token_digest = ?, expires_at = COALESCE(expires_at, ?) WHERE id = ?",
+                rows);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN " + LEGACY_COLUMN + " DROP NOT NULL");
+        return rows.size();
+    }
+
+    /**
+     * Checks whether the table still has the raw token column.
+     *
+     * @param jdbcTemplate the template running on the migration's connection
+     * @return {@code true} if the {@code access_token} column exists
+     */
+    private boolean hasLegacyColumn(JdbcTemplate jdbcTemplate) {
+        Boolean present = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            String table = upperCase ? TABLE.toUpperCase() : TABLE;
+            String column = upperCase ? LEGACY_COLUMN.toUpperCase() : LEGACY_COLUMN;
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next();
+            }
+        });
+        return Boolean.TRUE.equals(present);
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.esm.gym.user.dao.projection;
+
+import com.epam.esm.gym.user.entity.Specialization;
+
+/**
+ * Flat projection of a trainer and its user, read without loading any entity.
+ *
+ * @param id             the trainer id
+ * @param username       the username of the trainer
+ * @param firstName      the first name of the trainer
+ * @param lastName       the last name of the trainer
+ * @param active         whether the trainer's account is active
+ * @param specialization the specialization of the trainer
+ */
+public record TrainerRow(
+        Long id,
+        String username,
+        String firstName,
+        String lastName,
+        Boolean active,
+        Specialization specialization) {
+}
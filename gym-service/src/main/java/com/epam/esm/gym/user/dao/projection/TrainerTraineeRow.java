@@ -0,0 +1,20 @@
+package com.epam.esm.gym.user.dao.projection;
+
+/**
+ * Flat projection of a trainee assigned to a trainer, keyed by the trainer id.
+ *
+ * @param trainerId the id of the trainer the trainee is assigned to
+ * @param username  the username of the trainee
+ * @param firstName the first name of the trainee
+ * @param lastName  the last name of the trainee
+ * @param address   the address of the trainee
+ * @param active    whether the trainee's account is active
+ */
+public record TrainerTraineeRow(
+        Long trainerId,
+        String username,
+        String firstName,
+        String lastName,
+        String address,
+        Boolean active) {
+}
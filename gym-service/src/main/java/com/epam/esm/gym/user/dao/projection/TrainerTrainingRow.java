@@ -0,0 +1,22 @@
+package com.epam.esm.gym.user.dao.projection;
+
+import com.epam.esm.gym.user.entity.Specialization;
+
+import java.time.LocalDate;
+
+/**
+ * Flat projection of a training conducted by a trainer, keyed by the trainer id.
+ *
+ * @param trainerId        the id of the trainer conducting the training
+ * @param trainingName     the name of the training
+ * @param type             the specialization of the training, {@code null} if it has no type
+ * @param trainingDate     the date of the training
+ * @param trainingDuration the duration of the training in minutes
+ */
+public record TrainerTrainingRow(
+        Long trainerId,
+        String trainingName,
+        Specialization type,
+        LocalDate trainingDate,
+        Integer trainingDuration) {
+}
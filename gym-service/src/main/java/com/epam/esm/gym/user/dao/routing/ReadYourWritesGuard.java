@@ -0,0 +1,70 @@
+package com.epam.esm.gym.user.dao.routing;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the reads of a user on the primary database for a while after the user's own write.
+ *
+ * <p>The replica applies the writes of the primary with some lag, so a profile read right after
+ * an update could still see the old profile. Every committed write of a user extends a deadline
+ * until which {@link ReplicaRoutingDataSource} sends that user's read-only transactions to the
+ * primary. Other users keep reading from the replica. Expired deadlines are dropped on access and
+ * by a periodic purge.</p>
+ */
+public class ReadYourWritesGuard {
+
+    private final ReplicaProperties properties;
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the guard.
+     *
+     * @param properties the replica settings holding the staleness window
+     */
+    public ReadYourWritesGuard(ReplicaProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Records a committed write of the user, starting a new staleness window.
+     *
+     * @param username the user who wrote
+     */
+    public void recordWrite(String username) {
+        long window = properties.getReadYourWritesWindow();
+        if (window <= 0) {
+            return;
+        }
+        deadlines.merge(username, System.currentTimeMillis() + window, Math::max);
+    }
+
+    /**
+     * Tells whether the reads of the user must still be served by the primary.
+     *
+     * @param username the reading user
+     * @return {@code true} if the user committed a write within the staleness window
+     */
+    public boolean readsPrimary(String username) {
+        Long deadline = deadlines.get(username);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline <= System.currentTimeMillis()) {
+            deadlines.remove(username, deadline);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops the users whose staleness window has expired.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.purge-interval:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        deadlines.values().removeIf(deadline -> deadline <= now);
+    }
+}
@@ -0,0 +1,58 @@
+package com.epam.esm.gym.user.dao.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the read replica of the service database.
+ * <p>
+ * When enabled, read-only transactions are served by a connection pool of the replica and all other
+ * work by the primary {@code spring.datasource}. A user who has just committed a write keeps reading
+ * from the primary for {@link #readYourWritesWindow} milliseconds, so replication lag does not hide
+ * the user's own update.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica; when disabled the primary serves everything.
+     */
+    private boolean enabled;
+
+    /**
+     * The JDBC URL of the replica.
+     */
+    private String url;
+
+    /**
+     * The login of the replica, the primary login if not set.
+     */
+    private String username;
+
+    /**
+     * The password of the replica, the primary password if not set.
+     */
+    private String password;
+
+    /**
+     * The maximum number of pooled replica connections.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * How long a user reads from the primary after committing a write, in milliseconds.
+     * Should exceed the expected replication lag; {@code 0} disables the guard.
+     */
+    private long readYourWritesWindow = 5000;
+
+    /**
+     * The interval between purges of expired read-your-writes entries, in milliseconds.
+     */
+    private long purgeInterval = 60000;
+}
@@ -0,0 +1,85 @@
+package com.epam.esm.gym.user.dao.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes the connections of read-only transactions to the replica and all other connections to the primary.
+ *
+ * <p>The route is decided when a connection is fetched, from the read-only flag of the current
+ * transaction. Transaction managers fetch the connection before they publish that flag, so this
+ * data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers the fetch
+ * to the first statement. A read-only transaction joining a read-write one uses the connection of
+ * the outer transaction, so reads inside a write flow stay on the primary.</p>
+ *
+ * <p>When a read-write transaction of an authenticated user commits, the write is recorded in the
+ * {@link ReadYourWritesGuard}, and the user's read-only transactions go to the primary until the
+ * staleness window expires. Work that only runs with transaction synchronization, without an actual
+ * transaction, uses the primary but is not recorded as a write.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesGuard guard;
+
+    /**
+     * Creates the routing data source over the two pools.
+     *
+     * @param primary the pool of the primary database
+     * @param replica the pool of the replica
+     * @param guard   the read-your-writes guard
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard guard) {
+        this.guard = guard;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return username != null && guard.readsPrimary(username) ? Route.PRIMARY : Route.REPLICA;
+        }
+        if (username != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guard.recordWrite(username);
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+
+    /**
+     * Returns the name of the authenticated user of the current request.
+     *
+     * @return the username, or {@code null} outside an authenticated request
+     */
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * The lookup keys of the two pools.
+     */
+    private enum Route {
+        PRIMARY,
+        REPLICA
+    }
+}
@@ -32,18 +32,18 @@ public record UserPrincipal(User user) implements UserDetails {
     /**
      * Retrieves a list of granted authorities for the role.
      *
-     * <p>This method converts the set of permissions associated with the role into
-     * a list of {@link org.springframework.security.core.authority.SimpleGrantedAuthority} objects.
-     * It also adds the role it self as an authority to the list. This list is used by Spring Security to manage
+     * <p>The permissions associated with the role, together with the role itself, are
+     * converted into {@link org.springframework.security.core.authority.SimpleGrantedAuthority} objects
+     * once per role and shared. This set is used by Spring Security to manage
      * access control based on the user's role and permissions.</p>
      *
-     * @return a list of {@link org.springframework.security.core.authority.SimpleGrantedAuthority}
+     * @return an immutable set of {@link org.springframework.security.core.authority.SimpleGrantedAuthority}
      * representing the authorities granted by this role
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Hibernate.initialize(user.getPermission());
-        return user.getPermission().getGrantedAuthorities();
+        return user.getPermission().getGrantedAuthoritySet();
     }
 
     @Override
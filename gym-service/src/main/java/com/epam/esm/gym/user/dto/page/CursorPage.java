@@ -0,0 +1,53 @@
+package com.epam.esm.gym.user.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of a keyset paginated listing.
+ *
+ * <p>The {@code nextCursor} is an opaque continuation token; passing it back as the {@code cursor}
+ * request parameter returns the page that follows. It is {@code null} on the last page.</p>
+ *
+ * @param <T> the type of the listed items
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * The page size used when the client does not request one.
+     */
+    public static final String DEFAULT_SIZE = "50";
+
+    /**
+     * The largest page size a client may request.
+     */
+    public static final int MAX_SIZE = 200;
+
+    private List<T> items;
+    private String nextCursor;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        CursorPage<?> page = (CursorPage<?>) obj;
+        return Objects.equals(items, page.items)
+                && Objects.equals(nextCursor, page.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, nextCursor);
+    }
+}
@@ -2,10 +2,13 @@ package com.epam.esm.gym.user.entity;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.epam.esm.gym.user.entity.Permission.ADMIN_CREATE;
@@ -45,6 +48,14 @@ public enum RoleType {
             ADMIN_UPDATE,
             ADMIN_DELETE)));
 
+    private static final Map<RoleType, Set<GrantedAuthority>> GRANTED_AUTHORITIES = new EnumMap<>(RoleType.class);
+
+    static {
+        for (RoleType role : values()) {
+            GRANTED_AUTHORITIES.put(role, Set.copyOf(role.getGrantedAuthorities()));
+        }
+    }
+
     private final Set<Permission> authorities;
 
     /**
@@ -67,4 +78,15 @@ public enum RoleType {
         grantedAuthorities.add(new SimpleGrantedAuthority(this.name()));
         return grantedAuthorities;
     }
+
+    /**
+     * Returns the granted authorities of the role, computed once per role.
+     * The returned set is immutable and shared, so it can be handed to every
+     * authentication of the role without copying.
+     *
+     * @return the immutable set of authorities granted by this role
+     */
+    public Set<GrantedAuthority> getGrantedAuthoritySet() {
+        return GRANTED_AUTHORITIES.get(this);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.epam.esm.gym.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Represents an RSA key pair used to sign JWTs.
+ *
+ * <p>Keys are shared through the database, so every instance signs with the same key and verifies
+ * tokens issued by the others. A key is published in the JWKS from {@code createdAt}, signs tokens
+ * between {@code activatesAt} and {@code retiresAt}, and stays published until {@code expiresAt}
+ * so tokens signed just before its retirement can still be verified.</p>
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "signing_keys", indexes = @Index(name = "idx_signing_keys_expires_at", columnList = "expires_at"))
+public class SigningKey {
+
+    @Id
+    @Column(length = 64)
+    private String kid;
+
+    @Column(nullable = false, length = 16)
+    private String algorithm;
+
+    @Column(name = "public_key", nullable = false, columnDefinition = "TEXT")
+    private String publicKey;
+
+    @Column(name = "private_key", nullable = false, columnDefinition = "TEXT")
+    private String privateKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "activates_at", nullable = false)
+    private LocalDateTime activatesAt;
+
+    @Column(name = "retires_at", nullable = false)
+    private LocalDateTime retiresAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        SigningKey that = (SigningKey) obj;
+        return Objects.equals(kid, that.kid)
+                && Objects.equals(algorithm, that.algorithm)
+                && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kid, algorithm, createdAt);
+    }
+}
@@ -0,0 +1,61 @@
+package com.epam.esm.gym.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Represents the last trainer synchronisation watermark acknowledged by a consumer.
+ *
+ * <p>The watermark is the upper bound of the last delta the consumer has applied; the next delta
+ * contains the trainers changed after it, and it stays empty until the first acknowledgement.
+ * {@code acknowledgedAt} tells whether the consumer is still keeping up, and {@code fullResyncAt}
+ * when it was last sent a full resync.</p>
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sync_watermark")
+public class SyncWatermark {
+
+    @Id
+    private String consumer;
+
+    private LocalDateTime watermark;
+
+    @Column(name = "acknowledged_at")
+    private LocalDateTime acknowledgedAt;
+
+    @Column(name = "full_resync_at")
+    private LocalDateTime fullResyncAt;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        SyncWatermark that = (SyncWatermark) obj;
+        return Objects.equals(consumer, that.consumer)
+                && Objects.equals(watermark, that.watermark);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(consumer, watermark);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,6 +19,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
@@ -25,6 +27,11 @@ import java.util.Objects;
  *
  * <p>This class defines the structure of a token used for authentication, including its type, value, and validity.
  * It includes fields for the token type, access token, expiration details, and association with a {@link User}.</p>
+ *
+ * <p>Only the fixed-size SHA-256 digest of the JWT is stored, never the token itself. Rows are purged
+ * once {@link #expiresAt} has passed; revoked rows are kept until then, since they back the
+ * revocation index warmed at startup. The digest column is nullable so that Hibernate can add it to a
+ * populated table; rows written before it existed are given a digest by the {@code TokenDigestMigration}.</p>
  */
 @Setter
 @Getter
@@ -33,7 +40,9 @@ import java.util.Objects;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tokens")
+@Table(name = "tokens", indexes = {
+        @Index(name = "idx_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_tokens_expires_at", columnList = "expires_at")})
 public class Token {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,10 +51,12 @@ public class Token {
     @Column(name = "token_type")
     @Enumerated(EnumType.STRING)
     private TokenType tokenType = TokenType.BEARER;
-    @Column(name = "access_token", nullable = false, unique = true)
-    private String accessToken;
+    @Column(name = "token_digest", unique = true, length = 43)
+    private String tokenDigest;
     @Column(name = "access_token_ttl")
     private Long accessTokenTTL;
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
     private boolean revoked;
     private boolean expired;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -63,13 +74,14 @@ public class Token {
         Token token = (Token) obj;
         return revoked == token.revoked && expired == token.expired
                 && Objects.equals(id, token.id) && tokenType == token.tokenType
-                && Objects.equals(accessToken, token.accessToken)
-                && Objects.equals(accessTokenTTL, token.accessTokenTTL);
+                && Objects.equals(tokenDigest, token.tokenDigest)
+                && Objects.equals(accessTokenTTL, token.accessTokenTTL)
+                && Objects.equals(expiresAt, token.expiresAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, tokenType, accessToken, accessTokenTTL, revoked, expired);
+        return Objects.hash(id, tokenType, tokenDigest, accessTokenTTL, expiresAt, revoked, expired);
     }
 
     /**
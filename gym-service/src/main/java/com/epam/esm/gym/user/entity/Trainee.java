@@ -13,11 +13,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -51,7 +53,8 @@ import java.util.Set;
 @Table(name = "trainee")
 public class Trainee {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainee_id_seq")
+    @SequenceGenerator(name = "trainee_id_seq", sequenceName = "trainee_id_seq", allocationSize = 50)
     private Long id;
 
     @JsonSerialize(using = LocalDateSerializer.class)
@@ -76,7 +79,8 @@ public class Trainee {
     @JoinTable(
             name = "trainee_trainer",
             joinColumns = @JoinColumn(name = "trainee_id"),
-            inverseJoinColumns = @JoinColumn(name = "trainer_id")
+            inverseJoinColumns = @JoinColumn(name = "trainer_id"),
+            indexes = @Index(name = "idx_trainee_trainer_trainer_id", columnList = "trainer_id")
     )
     private Set<Trainer> trainers;
 
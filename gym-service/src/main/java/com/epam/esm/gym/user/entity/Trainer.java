@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
@@ -14,6 +16,10 @@ import java.util.*;
  * assigned sessions, and working hours. It supports the application's business
  * logic for managing trainers and their availability.</p>
  *
+ * <p>{@code updatedAt} tracks the last change relevant to the workload service and drives
+ * the delta trainer synchronisation. The column defaults to the current time, so adding it to a
+ * populated table gives the existing trainers a value.</p>
+ *
  * @author Pavlo Poliak
  * @since 1.0
  */
@@ -23,10 +29,11 @@ import java.util.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "trainer")
+@Table(name = "trainer", indexes = @Index(name = "idx_trainer_updated_at", columnList = "updated_at"))
 public class Trainer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainer_id_seq")
+    @SequenceGenerator(name = "trainer_id_seq", sequenceName = "trainer_id_seq", allocationSize = 50)
     private Long id;
 
     @JsonProperty("user")
@@ -50,6 +57,19 @@ public class Trainer {
     @OneToMany(mappedBy = "trainer", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<TrainingSession> trainingSessions;
 
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Records the time of the change whenever the trainer row is inserted or updated.
+     */
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
     /**
      * Retrieves the username of the current user.
      *
@@ -85,13 +105,11 @@ public class Trainer {
         Trainer trainer = (Trainer) obj;
         return Objects.equals(id, trainer.id)
                 && Objects.equals(user, trainer.user)
-                && Objects.equals(trainingType, trainer.trainingType)
-                && Objects.equals(trainings, trainer.trainings)
-                && Objects.equals(trainees, trainer.trainees);
+                && Objects.equals(trainingType, trainer.trainingType);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, user, trainingType, trainings, trainees);
+        return Objects.hash(id, user, trainingType);
     }
 }
@@ -12,9 +12,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,6 +36,9 @@ import java.util.Set;
  *
  * <p>Duration is validated to ensure it falls within specified limits.</p>
  *
+ * <p>The trainings of a trainee are paged by id, and those of a trainer are filtered by date,
+ * so each lookup has an index led by its foreign key.</p>
+ *
  * @author Pavlo Poliak
  * @since 1.0
  */
@@ -43,6 +48,9 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(name = "training", indexes = {
+        @Index(name = "idx_training_trainee_id", columnList = "trainee_id, id"),
+        @Index(name = "idx_training_trainer_date", columnList = "trainer_id, training_date")})
 public class Training {
 
     @Id
@@ -15,6 +15,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Objects;
@@ -25,6 +27,8 @@ import java.util.Set;
  *
  * <p>This class defines the different types of training based on specialization. Each training type has a set of
  * associated trainings and trainers. The specialization is represented by an enumeration.</p>
+ *
+ * <p>Training types are reference data without mutators, so they are cached read-only.</p>
  */
 @Entity
 @Getter
@@ -32,7 +36,10 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "training_type")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = TrainingType.CACHE_REGION)
 public class TrainingType {
+    public static final String CACHE_REGION = "training-types";
+    public static final String SPECIALIZATION_CACHE_REGION = "training-types-by-specialization";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -60,13 +67,11 @@ public class TrainingType {
         }
         TrainingType that = (TrainingType) obj;
         return Objects.equals(id, that.id)
-                && specialization == that.specialization
-                && Objects.equals(trainings, that.trainings)
-                && Objects.equals(trainers, that.trainers);
+                && specialization == that.specialization;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, specialization, trainings, trainers);
+        return Objects.hash(id, specialization);
     }
 }
\ No newline at end of file
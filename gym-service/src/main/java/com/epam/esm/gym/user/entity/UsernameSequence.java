@@ -0,0 +1,53 @@
+package com.epam.esm.gym.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Objects;
+
+/**
+ * Represents the counter of generated usernames sharing a base name.
+ *
+ * <p>Usernames are generated as {@code <baseName>.<n>}; {@code lastValue} holds the last {@code n}
+ * handed out for the base name, so the next username costs a single primary key update.</p>
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "username_sequences")
+public class UsernameSequence {
+
+    @Id
+    @Column(name = "base_name")
+    private String baseName;
+
+    @Column(name = "last_value", nullable = false)
+    private long lastValue;
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        UsernameSequence that = (UsernameSequence) obj;
+        return Objects.equals(baseName, that.baseName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(baseName);
+    }
+}
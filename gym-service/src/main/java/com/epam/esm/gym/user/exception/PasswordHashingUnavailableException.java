@@ -0,0 +1,18 @@
+package com.epam.esm.gym.user.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Exception thrown when a password cannot be hashed because the hashing executor is saturated.
+ * This exception is used to shed load quickly instead of queueing requests behind expensive hashes,
+ * and is reported to the client as a temporary unavailability.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final String message;
+}
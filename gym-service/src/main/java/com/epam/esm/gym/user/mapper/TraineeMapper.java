@@ -1,5 +1,6 @@
 package com.epam.esm.gym.user.mapper;
 
+import com.epam.esm.gym.user.dao.projection.TrainerTraineeRow;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.FullTraineeProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
@@ -11,16 +12,11 @@ import com.epam.esm.gym.user.dto.training.TrainingTypeDto;
 import com.epam.esm.gym.user.entity.Trainee;
 import com.epam.esm.gym.user.entity.Trainer;
 import com.epam.esm.gym.user.entity.Training;
-import com.epam.esm.gym.user.entity.TrainingType;
 import com.epam.esm.gym.user.entity.User;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Mapper interface for converting between various DTOs and domain models related to trainees, trainers, and training.
@@ -142,31 +138,6 @@ public class TraineeMapper {
                 .build();
     }
 
-    /**
-     * Converts a list of {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile} to a set of {@link Trainer} entities.
-     *
-     * <p>This method creates {@link Trainer} entities from a list
-     * of {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile} DTOs,
-     * setting properties based on the profile information.</p>
-     *
-     * @param trainers the list of trainer profiles
-     * @return the set of {@link Trainer} entities
-     */
-    public Set<Trainer> toTrainers(List<TrainerResponse> trainers) {
-        if (trainers == null || trainers.isEmpty()) {
-            return new HashSet<>();
-        }
-
-        return trainers.stream()
-                .map(trainerProfile -> Trainer.builder()
-                        .user(toUser(trainerProfile))
-                        .trainingType(TrainingType.builder()
-                                .specialization(trainerProfile.getSpecialization().getSpecialization())
-                                .build())
-                        .build())
-                .collect(Collectors.toSet());
-    }
-
     /**
      * Converts a {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile} to a {@link User} entity.
      *
@@ -246,4 +217,21 @@ public class TraineeMapper {
                 .active(Boolean.TRUE.equals(trainee.getUser().getActive()))
                 .build();
     }
+
+    /**
+     * Converts a trainee row of a trainer listing to a slim trainee profile.
+     *
+     * @param row the trainee row
+     * @return the slim trainee profile
+     */
+    static TraineeProfileResponse toSlimDto(TrainerTraineeRow row) {
+        Objects.requireNonNull(row, "Trainee row cannot be null");
+        return TraineeProfileResponse.builder()
+                .username(row.username())
+                .firstName(row.firstName() != null ? row.firstName() : "")
+                .lastName(row.lastName() != null ? row.lastName() : "")
+                .address(row.address() != null ? row.address() : "")
+                .active(Boolean.TRUE.equals(row.active()))
+                .build();
+    }
 }
@@ -1,6 +1,9 @@
 package com.epam.esm.gym.user.mapper;
 
 import com.epam.esm.gym.jms.dto.TrainerStatus;
+import com.epam.esm.gym.user.dao.projection.TrainerRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTraineeRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTrainingRow;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.TraineeProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.UpdateTrainerRequest;
@@ -133,6 +136,48 @@ public class TrainerMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Converts a trainer row and the rows of its trainings and trainees to a trainer profile.
+     *
+     * @param trainer   the trainer row
+     * @param trainings the training rows of the trainer
+     * @param trainees  the trainee rows of the trainer
+     * @return the converted {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile}
+     */
+    public TrainerProfile toTrainerProfile(TrainerRow trainer,
+                                           List<TrainerTrainingRow> trainings,
+                                           List<TrainerTraineeRow> trainees) {
+        Objects.requireNonNull(trainer, "Trainer row cannot be null");
+        return TrainerProfile.builder()
+                .username(trainer.username())
+                .trainerStatus(Boolean.TRUE.equals(trainer.active()) ? TrainerStatus.ACTIVE : TrainerStatus.INACTIVE)
+                .firstName(trainer.firstName())
+                .lastName(trainer.lastName())
+                .trainings(trainings.stream().map(row -> TrainingMapper.toDto(trainer.username(), row)).toList())
+                .specialization(TrainingTypeDto.builder().specialization(trainer.specialization()).build())
+                .trainees(trainees.stream().map(TraineeMapper::toSlimDto).toList())
+                .build();
+    }
+
+    /**
+     * Converts a trainer row and the rows of its trainings to the trainer profile sent to the workload service.
+     *
+     * @param trainer   the trainer row
+     * @param trainings the training rows of the trainer
+     * @return the converted {@link com.epam.esm.gym.jms.dto.TrainerProfile} message
+     */
+    public com.epam.esm.gym.jms.dto.TrainerProfile toSyncProfile(TrainerRow trainer,
+                                                                 List<TrainerTrainingRow> trainings) {
+        Objects.requireNonNull(trainer, "Trainer row cannot be null");
+        return com.epam.esm.gym.jms.dto.TrainerProfile.builder()
+                .username(trainer.username())
+                .firstName(trainer.firstName())
+                .lastName(trainer.lastName())
+                .active(Boolean.TRUE.equals(trainer.active()))
+                .trainings(trainings.stream().map(row -> TrainingMapper.toDto(trainer.username(), row)).toList())
+                .build();
+    }
+
     /**
      * Converts a {@link User} and {@link TrainerRequest} into a {@link Trainer} entity.
      *
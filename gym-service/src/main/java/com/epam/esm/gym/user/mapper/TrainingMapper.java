@@ -1,5 +1,6 @@
 package com.epam.esm.gym.user.mapper;
 
+import com.epam.esm.gym.user.dao.projection.TrainerTrainingRow;
 import com.epam.esm.gym.user.dto.training.TrainingRequest;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.user.dto.training.TrainingTypeDto;
@@ -99,6 +100,24 @@ public class TrainingMapper {
         return trainings.stream().map(TrainingMapper::toDto).toList();
     }
 
+    /**
+     * Converts a training row of a trainer listing to a {@link TrainingResponse} DTO.
+     *
+     * @param trainerName the username of the trainer who conducted the training
+     * @param row         the training row
+     * @return the converted {@link TrainingResponse}
+     */
+    public static TrainingResponse toDto(String trainerName, TrainerTrainingRow row) {
+        Objects.requireNonNull(row, "Training row cannot be null");
+        return TrainingResponse.builder()
+                .trainerName(trainerName)
+                .trainingName(row.trainingName())
+                .trainingType(row.type() != null ? row.type().name() : Specialization.DEFAULT.name())
+                .trainingDate(row.trainingDate())
+                .trainingDuration(row.trainingDuration() != null ? row.trainingDuration() : 0)
+                .build();
+    }
+
     /**
      * Converts a {@link TrainingType} entity to a {@link com.epam.esm.gym.user.dto.training.TrainingTypeDto} DTO.
      *
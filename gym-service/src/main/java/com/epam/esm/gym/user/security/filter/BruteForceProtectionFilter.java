@@ -14,10 +14,10 @@ import java.io.IOException;
 
 /**
  * A filter that provides protection against brute-force attacks by limiting
- * the number of failed login attempts for a given username.
+ * the number of failed login attempts for a given username and client IP.
  *
- * <p>This filter intercepts login requests and checks if the username is locked due
- * to too many failed login attempts. If the username is locked, it responds with
+ * <p>This filter intercepts login requests and checks if the username or the client IP
+ * is locked due to too many failed login attempts. If either is locked, it responds with
  * an HTTP 403 Forbidden status.</p>
  */
 @Service
@@ -27,10 +27,10 @@ public class BruteForceProtectionFilter extends OncePerRequestFilter {
     private final BruteForceProtectionService bruteForceProtectionService;
 
     /**
-     * Processes the request to check if the username has been locked due to
+     * Processes the request to check if the username or the client IP has been locked due to
      * excessive failed login attempts.
      *
-     * <p>If the username is locked, a 403 Forbidden response is sent. Otherwise,
+     * <p>If either is locked, a 403 Forbidden response is sent. Otherwise,
      * the request is passed along the filter chain.</p>
      *
      * @param request  the HTTP request
@@ -47,7 +47,7 @@ public class BruteForceProtectionFilter extends OncePerRequestFilter {
 
         String username = request.getParameter("username");
 
-        if (username != null && bruteForceProtectionService.isLocked(username)) {
+        if (username != null && bruteForceProtectionService.isLocked(username, request.getRemoteAddr())) {
             response.sendError(HttpServletResponse.SC_FORBIDDEN, "Too many failed login attempts");
             return;
         }
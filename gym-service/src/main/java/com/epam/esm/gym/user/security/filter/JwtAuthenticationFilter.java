@@ -4,6 +4,10 @@ import com.epam.esm.gym.user.dto.auth.UserPrincipal;
 import com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenDigest;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,6 +28,13 @@ import java.io.IOException;
 /**
  * Filter that processes JWT authentication by extracting and validating the JWT token
  * from the request header and setting the authentication in the security context.
+ * The token is parsed and verified once per request, or not at all if its verified claims
+ * are still held by the {@link VerifiedClaimsCache}. Tokens found in the in-memory
+ * {@link TokenRevocationIndex} are rejected without a database lookup.
+ *
+ * <p>When claims-based authentication is enabled, the principal and its authorities are
+ * rebuilt from the signed {@code roles} claim and the database is not queried at all;
+ * tokens without a usable role claim fall back to loading the user.</p>
  */
 @Component
 @AllArgsConstructor
@@ -33,6 +44,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final SecurityUserDetailsService userDetailsService;
 
+    private final VerifiedClaimsCache claimsCache;
+
+    private final TokenRevocationIndex revocationIndex;
+
     /**
      * This method is called once per request to filter and authenticate the request
      * using JWT tokens.
@@ -49,13 +64,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String token = null;
+        Claims claims = null;
+        String digest = null;
         String username = null;
 
         try {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                token = authHeader.substring(7);
-                username = jwtProvider.extractUserName(token);
+                String token = authHeader.substring(7);
+                digest = TokenDigest.of(token);
+                claims = claimsCache.verify(token, digest);
+                username = claims.getSubject();
             }
         } catch (InvalidJwtAuthenticationException ex) {
             setMessage(response, "Invalid JWT Token: " + ex.getMessage());
@@ -69,15 +87,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserPrincipal userDetails;
-            try {
-                userDetails = userDetailsService.loadUserByUsername(username);
-            } catch (UsernameNotFoundException e){
-                setMessage(response, "User not found by " + username);
+            if (revocationIndex.isRevoked(digest, username, claims.getIssuedAt())) {
+                setMessage(response, "Token has been revoked");
                 return;
             }
 
-            if (jwtProvider.validateToken(token, userDetails)) {
+            UserPrincipal userDetails = jwtProvider.isClaimsAuthentication()
+                    ? jwtProvider.toPrincipal(claims).orElse(null)
+                    : null;
+            if (userDetails == null) {
+                try {
+                    userDetails = userDetailsService.loadUserByUsername(username);
+                } catch (UsernameNotFoundException e){
+                    setMessage(response, "User not found by " + username);
+                    return;
+                }
+            }
+
+            if (jwtProvider.validateClaims(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -74,7 +74,7 @@ public class BruteForceAuthenticationFailureHandler
      * Registers a failed authentication or access attempt and sends an unauthorized error response.
      *
      * <p>This private method is used to handle both authentication failures and access denials.
-     * It retrieves the username from the request, registers the failed attempt with
+     * It retrieves the username and the client IP from the request, registers the failed attempt with
      * the {@link BruteForceProtectionService}, and sends an HTTP
      * unauthorized error response with a message containing the exception details.</p>
      *
@@ -89,7 +89,7 @@ public class BruteForceAuthenticationFailureHandler
             RuntimeException exception) throws IOException {
         String username = request.getParameter("username");
         if (username != null) {
-            protectionService.registerFailedAttempt(username);
+            protectionService.registerFailedAttempt(username, request.getRemoteAddr());
         }
         response.sendError(SC_UNAUTHORIZED, "Authentication Failed: " + exception.getMessage());
     }
@@ -0,0 +1,263 @@
+package com.epam.esm.gym.user.security.service;
+
+import com.epam.esm.gym.user.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link PasswordEncoder} computing BCrypt hashes on a dedicated, bounded executor.
+ *
+ * <p>BCrypt is deliberately expensive, so running it on request threads lets a login storm pin every
+ * servlet thread and starve cheap endpoints. Hashes run on a fixed pool with a bounded queue instead;
+ * when both are full, or a hash is not done within the timeout, the caller fails fast with a
+ * {@link PasswordHashingUnavailableException}, which is reported as 503.</p>
+ *
+ * <p>Stored hashes whose cost differs from the configured strength are reported by
+ * {@link #upgradeEncoding(String)}, so Spring Security rehashes them on the next successful login.</p>
+ *
+ * <p>The time spent waiting for a thread and the time spent hashing are recorded per operation,
+ * together with the rejections, the queue depth and the number of busy threads.</p>
+ */
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    public static final String QUEUE_WAIT = "password.hash.queue.wait";
+    public static final String HASH_TIME = "password.hash.duration";
+    public static final String REJECTED = "password.hash.rejected";
+    public static final String QUEUE_DEPTH = "password.hash.queue.depth";
+    public static final String ACTIVE = "password.hash.active";
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final String ENCODE = "encode";
+    private static final String MATCHES = "matches";
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingProperties properties;
+    private final MeterRegistry registry;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a BCrypt encoder with the configured strength.
+     *
+     * @param properties the hashing settings
+     * @param registry   the meter registry
+     */
+    @Autowired
+    public BoundedPasswordEncoder(PasswordHashingProperties properties, MeterRegistry registry) {
+        this(new BCryptPasswordEncoder(properties.getStrength()), properties, registry);
+    }
+
+    /**
+     * Creates an encoder running the given delegate on the bounded executor.
+     *
+     * @param delegate   the encoder computing the hashes
+     * @param properties the hashing settings
+     * @param registry   the meter registry
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  PasswordHashingProperties properties,
+                                  MeterRegistry registry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.registry = registry;
+        int threads = Math.max(properties.getThreads(), 1);
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+                new CustomizableThreadFactory("password-hash-"), new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder(QUEUE_DEPTH, queue, BlockingQueue::size)
+                .description("Number of password hashes waiting for a thread")
+                .register(registry);
+        Gauge.builder(ACTIVE, executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of password hashes being computed")
+                .register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The hash is computed on the hashing executor.
+     *
+     * @throws PasswordHashingUnavailableException if the executor is saturated
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The hash is computed on the hashing executor.
+     *
+     * @throws PasswordHashingUnavailableException if the executor is saturated
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Encodes several passwords in parallel on the hashing executor.
+     * At most one hash per hashing thread is submitted at a time, so a bulk request never fills
+     * the queue shared with interactive logins.
+     *
+     * @param rawPasswords the passwords to encode
+     * @return the hashes, in the order of the passwords
+     * @throws PasswordHashingUnavailableException if the executor is saturated
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int window = Math.max(properties.getThreads(), 1);
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            int to = Math.min(from + window, rawPasswords.size());
+            List<Future<String>> pending = new ArrayList<>(window);
+            for (CharSequence rawPassword : rawPasswords.subList(from, to)) {
+                pending.add(submit(ENCODE, () -> delegate.encode(rawPassword)));
+            }
+            for (Future<String> hash : pending) {
+                encoded.add(await(ENCODE, hash));
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Checks whether the stored hash was computed with a cost other than the configured strength.
+     *
+     * @param encodedPassword the stored hash
+     * @return {@code true} if the password should be rehashed, {@code false} otherwise
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != properties.getStrength();
+    }
+
+    /**
+     * Stops the hashing threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs a hashing operation on the executor and waits for its result.
+     *
+     * @param operation the name of the operation used as metric tag
+     * @param hash      the hashing operation
+     * @return the result of the operation
+     * @throws PasswordHashingUnavailableException if the executor is saturated or the operation times out
+     */
+    private <T> T execute(String operation, Callable<T> hash) {
+        return await(operation, submit(operation, hash));
+    }
+
+    /**
+     * Submits a hashing operation to the executor.
+     *
+     * @param operation the name of the operation used as metric tag
+     * @param hash      the hashing operation
+     * @return the pending result of the operation
+     * @throws PasswordHashingUnavailableException if the executor is saturated
+     */
+    private <T> Future<T> submit(String operation, Callable<T> hash) {
+        long submitted = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                long started = System.nanoTime();
+                timer(QUEUE_WAIT, "Time a password hash waited for a thread", operation)
+                        .record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    return hash.call();
+                } finally {
+                    timer(HASH_TIME, "Time taken to compute a password hash", operation)
+                            .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw unavailable(operation, "saturated");
+        }
+    }
+
+    /**
+     * Waits for the result of a submitted hashing operation.
+     *
+     * @param operation the name of the operation used as metric tag
+     * @param future    the pending result of the operation
+     * @return the result of the operation
+     * @throws PasswordHashingUnavailableException if the operation times out
+     */
+    private <T> T await(String operation, Future<T> future) {
+        try {
+            return future.get(properties.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw unavailable(operation, "timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw unavailable(operation, "interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Counts a rejected hash and creates the exception reported to the caller.
+     *
+     * @param operation the rejected operation
+     * @param reason    why the operation was rejected
+     * @return the exception to throw
+     */
+    private PasswordHashingUnavailableException unavailable(String operation, String reason) {
+        registry.counter(REJECTED, "operation", operation, "reason", reason).increment();
+        log.warn("Rejected password {} ({})", operation, reason);
+        return new PasswordHashingUnavailableException("Password hashing is temporarily unavailable, retry later");
+    }
+
+    /**
+     * Returns the timer of an operation.
+     *
+     * @param name        the timer name
+     * @param description the timer description
+     * @param operation   the operation tag
+     * @return the timer
+     */
+    private Timer timer(String name, String description, String operation) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.esm.gym.user.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the brute-force protection of the login.
+ * <p>
+ * Failed logins are counted per username and per client IP over a sliding window. Reaching
+ * the limit of either locks further logins for {@link #lockDuration} milliseconds.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("security.brute-force")
+public class BruteForceProperties {
+
+    /**
+     * The number of failed logins of a username within the window that locks the username.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * The number of failed logins from a client IP within the window that locks the IP.
+     */
+    private int maxIpAttempts = 20;
+
+    /**
+     * The length of the sliding window, in milliseconds.
+     */
+    private long window = 300000;
+
+    /**
+     * The number of buckets the window is split into.
+     */
+    private int buckets = 10;
+
+    /**
+     * How long a username or IP stays locked, in milliseconds.
+     */
+    private long lockDuration = 300000;
+
+    /**
+     * The maximum number of usernames and, separately, IPs tracked in memory.
+     */
+    private int maxTrackedKeys = 100000;
+}
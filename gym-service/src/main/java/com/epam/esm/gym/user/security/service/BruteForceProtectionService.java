@@ -1,77 +1,155 @@
 package com.epam.esm.gym.user.security.service;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Service for protecting against brute-force attacks by tracking failed login attempts and locking accounts.
  * <p>
- * This service maintains two caches: one for counting failed login attempts and another for storing lock times
- * when the maximum number of failed attempts is reached. It provides methods to register failed attempts, check
- * if an account is locked, and reset the failed attempt counts and lock status.
+ * Failed logins are counted both per username and per client IP by two {@link SlidingWindowRateLimiter}s,
+ * so guessing the password of one account and spraying passwords across many accounts from one address
+ * are both throttled. The limiters are lock-free and track a bounded number of keys, which expire once
+ * they are neither locked nor seen within the window.
+ * </p>
+ * <p>
+ * Lockouts and rejected requests are counted per scope, and the number of tracked keys, evictions and
+ * failures left untracked because every evictable key was locked are exposed as metrics.
  * </p>
  */
+@Slf4j
 @Service
 public class BruteForceProtectionService {
 
-    private static final int MAX_ATTEMPTS = 3;
-    private static final long LOCK_TIME_DURATION = 5L * 60 * 1000;
+    public static final String LOCKOUTS = "security.brute-force.lockouts";
+    public static final String REJECTED = "security.brute-force.rejected";
+    public static final String TRACKED = "security.brute-force.tracked";
+    public static final String EVICTIONS = "security.brute-force.evictions";
+    public static final String UNTRACKED = "security.brute-force.untracked";
+
+    private static final String USERNAME = "username";
+    private static final String IP = "ip";
 
-    private final Map<String, Integer> attemptsCache = new HashMap<>();
-    private final Map<String, Long> lockTimeCache = new HashMap<>();
+    private final SlidingWindowRateLimiter usernames;
+    private final SlidingWindowRateLimiter addresses;
+    private final MeterRegistry registry;
+
+    /**
+     * Creates the service and registers its metrics.
+     *
+     * @param properties the limits of the protection
+     * @param registry   the meter registry
+     */
+    public BruteForceProtectionService(BruteForceProperties properties, MeterRegistry registry) {
+        this.usernames = limiter(properties, properties.getMaxAttempts());
+        this.addresses = limiter(properties, properties.getMaxIpAttempts());
+        this.registry = registry;
+        register(USERNAME, usernames);
+        register(IP, addresses);
+    }
 
     /**
-     * Registers a failed login attempt for the specified username.
+     * Registers a failed login attempt for the specified username and client IP.
      * <p>
-     * Increments the failed attempt count for the given username. If the number of failed attempts reaches the
-     * maximum allowed attempts, the account is locked by recording the current time in the lock time cache.
+     * Either of them is locked once its failed attempts within the window reach the limit.
      * </p>
      *
      * @param username the username for which the failed attempt is registered
+     * @param clientIp the address of the client, may be {@code null}
      */
-    public void registerFailedAttempt(String username) {
-        int attempts = attemptsCache.getOrDefault(username, 0) + 1;
-        attemptsCache.put(username, attempts);
-        if (attempts >= MAX_ATTEMPTS) {
-            lockTimeCache.put(username, System.currentTimeMillis());
+    public void registerFailedAttempt(String username, String clientIp) {
+        if (username != null && usernames.recordFailure(username)) {
+            lockedOut(USERNAME, username);
+        }
+        if (clientIp != null && addresses.recordFailure(clientIp)) {
+            lockedOut(IP, clientIp);
         }
     }
 
     /**
-     * Checks if the account for the given username is currently locked.
-     * <p>
-     * Determines if the account is locked by checking if the lock time is present and whether the lock time
-     * duration has expired. If the lock time duration has expired, the account is unlocked by resetting the
-     * attempts and lock time caches.
-     * </p>
+     * Checks if logins for the given username or from the given client IP are currently locked.
      *
      * @param username the username to check for lock status
-     * @return {@code true} if the account is locked, {@code false} otherwise
+     * @param clientIp the address of the client, may be {@code null}
+     * @return {@code true} if the username or the address is locked, {@code false} otherwise
      */
-    public boolean isLocked(String username) {
-        if (!lockTimeCache.containsKey(username)) {
-            return false;
+    public boolean isLocked(String username, String clientIp) {
+        if (username != null && usernames.isLocked(username)) {
+            registry.counter(REJECTED, "scope", USERNAME).increment();
+            return true;
         }
-        if (System.currentTimeMillis() - lockTimeCache.get(username) > LOCK_TIME_DURATION) {
-            resetAttempts(username);
-            return false;
+        if (clientIp != null && addresses.isLocked(clientIp)) {
+            registry.counter(REJECTED, "scope", IP).increment();
+            return true;
         }
-        return true;
+        return false;
     }
 
     /**
      * Resets the failed attempt count and lock status for the specified username.
      * <p>
-     * Clears the failed attempts and lock time caches for the given username,
-     * effectively unlocking the account and resetting the failed attempt count.
+     * The attempts of the client IP are kept, so a successful login does not hide a password spray.
      * </p>
      *
      * @param username the username for which the attempts and lock status should be reset
      */
     public void resetAttempts(String username) {
-        attemptsCache.remove(username);
-        lockTimeCache.remove(username);
+        usernames.reset(username);
+    }
+
+    /**
+     * Drops usernames and addresses whose window and lock have expired.
+     */
+    @Scheduled(fixedDelayString = "${security.brute-force.purge-interval:60000}")
+    public void purgeExpired() {
+        usernames.purgeExpired();
+        addresses.purgeExpired();
+    }
+
+    /**
+     * Counts and logs a new lockout.
+     *
+     * @param scope the scope of the locked key
+     * @param key   the locked username or address
+     */
+    private void lockedOut(String scope, String key) {
+        registry.counter(LOCKOUTS, "scope", scope).increment();
+        log.warn("Locked {} {} after too many failed login attempts", scope, key);
+    }
+
+    /**
+     * Registers the size, eviction and untracked failure meters of a limiter.
+     *
+     * @param scope   the scope of the limiter
+     * @param limiter the limiter
+     */
+    private void register(String scope, SlidingWindowRateLimiter limiter) {
+        Gauge.builder(TRACKED, limiter, SlidingWindowRateLimiter::size)
+                .description("Number of keys tracked by the brute-force protection")
+                .tag("scope", scope)
+                .register(registry);
+        FunctionCounter.builder(EVICTIONS, limiter, SlidingWindowRateLimiter::evictions)
+                .description("Number of keys evicted to keep the brute-force protection bounded")
+                .tag("scope", scope)
+                .register(registry);
+        FunctionCounter.builder(UNTRACKED, limiter, SlidingWindowRateLimiter::untracked)
+                .description("Number of failures not tracked because every evictable key was locked")
+                .tag("scope", scope)
+                .register(registry);
+    }
+
+    /**
+     * Creates a limiter for the given number of attempts.
+     *
+     * @param properties  the limits of the protection
+     * @param maxAttempts the number of failures that locks a key
+     * @return the limiter
+     */
+    private static SlidingWindowRateLimiter limiter(BruteForceProperties properties, int maxAttempts) {
+        return new SlidingWindowRateLimiter(maxAttempts, properties.getWindow(), properties.getBuckets(),
+                properties.getLockDuration(), properties.getMaxTrackedKeys(), System::currentTimeMillis);
     }
 }
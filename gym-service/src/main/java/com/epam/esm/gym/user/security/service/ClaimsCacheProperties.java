@@ -0,0 +1,35 @@
+package com.epam.esm.gym.user.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the cache of verified JWT claims.
+ * <p>
+ * Verified claims are kept until the token expires, so requests repeating a token skip
+ * signature verification. The cache is bounded by {@link #maxSize} entries.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("jwt.claims-cache")
+public class ClaimsCacheProperties {
+
+    /**
+     * Whether verified claims are cached; when disabled every request verifies its token.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The maximum number of cached tokens.
+     */
+    private int maxSize = 10000;
+
+    /**
+     * The interval between purges of expired entries, in milliseconds.
+     */
+    private long purgeInterval = 60000;
+}
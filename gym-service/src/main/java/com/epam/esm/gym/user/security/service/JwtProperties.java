@@ -46,6 +46,13 @@ public class JwtProperties {
      */
     private long refresh;
 
+    /**
+     * Whether requests are authenticated from the signed {@code roles} claim instead of
+     * loading the user from the database on every request. Revocation is then enforced
+     * through the in-memory token epochs only.
+     */
+    private boolean claimsAuthentication;
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -57,12 +64,13 @@ public class JwtProperties {
         JwtProperties that = (JwtProperties) obj;
         return access == that.access
                 && refresh == that.refresh
+                && claimsAuthentication == that.claimsAuthentication
                 && Objects.equals(issuer, that.issuer)
                 && Objects.equals(secret, that.secret);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(issuer, secret, access, refresh);
+        return Objects.hash(issuer, secret, access, refresh, claimsAuthentication);
     }
 }
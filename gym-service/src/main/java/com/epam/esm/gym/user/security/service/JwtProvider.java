@@ -1,5 +1,6 @@
 package com.epam.esm.gym.user.security.service;
 
+import com.epam.esm.gym.user.entity.RoleType;
 import com.epam.esm.gym.user.entity.Token;
 import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.user.dto.auth.AuthenticationResponse;
@@ -7,24 +8,23 @@ import com.epam.esm.gym.user.dto.auth.UserPrincipal;
 import com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException;
 import com.epam.esm.gym.user.service.TokenService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.SignatureException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.KeyGenerator;
-import javax.crypto.SecretKey;
-import java.security.NoSuchAlgorithmException;
+import java.security.Key;
 import java.sql.Timestamp;
-import java.util.Base64;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Function;
 
 import static java.time.Instant.now;
@@ -37,36 +37,57 @@ import static java.time.Instant.now;
  * It interacts with the {@link com.epam.esm.gym.user.service.TokenService} to save, retrieve, and update tokens.
  * Additionally, it provides methods to verify token validity and handle token-related exceptions.
  * </p>
+ * <p>
+ * Tokens are signed with RS256 by the active key of the {@link SigningKeyService} and carry its id in the
+ * {@code kid} header. Verification looks the public key up by that id, so tokens issued by any instance,
+ * and by keys retired since, verify everywhere; other services verify them locally against the JWKS.
+ * </p>
  */
 @Service
 public class JwtProvider {
+
+    /**
+     * The lifetime of issued tokens, in milliseconds.
+     */
+    public static final long TOKEN_LIFETIME = 60 * 60 * 1000;
+
+    /**
+     * The claim carrying the role of the token subject.
+     */
+    public static final String ROLES_CLAIM = "roles";
+
     private final JwtProperties jwtProperty;
     private final TokenService tokenService;
-    private final String secretKey;
+    private final SigningKeyService signingKeys;
+    private final TokenRevocationIndex revocationIndex;
+    private final JwtParser parser;
 
     /**
-     * Constructs a new JwtProvider with the provided JWT properties and token service.
-     * Initializes the secret key used for signing JWTs.
-     * Throws an exception if the secret key is null or empty.
-     * This ensures that JWTs cannot be generated or validated without a valid secret key.
+     * Constructs a new JwtProvider with the provided JWT properties, token service and signing keys.
+     * Initializes the parser verifying JWTs once; it is immutable and thread-safe and resolves
+     * the verification key from the {@code kid} header of every token.
      * It uses the properties to set up the necessary configurations for JWT operations.
      *
-     * @param jwtProperty  the JWT properties containing issuer and secret key information
-     * @param tokenService the token service for interacting with tokens
-     * @throws InvalidJwtAuthenticationException if the entity is null.
+     * @param jwtProperty     the JWT properties containing issuer information
+     * @param tokenService    the token service for interacting with tokens
+     * @param signingKeys     the service managing the signing keys
+     * @param revocationIndex the index of revoked tokens, dating new tokens past user-wide revocations
      */
-    public JwtProvider(JwtProperties jwtProperty, TokenService tokenService) {
+    public JwtProvider(JwtProperties jwtProperty, TokenService tokenService, SigningKeyService signingKeys,
+                       TokenRevocationIndex revocationIndex) {
         this.jwtProperty = jwtProperty;
         this.tokenService = tokenService;
-
-        try {
-            secretKey = Base64.getEncoder().encodeToString(
-                    KeyGenerator.getInstance("HmacSHA256")
-                            .generateKey()
-                            .getEncoded());
-        } catch (NoSuchAlgorithmException e) {
-            throw new InvalidJwtAuthenticationException(e.getMessage());
-        }
+        this.signingKeys = signingKeys;
+        this.revocationIndex = revocationIndex;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return signingKeys.publicKey(header.getKeyId()).orElseThrow(() ->
+                                new InvalidJwtAuthenticationException("Unknown signing key: " + header.getKeyId()));
+                    }
+                })
+                .build();
     }
 
     /**
@@ -81,29 +102,23 @@ public class JwtProvider {
      * @return the generated JWT token
      */
     public String generateToken(String username, Map<String, Object> claims) {
+        JwtSigningKey signingKey = signingKeys.currentKey();
+        long issuedAt = revocationIndex.issueTime(username, System.currentTimeMillis());
         return Jwts.builder()
+                .header()
+                .keyId(signingKey.kid())
+                .and()
                 .claims()
                 .add(claims)
                 .subject(username)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000))
+                .issuedAt(new Date(issuedAt))
+                .expiration(new Date(issuedAt + TOKEN_LIFETIME))
                 .and()
-                .signWith(getKey())
+                .signWith(signingKey.privateKey(), Jwts.SIG.RS256)
                 .compact();
 
     }
 
-    /**
-     * Generates a SecretKey instance using the provided secret key string.
-     * This method decodes the Base64 encoded secret key and creates an HMAC SHA key.
-     *
-     * @return the SecretKey used for signing and verifying JWT tokens
-     */
-    public SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     /**
      * Extracts the username from the provided JWT token.
      * Otherwise, it retrieves the username from the claims of the expired token.
@@ -133,12 +148,22 @@ public class JwtProvider {
     }
 
     private Claims extractAllClaims(String token) {
+        return verify(token);
+    }
+
+    /**
+     * Parses the JWT token and verifies its signature and expiration in a single pass.
+     * Callers needing several claims should use the returned claims instead of
+     * parsing the token once per claim.
+     *
+     * @param token the JWT token
+     * @return the verified claims of the token
+     * @throws InvalidJwtAuthenticationException if the signature does not match
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     */
+    public Claims verify(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (SignatureException e) {
             throw new InvalidJwtAuthenticationException(e.getMessage());
         }
@@ -159,7 +184,56 @@ public class JwtProvider {
         if (token == null || userDetails == null){
             return false;
         } else {
-            return (extractUserName(token).equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return validateClaims(verify(token), userDetails);
+        }
+    }
+
+    /**
+     * Checks if already verified claims belong to the given user and have not expired.
+     *
+     * @param claims      the verified claims of a JWT token
+     * @param userDetails the user details
+     * @return true if the claims are valid for the user, otherwise false
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        if (claims == null || userDetails == null) {
+            return false;
+        }
+        return claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * Tells whether requests are authenticated from the signed claims alone,
+     * without loading the user from the database.
+     *
+     * @return {@code true} if claims-based authentication is enabled
+     */
+    public boolean isClaimsAuthentication() {
+        return jwtProperty.isClaimsAuthentication();
+    }
+
+    /**
+     * Reconstructs the principal of a request from verified claims.
+     * The principal carries the username and role only; it is meant for authorization
+     * decisions, not for reading the rest of the user profile.
+     *
+     * @param claims the verified claims of a JWT token
+     * @return an Optional containing the principal, or empty if the token carries no known role
+     */
+    public Optional<UserPrincipal> toPrincipal(Claims claims) {
+        String role = claims.get(ROLES_CLAIM, String.class);
+        if (role == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new UserPrincipal(User.builder()
+                    .username(claims.getSubject())
+                    .permission(RoleType.valueOf(role))
+                    .active(true)
+                    .build()));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
@@ -185,8 +259,8 @@ public class JwtProvider {
 
     /**
      * Revokes all tokens for the specified user.
-     * This method updates the status of each token to expired and revoked.
-     * It interacts with the TokenService to save the updated tokens.
+     * This method marks every token of the user as expired and revoked
+     * with a single bulk update issued through the TokenService.
      * Ensures that all tokens for the user are invalidated effectively.
      * This method is used to manage token revocation and user session termination.
      *
@@ -194,14 +268,7 @@ public class JwtProvider {
      */
     @Transactional
     public void revokeAllUserTokens(final User user) {
-        Set<Token> tokens = tokenService.findAllValidAccessTokenByUserId(user.getId());
-        if (!tokens.isEmpty()) {
-            tokens.forEach(token -> {
-                token.setExpired(true);
-                token.setRevoked(true);
-            });
-        }
-        tokenService.saveAll(tokens);
+        tokenService.revokeAllByUserId(user.getId());
     }
 
     /**
@@ -232,7 +299,7 @@ public class JwtProvider {
      */
     public String generateToken(UserPrincipal userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", userDetails.user().getPermission());
+        claims.put(ROLES_CLAIM, userDetails.user().getPermission());
         return generateToken(userDetails.getUsername(), claims);
     }
 
@@ -303,14 +370,17 @@ public class JwtProvider {
                 .expired(false)
                 .revoked(false)
                 .tokenType(Token.TokenType.BEARER)
-                .accessToken(accessToken)
+                .tokenDigest(TokenDigest.of(accessToken))
                 .accessTokenTTL(jwtProperty.getExpiration())
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(TOKEN_LIFETIME)))
                 .build();
     }
 
     /**
      * Generates an {@link AuthenticationResponse} based on user details and JWT token.
      * Creates a response that includes the JWT token, user details, and access token.
+     * The JWT serves as both the access and the refresh token: a second token would carry
+     * the same claims and lifetime and only cost another signature.
      * This method is used to return comprehensive authentication data including token details.
      * Supports scenarios where detailed response data is required for authenticated users.
      * Ensures that all relevant information is included in the authentication response.
@@ -325,7 +395,7 @@ public class JwtProvider {
                 .username(user.getUsername())
                 .expiresAt(Timestamp.from(now()
                         .plusMillis(accessToken)))
-                .refreshToken(generateToken(user))
+                .refreshToken(jwtToken)
                 .accessToken(jwtToken)
                 .build();
     }
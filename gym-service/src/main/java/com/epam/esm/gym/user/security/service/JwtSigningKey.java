@@ -0,0 +1,71 @@
+package com.epam.esm.gym.user.security.service;
+
+import java.math.BigInteger;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An RSA key pair signing JWTs, identified by the {@code kid} header of the tokens it signs.
+ *
+ * @param kid         the key id
+ * @param privateKey  the key signing tokens
+ * @param publicKey   the key verifying tokens, published in the JWKS
+ * @param createdAt   when the key was created and published
+ * @param activatesAt when the key starts signing tokens
+ * @param retiresAt   when the key stops signing tokens
+ * @param expiresAt   when the key is no longer published, after the last token it signed has expired
+ */
+public record JwtSigningKey(
+        String kid,
+        PrivateKey privateKey,
+        RSAPublicKey publicKey,
+        Instant createdAt,
+        Instant activatesAt,
+        Instant retiresAt,
+        Instant expiresAt) {
+
+    /**
+     * Checks whether the key signs tokens at the given time.
+     *
+     * @param now the current time
+     * @return {@code true} if the key is active, {@code false} otherwise
+     */
+    public boolean isActive(Instant now) {
+        return !activatesAt.isAfter(now) && retiresAt.isAfter(now);
+    }
+
+    /**
+     * Returns the public key as a JSON Web Key.
+     *
+     * @return the JWK members of the public key
+     */
+    public Map<String, Object> toJwk() {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", SigningKeyService.ALGORITHM);
+        jwk.put("n", base64Url(publicKey.getModulus()));
+        jwk.put("e", base64Url(publicKey.getPublicExponent()));
+        return jwk;
+    }
+
+    /**
+     * Encodes an unsigned big-endian integer as unpadded Base64URL, as required by RFC 7518.
+     *
+     * @param value the integer
+     * @return the encoded integer
+     */
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.esm.gym.user.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for password hashing.
+ * <p>
+ * Hashes are computed on a dedicated pool of {@link #threads} threads with at most {@link #queueCapacity}
+ * waiting requests; requests beyond that are rejected instead of tying up request threads.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("security.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * The BCrypt cost factor; stored hashes with a different cost are rehashed on login.
+     */
+    private int strength = 12;
+
+    /**
+     * The number of threads computing hashes.
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of hashes waiting for a thread; {@code 0} rejects whenever all threads are busy.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * How long a request waits for its hash before giving up, in milliseconds.
+     */
+    private long timeout = 5000;
+}
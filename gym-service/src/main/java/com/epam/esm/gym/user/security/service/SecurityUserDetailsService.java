@@ -4,19 +4,24 @@ import com.epam.esm.gym.user.dao.JpaUserDao;
 import com.epam.esm.gym.user.dto.auth.UserPrincipal;
 import com.epam.esm.gym.user.entity.User;
 import lombok.AllArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Service class that implements {@link UserDetailsService}.
  * <p>This service provides user details for authentication purposes.</p>
+ * <p>As a {@link UserDetailsPasswordService} it also stores passwords rehashed by Spring Security
+ * after a successful login, when the stored hash was computed with an outdated cost.</p>
  */
 @Service
 @AllArgsConstructor
-public class SecurityUserDetailsService implements UserDetailsService {
+public class SecurityUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final JpaUserDao userDao;
 
@@ -33,4 +38,22 @@ public class SecurityUserDetailsService implements UserDetailsService {
         return userOptional.map(UserPrincipal::new)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
+
+    /**
+     * Replaces the stored password hash of a user.
+     *
+     * @param user        the authenticated user details.
+     * @param newPassword the new password hash.
+     * @return a {@link UserPrincipal} object containing the updated user's details.
+     * @throws UsernameNotFoundException if no user is found with the given username.
+     */
+    @Override
+    @Transactional
+    public UserPrincipal updatePassword(UserDetails user, String newPassword) {
+        String username = user.getUsername();
+        User entity = userDao.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        entity.setPassword(newPassword);
+        return new UserPrincipal(userDao.save(entity));
+    }
 }
@@ -0,0 +1,54 @@
+package com.epam.esm.gym.user.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the JWT signing keys.
+ * <p>
+ * A key signs tokens for {@link #rotationInterval} milliseconds. Its successor is published
+ * {@link #prePublish} milliseconds before it takes over, so verifiers caching the JWKS know it
+ * before the first token signed with it arrives.
+ * </p>
+ * <p>
+ * The private keys are stored encrypted with {@link #keyEncryptionKey}, which is not kept in the database.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("jwt.signing")
+public class SigningKeyProperties {
+
+    /**
+     * The RSA key size in bits.
+     */
+    private int keySize = 2048;
+
+    /**
+     * How long a key signs tokens, in milliseconds.
+     */
+    private long rotationInterval = 86400000;
+
+    /**
+     * How long a new key is published before it starts signing, in milliseconds.
+     */
+    private long prePublish = 600000;
+
+    /**
+     * The delay between reloads of the keys from the database, in milliseconds.
+     */
+    private long refreshInterval = 60000;
+
+    /**
+     * How long verifiers may cache the JWKS, in seconds.
+     */
+    private long jwksMaxAge = 300;
+
+    /**
+     * The Base64 encoded 256-bit AES key encrypting the stored private keys.
+     */
+    private String keyEncryptionKey;
+}
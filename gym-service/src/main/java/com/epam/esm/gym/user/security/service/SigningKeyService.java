@@ -0,0 +1,352 @@
+package com.epam.esm.gym.user.security.service;
+
+import com.epam.esm.gym.user.dao.JpaSigningKeyDao;
+import com.epam.esm.gym.user.entity.SigningKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Manages the RSA key pairs signing and verifying JWTs.
+ *
+ * <p>Keys are stored in the database and shared by all instances. Each instance keeps an in-memory
+ * ring of the published keys, reloaded periodically and whenever a token names an unknown key id,
+ * at most once per {@value #RELOAD_BACKOFF} ms. The active key signs tokens; retired keys stay in the
+ * ring until the tokens they signed have expired.</p>
+ *
+ * <p>Keys rotate every {@code jwt.signing.rotation-interval}. The successor of the active key is
+ * created {@code jwt.signing.pre-publish} before the rotation, so it is already in the JWKS cached by
+ * remote verifiers when it starts signing. Instances racing to create a key converge on the newest one
+ * at the next reload, and tokens signed with either key verify in the meantime. A key that cannot be
+ * stored is discarded, so the rotation fails and the previous key keeps signing.</p>
+ *
+ * <p>Private keys are stored encrypted with AES-GCM under {@code jwt.signing.key-encryption-key}, with
+ * the key id as associated data so a stored key cannot be moved to another row. Rows written before
+ * private keys were encrypted are still read until they expire.</p>
+ */
+@Slf4j
+@Service
+public class SigningKeyService {
+
+    public static final String ALGORITHM = "RS256";
+
+    private static final long RELOAD_BACKOFF = 5000;
+    private static final String ENCRYPTED_PREFIX = "A256GCM:";
+    private static final String KEY_ENCRYPTION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 128;
+
+    private final JpaSigningKeyDao dao;
+    private final SigningKeyProperties properties;
+    private final SecretKey keyEncryptionKey;
+    private final SecureRandom random = new SecureRandom();
+    private volatile Map<String, JwtSigningKey> keys = Map.of();
+    private volatile long lastReload;
+
+    /**
+     * Creates the service.
+     *
+     * @param dao        the signing key repository
+     * @param properties the key size, rotation and key encryption settings
+     * @throws IllegalStateException if the key encryption key is missing or not a 256-bit AES key
+     */
+    public SigningKeyService(JpaSigningKeyDao dao, SigningKeyProperties properties) {
+        this.dao = dao;
+        this.properties = properties;
+        this.keyEncryptionKey = keyEncryptionKey(properties.getKeyEncryptionKey());
+    }
+
+    /**
+     * Returns the key signing new tokens, creating one if none is active.
+     *
+     * @return the active signing key
+     * @throws IllegalStateException if no key is active and a new key cannot be stored
+     */
+    public JwtSigningKey currentKey() {
+        return current(Instant.now()).orElseGet(() -> {
+            rotate();
+            return current(Instant.now()).orElseThrow(() -> new IllegalStateException("No active signing key"));
+        });
+    }
+
+    /**
+     * Returns the public key with the given key id.
+     *
+     * @param kid the key id from the token header
+     * @return an Optional containing the public key, or empty if the key is unknown
+     */
+    public Optional<PublicKey> publicKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+        JwtSigningKey key = keys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastReload > RELOAD_BACKOFF) {
+            reload();
+            key = keys.get(kid);
+        }
+        return Optional.ofNullable(key).map(JwtSigningKey::publicKey);
+    }
+
+    /**
+     * Returns the published keys, newest first.
+     *
+     * @return the keys to expose in the JWKS
+     */
+    public List<JwtSigningKey> publishedKeys() {
+        Instant now = Instant.now();
+        return keys.values().stream()
+                .filter(key -> key.expiresAt().isAfter(now))
+                .sorted(Comparator.comparing(JwtSigningKey::createdAt).reversed())
+                .toList();
+    }
+
+    /**
+     * Reloads the keys and creates a new one if no key is active or the active key is about to retire
+     * without a successor. Expired keys are deleted.
+     *
+     * @throws IllegalStateException if the new key cannot be stored, in which case the keys are unchanged
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval:60000}")
+    public synchronized void rotate() {
+        reload();
+        Instant now = Instant.now();
+        Optional<JwtSigningKey> current = current(now);
+        if (current.isEmpty()) {
+            add(generate(now, now));
+        } else if (!hasSuccessor(current.get())
+                && current.get().retiresAt().minusMillis(properties.getPrePublish()).isBefore(now)) {
+            add(generate(now, current.get().retiresAt()));
+        }
+        try {
+            dao.deleteExpired(toLocal(now));
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete expired signing keys: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the active key with the latest activation.
+     *
+     * @param now the current time
+     * @return an Optional containing the active key, or empty if none is active
+     */
+    private Optional<JwtSigningKey> current(Instant now) {
+        return keys.values().stream()
+                .filter(key -> key.isActive(now))
+                .max(Comparator.comparing(JwtSigningKey::activatesAt)
+                        .thenComparing(JwtSigningKey::createdAt)
+                        .thenComparing(JwtSigningKey::kid));
+    }
+
+    /**
+     * Checks whether a key activating after the given one has already been created.
+     *
+     * @param current the active key
+     * @return {@code true} if a successor exists, {@code false} otherwise
+     */
+    private boolean hasSuccessor(JwtSigningKey current) {
+        return keys.values().stream().anyMatch(key -> key.activatesAt().isAfter(current.activatesAt()));
+    }
+
+    /**
+     * Replaces the ring with the published keys from the database, keeping unexpired keys
+     * of the ring that the database does not return.
+     */
+    private void reload() {
+        lastReload = System.currentTimeMillis();
+        Instant now = Instant.now();
+        try {
+            Map<String, JwtSigningKey> loaded = new HashMap<>();
+            keys.values().stream()
+                    .filter(key -> key.expiresAt().isAfter(now))
+                    .forEach(key -> loaded.put(key.kid(), key));
+            for (SigningKey entity : dao.findByExpiresAtAfterOrderByCreatedAtDesc(toLocal(now))) {
+                loaded.put(entity.getKid(), toKey(entity));
+            }
+            keys = Map.copyOf(loaded);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload signing keys: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stores a new key and adds it to the ring. A key that other instances cannot load must not sign
+     * tokens, so the key is discarded if it cannot be stored.
+     *
+     * @param key the new key
+     * @throws IllegalStateException if the key cannot be stored
+     */
+    private void add(JwtSigningKey key) {
+        try {
+            dao.save(toEntity(key));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Failed to store signing key " + key.kid(), e);
+        }
+        Map<String, JwtSigningKey> updated = new HashMap<>(keys);
+        updated.put(key.kid(), key);
+        keys = Map.copyOf(updated);
+        log.info("Created signing key {} active from {} to {}", key.kid(), key.activatesAt(), key.retiresAt());
+    }
+
+    /**
+     * Generates a new RSA key pair.
+     *
+     * @param now         the current time
+     * @param activatesAt when the key starts signing tokens
+     * @return the new key
+     */
+    private JwtSigningKey generate(Instant now, Instant activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(properties.getKeySize());
+            KeyPair pair = generator.generateKeyPair();
+            Instant retiresAt = activatesAt.plusMillis(properties.getRotationInterval());
+            return new JwtSigningKey(UUID.randomUUID().toString(), pair.getPrivate(), (RSAPublicKey) pair.getPublic(),
+                    now, activatesAt, retiresAt, retiresAt.plusMillis(JwtProvider.TOKEN_LIFETIME));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to generate signing key", e);
+        }
+    }
+
+    /**
+     * Converts a stored key into a signing key.
+     *
+     * @param entity the stored key
+     * @return the signing key
+     */
+    private JwtSigningKey toKey(SigningKey entity) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            Base64.Decoder decoder = Base64.getDecoder();
+            PublicKey publicKey = factory.generatePublic(new X509EncodedKeySpec(decoder.decode(entity.getPublicKey())));
+            return new JwtSigningKey(entity.getKid(),
+                    factory.generatePrivate(new PKCS8EncodedKeySpec(decrypt(entity.getKid(), entity.getPrivateKey()))),
+                    (RSAPublicKey) publicKey,
+                    toInstant(entity.getCreatedAt()),
+                    toInstant(entity.getActivatesAt()),
+                    toInstant(entity.getRetiresAt()),
+                    toInstant(entity.getExpiresAt()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to decode signing key " + entity.getKid(), e);
+        }
+    }
+
+    /**
+     * Converts a signing key into its stored form.
+     *
+     * @param key the signing key
+     * @return the entity to store
+     */
+    private SigningKey toEntity(JwtSigningKey key) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return SigningKey.builder()
+                .kid(key.kid())
+                .algorithm(ALGORITHM)
+                .publicKey(encoder.encodeToString(key.publicKey().getEncoded()))
+                .privateKey(encrypt(key.kid(), key.privateKey().getEncoded()))
+                .createdAt(toLocal(key.createdAt()))
+                .activatesAt(toLocal(key.activatesAt()))
+                .retiresAt(toLocal(key.retiresAt()))
+                .expiresAt(toLocal(key.expiresAt()))
+                .build();
+    }
+
+    /**
+     * Encrypts an encoded private key with the key encryption key.
+     *
+     * @param kid        the key id, bound to the ciphertext as associated data
+     * @param privateKey the PKCS#8 encoded private key
+     * @return the prefixed, Base64 encoded IV and ciphertext
+     * @throws IllegalStateException if the key cannot be encrypted
+     */
+    private String encrypt(String kid, byte[] privateKey) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(KEY_ENCRYPTION);
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_LENGTH, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] ciphertext = cipher.doFinal(privateKey);
+            byte[] stored = ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array();
+            return ENCRYPTED_PREFIX + Base64.getEncoder().encodeToString(stored);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt signing key " + kid, e);
+        }
+    }
+
+    /**
+     * Decrypts a stored private key; keys stored before encryption was introduced are only decoded.
+     *
+     * @param kid    the key id the ciphertext is bound to
+     * @param stored the stored private key
+     * @return the PKCS#8 encoded private key
+     * @throws GeneralSecurityException if the key cannot be decrypted
+     */
+    private byte[] decrypt(String kid, String stored) throws GeneralSecurityException {
+        if (!stored.startsWith(ENCRYPTED_PREFIX)) {
+            return Base64.getDecoder().decode(stored);
+        }
+        byte[] decoded = Base64.getDecoder().decode(stored.substring(ENCRYPTED_PREFIX.length()));
+        Cipher cipher = Cipher.getInstance(KEY_ENCRYPTION);
+        cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_LENGTH, decoded, 0, IV_LENGTH));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
+    }
+
+    /**
+     * Decodes the configured key encryption key.
+     *
+     * @param encoded the Base64 encoded key
+     * @return the AES key
+     * @throws IllegalStateException if the key is missing or not 256 bits long
+     */
+    private static SecretKey keyEncryptionKey(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            throw new IllegalStateException("jwt.signing.key-encryption-key is not configured");
+        }
+        byte[] key;
+        try {
+            key = Base64.getDecoder().decode(encoded.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.signing.key-encryption-key is not valid Base64", e);
+        }
+        if (key.length != 32) {
+            throw new IllegalStateException("jwt.signing.key-encryption-key must be a 256-bit key");
+        }
+        return new SecretKeySpec(key, "AES");
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,231 @@
+package com.epam.esm.gym.user.security.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free, bounded-memory limiter counting failures per key over a sliding time window.
+ *
+ * <p>The window is split into a fixed number of buckets. Every bucket packs its epoch, the bucket
+ * number since the epoch, and its failure count into a single {@code long}, so it is updated with a
+ * single compare-and-set and a stale bucket resets itself on the next write. A key is locked for the
+ * configured duration once the failures within the window reach the limit.</p>
+ *
+ * <p>At most {@code maxKeys} keys are tracked. When a new key would exceed the cap, the least recently
+ * seen unlocked key out of a small sample is evicted, so spraying random keys cannot grow memory without
+ * bound. Locked keys are never evicted, since that would lift their lock; if every key of the sample is
+ * locked, the new key is not tracked and its failure is only counted as untracked. Keys that are neither
+ * locked nor seen within the window are dropped by {@link #purgeExpired()}.</p>
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int EVICTION_SAMPLE = 16;
+
+    private final int maxAttempts;
+    private final long bucketMillis;
+    private final int buckets;
+    private final long lockMillis;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxAttempts  the number of failures within the window that locks a key
+     * @param windowMillis the length of the sliding window in milliseconds
+     * @param buckets      the number of buckets the window is split into
+     * @param lockMillis   how long a key stays locked in milliseconds
+     * @param maxKeys      the maximum number of tracked keys
+     * @param clock        the source of the current time in milliseconds
+     */
+    public SlidingWindowRateLimiter(int maxAttempts, long windowMillis, int buckets,
+                                    long lockMillis, int maxKeys, LongSupplier clock) {
+        this.maxAttempts = maxAttempts;
+        this.buckets = Math.max(buckets, 1);
+        this.bucketMillis = Math.max(windowMillis / this.buckets, 1);
+        this.lockMillis = lockMillis;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a failure for the key and locks it once the limit is reached.
+     *
+     * @param key the key the failure is recorded for
+     * @return {@code true} if this failure locked the key, {@code false} otherwise, including when the
+     *         key is new and no unlocked key could be evicted to make room for it
+     */
+    public boolean recordFailure(String key) {
+        long now = clock.getAsLong();
+        Window window = windows.get(key);
+        if (window == null) {
+            if (!ensureCapacity(now)) {
+                untracked.increment();
+                return false;
+            }
+            window = windows.computeIfAbsent(key, k -> new Window(buckets));
+        }
+        window.lastSeen = now;
+        long epoch = now / bucketMillis;
+        window.slots.getAndUpdate((int) (epoch % buckets), slot -> increment(slot, epoch));
+        if (count(window, epoch) < maxAttempts) {
+            return false;
+        }
+        long lockedUntil = now + lockMillis;
+        return window.lockedUntil.getAndAccumulate(lockedUntil, Math::max) <= now;
+    }
+
+    /**
+     * Checks whether the key is currently locked.
+     *
+     * @param key the key to check
+     * @return {@code true} if the key is locked, {@code false} otherwise
+     */
+    public boolean isLocked(String key) {
+        Window window = windows.get(key);
+        return window != null && window.lockedUntil.get() > clock.getAsLong();
+    }
+
+    /**
+     * Returns the number of failures recorded for the key within the window.
+     *
+     * @param key the key to check
+     * @return the number of recent failures
+     */
+    public int attempts(String key) {
+        Window window = windows.get(key);
+        return window == null ? 0 : count(window, clock.getAsLong() / bucketMillis);
+    }
+
+    /**
+     * Forgets the failures and the lock of the key.
+     *
+     * @param key the key to reset
+     */
+    public void reset(String key) {
+        windows.remove(key);
+    }
+
+    /**
+     * Drops keys that are not locked and have no failures within the window.
+     */
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        long windowMillis = bucketMillis * buckets;
+        windows.values().removeIf(window ->
+                window.lockedUntil.get() <= now && window.lastSeen <= now - windowMillis);
+    }
+
+    /**
+     * Returns the number of tracked keys.
+     *
+     * @return the number of tracked keys
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    /**
+     * Returns the number of keys evicted to stay within the cap.
+     *
+     * @return the number of evicted keys
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of failures of new keys that were not tracked because the cap was reached and
+     * every sampled key was locked.
+     *
+     * @return the number of untracked failures
+     */
+    public long untracked() {
+        return untracked.sum();
+    }
+
+    /**
+     * Evicts the least recently seen unlocked key of a sample until a new key fits under the cap.
+     *
+     * @param now the current time in milliseconds
+     * @return {@code true} if a new key fits, {@code false} if every sampled key is locked
+     */
+    private boolean ensureCapacity(long now) {
+        while (!windows.isEmpty() && windows.size() >= maxKeys) {
+            Map.Entry<String, Window> oldest = null;
+            Iterator<Map.Entry<String, Window>> iterator = windows.entrySet().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+                Map.Entry<String, Window> entry = iterator.next();
+                if (entry.getValue().lockedUntil.get() > now) {
+                    continue;
+                }
+                if (oldest == null || entry.getValue().lastSeen < oldest.getValue().lastSeen) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                return false;
+            }
+            if (windows.remove(oldest.getKey(), oldest.getValue())) {
+                evictions.increment();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a failure to a packed bucket, restarting it if it belongs to an older epoch.
+     *
+     * @param slot  the packed bucket
+     * @param epoch the current bucket epoch
+     * @return the updated packed bucket
+     */
+    private static long increment(long slot, long epoch) {
+        if (slot >>> COUNT_BITS != epoch) {
+            return epoch << COUNT_BITS | 1;
+        }
+        return (slot & COUNT_MASK) == COUNT_MASK ? slot : slot + 1;
+    }
+
+    /**
+     * Sums the failures of the buckets within the window ending at the given epoch.
+     *
+     * @param window the window of a key
+     * @param epoch  the current bucket epoch
+     * @return the number of failures within the window
+     */
+    private int count(Window window, long epoch) {
+        int total = 0;
+        for (int i = 0; i < buckets; i++) {
+            long slot = window.slots.get(i);
+            if (epoch - (slot >>> COUNT_BITS) < buckets) {
+                total += (int) (slot & COUNT_MASK);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Failure buckets and lock state of a single key.
+     */
+    private static final class Window {
+
+        private final AtomicLongArray slots;
+        private final AtomicLong lockedUntil = new AtomicLong();
+        private volatile long lastSeen;
+
+        private Window(int buckets) {
+            this.slots = new AtomicLongArray(buckets);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.epam.esm.gym.user.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Computes the fixed-size digest identifying a JWT without keeping the token itself.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * Returns the digest of the token.
+     *
+     * @param token the JWT token
+     * @return the URL-safe Base64 encoded SHA-256 digest of the token, 43 characters long
+     * @throws IllegalStateException if the platform provides no SHA-256 implementation
+     */
+    public static String of(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.epam.esm.gym.user.security.service;
+
+import com.epam.esm.gym.user.dao.JpaTokenDao;
+import com.epam.esm.gym.user.entity.Token;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Background job deleting expired {@link Token} rows.
+ *
+ * <p>Every login adds a row, so without a purge the table grows for ever. Rows are deleted by ID
+ * in bounded batches, each committed on its own, so a run never holds long locks or builds up
+ * a large transaction. Revoked tokens are kept until they expire, because they back the
+ * revocation index warmed at startup.</p>
+ */
+@Slf4j
+@Component
+public class TokenPurgeJob {
+
+    public static final String PURGED = "jwt.tokens.purged";
+
+    private final JpaTokenDao dao;
+    private final TokenPurgeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry registry;
+
+    /**
+     * Creates the purge job.
+     *
+     * @param dao                the token repository
+     * @param properties         the purge batching settings
+     * @param transactionManager the transaction manager used for every batch
+     * @param registry           the meter registry
+     */
+    public TokenPurgeJob(JpaTokenDao dao,
+                         TokenPurgeProperties properties,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry registry) {
+        this.dao = dao;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.registry = registry;
+    }
+
+    /**
+     * Deletes expired tokens batch by batch until none are left or the batch limit is reached.
+     *
+     * @return the number of deleted tokens
+     */
+    @Scheduled(fixedDelayString = "${jwt.purge.interval:300000}")
+    public int purgeExpired() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatches(); batch++) {
+            Integer deleted = transactionTemplate.execute(status -> deleteBatch(now));
+            int count = deleted == null ? 0 : deleted;
+            total += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        registry.counter(PURGED).increment(total);
+        if (total > 0) {
+            log.info("Purged {} expired tokens", total);
+        }
+        return total;
+    }
+
+    /**
+     * Deletes a single batch of expired tokens.
+     *
+     * @param now the expiration boundary
+     * @return the number of deleted tokens
+     */
+    private int deleteBatch(LocalDateTime now) {
+        List<Integer> ids = dao.findExpiredIds(now, PageRequest.of(0, properties.getBatchSize()));
+        return ids.isEmpty() ? 0 : dao.deleteByIdIn(ids);
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.esm.gym.user.security.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the purge of expired tokens.
+ * <p>
+ * Expired tokens are deleted in batches of {@link #batchSize} rows, each in its own short
+ * transaction, and a single run deletes at most {@link #maxBatches} batches.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("jwt.purge")
+public class TokenPurgeProperties {
+
+    /**
+     * Whether expired tokens are purged.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The number of tokens deleted per transaction.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * The maximum number of batches deleted per run.
+     */
+    private int maxBatches = 50;
+
+    /**
+     * The delay between purge runs, in milliseconds.
+     */
+    private long interval = 300000;
+}
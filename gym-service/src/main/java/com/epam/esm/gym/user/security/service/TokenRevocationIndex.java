@@ -0,0 +1,147 @@
+package com.epam.esm.gym.user.security.service;
+
+import com.epam.esm.gym.jms.dto.TokenRevocation;
+import com.epam.esm.gym.user.service.TokenService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of revoked access tokens consulted on every authenticated request.
+ *
+ * <p>The index holds the {@link TokenDigest digests} of individually revoked tokens, together with
+ * their expiration, and a per-user revoked-before epoch second invalidating every token issued to
+ * the user before it. A check is two hash lookups, so revocation is enforced without touching the
+ * database. Epochs have second precision, matching the {@code iat} claim, and a token issued within
+ * the epoch second is revoked as well. Tokens handed out after a revocation, for instance by the
+ * re-authentication that triggered it, are dated past the epoch second by {@link #issueTime}.</p>
+ *
+ * <p>The index is warmed from the revoked rows of the {@code tokens} table at startup and kept in
+ * sync across instances by the {@link TokenRevocationService}. Entries are only needed until the
+ * tokens they cover have expired and are purged periodically after that.</p>
+ */
+@Slf4j
+@Component
+public class TokenRevocationIndex {
+
+    public static final String REVOKED_TOKENS = "jwt.revocation.tokens";
+    public static final String REVOKED_USERS = "jwt.revocation.users";
+
+    private final TokenService tokenService;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the index and registers its size gauges.
+     *
+     * @param tokenService the token service used to warm the index
+     * @param registry     the meter registry
+     */
+    public TokenRevocationIndex(TokenService tokenService, MeterRegistry registry) {
+        this.tokenService = tokenService;
+        Gauge.builder(REVOKED_TOKENS, revokedTokens, Map::size)
+                .description("Number of individually revoked tokens held in memory")
+                .register(registry);
+        Gauge.builder(REVOKED_USERS, revokedBefore, Map::size)
+                .description("Number of users with a revoked-before epoch held in memory")
+                .register(registry);
+    }
+
+    /**
+     * Loads the revoked, not yet expired tokens stored in the database.
+     * They are kept for a full token lifetime, an upper bound of their remaining validity.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long expiresAt = System.currentTimeMillis() + JwtProvider.TOKEN_LIFETIME;
+        List<String> digests = tokenService.findRevokedTokenDigests();
+        digests.forEach(digest -> revokeToken(digest, expiresAt));
+        log.info("Warmed token revocation index with {} revoked tokens", digests.size());
+    }
+
+    /**
+     * Marks a single token as revoked.
+     *
+     * @param digest    the digest of the token
+     * @param expiresAt the expiration of the token in milliseconds since the epoch
+     */
+    public void revokeToken(String digest, long expiresAt) {
+        revokedTokens.merge(digest, expiresAt, Math::max);
+    }
+
+    /**
+     * Revokes every token issued to the user before the given epoch second.
+     *
+     * @param username    the username whose tokens are revoked
+     * @param epochSecond the epoch second before which tokens are revoked
+     */
+    public void revokeUser(String username, long epochSecond) {
+        revokedBefore.merge(username, epochSecond, Math::max);
+    }
+
+    /**
+     * Applies a revocation announced by any gym-service instance, including this one.
+     *
+     * @param revocation the announced revocation
+     */
+    public void apply(TokenRevocation revocation) {
+        if (revocation.digest() != null && revocation.expiresAt() != null) {
+            revokeToken(revocation.digest(), revocation.expiresAt());
+        }
+        if (revocation.username() != null && revocation.revokedBefore() != null) {
+            revokeUser(revocation.username(), revocation.revokedBefore());
+        }
+    }
+
+    /**
+     * Checks whether a token has been revoked, individually or by a user-wide revocation.
+     *
+     * @param digest   the digest of the token
+     * @param username the subject of the token
+     * @param issuedAt the {@code iat} claim of the token, may be {@code null}
+     * @return {@code true} if the token must be rejected
+     */
+    public boolean isRevoked(String digest, String username, Date issuedAt) {
+        if (revokedTokens.containsKey(digest)) {
+            return true;
+        }
+        Long epoch = revokedBefore.get(username);
+        if (epoch == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 <= epoch;
+    }
+
+    /**
+     * Returns the issue time of a new token of the user. Within the second of a user-wide revocation
+     * the token is dated to the start of the next second, so the revocation does not cover it.
+     *
+     * @param username the subject of the new token
+     * @param now      the current time in milliseconds since the epoch
+     * @return the issue time of the token in milliseconds since the epoch
+     */
+    public long issueTime(String username, long now) {
+        Long epoch = revokedBefore.get(username);
+        return epoch == null || now / 1000 > epoch ? now : (epoch + 1) * 1000;
+    }
+
+    /**
+     * Removes entries whose tokens have all expired.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-purge-interval:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long threshold = (now - JwtProvider.TOKEN_LIFETIME) / 1000;
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedBefore.values().removeIf(epoch -> epoch < threshold);
+    }
+}
@@ -0,0 +1,63 @@
+package com.epam.esm.gym.user.security.service;
+
+import com.epam.esm.gym.jms.dto.TokenRevocation;
+import com.epam.esm.gym.user.broker.TokenRevocationBroadcaster;
+import com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service revoking access tokens in the {@link TokenRevocationIndex} of every gym-service instance.
+ * Revocations are applied locally right away and announced to the other instances through the
+ * {@link TokenRevocationBroadcaster}; persisting them in the {@code tokens} table is left to the caller.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TokenRevocationService {
+
+    private final TokenRevocationIndex index;
+    private final VerifiedClaimsCache claimsCache;
+    private final TokenRevocationBroadcaster broadcaster;
+
+    /**
+     * Revokes a single token. Tokens that are invalid or already expired cannot authenticate
+     * anyway and are ignored.
+     *
+     * @param token the JWT token to revoke
+     */
+    public void revokeToken(String token) {
+        String digest = TokenDigest.of(token);
+        Claims claims;
+        try {
+            claims = claimsCache.verify(token, digest);
+        } catch (JwtException | InvalidJwtAuthenticationException | IllegalArgumentException e) {
+            log.debug("Skipping revocation of an unusable token: {}", e.getMessage());
+            return;
+        }
+        long expiresAt = claims.getExpiration().getTime();
+        index.revokeToken(digest, expiresAt);
+        claimsCache.invalidate(token);
+        broadcaster.publish(TokenRevocation.builder()
+                .digest(digest)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    /**
+     * Revokes every token issued to the user up to now.
+     *
+     * @param username the username whose tokens are revoked
+     */
+    public void revokeUser(String username) {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        index.revokeUser(username, epochSecond);
+        broadcaster.publish(TokenRevocation.builder()
+                .username(username)
+                .revokedBefore(epochSecond)
+                .build());
+    }
+}
@@ -0,0 +1,153 @@
+package com.epam.esm.gym.user.security.service;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of verified JWT claims.
+ *
+ * <p>Entries are keyed by the {@link TokenDigest} of the token, so raw tokens are not kept in memory,
+ * and live until the token expires. A request repeating a cached token skips parsing and signature
+ * verification entirely. Expired entries are dropped on access and by a periodic purge; when the
+ * cache is full, the entry closest to expiry out of a small sample is evicted, so an insert never
+ * scans the whole cache.</p>
+ *
+ * <p>Only successfully verified tokens are cached, so invalid or expired tokens always reach
+ * {@link JwtProvider#verify(String)} and fail there.</p>
+ */
+@Slf4j
+@Component
+public class VerifiedClaimsCache {
+
+    public static final String CACHE_REQUESTS = "jwt.claims.cache.requests";
+    public static final String CACHE_SIZE = "jwt.claims.cache.size";
+
+    private static final int EVICTION_SAMPLE = 16;
+
+    private final JwtProvider jwtProvider;
+    private final ClaimsCacheProperties properties;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Creates the cache and registers its metrics.
+     *
+     * @param jwtProvider the provider verifying tokens missing from the cache
+     * @param properties  the cache settings
+     * @param registry    the meter registry
+     */
+    public VerifiedClaimsCache(JwtProvider jwtProvider, ClaimsCacheProperties properties, MeterRegistry registry) {
+        this.jwtProvider = jwtProvider;
+        this.properties = properties;
+        this.hits = registry.counter(CACHE_REQUESTS, "result", "hit");
+        this.misses = registry.counter(CACHE_REQUESTS, "result", "miss");
+        Gauge.builder(CACHE_SIZE, entries, Map::size)
+                .description("Number of cached verified JWT claims")
+                .register(registry);
+    }
+
+    /**
+     * Returns the verified claims of the token, verifying it only if it is not cached yet.
+     *
+     * @param token the JWT token
+     * @return the verified claims of the token
+     * @throws com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException if the signature does not match
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     */
+    public Claims verify(String token) {
+        return verify(token, TokenDigest.of(token));
+    }
+
+    /**
+     * Returns the verified claims of the token whose digest the caller has already computed.
+     *
+     * @param token  the JWT token
+     * @param digest the {@link TokenDigest} of the token
+     * @return the verified claims of the token
+     * @throws com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException if the signature does not match
+     * @throws io.jsonwebtoken.ExpiredJwtException if the token has expired
+     */
+    public Claims verify(String token, String digest) {
+        if (!properties.isEnabled()) {
+            return jwtProvider.verify(token);
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(digest);
+        if (entry != null) {
+            if (entry.expiresAt() > now) {
+                hits.increment();
+                return entry.claims();
+            }
+            entries.remove(digest, entry);
+        }
+        misses.increment();
+        Claims claims = jwtProvider.verify(token);
+        Date expiration = claims.getExpiration();
+        if (expiration != null && expiration.getTime() > now) {
+            if (entries.size() >= properties.getMaxSize()) {
+                evict();
+            }
+            entries.put(digest, new Entry(claims, expiration.getTime()));
+        }
+        return claims;
+    }
+
+    /**
+     * Removes the token from the cache, so the next request verifies it again.
+     *
+     * @param token the JWT token
+     */
+    public void invalidate(String token) {
+        entries.remove(TokenDigest.of(token));
+    }
+
+    /**
+     * Removes all entries whose token has expired.
+     */
+    @Scheduled(fixedDelayString = "${jwt.claims-cache.purge-interval:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    /**
+     * Evicts the entry closest to expiry out of a sample until a new entry fits under the cap.
+     * Expired entries are the closest to expiry, so they are evicted first.
+     */
+    private void evict() {
+        while (!entries.isEmpty() && entries.size() >= properties.getMaxSize()) {
+            Map.Entry<String, Entry> closest = null;
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+                Map.Entry<String, Entry> entry = iterator.next();
+                if (closest == null || entry.getValue().expiresAt() < closest.getValue().expiresAt()) {
+                    closest = entry;
+                }
+            }
+            if (closest != null) {
+                entries.remove(closest.getKey(), closest.getValue());
+            }
+        }
+        log.debug("Evicted verified claims, {} entries left", entries.size());
+    }
+
+    /**
+     * A cached set of verified claims.
+     *
+     * @param claims    the verified claims
+     * @param expiresAt the expiration of the token in milliseconds since the epoch
+     */
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
@@ -2,6 +2,7 @@ package com.epam.esm.gym.user.service;
 
 import com.epam.esm.gym.user.entity.Token;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -46,9 +47,9 @@ public interface TokenService {
     /**
      * Finds a token by its access token string.
      * <p>
-     * This method searches for a token based on its JWT string. It returns an `Optional` that contains the token if
-     * it is found and valid, or an empty `Optional` if no such token exists or it is invalid. This method is useful
-     * for token validation and management operations.
+     * This method searches for a token based on the digest of its JWT string. It returns an `Optional` that
+     * contains the token if it is found and valid, or an empty `Optional` if no such token exists or it is invalid.
+     * This method is useful for token validation and management operations.
      * </p>
      *
      * @param jwt the JWT string of the token to be found
@@ -56,6 +57,28 @@ public interface TokenService {
      */
     Optional<Token> findByAccessToken(String jwt);
 
+    /**
+     * Finds the digests of revoked tokens that have not expired yet.
+     * <p>
+     * This method is used to warm the in-memory revocation index at startup, so tokens revoked
+     * before a restart stay rejected without a database lookup per request.
+     * </p>
+     *
+     * @return the digests of the revoked tokens
+     */
+    List<String> findRevokedTokenDigests();
+
+    /**
+     * Revokes all tokens of a user.
+     * <p>
+     * The tokens are revoked with a single bulk update instead of being loaded and saved one by one.
+     * </p>
+     *
+     * @param id the user ID whose tokens are revoked
+     * @return the number of revoked tokens
+     */
+    int revokeAllByUserId(Integer id);
+
     /**
      * Saves a token to the storage.
      * <p>
@@ -2,6 +2,7 @@ package com.epam.esm.gym.user.service;
 
 import com.epam.esm.gym.user.entity.Trainee;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
@@ -138,19 +139,23 @@ public interface TraineeService {
             String username, List<String> trainersUsernames);
 
     /**
-     * Retrieves a list of trainings associated with a specific trainee.
+     * Retrieves one page of the trainings associated with a specific trainee.
      * <p>
-     * This method returns the list of training responses for the trainee identified by the provided username. The list
-     * can be filtered based on additional query parameters. The response contains the list of training responses if
-     * the retrieval is successful. If no trainings are found or an error occurs, an appropriate HTTP status code is
-     * returned.
+     * This method returns the training responses for the trainee identified by the provided username, ordered by id.
+     * The trainings can be filtered by the {@code periodFrom}, {@code periodTo}, {@code trainerName} and
+     * {@code trainingType} query parameters; other parameters are ignored.
      * </p>
      *
      * @param username the username of the trainee whose trainings are to be retrieved
      * @param params   the query parameters to filter the trainings
-     * @return a {@link ResponseEntity} containing the list of {@link TrainingResponse}
+     * @param cursor   the continuation token of the previous page, {@code null} for the first page
+     * @param size     the maximum number of trainings to return
+     * @return the page of {@link TrainingResponse} with the token of the next page
+     * @throws com.epam.esm.gym.user.exception.UserNotFoundException if the trainee does not exist
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    List<TrainingResponse> getTraineeTrainingsByName(String username, Map<String, String> params);
+    CursorPage<TrainingResponse> getTraineeTrainingsByName(
+            String username, Map<String, String> params, String cursor, int size);
 
     /**
      * Activates or deactivates the profile of a trainee.
@@ -194,6 +199,16 @@ public interface TraineeService {
      */
     List<FullTraineeProfileResponse> findAll(List<String> usernames);
 
+    /**
+     * Retrieves one page of trainee profiles ordered by id.
+     *
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param size   the maximum number of trainees on the page
+     * @return the page of {@link com.epam.esm.gym.user.dto.trainee.FullTraineeProfileResponse} objects
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    CursorPage<FullTraineeProfileResponse> findPage(String cursor, int size);
+
     /**
      * Retrieves a list of active trainers that are not assigned to a trainee based on the provided username.
      *
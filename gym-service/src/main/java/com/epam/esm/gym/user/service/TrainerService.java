@@ -1,6 +1,7 @@
 package com.epam.esm.gym.user.service;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.UpdateTrainerRequest;
@@ -9,8 +10,12 @@ import com.epam.esm.gym.user.dto.trainer.TrainerRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerResponseDto;
 import com.epam.esm.gym.user.entity.Trainee;
 import com.epam.esm.gym.user.entity.Trainer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -138,17 +143,46 @@ public interface TrainerService {
     Optional<Trainer> getTrainer(String trainerUsername);
 
     /**
-     * Retrieves a list of all trainers in the system.
+     * Retrieves the trainers with the given usernames, along with their users and training types.
+     * Unknown usernames are skipped.
+     *
+     * @param trainerUsernames the usernames of the trainers to retrieve
+     * @return the trainers found, in no particular order
+     */
+    List<Trainer> getTrainers(Collection<String> trainerUsernames);
+
+    /**
+     * Retrieves one page of trainer profiles ordered by id.
      * <p>
-     * This method returns a `ResponseEntity` containing a list of `TrainerProfile` objects representing all trainers.
-     * This can be used to display or process profiles of all registered trainers.
-     * The result includes all trainers without any filtering or pagination.
+     * Pages are addressed by the opaque cursor returned with the previous page, so the cost of a page
+     * does not depend on how far into the listing it is.
      * </p>
      *
-     * @return a {@link ResponseEntity} containing a list of
-     * {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile} for all trainers
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param size   the maximum number of trainers on the page
+     * @return the page of {@link com.epam.esm.gym.user.dto.trainer.TrainerProfile} objects
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    CursorPage<TrainerProfile> findPage(String cursor, int size);
+
+    /**
+     * Retrieves one page of trainers with their trainings, in the form sent to the workload service.
+     * Pages are ordered by trainer id, so consecutive pages never overlap.
+     *
+     * @param pageable the page to retrieve
+     * @return a slice of {@link com.epam.esm.gym.jms.dto.TrainerProfile} messages
      */
-    List<TrainerProfile> findAll();
+    Slice<com.epam.esm.gym.jms.dto.TrainerProfile> findSyncProfiles(Pageable pageable);
+
+    /**
+     * Retrieves the trainers changed within the given window with their trainings,
+     * in the form sent to the workload service.
+     *
+     * @param since the exclusive lower bound of the change time
+     * @param until the inclusive upper bound of the change time
+     * @return the {@link com.epam.esm.gym.jms.dto.TrainerProfile} messages of the changed trainers
+     */
+    List<com.epam.esm.gym.jms.dto.TrainerProfile> findChangedSyncProfiles(LocalDateTime since, LocalDateTime until);
 
     /**
      * Assigns a trainee to a trainer.
@@ -198,4 +232,12 @@ public interface TrainerService {
      * @param trainer the registration details for the new trainer
      */
     void save(Trainer trainer);
+
+    /**
+     * Marks the trainer as changed, so the next delta synchronisation sends it to the workload service.
+     * Used for changes that do not update the trainer row itself, such as removed trainings.
+     *
+     * @param username the username of the changed trainer
+     */
+    void markChanged(String username);
 }
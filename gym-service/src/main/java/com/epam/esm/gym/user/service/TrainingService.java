@@ -1,6 +1,7 @@
 package com.epam.esm.gym.user.service;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.training.TrainingProfile;
 import com.epam.esm.gym.user.dto.training.TrainingRequest;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
@@ -66,15 +67,14 @@ public interface TrainingService {
     TrainingResponse createTraining(TrainingRequest request);
 
     /**
-     * Retrieves a list of all training sessions.
-     * This method fetches all available training sessions from the system and returns them as a list
-     * of {@link TrainingResponse} objects. The list is encapsulated in a {@link ResponseEntity}
-     * which allows for additional HTTP response details to be included.
+     * Retrieves one page of training sessions ordered by id.
      *
-     * @return a {@link ResponseEntity} containing a list of {@link TrainingResponse} objects.
-     * The HTTP status code is typically {@code 200 OK} if the request is successful.
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param size   the maximum number of trainings on the page
+     * @return the page of {@link TrainingResponse} objects
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    List<TrainingResponse> getAllTrainings();
+    CursorPage<TrainingResponse> findPage(String cursor, int size);
 
     /**
      * Saves the given TrainingType entity to the database.
@@ -2,6 +2,7 @@ package com.epam.esm.gym.user.service;
 
 import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.UserResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
@@ -168,13 +169,14 @@ public interface UserService {
     User saveUser(User user);
 
     /**
-     * Retrieves a list of all users.
-     * This method returns a list of `UserProfile` objects representing all users.
+     * Retrieves one page of users ordered by id.
      *
-     * @return a {@link List} containing a list of
-     * {@link com.epam.esm.gym.user.dto.profile.UserResponse} for all trainers
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param size   the maximum number of users on the page
+     * @return the page of {@link com.epam.esm.gym.user.dto.profile.UserResponse} objects
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    List<UserResponse> findAll();
+    CursorPage<UserResponse> findPage(String cursor, int size);
 
     /**
      * Retrieves a list of trainees by their usernames.
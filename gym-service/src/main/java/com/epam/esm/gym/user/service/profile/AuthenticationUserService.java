@@ -9,9 +9,9 @@ import com.epam.esm.gym.user.dto.auth.UserPrincipal;
 import com.epam.esm.gym.user.entity.Token;
 import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException;
-import com.epam.esm.gym.user.exception.TokenNotFoundException;
 import com.epam.esm.gym.user.exception.UserNotFoundException;
 import com.epam.esm.gym.user.security.service.JwtProvider;
+import com.epam.esm.gym.user.security.service.TokenRevocationService;
 import com.epam.esm.gym.user.service.AuthenticationService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,8 +28,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.sql.Timestamp;
-import java.util.List;
-import java.util.Optional;
 
 import static com.epam.esm.gym.user.entity.RoleType.ROLE_TRAINER;
 
@@ -48,6 +46,8 @@ public class AuthenticationUserService implements AuthenticationService {
     private final PasswordEncoder encoder;
     private final JwtProvider jwtProvider;
     private final JpaUserDao dao;
+    private final TokenRevocationService revocationService;
+    private final UsernameSequenceService usernameSequence;
 
     /**
      * {@inheritDoc}
@@ -56,15 +56,7 @@ public class AuthenticationUserService implements AuthenticationService {
     @Override
     @Transactional
     public ResponseEntity<AuthenticationResponse> signup(final RegisterRequest request) {
-        String baseUsername = request.getUsername();
-        List<User> existingUsernames = dao.findUsersByUsername(request.getUsername());
-        int suffix = existingUsernames.stream()
-                .map(user -> user.getUsername().replace(baseUsername + ".", ""))
-                .filter(s -> s.matches("\\d+"))
-                .mapToInt(Integer::parseInt)
-                .max()
-                .orElse(0) + 1;
-        User saved = dao.save(getUserWithRole(request, baseUsername + "." + suffix));
+        User saved = dao.save(getUserWithRole(request, usernameSequence.nextUsername(request.getUsername())));
         UserPrincipal user = UserPrincipal.builder().user(saved).build();
         String jwtToken = jwtProvider.generateToken(user);
         Token token = jwtProvider.updateUserTokens(user, jwtToken);
@@ -74,41 +66,45 @@ public class AuthenticationUserService implements AuthenticationService {
     /**
      * {@inheritDoc}
      * Authenticates a user based on the provided credentials and returns an authentication response with tokens.
+     * <p>
+     * The token is stored like the ones issued by {@link #authenticate(AuthenticationRequest)}, so that
+     * {@link #logout(HttpServletRequest, HttpServletResponse)} can find and revoke it.
+     * </p>
+     *
+     * @throws BadCredentialsException if the authentication fails
      */
     @Override
     @Transactional
     public AuthenticationResponse login(
             final AuthenticationRequest request) {
-        Optional<User> userOptional = dao.findByUsername(request.getUsername());
-        if (userOptional.isEmpty()){
-            throw new UserNotFoundException("User not found " + request.getUsername());
-        }
-        UserPrincipal user = UserPrincipal.builder().user(userOptional.get()).build();
         Authentication authentication = manager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
-        if (authentication.isAuthenticated()) {
-            String token = jwtProvider.generateToken(user);
-            return AuthenticationResponse.builder().accessToken(token)
-                    .username(request.getUsername())
-                    .refreshToken(token)
-                    .expiresAt(new java.sql.Timestamp(System.currentTimeMillis() + 60 * 60 * 1000)).build();
+        if (!authentication.isAuthenticated()) {
+            throw new BadCredentialsException("Authentication failed");
         }
-        throw new TokenNotFoundException("Failed Authenticates login");
+        UserPrincipal principal = getPrincipal(authentication, request);
+        String jwtToken = jwtProvider.generateToken(principal);
+        jwtProvider.updateUserTokens(principal, jwtToken);
+        return jwtProvider.getAuthenticationResponse(principal, jwtToken, JwtProvider.TOKEN_LIFETIME);
     }
 
     /**
      * {@inheritDoc}
      * Authenticates a user based on the provided credentials and returns an authentication response with tokens.
+     * <p>
+     * The user loaded by the {@link AuthenticationManager} is reused instead of being queried again,
+     * the previous tokens are revoked with a single bulk update and one JWT is signed, serving as
+     * both the access and the refresh token.
+     * </p>
      */
     @Override
     @Transactional
     public AuthenticationResponse authenticate(
             final AuthenticationRequest request) {
-        setAuthenticationToken(request);
-        User user = dao.findByUsername(request.getUsername()).orElseThrow(() ->
-          new UserNotFoundException("User not found " + request.getUsername()));
-        UserPrincipal principal = UserPrincipal.builder().user(user).build();
+        UserPrincipal principal = setAuthenticationToken(request);
+        User user = principal.user();
         jwtProvider.revokeAllUserTokens(user);
+        revocationService.revokeUser(user.getUsername());
         String jwtToken = jwtProvider.generateToken(principal);
         Token token = jwtProvider.updateUserTokens(principal, jwtToken);
         return jwtProvider.getAuthenticationResponse(principal, jwtToken, token.getAccessTokenTTL());
@@ -135,7 +131,7 @@ public class AuthenticationUserService implements AuthenticationService {
                     Token token = jwtProvider.updateUserTokens(user, accessToken);
                     return AuthenticationResponse.builder()
                             .username(username)
-                            .accessToken(token.getAccessToken())
+                            .accessToken(accessToken)
                             .refreshToken(refreshToken)
                             .expiresAt(new Timestamp(token.getAccessTokenTTL()))
                             .build();
@@ -162,6 +158,7 @@ public class AuthenticationUserService implements AuthenticationService {
                 token.setRevoked(true);
                 jwtProvider.save(token);
             }
+            revocationService.revokeToken(jwt);
         }
         response.setStatus(HttpServletResponse.SC_OK);
         try {
@@ -183,19 +180,43 @@ public class AuthenticationUserService implements AuthenticationService {
      * </p>
      *
      * @param request the {@link AuthenticationRequest} containing the username and password to authenticate
+     * @return the authenticated {@link UserPrincipal}
      * @throws BadCredentialsException if the authentication fails
      */
-    private void setAuthenticationToken(
+    private UserPrincipal setAuthenticationToken(
             final AuthenticationRequest request) {
         Authentication authenticate = manager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getUsername(),
                         request.getPassword()));
-        if (authenticate.isAuthenticated()) {
-            SecurityContextHolder.getContext().setAuthentication(authenticate);
-        } else {
+        if (!authenticate.isAuthenticated()) {
             throw new BadCredentialsException("Authentication failed");
         }
+        SecurityContextHolder.getContext().setAuthentication(authenticate);
+        return getPrincipal(authenticate, request);
+    }
+
+    /**
+     * Returns the user authenticated by the {@link AuthenticationManager}.
+     * <p>
+     * The principal already holds the user loaded during authentication; the user is only queried
+     * again if the principal is of another type.
+     * </p>
+     *
+     * @param authentication the successful authentication
+     * @param request        the {@link AuthenticationRequest} containing the username
+     * @return the authenticated {@link UserPrincipal}
+     * @throws UserNotFoundException if the user does not exist
+     */
+    private UserPrincipal getPrincipal(
+            final Authentication authentication,
+            final AuthenticationRequest request) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return dao.findByUsername(request.getUsername())
+                .map(UserPrincipal::new)
+                .orElseThrow(() -> new UserNotFoundException("User not found " + request.getUsername()));
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.epam.esm.gym.user.service.profile;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk registration of trainees and trainers.
+ * <p>
+ * Requests are registered in chunks of {@link #chunkSize}; every chunk is committed in its own
+ * transaction and its credentials are streamed back before the next chunk starts.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("registration.bulk")
+public class BulkRegistrationProperties {
+
+    /**
+     * The number of registrations committed per transaction; a multiple of the JDBC batch size.
+     */
+    private int chunkSize = 500;
+}
@@ -0,0 +1,256 @@
+package com.epam.esm.gym.user.service.profile;
+
+import com.epam.esm.gym.user.dao.JpaTraineeDao;
+import com.epam.esm.gym.user.dao.JpaTrainerDao;
+import com.epam.esm.gym.user.dao.JpaTrainingTypeDao;
+import com.epam.esm.gym.user.dto.profile.ProfileResponse;
+import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
+import com.epam.esm.gym.user.dto.trainer.TrainerRequest;
+import com.epam.esm.gym.user.entity.RoleType;
+import com.epam.esm.gym.user.entity.Specialization;
+import com.epam.esm.gym.user.entity.Trainee;
+import com.epam.esm.gym.user.entity.Trainer;
+import com.epam.esm.gym.user.entity.TrainingType;
+import com.epam.esm.gym.user.entity.User;
+import com.epam.esm.gym.user.mapper.TraineeMapper;
+import com.epam.esm.gym.user.mapper.TrainerMapper;
+import com.epam.esm.gym.user.mapper.UserMapper;
+import com.epam.esm.gym.user.security.service.BoundedPasswordEncoder;
+import com.epam.esm.gym.user.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Registers trainees and trainers in bulk, for example when onboarding a partner gym.
+ *
+ * <p>Requests are processed in chunks. For every chunk the usernames are reserved with one counter
+ * update per distinct name, the random passwords are hashed in parallel on the password hashing
+ * executor, and the users and profiles are inserted in JDBC batches, which the pooled sequence ids
+ * of {@link User}, {@link Trainee} and {@link Trainer} allow. Each chunk commits on its own and its
+ * credentials are handed to the caller right after the commit, so a failure part way through leaves
+ * the already reported registrations in place.</p>
+ */
+@Slf4j
+@Service
+public class BulkRegistrationService {
+
+    /**
+     * The maximum number of registrations accepted in one request.
+     */
+    public static final int MAX_REQUESTS = 10000;
+
+    private final UserService userService;
+    private final UsernameSequenceService usernameSequence;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserMapper userMapper;
+    private final TraineeMapper traineeMapper;
+    private final TrainerMapper trainerMapper;
+    private final JpaTraineeDao traineeDao;
+    private final JpaTrainerDao trainerDao;
+    private final JpaTrainingTypeDao trainingTypeDao;
+    private final BulkRegistrationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Receives the credentials of the registrations committed by one chunk.
+     */
+    @FunctionalInterface
+    public interface CredentialsSink {
+
+        /**
+         * Writes the credentials of a committed chunk.
+         *
+         * @param credentials the usernames and raw passwords of the chunk
+         * @throws IOException if the credentials cannot be written
+         */
+        void write(List<ProfileResponse> credentials) throws IOException;
+    }
+
+    /**
+     * Creates the service.
+     *
+     * @param userService        the service generating random passwords
+     * @param usernameSequence   the service reserving usernames
+     * @param passwordEncoder    the encoder hashing the passwords
+     * @param userMapper         the mapper creating users
+     * @param traineeMapper      the mapper creating trainees
+     * @param trainerMapper      the mapper creating trainers
+     * @param traineeDao         the trainee repository
+     * @param trainerDao         the trainer repository
+     * @param trainingTypeDao    the training type repository
+     * @param properties         the chunking settings
+     * @param transactionManager the transaction manager of the chunks
+     */
+    public BulkRegistrationService(UserService userService,
+                                   UsernameSequenceService usernameSequence,
+                                   BoundedPasswordEncoder passwordEncoder,
+                                   UserMapper userMapper,
+                                   TraineeMapper traineeMapper,
+                                   TrainerMapper trainerMapper,
+                                   JpaTraineeDao traineeDao,
+                                   JpaTrainerDao trainerDao,
+                                   JpaTrainingTypeDao trainingTypeDao,
+                                   BulkRegistrationProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.userService = userService;
+        this.usernameSequence = usernameSequence;
+        this.passwordEncoder = passwordEncoder;
+        this.userMapper = userMapper;
+        this.traineeMapper = traineeMapper;
+        this.trainerMapper = trainerMapper;
+        this.traineeDao = traineeDao;
+        this.trainerDao = trainerDao;
+        this.trainingTypeDao = trainingTypeDao;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Registers the trainees chunk by chunk.
+     *
+     * @param requests the trainees to register
+     * @param sink     receives the credentials of every committed chunk
+     * @throws IOException if the credentials cannot be written
+     */
+    public void registerTrainees(List<PostTraineeRequest> requests, CredentialsSink sink) throws IOException {
+        for (List<PostTraineeRequest> chunk : chunks(requests)) {
+            List<String> rawPasswords = rawPasswords(chunk.size());
+            List<String> hashes = passwordEncoder.encodeAll(rawPasswords);
+            List<ProfileResponse> credentials = transactionTemplate.execute(status -> {
+                List<String> usernames = reserveUsernames(chunk,
+                        request -> request.firstName() + "." + request.lastName());
+                List<Trainee> trainees = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    PostTraineeRequest request = chunk.get(i);
+                    User user = userMapper.toUser(request.firstName(), request.lastName(),
+                            usernames.get(i), hashes.get(i), RoleType.ROLE_TRAINEE);
+                    trainees.add(traineeMapper.toTrainee(user, request));
+                }
+                traineeDao.saveAll(trainees);
+                traineeDao.flush();
+                return credentials(usernames, rawPasswords);
+            });
+            sink.write(credentials);
+            log.info("Registered {} trainees in bulk", chunk.size());
+        }
+    }
+
+    /**
+     * Registers the trainers chunk by chunk.
+     *
+     * @param requests the trainers to register
+     * @param sink     receives the credentials of every committed chunk
+     * @throws IOException if the credentials cannot be written
+     */
+    public void registerTrainers(List<TrainerRequest> requests, CredentialsSink sink) throws IOException {
+        for (List<TrainerRequest> chunk : chunks(requests)) {
+            List<String> rawPasswords = rawPasswords(chunk.size());
+            List<String> hashes = passwordEncoder.encodeAll(rawPasswords);
+            List<ProfileResponse> credentials = transactionTemplate.execute(status -> {
+                List<String> usernames = reserveUsernames(chunk,
+                        request -> request.getFirstName() + "." + request.getLastName());
+                Map<Specialization, TrainingType> trainingTypes = new HashMap<>();
+                List<Trainer> trainers = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    TrainerRequest request = chunk.get(i);
+                    User user = userMapper.toUser(request.getFirstName(), request.getLastName(),
+                            usernames.get(i), hashes.get(i), RoleType.ROLE_TRAINER);
+                    TrainingType trainingType = trainingTypes.computeIfAbsent(
+                            Specialization.fromString(request.getSpecialization()), this::trainingType);
+                    trainers.add(trainerMapper.toTrainer(user, trainingType));
+                }
+                trainerDao.saveAll(trainers);
+                trainerDao.flush();
+                return credentials(usernames, rawPasswords);
+            });
+            sink.write(credentials);
+            log.info("Registered {} trainers in bulk", chunk.size());
+        }
+    }
+
+    /**
+     * Reserves the usernames of a chunk with one counter update per distinct base name.
+     *
+     * @param chunk    the requests of the chunk
+     * @param baseName extracts the base name of a request
+     * @return the usernames, in the order of the requests
+     */
+    private <T> List<String> reserveUsernames(List<T> chunk, Function<T, String> baseName) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        chunk.forEach(request -> counts.merge(baseName.apply(request), 1, Integer::sum));
+        Map<String, Deque<String>> reserved = new HashMap<>();
+        counts.forEach((name, count) ->
+                reserved.put(name, new ArrayDeque<>(usernameSequence.nextUsernames(name, count))));
+        return chunk.stream()
+                .map(request -> reserved.get(baseName.apply(request)).poll())
+                .toList();
+    }
+
+    /**
+     * Finds the training type of a specialization, creating it if it does not exist yet.
+     *
+     * @param specialization the specialization
+     * @return the training type
+     */
+    private TrainingType trainingType(Specialization specialization) {
+        return trainingTypeDao.findBySpecialization(specialization)
+                .orElseGet(() -> trainingTypeDao.save(TrainingType.builder()
+                        .specialization(specialization).build()));
+    }
+
+    /**
+     * Generates the random passwords of a chunk.
+     *
+     * @param count the number of passwords
+     * @return the raw passwords
+     */
+    private List<String> rawPasswords(int count) {
+        List<String> passwords = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            passwords.add(userService.generateRandomPassword());
+        }
+        return passwords;
+    }
+
+    /**
+     * Pairs the usernames of a chunk with their raw passwords.
+     *
+     * @param usernames    the usernames
+     * @param rawPasswords the raw passwords
+     * @return the credentials
+     */
+    private List<ProfileResponse> credentials(List<String> usernames, List<String> rawPasswords) {
+        List<ProfileResponse> credentials = new ArrayList<>(usernames.size());
+        for (int i = 0; i < usernames.size(); i++) {
+            credentials.add(new ProfileResponse(usernames.get(i), rawPasswords.get(i)));
+        }
+        return credentials;
+    }
+
+    /**
+     * Splits the requests into chunks of the configured size.
+     *
+     * @param requests the requests
+     * @return the chunks
+     */
+    private <T> List<List<T>> chunks(List<T> requests) {
+        int size = Math.max(properties.getChunkSize(), 1);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += size) {
+            chunks.add(requests.subList(from, Math.min(from + size, requests.size())));
+        }
+        return chunks;
+    }
+}
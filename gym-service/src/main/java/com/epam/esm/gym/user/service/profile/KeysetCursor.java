@@ -0,0 +1,102 @@
+package com.epam.esm.gym.user.service.profile;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Encodes and decodes the opaque continuation tokens of keyset paginated listings.
+ *
+ * <p>Listings are ordered by primary key, so a page is the next {@code size} rows with an id greater
+ * than the last id of the previous page. The token carries that id together with the name of the
+ * listing, so a cursor issued for one listing is rejected by another. Pages are fetched with one
+ * extra row to find out whether a further page exists without counting.</p>
+ */
+final class KeysetCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String INVALID_CURSOR = "Invalid page cursor";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Decodes a continuation token into the last id of the previous page.
+     *
+     * @param scope  the name of the listing the token must belong to
+     * @param cursor the token, or {@code null} for the first page
+     * @return the id after which the page starts, {@code 0} for the first page
+     * @throws IllegalArgumentException if the token is malformed or belongs to another listing
+     */
+    static long decode(String scope, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String value = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            if (separator < 0 || !scope.equals(value.substring(0, separator))) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            long after = Long.parseLong(value.substring(separator + 1));
+            if (after < 0) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            return after;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR, e);
+        }
+    }
+
+    /**
+     * Encodes the last id of a page into a continuation token.
+     *
+     * @param scope the name of the listing
+     * @param id    the last id of the page
+     * @return the opaque token
+     */
+    static String encode(String scope, long id) {
+        return ENCODER.encodeToString((scope + ':' + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the limit for fetching a page of the given size, including the look-ahead row.
+     *
+     * @param size the page size
+     * @return the first page of {@code size + 1} rows
+     */
+    static Pageable limit(int size) {
+        return PageRequest.ofSize(size + 1);
+    }
+
+    /**
+     * Drops the look-ahead row from the fetched rows.
+     *
+     * @param rows the rows fetched with {@link #limit(int)}
+     * @param size the page size
+     * @param <E>  the row type
+     * @return at most {@code size} rows
+     */
+    static <E> List<E> head(List<E> rows, int size) {
+        return rows.size() > size ? rows.subList(0, size) : rows;
+    }
+
+    /**
+     * Returns the token of the page following the fetched rows.
+     *
+     * @param scope the name of the listing
+     * @param rows  the rows fetched with {@link #limit(int)}
+     * @param size  the page size
+     * @param id    extracts the ordering id of a row
+     * @param <E>   the row type
+     * @return the continuation token, or {@code null} if this is the last page
+     */
+    static <E> String next(String scope, List<E> rows, int size, ToLongFunction<E> id) {
+        return rows.size() > size ? encode(scope, id.applyAsLong(rows.get(size - 1))) : null;
+    }
+}
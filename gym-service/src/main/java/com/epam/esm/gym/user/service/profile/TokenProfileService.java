@@ -2,10 +2,14 @@ package com.epam.esm.gym.user.service.profile;
 
 import com.epam.esm.gym.user.dao.JpaTokenDao;
 import com.epam.esm.gym.user.entity.Token;
+import com.epam.esm.gym.user.security.service.TokenDigest;
 import com.epam.esm.gym.user.service.TokenService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -55,7 +59,31 @@ public class TokenProfileService implements TokenService {
      */
     @Override
     public Optional<Token> findByAccessToken(String jwt) {
-        return dao.findByAccessToken(jwt);
+        return dao.findByTokenDigest(TokenDigest.of(jwt));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Finds the digests of revoked tokens that have not expired yet.
+     *
+     * @return the digests of the revoked tokens
+     */
+    @Override
+    public List<String> findRevokedTokenDigests() {
+        return dao.findRevokedDigests(LocalDateTime.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Revokes all tokens of a user with a single bulk update.
+     *
+     * @param id the user ID whose tokens are revoked
+     * @return the number of revoked tokens
+     */
+    @Override
+    @Transactional
+    public int revokeAllByUserId(Integer id) {
+        return dao.revokeAllByUserId(id);
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.epam.esm.gym.user.service.profile;
 
 import com.epam.esm.gym.user.dao.JpaTraineeDao;
+import com.epam.esm.gym.user.dao.JpaTrainingDao;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.profile.UserResponse;
@@ -12,7 +14,9 @@ import com.epam.esm.gym.user.dto.trainer.TrainerResponse;
 import com.epam.esm.gym.user.dto.trainer.TrainerResponseDto;
 import com.epam.esm.gym.user.dto.training.TrainingProfile;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
+import com.epam.esm.gym.user.entity.Specialization;
 import com.epam.esm.gym.user.entity.Trainee;
+import com.epam.esm.gym.user.entity.Trainer;
 import com.epam.esm.gym.user.entity.Training;
 import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.user.exception.UserAlreadyExistsException;
@@ -29,9 +33,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link TraineeService} for managing trainee profiles and related operations.
@@ -46,8 +56,12 @@ import java.util.Optional;
 @AllArgsConstructor
 public class TraineeProfileService implements TraineeService {
 
+    private static final String PAGE_SCOPE = "trainees";
+    private static final String TRAININGS_PAGE_SCOPE = "trainee-trainings";
+
     private final TraineeMapper mapper;
     private final JpaTraineeDao traineeDao;
+    private final JpaTrainingDao trainingDao;
     private final UserService userService;
     private final TrainerService trainerService;
 
@@ -56,6 +70,7 @@ public class TraineeProfileService implements TraineeService {
      * Finds and retrieves all trainee profiles in the system.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<FullTraineeProfileResponse> findAll(List<String> usernames) {
         if (usernames == null || usernames.isEmpty()) {
             return traineeDao.findAll().stream()
@@ -67,6 +82,22 @@ public class TraineeProfileService implements TraineeService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Seeks the trainee ids of the page first and fetches the trainees of the page with their trainers
+     * in a second query, so the collection fetch never forces in-memory pagination.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<FullTraineeProfileResponse> findPage(String cursor, int size) {
+        long after = KeysetCursor.decode(PAGE_SCOPE, cursor);
+        List<Long> ids = traineeDao.findIdsAfter(after, KeysetCursor.limit(size));
+        List<Long> pageIds = KeysetCursor.head(ids, size);
+        List<Trainee> trainees = pageIds.isEmpty() ? List.of() : traineeDao.findWithTrainersByIdIn(pageIds);
+        return new CursorPage<>(trainees.stream().map(mapper::toTraineeProfile).toList(),
+                KeysetCursor.next(PAGE_SCOPE, ids, size, Long::longValue));
+    }
+
     /**
      * {@inheritDoc}
      * This method retrieves a list of active trainers that are not assigned to a specific trainee.
@@ -80,6 +111,7 @@ public class TraineeProfileService implements TraineeService {
      * @throws UserNotFoundException if no trainee is found with the provided username.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<TrainerResponseDto> getActiveTrainersForTrainee(String username) {
         Trainee trainee = traineeDao.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
@@ -121,10 +153,12 @@ public class TraineeProfileService implements TraineeService {
     /**
      * {@inheritDoc}
      * Retrieves a trainee profile by the given username, returning a detailed profile if found.
+     * The trainee is fetched with its trainers in one statement.
      */
     @Override
+    @Transactional(readOnly = true)
     public FullTraineeProfileResponse getTraineeProfileByName(String username) {
-        return traineeDao.findByUsername(username)
+        return traineeDao.findWithTrainersByUsername(username)
                 .map(mapper::toTraineeProfile)
                 .orElseThrow(() -> new UserNotFoundException(
                         String.format("User by name: %s not found", username)));
@@ -135,6 +169,7 @@ public class TraineeProfileService implements TraineeService {
      * Updates an existing trainee profile with the provided request data.
      */
     @Override
+    @Transactional
     public FullTraineeProfileResponse updateTrainee(String username, PutTraineeRequest request) {
         Optional<Trainee> optional = traineeDao.findByUsername(username);
         if (optional.isEmpty()) {
@@ -172,40 +207,62 @@ public class TraineeProfileService implements TraineeService {
     /**
      * {@inheritDoc}
      * Updates the list of trainers assigned to a trainee identified by their username.
+     * The trainers are resolved with one query and only the changed assignments are written:
+     * the missing ones are inserted and the removed ones deleted, one statement each, so the
+     * statement count does not depend on the number of trainers. Unknown usernames are skipped.
      */
     @Override
+    @Transactional
     public List<TrainerResponse> updateTraineeTrainersByName(
             String username, List<String> trainersUsernames) {
-        List<TrainerResponse> trainerResponses = trainersUsernames.stream()
-                .map(trainerService::getTrainer)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(mapper::toTrainerProfile)
+        Optional<Long> traineeId = traineeDao.findIdByUsername(username);
+        if (traineeId.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, Trainer> found = trainerService.getTrainers(trainersUsernames).stream()
+                .collect(Collectors.toMap(Trainer::getUsername, Function.identity()));
+        List<Trainer> trainers = trainersUsernames.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .toList();
 
-        Optional<Trainee> optionalTrainee = getTrainee(username);
-        if (optionalTrainee.isPresent()) {
-            Trainee trainee = optionalTrainee.get();
-            trainee.setTrainers(mapper.toTrainers(trainerResponses));
-            traineeDao.save(trainee);
-            return trainerResponses;
+        Set<Long> assigned = new HashSet<>(traineeDao.findTrainerIds(traineeId.get()));
+        Set<Long> requested = trainers.stream().map(Trainer::getId).collect(Collectors.toSet());
+        List<Long> removed = assigned.stream().filter(id -> !requested.contains(id)).toList();
+        List<Long> added = requested.stream().filter(id -> !assigned.contains(id)).toList();
+        if (!removed.isEmpty()) {
+            traineeDao.removeTrainers(traineeId.get(), removed);
+        }
+        if (!added.isEmpty()) {
+            traineeDao.addTrainers(traineeId.get(), added);
         }
-        return new ArrayList<>();
+        return trainers.stream().map(mapper::toTrainerProfile).toList();
     }
 
     /**
      * {@inheritDoc}
-     * Retrieves the training sessions of a trainee based on the provided username and filtering parameters.
+     * Resolves the trainee id and applies the filters in a single query over the trainee's trainings,
+     * which fetches the trainer and type of every training of the page along with it.
+     * An unknown training type matches no training.
      */
     @Override
-    public List<TrainingResponse> getTraineeTrainingsByName(
-            String username, Map<String, String> params) {
-        return traineeDao.findByUsername(username)
-                .map(trainee -> trainee.getTrainings()
-                        .stream()
-                        .filter(training -> matches(training, getProfile(params)))
-                        .map(mapper::toResponse).toList())
-                .orElseThrow(()-> new UserNotFoundException(username));
+    @Transactional(readOnly = true)
+    public CursorPage<TrainingResponse> getTraineeTrainingsByName(
+            String username, Map<String, String> params, String cursor, int size) {
+        long after = KeysetCursor.decode(TRAININGS_PAGE_SCOPE, cursor);
+        Long traineeId = traineeDao.findIdByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+        TrainingProfile filter = getProfile(params);
+        Optional<Specialization> type = toSpecialization(filter.getTrainingType());
+        if (filter.getTrainingType() != null && type.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<Training> trainings = trainingDao.findTraineeTrainingsAfter(traineeId, after,
+                filter.getPeriodFrom(), filter.getPeriodTo(), filter.getTrainerName(), type.orElse(null),
+                KeysetCursor.limit(size));
+        return new CursorPage<>(KeysetCursor.head(trainings, size).stream().map(mapper::toResponse).toList(),
+                KeysetCursor.next(TRAININGS_PAGE_SCOPE, trainings, size, Training::getId));
     }
 
     /**
@@ -213,6 +270,7 @@ public class TraineeProfileService implements TraineeService {
      * Activates or deactivates a trainee's profile based on the provided status.
      */
     @Override
+    @Transactional
     public MessageResponse updateStatusProfile(String username, Boolean active) {
         Optional<Trainee> traineeOptional = getTrainee(username);
         if (traineeOptional.isPresent()) {
@@ -261,31 +319,14 @@ public class TraineeProfileService implements TraineeService {
     }
 
     /**
-     * Checks if a given training matches the specified filter criteria.
-     * <p>
-     * This method evaluates whether a {@link Training} object meets the conditions
-     * defined in a {@link TrainingProfile} filter. It compares the training dates,
-     * trainer name, and training type against the filter values, returning true if
-     * all criteria match. If any condition does not align, the training is
-     * considered a non-match.
-     * </p>
+     * Resolves the training type filter to a {@link Specialization}, ignoring case.
      *
-     * @param training the training session to be evaluated against the filter.
-     * @param filter   the {@link TrainingProfile} containing filter criteria.
-     * @return true if the training matches all filter conditions; otherwise, false.
+     * @param trainingType the training type filter, may be {@code null}
+     * @return the matching specialization, or empty if the filter is absent or unknown
      */
-    private boolean matches(Training training, TrainingProfile filter) {
-        if (filter.getPeriodFrom() != null && training.getTrainingDate().isBefore(filter.getPeriodFrom())) {
-            return false;
-        }
-        if (filter.getPeriodTo() != null && training.getTrainingDate().isAfter(filter.getPeriodTo())) {
-            return false;
-        }
-        if (filter.getTrainerName() != null && !training.getTrainer().getUser().getUsername()
-                .equalsIgnoreCase(filter.getTrainerName())) {
-            return false;
-        }
-        return filter.getTrainingType() == null || training.getType().getSpecialization().name()
-                .equalsIgnoreCase(filter.getTrainingType());
+    private Optional<Specialization> toSpecialization(String trainingType) {
+        return Arrays.stream(Specialization.values())
+                .filter(specialization -> specialization.name().equalsIgnoreCase(trainingType))
+                .findFirst();
     }
 }
@@ -2,7 +2,11 @@ package com.epam.esm.gym.user.service.profile;
 
 import com.epam.esm.gym.user.dao.JpaTrainerDao;
 import com.epam.esm.gym.user.dao.JpaTrainingTypeDao;
+import com.epam.esm.gym.user.dao.projection.TrainerRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTraineeRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTrainingRow;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.UpdateTrainerRequest;
@@ -21,14 +25,20 @@ import com.epam.esm.gym.user.service.TrainerService;
 import com.epam.esm.gym.user.service.UserService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing trainer profiles, implementing the TrainerService interface.
@@ -44,6 +54,8 @@ import java.util.Optional;
 @AllArgsConstructor
 public class TrainerProfileService implements TrainerService {
 
+    private static final String PAGE_SCOPE = "trainers";
+
     private final TrainerMapper mapper;
     private final UserService userService;
     private final JpaTrainerDao trainerDao;
@@ -96,13 +108,18 @@ public class TrainerProfileService implements TrainerService {
     /**
      * {@inheritDoc}
      * Retrieves the profile of the trainer identified by the given username.
+     * The trainer, its trainings and its trainees are read as flat rows, so a profile costs three
+     * statements whatever the size of its collections.
      */
     @Override
-    @Transactional(propagation = Propagation.REQUIRED)
+    @Transactional(readOnly = true)
     public TrainerProfile getTrainerProfileByName(String username) {
-        Optional<Trainer> dao = trainerDao.findByUsername(username);
-        return dao.map(mapper::toDto)
+        TrainerRow trainer = trainerDao.findRowByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("User Not Found by provided username " +  username));
+        List<Long> ids = List.of(trainer.id());
+        return mapper.toTrainerProfile(trainer,
+                trainerDao.findTrainingRowsByTrainerIdIn(ids),
+                trainerDao.findTraineeRowsByTrainerIdIn(ids));
     }
 
     /**
@@ -110,6 +127,7 @@ public class TrainerProfileService implements TrainerService {
      * Retrieves trainers that are not assigned to a specific trainee identified by username.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<TrainerResponseDto> getNotAssignedTrainers(String username) {
         return trainerDao.findNotAssignedTrainers(username)
                 .stream()
@@ -122,6 +140,15 @@ public class TrainerProfileService implements TrainerService {
         trainerDao.save(trainer);
     }
 
+    /**
+     * {@inheritDoc}
+     * Updates the trainer's change time without loading the trainer.
+     */
+    @Override
+    public void markChanged(String username) {
+        trainerDao.touch(username, LocalDateTime.now());
+    }
+
     /**
      * {@inheritDoc}
      * Updates the trainer profile based on the given username and update request.
@@ -139,6 +166,7 @@ public class TrainerProfileService implements TrainerService {
         }
 
         Trainer trainer = mapper.toEntity(request, user.get());
+        trainer.setUpdatedAt(LocalDateTime.now());
         return mapper.toDto(trainerDao.save(trainer));
     }
 
@@ -147,6 +175,7 @@ public class TrainerProfileService implements TrainerService {
      * Retrieves a list of trainers who are not assigned to the given trainee.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<TrainerProfile> getNotAssigned(String username) {
         List<Trainer> notAssigned = trainerDao.findNotAssignedTrainers(username);
         return mapper.toTrainerProfiles(notAssigned);
@@ -159,6 +188,7 @@ public class TrainerProfileService implements TrainerService {
     @Override
     public MessageResponse updateStatusTrainerProfile(String username, Boolean status) {
         trainerDao.activateTrainer(username, status);
+        trainerDao.touch(username, LocalDateTime.now());
         return new MessageResponse(String.format(
                 "Trainer profile for '%s' has been updated to %s", username, status));
     }
@@ -179,11 +209,85 @@ public class TrainerProfileService implements TrainerService {
 
     /**
      * {@inheritDoc}
-     * Retrieves a list of all trainer profiles.
+     * Resolves all usernames with a single query.
+     */
+    @Override
+    public List<Trainer> getTrainers(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        return trainerDao.findAllByUsernameIn(usernames);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Reads the trainers of the page as flat rows and loads their trainings and trainees in one
+     * batched query each, keyed by trainer id, so a page costs three statements whatever its size
+     * and no collection fetch multiplies the result rows.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TrainerProfile> findPage(String cursor, int size) {
+        long after = KeysetCursor.decode(PAGE_SCOPE, cursor);
+        List<TrainerRow> rows = trainerDao.findRowsAfter(after, KeysetCursor.limit(size));
+        List<TrainerRow> page = KeysetCursor.head(rows, size);
+        if (page.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<Long> ids = page.stream().map(TrainerRow::id).toList();
+        Map<Long, List<TrainerTrainingRow>> trainings = trainerDao.findTrainingRowsByTrainerIdIn(ids).stream()
+                .collect(Collectors.groupingBy(TrainerTrainingRow::trainerId));
+        Map<Long, List<TrainerTraineeRow>> trainees = trainerDao.findTraineeRowsByTrainerIdIn(ids).stream()
+                .collect(Collectors.groupingBy(TrainerTraineeRow::trainerId));
+        List<TrainerProfile> profiles = page.stream()
+                .map(row -> mapper.toTrainerProfile(row,
+                        trainings.getOrDefault(row.id(), List.of()),
+                        trainees.getOrDefault(row.id(), List.of())))
+                .toList();
+        return new CursorPage<>(profiles, KeysetCursor.next(PAGE_SCOPE, rows, size, TrainerRow::id));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Reads the trainers of the chunk as flat rows and loads their trainings in one batched query
+     * keyed by trainer id, so a chunk costs two statements whatever its size.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<com.epam.esm.gym.jms.dto.TrainerProfile> findSyncProfiles(Pageable pageable) {
+        Slice<TrainerRow> rows = trainerDao.findRows(pageable);
+        Map<Long, List<TrainerTrainingRow>> trainings = findTrainingRows(rows.getContent());
+        return rows.map(row -> mapper.toSyncProfile(row, trainings.getOrDefault(row.id(), List.of())));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Reads the changed trainers as flat rows and loads their trainings in one batched query
+     * keyed by trainer id, so a delta costs two statements whatever its size.
      */
     @Override
-    public List<TrainerProfile> findAll() {
-        return mapper.toTrainerProfiles(trainerDao.findAllWithUsers());
+    @Transactional(readOnly = true)
+    public List<com.epam.esm.gym.jms.dto.TrainerProfile> findChangedSyncProfiles(LocalDateTime since,
+                                                                                 LocalDateTime until) {
+        List<TrainerRow> rows = trainerDao.findRowsChangedBetween(since, until);
+        Map<Long, List<TrainerTrainingRow>> trainings = findTrainingRows(rows);
+        return rows.stream()
+                .map(row -> mapper.toSyncProfile(row, trainings.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Loads the trainings of the given trainers in one query, skipping it when there are no trainers.
+     *
+     * @param trainers the trainer rows
+     * @return the training rows grouped by trainer id
+     */
+    private Map<Long, List<TrainerTrainingRow>> findTrainingRows(List<TrainerRow> trainers) {
+        if (trainers.isEmpty()) {
+            return Map.of();
+        }
+        return trainerDao.findTrainingRowsByTrainerIdIn(trainers.stream().map(TrainerRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(TrainerTrainingRow::trainerId));
     }
 
     /**
@@ -203,6 +307,7 @@ public class TrainerProfileService implements TrainerService {
      * Retrieves a list of active trainers who are not yet assigned to the given trainee.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<TrainerResponseDto> getActiveTrainersForTrainee(Trainee trainee) {
         return trainerDao.findNotAssignedTrainers(trainee.getUsername())
                 .stream()
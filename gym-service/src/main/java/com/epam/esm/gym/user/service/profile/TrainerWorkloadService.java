@@ -2,7 +2,9 @@ package com.epam.esm.gym.user.service.profile;
 
 import com.epam.esm.gym.jms.dto.ActionType;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.jms.dto.WorkloadRequest;
+import com.epam.esm.gym.user.broker.AsyncPublishProperties;
 import com.epam.esm.gym.user.broker.TrainerProducer;
 import com.epam.esm.gym.user.dao.JpaTrainerDao;
 import com.epam.esm.gym.user.dao.JpaTrainingDao;
@@ -15,6 +17,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_QUEUE;
@@ -30,10 +33,12 @@ public class TrainerWorkloadService implements WorkloadService {
     private final TrainerProducer producer;
     private final JpaTrainerDao trainerRepository;
     private final JpaTrainingDao trainingRepository;
+    private final AsyncPublishProperties asyncProperties;
 
     /**
      * Updates the workload based on the provided request.
-     * This method publishes the workload update to a messaging service.
+     * This method publishes the workload update to a messaging service,
+     * asynchronously if workload updates have opted in to asynchronous publishing.
      *
      * @param request the workload request containing the details to be updated
      * @return MessageResponse indicating the result of the update operation
@@ -55,6 +60,7 @@ public class TrainerWorkloadService implements WorkloadService {
         }
 
         Training training = trainings.getFirst();
+        trainerRepository.touch(trainer.getUsername(), LocalDateTime.now());
         if (request.actionType() == ActionType.ADD) {
             training.setTrainingDuration(training.getTrainingDuration() + trainingDuration);
             trainingRepository.save(training);
@@ -62,15 +68,41 @@ public class TrainerWorkloadService implements WorkloadService {
             int duration = training.getTrainingDuration() - trainingDuration;
             if (duration < 0) {
                 trainingRepository.delete(training);
-                producer.publishWorkloadResponse(request);
+                publishWorkload(request);
                 return new MessageResponse("Training was deleted successfully: " + request);
             } else {
                 training.setTrainingDuration(duration);
                 trainingRepository.save(training);
             }
         }
-        producer.publishWorkloadResponse(request);
-        producer.publishTrainingResponse(TRAINER_QUEUE, TrainingMapper.toDto(training));
+        publishWorkload(request);
+        publishTraining(TrainingMapper.toDto(training));
         return new MessageResponse("Workload was updated successfully: " + request);
     }
+
+    /**
+     * Publishes the workload request, asynchronously if workload updates have opted in.
+     *
+     * @param request the workload request to publish
+     */
+    private void publishWorkload(WorkloadRequest request) {
+        if (asyncProperties.isWorkloadUpdates()) {
+            producer.publishWorkloadResponseAsync(request);
+        } else {
+            producer.publishWorkloadResponse(request);
+        }
+    }
+
+    /**
+     * Publishes the updated training to the trainer queue, asynchronously if workload updates have opted in.
+     *
+     * @param response the updated training
+     */
+    private void publishTraining(TrainingResponse response) {
+        if (asyncProperties.isWorkloadUpdates()) {
+            producer.publishTrainingResponseAsync(TRAINER_QUEUE, response);
+        } else {
+            producer.publishTrainingResponse(TRAINER_QUEUE, response);
+        }
+    }
 }
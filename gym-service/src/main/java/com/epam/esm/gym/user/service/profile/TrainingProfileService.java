@@ -1,9 +1,12 @@
 package com.epam.esm.gym.user.service.profile;
 
+import com.epam.esm.gym.user.broker.AsyncPublishProperties;
+import com.epam.esm.gym.user.broker.OutboxService;
 import com.epam.esm.gym.user.broker.WorkloadJmsService;
 import com.epam.esm.gym.user.dao.JpaTrainingDao;
 import com.epam.esm.gym.user.dao.JpaTrainingTypeDao;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.training.TrainingProfile;
 import com.epam.esm.gym.user.dto.training.TrainingRequest;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
@@ -25,6 +28,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -43,12 +47,16 @@ import static com.epam.esm.gym.jms.ActiveMQConfig.DELETE_TRAINING_QUEUE;
 @AllArgsConstructor
 public class TrainingProfileService implements TrainingService {
 
+    private static final String PAGE_SCOPE = "trainings";
+
     private final JpaTrainingDao dao;
     private final TrainingMapper mapper;
     private final WorkloadJmsService workloadJmsService;
     private final TraineeService traineeService;
     private final TrainerService trainerService;
     private final JpaTrainingTypeDao typeDao;
+    private final OutboxService outboxService;
+    private final AsyncPublishProperties asyncProperties;
 
     /**
      * {@inheritDoc}
@@ -58,6 +66,7 @@ public class TrainingProfileService implements TrainingService {
      * objects representing the available training types.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<TrainingTypeDto> getTrainingTypes() {
         return typeDao.findAll().stream()
                 .map(TrainingMapper::toType)
@@ -71,6 +80,7 @@ public class TrainingProfileService implements TrainingService {
      * @param profile The {@link TrainingProfile} request object containing additional filters or parameters.
      * @return A {@link ResponseEntity} containing a list of {@link TrainingResponse} objects related to the trainer.
      */
+    @Transactional(readOnly = true)
     public List<TrainingResponse> getTrainerTrainingsByName(TrainingProfile profile) {
         Optional<Trainer> trainerOptional = trainerService.getTrainer(profile.getTrainerName());
         if (trainerOptional.isEmpty()) {
@@ -97,6 +107,8 @@ public class TrainingProfileService implements TrainingService {
     /**
      * {@inheritDoc}
      * Creates a new training session based on the provided request.
+     * The ADD training event is written to the outbox in the same transaction and
+     * published to the broker asynchronously by the outbox relay.
      *
      * @param request The {@link TrainingRequest} object containing details of the training to be created.
      */
@@ -124,26 +136,26 @@ public class TrainingProfileService implements TrainingService {
             trainer.getTrainees().add(trainee);
             trainee.getTrainers().add(trainer);
         }
+        trainer.setUpdatedAt(LocalDateTime.now());
         trainerService.save(trainer);
         Training training = mapper.toEntity(request, trainee, trainerOptional.get());
         training.setType(typeDao.findBySpecialization(trainer.getTrainingType().getSpecialization())
                 .orElse(TrainingType.builder().specialization(Specialization.DEFAULT).build()));
         TrainingResponse trainingResponse = TrainingMapper.toDto(dao.save(training));
-        workloadJmsService.convertAndSend(ADD_TRAINING_QUEUE, trainingResponse);
+        outboxService.enqueue(ADD_TRAINING_QUEUE, trainingResponse);
         return trainingResponse;
     }
 
     /**
-     * Retrieves a list of all trainings and returns them as a response.
-     * This method interacts with the data access object (DAO) to fetch all training records and then maps
-     * them to a list of {@link TrainingResponse} objects using the mapper. The result is encapsulated in an
-     * HTTP response with a status of OK (200).
-     *
-     * @return a {@link ResponseEntity} containing a list of {@link TrainingResponse} objects with status OK.
+     * {@inheritDoc}
+     * The trainings are fetched together with their trainers and types in a single query.
      */
     @Override
-    public List<TrainingResponse> getAllTrainings() {
-        return TrainingMapper.toResponses(dao.findAll());
+    @Transactional(readOnly = true)
+    public CursorPage<TrainingResponse> findPage(String cursor, int size) {
+        List<Training> trainings = dao.findPageAfter(KeysetCursor.decode(PAGE_SCOPE, cursor), KeysetCursor.limit(size));
+        return new CursorPage<>(TrainingMapper.toResponses(KeysetCursor.head(trainings, size)),
+                KeysetCursor.next(PAGE_SCOPE, trainings, size, Training::getId));
     }
 
     /**
@@ -161,13 +173,19 @@ public class TrainingProfileService implements TrainingService {
     /**
      * {@inheritDoc}
      * Deletes a new training session based on the provided name.
+     * The DELETE training event is published asynchronously if training events have opted in.
      */
     @Override
     public MessageResponse removeTraining(String trainingName) {
         Training training = dao.findByTrainingName(trainingName)
                 .orElseThrow(()-> new UserNotFoundException("Trainer not found for username: " + trainingName));
         dao.delete(training);
-        workloadJmsService.convertAndSend(DELETE_TRAINING_QUEUE, training);
+        trainerService.markChanged(training.getTrainer().getUsername());
+        if (asyncProperties.isTrainingEvents()) {
+            workloadJmsService.convertAndSendAsync(DELETE_TRAINING_QUEUE, training);
+        } else {
+            workloadJmsService.convertAndSend(DELETE_TRAINING_QUEUE, training);
+        }
         return new MessageResponse("Training successfully deleted by provided name");
     }
 }
@@ -4,12 +4,14 @@ import com.epam.esm.gym.user.dao.JpaUserDao;
 import com.epam.esm.gym.user.entity.RoleType;
 import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.UserResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerRequest;
 import com.epam.esm.gym.user.exception.UserNotFoundException;
 import com.epam.esm.gym.user.mapper.UserMapper;
+import com.epam.esm.gym.user.security.service.TokenRevocationService;
 import com.epam.esm.gym.user.service.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -42,10 +44,13 @@ import static com.epam.esm.gym.user.entity.RoleType.ROLE_TRAINEE;
 public class UserProfileService implements UserService {
     public static final String ALPHANUMERIC_STRING = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789abcdefghijklmnopqrstuvwxyz";
     private static final int PASSWORD_LENGTH = 10;
+    private static final String PAGE_SCOPE = "users";
     private final Random random = new SecureRandom();
     private final PasswordEncoder passwordEncoder;
     private final UserMapper mapper;
     private final JpaUserDao dao;
+    private final TokenRevocationService revocationService;
+    private final UsernameSequenceService usernameSequence;
 
     /**
      * {@inheritDoc}
@@ -100,6 +105,7 @@ public class UserProfileService implements UserService {
     public ResponseEntity<Void> deleteUser(String username) {
         User user = getUser(username);
         dao.delete(user);
+        revocationService.revokeUser(username);
         return ResponseEntity.noContent().build();
     }
 
@@ -111,6 +117,7 @@ public class UserProfileService implements UserService {
      * @return The {@link com.epam.esm.gym.user.dto.profile.UserResponse} associated with the given username.
      */
     @Override
+    @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
         return mapper.toDto(getUser(username));
     }
@@ -137,6 +144,7 @@ public class UserProfileService implements UserService {
      * @return A {@link ResponseEntity} indicating the result of the password change operation.
      */
     @Override
+    @Transactional
     public MessageResponse changePassword(ProfileRequest request) {
         Optional<User> userOptional = dao.findByUsername(request.getUsername());
         if (userOptional.isEmpty()) {
@@ -154,6 +162,7 @@ public class UserProfileService implements UserService {
 
         user.setPassword(encodePassword(request.getNewPassword()));
         updateUser(user);
+        revocationService.revokeUser(user.getUsername());
         return getResponseEntity(HttpStatus.ACCEPTED);
     }
 
@@ -218,21 +227,14 @@ public class UserProfileService implements UserService {
 
     /**
      * Generates a unique username based on the user's first and last name.
-     * If a username already exists, a numerical suffix is appended to create a unique username.
+     * The next free numerical suffix is taken from the counter of the base name in {@link UsernameSequenceService}.
      *
      * @param firstName The user's first name.
      * @param lastName  The user's last name.
      * @return A unique username.
      */
     private String generateUsername(String firstName, String lastName) {
-        String baseUsername = firstName + "." + lastName;
-        int suffix = dao.findUsersByUsername(baseUsername).stream()
-                .map(username -> username.getUsername().replace(baseUsername + ".", ""))
-                .filter(s -> s.matches("\\d+"))
-                .mapToInt(Integer::parseInt)
-                .max()
-                .orElse(0) + 1;
-        return baseUsername + "." + suffix;
+        return usernameSequence.nextUsername(firstName + "." + lastName);
     }
 
     /**
@@ -267,12 +269,20 @@ public class UserProfileService implements UserService {
         return dao.save(user);
     }
 
+    /**
+     * {@inheritDoc}
+     * Seeks past the last user of the previous page along the primary key.
+     */
     @Override
-    public List<UserResponse> findAll() {
-        return dao.findAll().stream().map(mapper::toDto).toList();
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> findPage(String cursor, int size) {
+        List<User> users = dao.findPageAfter(KeysetCursor.decode(PAGE_SCOPE, cursor), KeysetCursor.limit(size));
+        return new CursorPage<>(KeysetCursor.head(users, size).stream().map(mapper::toDto).toList(),
+                KeysetCursor.next(PAGE_SCOPE, users, size, User::getId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserResponse> findAllTraineeByName(List<String> usernames) {
         return dao.findAllTraineesByUsername(ROLE_TRAINEE, usernames).stream()
                 .map(mapper::toDto)
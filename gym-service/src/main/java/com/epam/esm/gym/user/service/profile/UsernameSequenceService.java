@@ -0,0 +1,123 @@
+package com.epam.esm.gym.user.service.profile;
+
+import com.epam.esm.gym.user.dao.JpaUserDao;
+import com.epam.esm.gym.user.dao.JpaUsernameSequenceDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Hands out unique usernames of the form {@code <baseName>.<n>}.
+ *
+ * <p>Every base name has a counter in the {@code username_sequences} table, incremented by a single
+ * primary key update. The increment runs and commits in its own transaction, so the row lock is held
+ * only for the update and concurrent registrations with the same name get distinct suffixes without
+ * waiting for each other's registration to finish. A registration that rolls back leaves a gap in
+ * the suffixes, which is harmless.</p>
+ *
+ * <p>The counter of a base name is created on first use. It starts from the highest suffix among the
+ * existing users, so usernames created before the counters existed are never handed out again. When
+ * two registrations create the same counter concurrently, the loser retries with the increment.</p>
+ */
+@Slf4j
+@Service
+public class UsernameSequenceService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JpaUsernameSequenceDao dao;
+    private final JpaUserDao userDao;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates the service.
+     *
+     * @param dao                the username counter repository
+     * @param userDao            the user repository used to seed new counters
+     * @param transactionManager the transaction manager of the counter updates
+     */
+    public UsernameSequenceService(JpaUsernameSequenceDao dao,
+                                   JpaUserDao userDao,
+                                   PlatformTransactionManager transactionManager) {
+        this.dao = dao;
+        this.userDao = userDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns the next unique username for the base name.
+     *
+     * @param baseName the base name, usually {@code <firstName>.<lastName>}
+     * @return the base name followed by a dot and the next free suffix
+     */
+    public String nextUsername(String baseName) {
+        return nextUsernames(baseName, 1).get(0);
+    }
+
+    /**
+     * Reserves several consecutive usernames for the base name with a single counter update.
+     *
+     * @param baseName the base name, usually {@code <firstName>.<lastName>}
+     * @param count    the number of usernames to reserve
+     * @return the reserved usernames in ascending suffix order
+     * @throws IllegalStateException if the counter keeps being created concurrently
+     */
+    public List<String> nextUsernames(String baseName, int count) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Long last = transactionTemplate.execute(status -> dao.increment(baseName, count) == 0
+                    ? null
+                    : dao.findLastValue(baseName).orElse(null));
+            if (last != null) {
+                return usernames(baseName, last - count + 1, count);
+            }
+            try {
+                long first = seed(baseName) + 1;
+                transactionTemplate.executeWithoutResult(status -> dao.create(baseName, first + count - 1));
+                return usernames(baseName, first, count);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Username counter for {} created concurrently, retrying", baseName);
+            }
+        }
+        throw new IllegalStateException("Failed to generate a username for " + baseName);
+    }
+
+    /**
+     * Builds the usernames for a range of suffixes.
+     *
+     * @param baseName the base name
+     * @param first    the first suffix
+     * @param count    the number of suffixes
+     * @return the usernames
+     */
+    private List<String> usernames(String baseName, long first, int count) {
+        return LongStream.range(first, first + count)
+                .mapToObj(suffix -> baseName + "." + suffix)
+                .toList();
+    }
+
+    /**
+     * Returns the highest suffix among the existing users with the base name.
+     * Runs once per base name, when its counter is created.
+     *
+     * @param baseName the base name
+     * @return the highest numeric suffix, or {@code 0} if there is none
+     */
+    private long seed(String baseName) {
+        String prefix = baseName + ".";
+        return userDao.findUsersByUsername(prefix).stream()
+                .map(user -> user.getUsername())
+                .filter(username -> username.startsWith(prefix))
+                .map(username -> username.substring(prefix.length()))
+                .filter(suffix -> suffix.matches("\\d{1,18}"))
+                .mapToLong(Long::parseLong)
+                .max()
+                .orElse(0);
+    }
+}
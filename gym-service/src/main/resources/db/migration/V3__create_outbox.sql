@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    destination  VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    available_at TIMESTAMP    NOT NULL,
+    published_at TIMESTAMP,
+    attempts     INT          NOT NULL DEFAULT 0,
+    last_error   VARCHAR(1000)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON outbox_event (published_at, id);
@@ -0,0 +1,12 @@
+ALTER TABLE trainer
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_trainer_updated_at ON trainer (updated_at);
+
+CREATE TABLE IF NOT EXISTS sync_watermark
+(
+    consumer        VARCHAR(255) PRIMARY KEY,
+    watermark       TIMESTAMP,
+    acknowledged_at TIMESTAMP,
+    full_resync_at  TIMESTAMP
+);
@@ -0,0 +1,2 @@
+ALTER TABLE outbox_event
+    ADD COLUMN IF NOT EXISTS message_key VARCHAR(255);
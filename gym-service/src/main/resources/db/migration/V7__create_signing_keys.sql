@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS signing_keys
+(
+    kid          VARCHAR(64) PRIMARY KEY,
+    algorithm    VARCHAR(16) NOT NULL,
+    public_key   TEXT        NOT NULL,
+    private_key  TEXT        NOT NULL,
+    created_at   TIMESTAMP   NOT NULL,
+    activates_at TIMESTAMP   NOT NULL,
+    retires_at   TIMESTAMP   NOT NULL,
+    expires_at   TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_signing_keys_expires_at ON signing_keys (expires_at);
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS username_sequences
+(
+    base_name  VARCHAR(255) PRIMARY KEY,
+    last_value BIGINT       NOT NULL
+);
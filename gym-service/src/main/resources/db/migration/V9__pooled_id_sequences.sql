@@ -0,0 +1,10 @@
+-- Users, trainees and trainers draw their ids from the identity sequences in blocks of 50.
+-- The pooled optimizer treats the value it reads as the top of its block, so each sequence
+-- is moved to the current maximum id plus one block.
+ALTER TABLE users ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE trainee ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE trainer ALTER COLUMN id SET INCREMENT BY 50;
+
+SELECT setval(pg_get_serial_sequence('users', 'id'), (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
+SELECT setval(pg_get_serial_sequence('trainee', 'id'), (SELECT COALESCE(MAX(id), 0) + 50 FROM trainee), false);
+SELECT setval(pg_get_serial_sequence('trainer', 'id'), (SELECT COALESCE(MAX(id), 0) + 50 FROM trainer), false);
@@ -0,0 +1,87 @@
+package com.epam.esm.gym.user.actuator;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions failing a test when an endpoint or a unit of work exceeds its SQL statement budget.
+ *
+ * <p>Endpoints are checked through the statistics the {@link SqlStatisticsInterceptor} keeps in the
+ * request, so the matchers apply to any request that reached a handler:</p>
+ * <pre>{@code
+ * mockMvc.perform(get("/api/trainers")).andExpect(SqlStatementBudget.atMost(3));
+ * }</pre>
+ * <p>Service and repository calls are checked with {@link #within(int, Supplier)}, which needs the
+ * {@link SqlStatisticsConfig} in the test context. A budget also allows no lazily fetched collection,
+ * as such fetches are how N+1 statement patterns start. Budgets only mean something against a real
+ * persistence layer, so they belong in tests running on the embedded database, not on mocked services.</p>
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    /**
+     * Expects the request to prepare at most the given number of statements and fetch no collection lazily.
+     *
+     * @param statements the statement budget of the endpoint
+     * @return the matcher
+     */
+    public static ResultMatcher atMost(int statements) {
+        return result -> check(statistics(result), statements);
+    }
+
+    /**
+     * Runs the work on the current thread and expects it to prepare at most the given number of
+     * statements and fetch no collection lazily.
+     *
+     * @param statements the statement budget of the work
+     * @param work       the work to run
+     * @param <T>        the result type of the work
+     * @return the result of the work
+     */
+    public static <T> T within(int statements, Supplier<T> work) {
+        SqlStatistics statistics = SqlStatistics.begin();
+        T value;
+        try {
+            value = work.get();
+        } finally {
+            SqlStatistics.end();
+        }
+        check(statistics, statements);
+        return value;
+    }
+
+    /**
+     * Returns the statistics recorded for the request.
+     *
+     * @param result the result of the request
+     * @return the statistics of the request
+     */
+    private static SqlStatistics statistics(MvcResult result) {
+        Object statistics = result.getRequest().getAttribute(SqlStatisticsInterceptor.ATTRIBUTE);
+        assertThat(statistics)
+                .as("SQL statistics of %s", result.getRequest().getRequestURI())
+                .isInstanceOf(SqlStatistics.class);
+        return (SqlStatistics) statistics;
+    }
+
+    /**
+     * Compares the statistics with the budget.
+     *
+     * @param statistics the recorded statistics
+     * @param statements the statement budget
+     */
+    private static void check(SqlStatistics statistics, int statements) {
+        assertThat(statistics.getStatements())
+                .as("statement budget of %d exceeded: %s", statements, statistics)
+                .isLessThanOrEqualTo(statements);
+        assertThat(statistics.getCollectionsFetched())
+                .as("lazy collection fetch budget of 0 exceeded: %s", statistics)
+                .isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.epam.esm.gym.user.actuator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SqlStatisticsInterceptor}.
+ */
+class SqlStatisticsInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private SqlStatisticsInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new SqlStatisticsInterceptor(registry);
+        request = new MockHttpServletRequest("GET", "/api/trainers/severus.snape");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/trainers/{username}");
+    }
+
+    @Test
+    void testRequestStatisticsAreRecordedByEndpoint() {
+        interceptor.preHandle(request, response, new Object());
+        SqlStatistics.statementPrepared();
+        SqlStatistics.statementPrepared();
+        SqlStatistics.entityLoaded();
+        SqlStatistics.collectionFetched();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(summary(SqlStatisticsInterceptor.STATEMENTS).totalAmount()).isEqualTo(2);
+        assertThat(summary(SqlStatisticsInterceptor.ENTITIES_LOADED).totalAmount()).isEqualTo(1);
+        assertThat(summary(SqlStatisticsInterceptor.COLLECTIONS_FETCHED).totalAmount()).isEqualTo(1);
+        assertThat(request.getAttribute(SqlStatisticsInterceptor.ATTRIBUTE))
+                .isInstanceOfSatisfying(SqlStatistics.class,
+                        statistics -> assertThat(statistics.getStatements()).isEqualTo(2));
+    }
+
+    @Test
+    void testCountingEndsWithTheRequest() {
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+        SqlStatistics.statementPrepared();
+
+        assertThat(SqlStatistics.end()).isNull();
+        assertThat(summary(SqlStatisticsInterceptor.STATEMENTS).count()).isEqualTo(1);
+        assertThat(summary(SqlStatisticsInterceptor.STATEMENTS).totalAmount()).isZero();
+    }
+
+    @Test
+    void testNothingIsRecordedWithoutPreHandle() {
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(registry.find(SqlStatisticsInterceptor.STATEMENTS).summary()).isNull();
+        assertThat(request.getAttribute(SqlStatisticsInterceptor.ATTRIBUTE)).isNull();
+    }
+
+    private DistributionSummary summary(String name) {
+        return registry.get(name)
+                .tag("method", "GET")
+                .tag("uri", "/api/trainers/{username}")
+                .summary();
+    }
+}
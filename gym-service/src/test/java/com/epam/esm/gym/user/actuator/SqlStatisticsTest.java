@@ -0,0 +1,96 @@
+package com.epam.esm.gym.user.actuator;
+
+import com.epam.esm.gym.user.dao.JpaTrainerDao;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the per-thread SQL statistics against the embedded database, and that a statement budget
+ * catches an N+1 access pattern over lazy trainer collections. The second-level cache is evicted
+ * before every test, so every entity is loaded from the database whatever ran before.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(SqlStatisticsConfig.class)
+@Sql("/test-data-trainer.sql")
+class SqlStatisticsTest {
+
+    @Autowired
+    private JpaTrainerDao trainerDao;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics hibernateStatistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        hibernateStatistics = sessionFactory.getStatistics();
+        hibernateStatistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatistics.end();
+    }
+
+    @Test
+    void testCountersMatchHibernateStatistics() {
+        SqlStatistics statistics = SqlStatistics.begin();
+        trainerDao.findAll();
+        SqlStatistics.end();
+
+        assertThat(statistics.getStatements())
+                .isPositive()
+                .isEqualTo(hibernateStatistics.getPrepareStatementCount());
+        assertThat(statistics.getEntitiesLoaded()).isEqualTo(hibernateStatistics.getEntityLoadCount());
+        assertThat(statistics.getCollectionsFetched()).isZero();
+    }
+
+    @Test
+    void testLazyCollectionFetchesAreCounted() {
+        SqlStatistics statistics = SqlStatistics.begin();
+        trainerDao.findAll().forEach(trainer -> trainer.getTrainings().size());
+        SqlStatistics.end();
+
+        assertThat(statistics.getCollectionsFetched()).isEqualTo(3);
+        assertThat(statistics.getCollectionsFetched()).isEqualTo(hibernateStatistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void testWorkOutsideScopeIsNotCounted() {
+        SqlStatistics statistics = SqlStatistics.begin();
+        SqlStatistics.end();
+
+        trainerDao.findAll();
+
+        assertThat(statistics.getStatements()).isZero();
+    }
+
+    @Test
+    void testBudgetRejectsLazyCollectionFetches() {
+        assertThatThrownBy(() -> SqlStatementBudget.within(100,
+                () -> trainerDao.findAll().stream().mapToInt(trainer -> trainer.getTrainings().size()).sum()))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("lazy collection fetch budget");
+    }
+
+    @Test
+    void testBudgetRejectsTooManyStatements() {
+        assertThatThrownBy(() -> SqlStatementBudget.within(0, trainerDao::findAll))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("statement budget of 0 exceeded");
+    }
+}
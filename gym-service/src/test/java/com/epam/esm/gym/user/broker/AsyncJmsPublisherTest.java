@@ -0,0 +1,136 @@
+package com.epam.esm.gym.user.broker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.DELETE_TRAINING_QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncJmsPublisherTest {
+
+    @Mock
+    private MessageTransport transport;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncPublishProperties properties;
+    private AsyncJmsPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AsyncPublishProperties();
+        properties.setCapacity(1);
+        properties.setBlockTimeout(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    @Test
+    void testPublishSendsMessage() throws Exception {
+        publisher = createPublisher();
+        publisher.start();
+
+        publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "first").get(5, TimeUnit.SECONDS);
+
+        verify(transport).send(DELETE_TRAINING_QUEUE, "Remus.Lupin", "first");
+        assertEquals(1, Objects.requireNonNull(meterRegistry.find(JmsMetrics.PUBLISH_TIMER)
+                .tags("destination", DELETE_TRAINING_QUEUE, "outcome", "success").timer()).count());
+    }
+
+    @Test
+    void testBlockRejectsMessageWhenQueueStaysFull() {
+        properties.setOverflowPolicy(OverflowPolicy.BLOCK);
+        publisher = createPublisher();
+
+        CompletableFuture<Void> first = publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "first");
+        CompletableFuture<Void> second = publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "second");
+
+        assertFalse(first.isDone());
+        assertRejected(second);
+        assertEquals(1, depth());
+        assertEquals(1, overflows(OverflowPolicy.BLOCK));
+    }
+
+    @Test
+    void testDropOldestDiscardsQueuedMessage() {
+        properties.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        publisher = createPublisher();
+
+        CompletableFuture<Void> first = publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "first");
+        CompletableFuture<Void> second = publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "second");
+
+        assertRejected(first);
+        assertFalse(second.isDone());
+        assertEquals(1, depth());
+        assertEquals(1, overflows(OverflowPolicy.DROP_OLDEST));
+    }
+
+    @Test
+    void testSpillToOutboxStoresOverflowingMessage() {
+        properties.setOverflowPolicy(OverflowPolicy.SPILL_TO_OUTBOX);
+        publisher = createPublisher();
+
+        CompletableFuture<Void> first = publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "first");
+        CompletableFuture<Void> second = publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "second");
+
+        assertFalse(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(second.isCompletedExceptionally());
+        verify(outboxService).enqueuePayload(DELETE_TRAINING_QUEUE, "Remus.Lupin", "second");
+        assertEquals(1, overflows(OverflowPolicy.SPILL_TO_OUTBOX));
+    }
+
+    @Test
+    void testPublishAfterStopIsRejected() {
+        publisher = createPublisher();
+        publisher.stop();
+
+        assertRejected(publisher.publish(DELETE_TRAINING_QUEUE, "Remus.Lupin", "first"));
+    }
+
+    private AsyncJmsPublisher createPublisher() {
+        return new AsyncJmsPublisher(
+                transport, new JmsMetrics(meterRegistry), outboxService, transactionManager, properties);
+    }
+
+    private void assertRejected(CompletableFuture<Void> future) {
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+    }
+
+    private double depth() {
+        return Objects.requireNonNull(meterRegistry.find(JmsMetrics.SEND_QUEUE_DEPTH).gauge()).value();
+    }
+
+    private double overflows(OverflowPolicy policy) {
+        return Objects.requireNonNull(meterRegistry.find(JmsMetrics.SEND_QUEUE_OVERFLOW)
+                .tags("destination", DELETE_TRAINING_QUEUE, "policy", policy.name()).counter()).count();
+    }
+}
@@ -0,0 +1,45 @@
+package com.epam.esm.gym.user.broker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JmsMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JmsMetrics jmsMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jmsMetrics = new JmsMetrics(meterRegistry);
+    }
+
+    @Test
+    void testRecordPublishSuccess() {
+        jmsMetrics.recordPublish(TRAINERS_QUEUE, () -> assertEquals(1, jmsMetrics.inFlight(TRAINERS_QUEUE).get()));
+
+        assertEquals(1, Objects.requireNonNull(meterRegistry.find(JmsMetrics.PUBLISH_TIMER)
+                .tags("destination", TRAINERS_QUEUE, "outcome", "success").timer()).count());
+        assertEquals(0, Objects.requireNonNull(meterRegistry.find(JmsMetrics.PUBLISH_IN_FLIGHT)
+                .tag("destination", TRAINERS_QUEUE).gauge()).value());
+    }
+
+    @Test
+    void testRecordPublishFailure() {
+        assertThrows(IllegalStateException.class, () -> jmsMetrics.recordPublish(TRAINERS_QUEUE, () -> {
+            throw new IllegalStateException("Broker unavailable");
+        }));
+
+        assertEquals(1, Objects.requireNonNull(meterRegistry.find(JmsMetrics.PUBLISH_TIMER)
+                .tags("destination", TRAINERS_QUEUE, "outcome", "error").timer()).count());
+        assertEquals(1, Objects.requireNonNull(meterRegistry.find(JmsMetrics.PUBLISH_ERRORS)
+                .tags("destination", TRAINERS_QUEUE, "exception", "IllegalStateException").counter()).count());
+    }
+}
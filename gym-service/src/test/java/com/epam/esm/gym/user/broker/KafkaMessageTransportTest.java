@@ -0,0 +1,132 @@
+package com.epam.esm.gym.user.broker;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.ADD_TRAINING_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.DELETE_TRAINING_QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EmbeddedKafka(partitions = 6, topics = {ADD_TRAINING_QUEUE, DELETE_TRAINING_QUEUE})
+class KafkaMessageTransportTest {
+
+    private static final List<String> TRAINERS = List.of("Remus.Lupin", "Minerva.McGonagall", "Severus.Snape");
+    private static final int EVENTS_PER_TRAINER = 20;
+    private static final int DELIVERY_MESSAGES = 500;
+
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+    private KafkaMessageTransport transport;
+
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker broker) {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        transport = new KafkaMessageTransport(new KafkaTemplate<>(producerFactory), new TransportProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        producerFactory.destroy();
+    }
+
+    @Test
+    void testEventsOfOneTrainerStayOnOnePartitionInOrder(EmbeddedKafkaBroker broker) {
+        for (int i = 0; i < EVENTS_PER_TRAINER; i++) {
+            for (String trainer : TRAINERS) {
+                transport.send(ADD_TRAINING_QUEUE, trainer, trainer + ":" + i);
+            }
+        }
+
+        List<ConsumerRecord<String, String>> records = consumeAll(broker, ADD_TRAINING_QUEUE,
+                TRAINERS.size() * EVENTS_PER_TRAINER);
+
+        Map<String, Set<Integer>> partitions = new HashMap<>();
+        Map<String, List<String>> payloads = new HashMap<>();
+        for (ConsumerRecord<String, String> consumerRecord : records) {
+            partitions.computeIfAbsent(consumerRecord.key(), key -> new HashSet<>()).add(consumerRecord.partition());
+            payloads.computeIfAbsent(consumerRecord.key(), key -> new ArrayList<>()).add(consumerRecord.value());
+        }
+        for (String trainer : TRAINERS) {
+            assertEquals(1, partitions.get(trainer).size());
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < EVENTS_PER_TRAINER; i++) {
+                expected.add(trainer + ":" + i);
+            }
+            assertEquals(expected, payloads.get(trainer));
+        }
+    }
+
+    @Test
+    void testDeliversEveryEventLikeJms(EmbeddedKafkaBroker broker) {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < DELIVERY_MESSAGES; i++) {
+            expected.add("event-" + i);
+            transport.send(DELETE_TRAINING_QUEUE, TRAINERS.get(i % TRAINERS.size()), "event-" + i);
+        }
+        Set<String> kafkaPayloads = new HashSet<>();
+        consumeAll(broker, DELETE_TRAINING_QUEUE, DELIVERY_MESSAGES)
+                .forEach(consumerRecord -> kafkaPayloads.add(consumerRecord.value()));
+
+        CachingConnectionFactory connectionFactory = new CachingConnectionFactory(
+                new ActiveMQConnectionFactory("vm://localhost?broker.persistent=false"));
+        try {
+            JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+            jmsTemplate.setReceiveTimeout(5000);
+            JmsMessageTransport jmsTransport = new JmsMessageTransport(jmsTemplate);
+            for (int i = 0; i < DELIVERY_MESSAGES; i++) {
+                jmsTransport.send(DELETE_TRAINING_QUEUE, TRAINERS.get(i % TRAINERS.size()), "event-" + i);
+            }
+            List<String> jmsPayloads = new ArrayList<>();
+            for (int i = 0; i < DELIVERY_MESSAGES; i++) {
+                jmsPayloads.add((String) jmsTemplate.receiveAndConvert(DELETE_TRAINING_QUEUE));
+            }
+
+            assertEquals(new HashSet<>(expected), kafkaPayloads);
+            assertEquals(expected, jmsPayloads);
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private List<ConsumerRecord<String, String>> consumeAll(EmbeddedKafkaBroker broker, String topic, int expected) {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(topic + "-test", "false", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        try (Consumer<String, String> consumer =
+                     new DefaultKafkaConsumerFactory<String, String>(consumerProps).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, topic);
+            ConsumerRecords<String, String> records =
+                    KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(30), expected);
+            List<ConsumerRecord<String, String>> result = new ArrayList<>();
+            records.forEach(result::add);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.user.dao.JpaOutboxEventDao;
+import com.epam.esm.gym.user.entity.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.ADD_TRAINING_QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private JpaOutboxEventDao dao;
+
+    @Mock
+    private MessageTransport transport;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxProperties properties;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new OutboxProperties();
+        relay = new OutboxRelay(dao, transport, new JmsMetrics(meterRegistry), properties, meterRegistry);
+    }
+
+    @Test
+    void testRelayMarksEventsPublished() {
+        OutboxEvent first = event(1L, "{\"id\":1}");
+        OutboxEvent second = event(2L, "{\"id\":2}");
+        when(dao.findPublishable(anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(dao.countByPublishedAtIsNull()).thenReturn(0L);
+        when(dao.findFirstByPublishedAtIsNullOrderByIdAsc()).thenReturn(Optional.empty());
+
+        relay.relay();
+
+        verify(transport).send(ADD_TRAINING_QUEUE, "Remus.Lupin", "{\"id\":1}");
+        verify(transport).send(ADD_TRAINING_QUEUE, "Remus.Lupin", "{\"id\":2}");
+        assertNotNull(first.getPublishedAt());
+        assertNotNull(second.getPublishedAt());
+        assertEquals(2, Objects.requireNonNull(meterRegistry.find(OutboxRelay.PUBLISH_LAG)
+                .tag("destination", ADD_TRAINING_QUEUE).timer()).count());
+        assertEquals(0, Objects.requireNonNull(meterRegistry.find(OutboxRelay.DEPTH).gauge()).value());
+    }
+
+    @Test
+    void testRelayReschedulesFailedEventAndStopsBatch() {
+        OutboxEvent first = event(1L, "{\"id\":1}");
+        OutboxEvent second = event(2L, "{\"id\":2}");
+        when(dao.findPublishable(anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(dao.countByPublishedAtIsNull()).thenReturn(2L);
+        when(dao.findFirstByPublishedAtIsNullOrderByIdAsc()).thenReturn(Optional.of(first));
+        doThrow(new IllegalStateException("Broker unavailable"))
+                .when(transport).send(ADD_TRAINING_QUEUE, "Remus.Lupin", "{\"id\":1}");
+
+        relay.relay();
+
+        verify(transport, never()).send(ADD_TRAINING_QUEUE, "Remus.Lupin", "{\"id\":2}");
+        assertNull(first.getPublishedAt());
+        assertEquals(1, first.getAttempts());
+        assertEquals("Broker unavailable", first.getLastError());
+        assertTrue(first.getAvailableAt().isAfter(first.getCreatedAt()));
+        assertEquals(1, Objects.requireNonNull(meterRegistry.find(OutboxRelay.FAILURES)
+                .tag("destination", ADD_TRAINING_QUEUE).counter()).count());
+        assertEquals(2, Objects.requireNonNull(meterRegistry.find(OutboxRelay.DEPTH).gauge()).value());
+    }
+
+    @Test
+    void testBackoffIsExponentialAndCapped() {
+        properties.setRetryBackoff(1000);
+        properties.setMaxRetryBackoff(5000);
+
+        assertEquals(1000, relay.backoff(1));
+        assertEquals(2000, relay.backoff(2));
+        assertEquals(4000, relay.backoff(3));
+        assertEquals(5000, relay.backoff(4));
+        assertEquals(5000, relay.backoff(40));
+    }
+
+    private OutboxEvent event(Long id, String payload) {
+        LocalDateTime createdAt = LocalDateTime.now().minusSeconds(1);
+        return OutboxEvent.builder()
+                .id(id)
+                .destination(ADD_TRAINING_QUEUE)
+                .messageKey("Remus.Lupin")
+                .payload(payload)
+                .createdAt(createdAt)
+                .availableAt(createdAt)
+                .build();
+    }
+}
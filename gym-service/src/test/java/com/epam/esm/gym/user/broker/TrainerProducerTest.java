@@ -1,6 +1,7 @@
 package com.epam.esm.gym.user.broker;
 
 import com.epam.esm.gym.jms.dto.ActionType;
+import com.epam.esm.gym.jms.dto.TrainerListChunk;
 import com.epam.esm.gym.jms.dto.WorkloadRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
 import com.epam.esm.gym.user.entity.Trainer;
@@ -12,18 +13,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
-import java.util.Collections;
 import java.util.List;
 
 import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +44,8 @@ class TrainerProducerTest {
     private WorkloadJmsService workloadService;
     @Mock
     private TrainerService trainerService;
+    @Spy
+    private TrainerSyncProperties syncProperties = new TrainerSyncProperties();
     @InjectMocks
     private TrainerProducer trainerProducer;
 
@@ -63,19 +76,42 @@ class TrainerProducerTest {
 
     @Test
     void testPublishTrainerListWithTrainers() {
-        List<TrainerProfile> profiles = List.of(
-                TrainerProfile.builder().username("Minerva.McGonagall").build(),
-                TrainerProfile.builder().username("Remus.Lupin").build());
-        when(trainerService.findAll()).thenReturn(profiles);
-        trainerProducer.publishTrainerList();
-        verify(workloadService).convertAndSend(TRAINERS_QUEUE, profiles);
+        List<com.epam.esm.gym.jms.dto.TrainerProfile> first = List.of(
+                com.epam.esm.gym.jms.dto.TrainerProfile.builder().username("Minerva.McGonagall").build(),
+                com.epam.esm.gym.jms.dto.TrainerProfile.builder().username("Remus.Lupin").build());
+        List<com.epam.esm.gym.jms.dto.TrainerProfile> second = List.of(
+                com.epam.esm.gym.jms.dto.TrainerProfile.builder().username("Severus.Snape").build());
+        syncProperties.setChunkSize(2);
+        when(trainerService.findSyncProfiles(PageRequest.of(0, 2)))
+                .thenReturn(new SliceImpl<>(first, PageRequest.of(0, 2), true));
+        when(trainerService.findSyncProfiles(PageRequest.of(1, 2)))
+                .thenReturn(new SliceImpl<>(second, PageRequest.of(1, 2), false));
+
+        trainerProducer.publishTrainerList("2024-10-01T10:00");
+
+        ArgumentCaptor<TrainerListChunk> captor = ArgumentCaptor.forClass(TrainerListChunk.class);
+        verify(workloadService, times(2)).convertAndSend(eq(TRAINERS_QUEUE), captor.capture());
+        List<TrainerListChunk> chunks = captor.getAllValues();
+        assertEquals(chunks.get(0).batchId(), chunks.get(1).batchId());
+        assertEquals("2024-10-01T10:00", chunks.get(1).watermark());
+        assertEquals(0, chunks.get(0).sequence());
+        assertFalse(chunks.get(0).last());
+        assertEquals(first, chunks.get(0).trainers());
+        assertEquals(1, chunks.get(1).sequence());
+        assertTrue(chunks.get(1).last());
+        assertEquals(second, chunks.get(1).trainers());
     }
 
     @Test
     void testPublishTrainerListNoTrainers() {
-        when(trainerService.findAll()).thenReturn(Collections.emptyList());
-        trainerProducer.publishTrainerList();
-        verify(workloadService).convertAndSend(ERROR_QUEUE, "Users Not Found");
+        when(trainerService.findSyncProfiles(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
+
+        trainerProducer.publishTrainerList("2024-10-01T10:00");
+
+        ArgumentCaptor<TrainerListChunk> captor = ArgumentCaptor.forClass(TrainerListChunk.class);
+        verify(workloadService).convertAndSend(eq(TRAINERS_QUEUE), captor.capture());
+        assertTrue(captor.getValue().last());
+        assertTrue(captor.getValue().trainers().isEmpty());
     }
 
     @ParameterizedTest
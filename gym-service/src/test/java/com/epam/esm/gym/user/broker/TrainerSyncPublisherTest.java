@@ -0,0 +1,127 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.jms.dto.TrainerSyncBatch;
+import com.epam.esm.gym.user.dao.JpaSyncWatermarkDao;
+import com.epam.esm.gym.user.entity.SyncWatermark;
+import com.epam.esm.gym.user.service.TrainerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_QUEUE;
+import static com.epam.esm.gym.jms.dto.TrainerSyncAck.WORKLOAD_CONSUMER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerSyncPublisherTest {
+
+    @Mock
+    private JpaSyncWatermarkDao watermarkDao;
+
+    @Mock
+    private TrainerService trainerService;
+
+    @Mock
+    private TrainerProducer trainerProducer;
+
+    @Mock
+    private WorkloadJmsService workloadService;
+
+    private TrainerSyncPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new TrainerSyncPublisher(watermarkDao, trainerService, trainerProducer, workloadService,
+                new ObjectMapper(), new TrainerSyncProperties());
+    }
+
+    @Test
+    void testPublishChangesSendsFullResyncWithoutWatermark() {
+        when(watermarkDao.findById(WORKLOAD_CONSUMER)).thenReturn(Optional.empty());
+
+        publisher.publishChanges();
+
+        verify(trainerProducer).publishTrainerList(any(String.class));
+        verify(workloadService, never()).convertAndSend(eq(TRAINERS_SYNC_QUEUE), any(TrainerSyncBatch.class));
+        ArgumentCaptor<SyncWatermark> captor = ArgumentCaptor.forClass(SyncWatermark.class);
+        verify(watermarkDao).save(captor.capture());
+        assertNotNull(captor.getValue().getFullResyncAt());
+    }
+
+    @Test
+    void testPublishChangesSendsDeltaSinceWatermark() {
+        LocalDateTime watermark = LocalDateTime.now().minusMinutes(1);
+        when(watermarkDao.findById(WORKLOAD_CONSUMER)).thenReturn(Optional.of(SyncWatermark.builder()
+                .consumer(WORKLOAD_CONSUMER)
+                .watermark(watermark)
+                .acknowledgedAt(watermark)
+                .build()));
+        when(trainerService.findChangedSyncProfiles(eq(watermark.minusSeconds(5)), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        publisher.publishChanges();
+
+        assertFalse(sentBatch().fullResync());
+        verify(trainerProducer, never()).publishTrainerList(any(String.class));
+    }
+
+    @Test
+    void testPublishChangesWaitsForPendingFullResync() {
+        when(watermarkDao.findById(WORKLOAD_CONSUMER)).thenReturn(Optional.of(SyncWatermark.builder()
+                .consumer(WORKLOAD_CONSUMER)
+                .fullResyncAt(LocalDateTime.now().minusMinutes(1))
+                .build()));
+
+        publisher.publishChanges();
+
+        verify(workloadService, never()).convertAndSend(eq(TRAINERS_SYNC_QUEUE), any(TrainerSyncBatch.class));
+        verify(trainerProducer, never()).publishTrainerList(any(String.class));
+    }
+
+    @Test
+    void testIsFullResyncDueWhenConsumerIsSilent() {
+        LocalDateTime now = LocalDateTime.now();
+        SyncWatermark state = SyncWatermark.builder()
+                .consumer(WORKLOAD_CONSUMER)
+                .watermark(now.minusDays(2))
+                .acknowledgedAt(now.minusDays(2))
+                .build();
+
+        assertTrue(publisher.isFullResyncDue(state, now));
+    }
+
+    @Test
+    void testAcknowledgeAdvancesWatermark() {
+        LocalDateTime previous = LocalDateTime.of(2024, 10, 1, 9, 0);
+        SyncWatermark state = SyncWatermark.builder().consumer(WORKLOAD_CONSUMER).watermark(previous).build();
+        when(watermarkDao.findById(WORKLOAD_CONSUMER)).thenReturn(Optional.of(state));
+
+        publisher.acknowledge("{\"consumer\":\"" + WORKLOAD_CONSUMER + "\",\"watermark\":\"2024-10-01T10:00\"}");
+
+        assertEquals(LocalDateTime.of(2024, 10, 1, 10, 0), state.getWatermark());
+        assertNotNull(state.getAcknowledgedAt());
+        verify(watermarkDao).save(state);
+    }
+
+    private TrainerSyncBatch sentBatch() {
+        ArgumentCaptor<TrainerSyncBatch> captor = ArgumentCaptor.forClass(TrainerSyncBatch.class);
+        verify(workloadService).convertAndSend(eq(TRAINERS_SYNC_QUEUE), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,128 @@
+package com.epam.esm.gym.user.broker;
+
+import com.epam.esm.gym.jms.dto.TrainerListChunk;
+import com.epam.esm.gym.jms.dto.TrainerProfile;
+import com.epam.esm.gym.jms.dto.TrainerSyncBatch;
+import com.epam.esm.gym.user.dao.JpaSyncWatermarkDao;
+import com.epam.esm.gym.user.entity.SyncWatermark;
+import com.epam.esm.gym.user.mapper.TrainerMapper;
+import com.epam.esm.gym.user.service.TrainerService;
+import com.epam.esm.gym.user.service.UserService;
+import com.epam.esm.gym.user.service.profile.TrainerProfileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_QUEUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Counts the SQL statements of the {@link TrainerSyncPublisher} against the embedded database.
+ *
+ * <p>A delta is read as flat trainer rows with one batched query for their trainings, and a full resync
+ * takes the same two statements per chunk, so neither may fetch a trainer's collections lazily.</p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TrainerProfileService.class, TrainerMapper.class})
+@Sql("/test-data-trainer.sql")
+class TrainerSyncStatementsTest {
+
+    @Autowired
+    private TrainerService trainerService;
+
+    @Autowired
+    private JpaSyncWatermarkDao watermarkDao;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private WorkloadJmsService workloadService;
+
+    private TrainerSyncProperties properties;
+    private TrainerSyncPublisher publisher;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TrainerSyncProperties();
+        publisher = new TrainerSyncPublisher(watermarkDao, trainerService,
+                new TrainerProducer(workloadService, trainerService, properties), workloadService,
+                new ObjectMapper(), properties);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testDeltaUsesThreeStatements() {
+        watermarkDao.save(SyncWatermark.builder()
+                .consumer(properties.getConsumer())
+                .watermark(LocalDateTime.of(2023, 12, 31, 0, 0))
+                .acknowledgedAt(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        publisher.publishChanges();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        ArgumentCaptor<TrainerSyncBatch> captor = ArgumentCaptor.forClass(TrainerSyncBatch.class);
+        verify(workloadService).convertAndSend(eq(TRAINERS_SYNC_QUEUE), captor.capture());
+        assertThat(captor.getValue().trainers()).extracting(TrainerProfile::username)
+                .containsExactly("minerva.mcgonagall", "severus.snape", "pomona.sprout");
+        assertThat(captor.getValue().trainers().get(0).trainings()).hasSize(3);
+    }
+
+    @Test
+    void testFullResyncTakesTwoStatementsPerChunk() {
+        long single = resync("single", 3);
+        verify(workloadService).convertAndSend(eq(TRAINERS_QUEUE), any(TrainerListChunk.class));
+        clearInvocations(workloadService);
+
+        long chunked = resync("chunked", 1);
+
+        verify(workloadService, atLeastOnce()).convertAndSend(eq(TRAINERS_QUEUE), any(TrainerListChunk.class));
+        assertThat(chunked - single).isEqualTo(4);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    /**
+     * Runs a full resync for a consumer without a watermark.
+     *
+     * @param consumer  the consumer, distinct per run so the resync is due
+     * @param chunkSize the number of trainers per chunk
+     * @return the number of statements prepared
+     */
+    private long resync(String consumer, int chunkSize) {
+        properties.setConsumer(consumer);
+        properties.setChunkSize(chunkSize);
+        statistics.clear();
+        publisher.publishChanges();
+        return statistics.getPrepareStatementCount();
+    }
+}
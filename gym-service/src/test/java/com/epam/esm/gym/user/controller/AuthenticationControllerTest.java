@@ -7,10 +7,13 @@ import com.epam.esm.gym.user.dto.auth.RegisterRequest;
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
 import com.epam.esm.gym.user.service.AuthenticationService;
 import com.epam.esm.gym.user.service.profile.AuthenticationUserService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Test;
@@ -36,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -68,6 +72,10 @@ class AuthenticationControllerTest {
     private BruteForceProtectionService bruteForceProtectionService;
     @MockBean
     private SecurityUserDetailsService userDetailsService;
+    @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
     @Mock
     private AuthenticationUserService authenticationUserService;
     @InjectMocks
@@ -178,6 +186,7 @@ class AuthenticationControllerTest {
     void refreshTokensValidTokenReturnsOk() throws Exception {
         String refreshToken = "refreshToken";
         setAuthentication();
+        when(claimsCache.verify(eq(refreshToken), anyString())).thenReturn(Jwts.claims().build());
         when(service.refresh(any(String.class), any(HttpServletResponse.class))).thenReturn(expectedResponse);
         mockMvc.perform(post(base_url + "/token/refresh")
                         .header("Authorization", "Bearer " + refreshToken))
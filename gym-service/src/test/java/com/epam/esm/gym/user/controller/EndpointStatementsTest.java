@@ -0,0 +1,110 @@
+package com.epam.esm.gym.user.controller;
+
+import com.epam.esm.gym.user.actuator.SqlStatementBudget;
+import com.epam.esm.gym.user.actuator.SqlStatisticsConfig;
+import com.epam.esm.gym.user.actuator.SqlStatisticsInterceptor;
+import com.epam.esm.gym.user.mapper.TraineeMapper;
+import com.epam.esm.gym.user.mapper.TrainerMapper;
+import com.epam.esm.gym.user.service.TraineeService;
+import com.epam.esm.gym.user.service.TrainerService;
+import com.epam.esm.gym.user.service.TrainingService;
+import com.epam.esm.gym.user.service.UserService;
+import com.epam.esm.gym.user.service.profile.BulkRegistrationService;
+import com.epam.esm.gym.user.service.profile.TraineeProfileService;
+import com.epam.esm.gym.user.service.profile.TrainerProfileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the SQL statement budgets of the read endpoints against the embedded database.
+ *
+ * <p>The controllers run on the profile services and repositories of the test context, and the
+ * {@link SqlStatisticsInterceptor} counts the work of every request, including the serialization
+ * of the response. The second-level cache is evicted before every test, so the budgets hold for
+ * a cold cache and no endpoint may fetch a collection lazily.</p>
+ */
+@DataJpaTest
+@Import({TraineeProfileService.class, TrainerProfileService.class, TraineeMapper.class, TrainerMapper.class,
+        SqlStatisticsConfig.class})
+@Sql("/test-data-trainer.sql")
+class EndpointStatementsTest {
+
+    @Autowired
+    private TraineeService traineeService;
+
+    @Autowired
+    private TrainerService trainerService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private TrainingService trainingService;
+
+    @MockBean
+    private BulkRegistrationService bulkRegistration;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        ObjectMapper objectMapper = new ObjectMapper();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TraineeController(traineeService, bulkRegistration, objectMapper),
+                        new TrainerController(trainerService, trainingService, bulkRegistration, objectMapper))
+                .addInterceptors(new SqlStatisticsInterceptor(new SimpleMeterRegistry()))
+                .build();
+    }
+
+    @Test
+    void testTrainerPageStaysWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/trainers").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].trainees.length()").value(3))
+                .andExpect(SqlStatementBudget.atMost(3));
+    }
+
+    @Test
+    void testTrainerProfileStaysWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/trainers/{username}", "severus.snape"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trainees.length()").value(2))
+                .andExpect(SqlStatementBudget.atMost(3));
+    }
+
+    @Test
+    void testTraineePageStaysWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/trainees").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    @Test
+    void testTraineeProfileStaysWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/trainees/{username}", "hermione.granger"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trainers.length()").value(2))
+                .andExpect(SqlStatementBudget.atMost(1));
+    }
+}
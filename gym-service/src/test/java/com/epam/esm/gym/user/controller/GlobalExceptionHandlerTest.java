@@ -1,11 +1,14 @@
 package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.exception.PasswordHashingUnavailableException;
 import com.epam.esm.gym.user.exception.UserAlreadyExistsException;
 import com.epam.esm.gym.user.exception.UserNotFoundException;
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -50,6 +53,10 @@ class GlobalExceptionHandlerTest {
     private BruteForceProtectionService bruteForceProtectionService;
     @MockBean
     private SecurityUserDetailsService userDetailsService;
+    @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
 
     private GlobalExceptionHandler globalExceptionHandler;
 
@@ -74,6 +81,15 @@ class GlobalExceptionHandlerTest {
         assertThat(Objects.requireNonNull(response.getBody()).message()).isEqualTo("User already exists");
     }
 
+    @Test
+    void handlePasswordHashingUnavailableException() {
+        PasswordHashingUnavailableException ex = new PasswordHashingUnavailableException("Retry later");
+        ResponseEntity<MessageResponse> response = globalExceptionHandler.handlePasswordHashingUnavailableException(ex);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(Objects.requireNonNull(response.getBody()).message()).isEqualTo("Retry later");
+    }
+
     @Test
     void handleMissingParams() {
         MissingServletRequestParameterException ex = new MissingServletRequestParameterException("param", "String");
@@ -0,0 +1,73 @@
+package com.epam.esm.gym.user.controller;
+
+import com.epam.esm.gym.user.dao.JpaSigningKeyDao;
+import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
+import com.epam.esm.gym.user.security.service.JwtProvider;
+import com.epam.esm.gym.user.security.service.JwtSigningKey;
+import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.SigningKeyProperties;
+import com.epam.esm.gym.user.security.service.SigningKeyService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for {@link JwksController}.
+ * Verifies that the published signing keys are served as a cacheable JSON Web Key Set.
+ *
+ * @see JwksController
+ * @see WebMvcTest
+ * @see MockMvc
+ */
+@ActiveProfiles("test")
+@WebMvcTest(JwksController.class)
+@Import({SecurityConfigTestMock.class, SigningKeyProperties.class})
+class JwksControllerTest {
+
+    private static final String KEY_ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private SigningKeyService signingKeyService;
+    @MockBean
+    private JwtProvider jwtProvider;
+    @MockBean
+    private BruteForceProtectionService bruteForceProtectionService;
+    @MockBean
+    private SecurityUserDetailsService userDetailsService;
+    @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
+
+    @Test
+    void testJwksPublishesKeys() throws Exception {
+        SigningKeyProperties properties = new SigningKeyProperties();
+        properties.setKeyEncryptionKey(KEY_ENCRYPTION_KEY);
+        JwtSigningKey key = new SigningKeyService(mock(JpaSigningKeyDao.class), properties).currentKey();
+        when(signingKeyService.publishedKeys()).thenReturn(List.of(key));
+
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value(key.kid()))
+                .andExpect(jsonPath("$.keys[0].kty").value("RSA"))
+                .andExpect(jsonPath("$.keys[0].d").doesNotExist());
+    }
+}
@@ -5,6 +5,8 @@ import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
 import com.epam.esm.gym.user.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -59,6 +61,10 @@ public class LoginControllerTest {
     private BruteForceProtectionService bruteForceProtectionService;
     @MockBean
     private SecurityUserDetailsService userDetailsService;
+    @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
     private static final String base_url = "/api/login";
     private static final String username = "username";
     private static final String password = "password";
@@ -22,7 +22,7 @@ public class SecurityConfigTestMock {
     /**
      * Configures the security filter chain.
      *
-     * <p>This method specifies that the login and login change endpoints are
+     * <p>This method specifies that the login, login change and JWKS endpoints are
      * accessible without authentication, while all other requests require
      * the user to be authenticated.</p>
      *
@@ -36,7 +36,8 @@ public class SecurityConfigTestMock {
                         .requestMatchers(
                                 "/api/auth/login",
                                 "/api/login",
-                                "/api/login/change").permitAll()
+                                "/api/login/change",
+                                "/.well-known/jwks.json").permitAll()
                         .anyRequest().authenticated())
                 .csrf(AbstractHttpConfigurer::disable);
         return http.build();
@@ -1,6 +1,7 @@
 package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.FullTraineeProfileResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
@@ -13,7 +14,10 @@ import com.epam.esm.gym.user.provider.trainee.TraineeRegistrationArgumentsProvid
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
 import com.epam.esm.gym.user.service.TraineeService;
+import com.epam.esm.gym.user.service.profile.BulkRegistrationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -28,22 +32,26 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -61,11 +69,17 @@ class TraineeControllerTest {
     @MockBean
     private TraineeService service;
     @MockBean
+    private BulkRegistrationService bulkRegistration;
+    @MockBean
     private JwtProvider jwtProvider;
     @MockBean
     private BruteForceProtectionService bruteForceProtectionService;
     @MockBean
     private SecurityUserDetailsService userDetailsService;
+    @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
 
     private static final String base_url = "/api/trainees";
 
@@ -76,10 +90,11 @@ class TraineeControllerTest {
                 createProfileResponse("Harry Potter"),
                 createProfileResponse("Hermione Granger")
         );
-        when(service.findAll(any())).thenReturn(profiles);
+        CursorPage<FullTraineeProfileResponse> page = new CursorPage<>(profiles, "next");
+        when(service.findPage(null, 50)).thenReturn(page);
         mockMvc.perform(get(base_url))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(profiles)));
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
     }
 
     @ParameterizedTest
@@ -96,6 +111,32 @@ class TraineeControllerTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse.getBody())));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void registerTraineesStreamsCredentials() throws Exception {
+        List<PostTraineeRequest> requests = List.of(
+                PostTraineeRequest.builder().firstName("Harry").lastName("Potter").build(),
+                PostTraineeRequest.builder().firstName("Ron").lastName("Weasley").build());
+        doAnswer(invocation -> {
+            BulkRegistrationService.CredentialsSink sink = invocation.getArgument(1);
+            sink.write(List.of(new ProfileResponse("Harry.Potter.1", "secret1")));
+            sink.write(List.of(new ProfileResponse("Ron.Weasley.1", "secret2")));
+            return null;
+        }).when(bulkRegistration).registerTrainees(eq(requests), any());
+
+        MvcResult result = mockMvc.perform(post(base_url + "/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"username\":\"Harry.Potter.1\",\"password\":\"secret1\"}\n"
+                        + "{\"username\":\"Ron.Weasley.1\",\"password\":\"secret2\"}\n"));
+    }
+
     @ParameterizedTest
     @WithMockUser(roles = "ADMIN")
     @ArgumentsSource(TraineeProfileArgumentsProvider.class)
@@ -177,16 +218,26 @@ class TraineeControllerTest {
     @WithMockUser(roles = "ADMIN")
     void getTraineeTrainings() throws Exception {
         String username = "Cedric Diggory";
-        Map<String, String> params = new HashMap<>();
-        List<TrainingResponse> trainings = List.of(new TrainingResponse(
+        Map<String, String> params = Map.of("trainerName", "Alastor Moody", "size", "10");
+        CursorPage<TrainingResponse> trainings = new CursorPage<>(List.of(new TrainingResponse(
                 "Alastor Moody", "Defense Against the Dark Arts", "Lecture",
-                120, LocalDate.of(2024, 9, 20)));
+                120, LocalDate.of(2024, 9, 20))), "next");
 
-        when(service.getTraineeTrainingsByName(username, params)).thenReturn(trainings);
+        when(service.getTraineeTrainingsByName(username, params, null, 10)).thenReturn(trainings);
 
         mockMvc.perform(get(base_url + "/" + username + "/trainings")
-                        .param("filter", "upcoming"))
-                .andExpect(status().isOk());
+                        .param("trainerName", "Alastor Moody")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(trainings)));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTraineeTrainingsRejectsOversizedPage() throws Exception {
+        mockMvc.perform(get(base_url + "/Cedric Diggory/trainings")
+                        .param("size", String.valueOf(CursorPage.MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.epam.esm.gym.user.controller;
 
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.UpdateTrainerRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
@@ -22,8 +23,11 @@ import com.epam.esm.gym.user.provider.trainer.UpdateTrainerArgumentsProvider;
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
 import com.epam.esm.gym.user.service.TrainerService;
 import com.epam.esm.gym.user.service.TrainingService;
+import com.epam.esm.gym.user.service.profile.BulkRegistrationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -82,9 +86,15 @@ class TrainerControllerTest {
     @MockBean
     private SecurityUserDetailsService userDetailsService;
     @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
+    @MockBean
     private TrainerService trainerService;
     @MockBean
     private TrainingService trainingService;
+    @MockBean
+    private BulkRegistrationService bulkRegistration;
 
     private static final String base_url = "/api/trainers";
     private String username;
@@ -98,13 +108,14 @@ class TrainerControllerTest {
     @WithMockUser(roles = "TRAINER")
     @ArgumentsSource(GetAllTrainersArgumentsProvider.class)
     void getAllTrainers(List<TrainerProfile> expectedTrainers) throws Exception {
-        when(trainerService.findAll()).thenReturn(expectedTrainers);
+        CursorPage<TrainerProfile> page = new CursorPage<>(expectedTrainers, null);
+        when(trainerService.findPage(null, 50)).thenReturn(page);
         mockMvc.perform(get(base_url)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(expectedTrainers)));
+                .andExpect(content().json(objectMapper.writeValueAsString(page)));
 
-        verify(trainerService, times(1)).findAll();
+        verify(trainerService, times(1)).findPage(null, 50);
     }
 
     @ParameterizedTest
@@ -269,15 +280,18 @@ class TrainerControllerTest {
     @Test
     @WithMockUser(roles = "TRAINER")
     void testGetAllTrainers() throws Exception {
-        List<TrainerProfile> trainerProfiles = List.of(TrainerProfile.builder().username(username).build());
-        when(trainerService.findAll()).thenReturn(trainerProfiles);
+        CursorPage<TrainerProfile> trainerProfiles = new CursorPage<>(
+                List.of(TrainerProfile.builder().username(username).build()), "next");
+        when(trainerService.findPage("cursor", 1)).thenReturn(trainerProfiles);
         mockMvc.perform(MockMvcRequestBuilders.get(base_url)
+                        .param("cursor", "cursor")
+                        .param("size", "1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.content()
                         .json(objectMapper.writeValueAsString(trainerProfiles)));
 
-        verify(trainerService).findAll();
+        verify(trainerService).findPage("cursor", 1);
     }
 
     @Test
@@ -5,6 +5,7 @@ import com.epam.esm.gym.jms.dto.MessageResponse;
 import com.epam.esm.gym.jms.dto.TrainerStatus;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.jms.dto.WorkloadRequest;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.training.TrainingRequest;
 import com.epam.esm.gym.user.dto.training.TrainingTypeDto;
 import com.epam.esm.gym.user.entity.Specialization;
@@ -12,6 +13,8 @@ import com.epam.esm.gym.user.exception.UserNotFoundException;
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
 import com.epam.esm.gym.user.service.TrainingService;
 import com.epam.esm.gym.user.service.WorkloadService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -55,6 +58,10 @@ class TrainingControllerTest {
     @MockBean
     private SecurityUserDetailsService userDetailsService;
     @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
+    @MockBean
     private TrainingService trainingService;
     @MockBean
     private WorkloadService workloadService;
@@ -82,19 +89,19 @@ class TrainingControllerTest {
     @Test
     @WithMockUser(roles = "TRAINEE")
     void testGetTrainings() throws Exception {
-        List<TrainingResponse> trainings = List.of(
+        CursorPage<TrainingResponse> trainings = new CursorPage<>(List.of(
                 new TrainingResponse("Minerva McGonagall", "Advanced Transfiguration",
                         "TRANSFIGURATION", 60, LocalDate.of(2024, 1, 10))
-        );
+        ), "next");
 
-        when(trainingService.getAllTrainings()).thenReturn(trainings);
+        when(trainingService.findPage(null, 50)).thenReturn(trainings);
 
         mockMvc.perform(get(baseUrl)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(trainings)));
 
-        verify(trainingService, times(1)).getAllTrainings();
+        verify(trainingService, times(1)).findPage(null, 50);
     }
 
     @Test
@@ -1,11 +1,14 @@
 package com.epam.esm.gym.user.controller;
 
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.UserResponse;
 import com.epam.esm.gym.user.entity.RoleType;
 import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
 import com.epam.esm.gym.user.security.service.JwtProvider;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
 import com.epam.esm.gym.user.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
@@ -25,6 +28,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -49,6 +54,10 @@ class UserControllerTest {
     private BruteForceProtectionService bruteForceProtectionService;
     @MockBean
     private SecurityUserDetailsService userDetailsService;
+    @MockBean
+    private VerifiedClaimsCache claimsCache;
+    @MockBean
+    private TokenRevocationIndex revocationIndex;
     private static final String base_url = "/api/users";
     private static final String username = "harry.potter";
 
@@ -65,11 +74,40 @@ class UserControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void getUsersReturnsListOfUsers() throws Exception {
-        when(service.findAll()).thenReturn(List.of(userResponse));
+        when(service.findPage(null, 50)).thenReturn(new CursorPage<>(List.of(userResponse), "next"));
         mockMvc.perform(get(base_url))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].username").value(username));
+                .andExpect(jsonPath("$.items[0].username").value(username))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUsersPassesCursorAndSize() throws Exception {
+        when(service.findPage("cursor", 10)).thenReturn(new CursorPage<>(List.of(userResponse), null));
+        mockMvc.perform(get(base_url).param("cursor", "cursor").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].username").value(username))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        verify(service).findPage("cursor", 10);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUsersRejectsOversizedPage() throws Exception {
+        mockMvc.perform(get(base_url).param("size", String.valueOf(CursorPage.MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getUsersRejectsInvalidCursor() throws Exception {
+        when(service.findPage("bogus", 50)).thenThrow(new IllegalArgumentException("Invalid page cursor"));
+        mockMvc.perform(get(base_url).param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid page cursor"));
     }
 
     @Test
@@ -94,12 +132,12 @@ class UserControllerTest {
 
     @Test
     void getUsersAuthorizedReturnsOk() throws Exception {
-        when(service.findAll()).thenReturn(Collections.singletonList(userResponse));
+        CursorPage<UserResponse> page = new CursorPage<>(Collections.singletonList(userResponse), null);
+        when(service.findPage(null, 50)).thenReturn(page);
         mockMvc.perform(get(base_url)
                         .with(user("admin").roles("ADMIN")))
                 .andExpect(status().isOk())
-                .andExpect(content().json(new ObjectMapper().writeValueAsString(
-                        Collections.singletonList(userResponse))));
+                .andExpect(content().json(new ObjectMapper().writeValueAsString(page)));
     }
 
     @Test
@@ -118,12 +156,12 @@ class UserControllerTest {
     @WithMockUser(roles = "ADMIN")
     void testGetUsers() throws Exception {
         UserResponse userProfile = UserResponse.builder().firstName("testUser").build();
-        when(service.findAll()).thenReturn(List.of(userProfile));
+        when(service.findPage(null, 50)).thenReturn(new CursorPage<>(List.of(userProfile), null));
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].firstName").value("testUser"));
+                .andExpect(jsonPath("$.items[0].firstName").value("testUser"));
     }
 
     @Test
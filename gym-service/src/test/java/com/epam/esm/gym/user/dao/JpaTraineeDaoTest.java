@@ -7,6 +7,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.List;
@@ -49,6 +50,18 @@ class JpaTraineeDaoTest {
         assertThat(trainees.size()).isEqualTo(2);
     }
 
+    @Test
+    void testFindIdsAfterAndFetchPage() {
+        List<Long> ids = traineeDao.findIdsAfter(0, PageRequest.ofSize(1));
+        assertThat(ids).isEqualTo(List.of(1L));
+        List<Long> next = traineeDao.findIdsAfter(ids.get(0), PageRequest.ofSize(1));
+        assertThat(next).isEqualTo(List.of(2L));
+
+        List<Trainee> trainees = traineeDao.findWithTrainersByIdIn(next);
+        assertThat(trainees.size()).isEqualTo(1);
+        assertThat(trainees.get(0).getUser().getUsername()).isEqualTo("harry.potter.unique");
+    }
+
     @ParameterizedTest
     @ArgumentsSource(TraineeTrainerArgumentsProvider.class)
     void testFindByUsername(Trainee trainee) {
@@ -0,0 +1,60 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.entity.Specialization;
+import com.epam.esm.gym.user.entity.Training;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the trainee training filter of {@link JpaTrainingDao} against the embedded database.
+ */
+@DataJpaTest
+@Sql("/test-data-trainer.sql")
+class JpaTrainingDaoTest {
+
+    @Autowired
+    private JpaTrainingDao trainingDao;
+
+    @Test
+    void testFindTraineeTrainingsWithoutFilters() {
+        List<Training> trainings = trainingDao.findTraineeTrainingsAfter(
+                1L, 0, null, null, null, null, PageRequest.ofSize(10));
+        assertThat(trainings).extracting(Training::getId).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void testFindTraineeTrainingsSeeksPastTheGivenId() {
+        List<Training> trainings = trainingDao.findTraineeTrainingsAfter(
+                1L, 1L, null, null, null, null, PageRequest.ofSize(10));
+        assertThat(trainings).extracting(Training::getId).containsExactly(4L);
+    }
+
+    @Test
+    void testFindTraineeTrainingsByPeriodTrainerAndType() {
+        assertThat(trainingDao.findTraineeTrainingsAfter(1L, 0, LocalDate.of(2024, 1, 11),
+                LocalDate.of(2024, 1, 31), null, null, PageRequest.ofSize(10)))
+                .extracting(Training::getId).containsExactly(4L);
+        assertThat(trainingDao.findTraineeTrainingsAfter(1L, 0, null, null,
+                "Minerva.McGonagall", null, PageRequest.ofSize(10)))
+                .extracting(Training::getId).containsExactly(1L);
+        assertThat(trainingDao.findTraineeTrainingsAfter(3L, 0, null, null,
+                null, Specialization.POTIONS, PageRequest.ofSize(10)))
+                .extracting(Training::getId).containsExactly(5L);
+    }
+
+    @Test
+    void testFindTraineeTrainingsFetchesTrainerAndType() {
+        Training training = trainingDao.findTraineeTrainingsAfter(
+                2L, 0, null, null, null, null, PageRequest.ofSize(10)).get(0);
+        assertThat(training.getTrainer().getUser().getUsername()).isEqualTo("minerva.mcgonagall");
+        assertThat(training.getType().getSpecialization()).isEqualTo(Specialization.TRANSFIGURATION);
+    }
+}
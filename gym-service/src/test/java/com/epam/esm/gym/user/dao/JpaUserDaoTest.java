@@ -9,6 +9,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.List;
@@ -107,4 +108,11 @@ class JpaUserDaoTest {
         List<User> users = userDao.findAll();
         assertThat(users).hasSize(6);
     }
+
+    @Test
+    void testFindPageAfterSeeksPastTheGivenId() {
+        List<User> users = userDao.findPageAfter(2, PageRequest.ofSize(3));
+        assertThat(users).extracting(User::getUsername)
+                .containsExactly("hermione.granger", "neville.longbottom", "draco.malfoy");
+    }
 }
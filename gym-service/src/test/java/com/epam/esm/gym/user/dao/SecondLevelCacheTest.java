@@ -0,0 +1,126 @@
+package com.epam.esm.gym.user.dao;
+
+import com.epam.esm.gym.user.actuator.SecondLevelCacheMetrics;
+import com.epam.esm.gym.user.entity.Specialization;
+import com.epam.esm.gym.user.entity.TrainingType;
+import com.epam.esm.gym.user.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the second-level, natural id and query caching of users and training types.
+ *
+ * <p>The persistence context is cleared between lookups, so a lookup that issues no statement
+ * was answered by the second-level cache. Users are cached read-write, and such entries are only
+ * readable by sessions started after they were cached, so the user lookups run in transactions of
+ * their own, like separate requests, on committed data that is deleted afterwards.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider="
+                + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+@Import({SecondLevelCacheMetrics.class, SecondLevelCacheTest.Metrics.class})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private JpaUserDao userDao;
+
+    @Autowired
+    private JpaTrainingTypeDao trainingTypeDao;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Sql("/test-data-user.sql")
+    @Sql(statements = "DELETE FROM users", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testFindByUsernameIsServedFromTheNaturalIdCache() {
+        assertThat(userDao.findByUsername("harry.potter")).isPresent();
+        long statements = statistics.getPrepareStatementCount();
+
+        Optional<User> cached = userDao.findByUsername("harry.potter");
+
+        assertThat(cached).map(User::getFirstName).contains("Harry");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(registry.get(SecondLevelCacheMetrics.HIT_RATIO)
+                .tag("region", User.USERNAME_CACHE_REGION).gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @Sql("/test-data-user.sql")
+    void testFindByUnknownUsernameIsEmpty() {
+        assertThat(userDao.findByUsername("tom.riddle")).isEmpty();
+        assertThat(userDao.findByUsername(null)).isEmpty();
+    }
+
+    @Test
+    @Sql("/test-data-user.sql")
+    void testRenamedUserIsFoundByTheNewUsernameOnly() {
+        User user = userDao.findByUsername("ron.weasley").orElseThrow();
+        user.setUsername("ron.weasley.2");
+        userDao.saveAndFlush(user);
+        entityManager.clear();
+
+        assertThat(userDao.findByUsername("ron.weasley")).isEmpty();
+        assertThat(userDao.findByUsername("ron.weasley.2")).map(User::getId).contains(user.getId());
+    }
+
+    @Test
+    @Sql("/test-data-trainer.sql")
+    void testFindBySpecializationIsServedFromTheQueryCache() {
+        assertThat(trainingTypeDao.findBySpecialization(Specialization.POTIONS)).isPresent();
+        entityManager.clear();
+        long statements = statistics.getPrepareStatementCount();
+
+        Optional<TrainingType> cached = trainingTypeDao.findBySpecialization(Specialization.POTIONS);
+
+        assertThat(cached).map(TrainingType::getId).contains(2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
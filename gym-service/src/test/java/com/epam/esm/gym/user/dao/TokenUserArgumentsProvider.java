@@ -33,7 +33,7 @@ public class TokenUserArgumentsProvider implements ArgumentsProvider {
         expectedTokens.add(Token.builder()
                 .id(1)
                 .tokenType(Token.TokenType.BEARER)
-                .accessToken("validJwtToken1")
+                .tokenDigest("validJwtToken1")
                 .accessTokenTTL(3600L)
                 .revoked(false)
                 .expired(false)
@@ -42,7 +42,7 @@ public class TokenUserArgumentsProvider implements ArgumentsProvider {
         expectedTokens.add(Token.builder()
                 .id(3)
                 .tokenType(Token.TokenType.BEARER)
-                .accessToken("invalidJwtToken")
+                .tokenDigest("invalidJwtToken")
                 .accessTokenTTL(3600L)
                 .revoked(true)
                 .expired(true)
@@ -0,0 +1,75 @@
+package com.epam.esm.gym.user.dao.migration;
+
+import com.epam.esm.gym.user.security.service.TokenDigest;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link TokenDigestMigration} class against a {@code tokens} table that still has the raw
+ * {@code access_token} column. Runs outside the test transaction because the migration alters the table.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenDigestMigrationTest {
+
+    private final TokenDigestMigration migration = new TokenDigestMigration();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tokens");
+        jdbcTemplate.execute("ALTER TABLE tokens DROP COLUMN IF EXISTS access_token");
+    }
+
+    @Test
+    void testLegacyTokensAreDigestedAndRawColumnBecomesOptional() throws Exception {
+        Timestamp expiresAt = Timestamp.valueOf("2030-01-01 00:00:00");
+        jdbcTemplate.execute("ALTER TABLE tokens ADD COLUMN access_token VARCHAR(255) NOT NULL DEFAULT ''");
+        jdbcTemplate.update("INSERT INTO tokens (id, token_type, access_token, revoked, expired) "
+                + "VALUES (1, 'BEARER', 'legacyJwt1', FALSE, FALSE)");
+        jdbcTemplate.update("INSERT INTO tokens (id, token_type, access_token, expires_at, revoked, expired) "
+                + "VALUES (2, 'BEARER', 'legacyJwt2', ?, TRUE, TRUE)", expiresAt);
+
+        try (Connection connection = dataSource.getConnection()) {
+            Context context = mock(Context.class);
+            when(context.getConnection()).thenReturn(connection);
+            migration.migrate(context);
+        }
+
+        Map<String, Object> first = jdbcTemplate.queryForMap("SELECT * FROM tokens WHERE id = 1");
+        Map<String, Object> second = jdbcTemplate.queryForMap("SELECT * FROM tokens WHERE id = 2");
+        assertEquals(TokenDigest.of("legacyJwt1"), first.get("TOKEN_DIGEST"));
+        assertNotNull(first.get("EXPIRES_AT"));
+        assertEquals(TokenDigest.of("legacyJwt2"), second.get("TOKEN_DIGEST"));
+        assertEquals(expiresAt, second.get("EXPIRES_AT"));
+        assertDoesNotThrow(() -> jdbcTemplate.update("INSERT INTO tokens (id, token_type, token_digest, revoked, "
+                + "expired) VALUES (3, 'BEARER', 'digest', FALSE, FALSE)"));
+    }
+
+    @Test
+    void testCurrentSchemaIsLeftAlone() {
+        assertEquals(0, migration.migrate(jdbcTemplate));
+    }
+}
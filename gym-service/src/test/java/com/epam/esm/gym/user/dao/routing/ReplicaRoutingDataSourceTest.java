@@ -0,0 +1,196 @@
+package com.epam.esm.gym.user.dao.routing;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the routing of transactions between two separate in-memory databases standing in for
+ * the primary and the replica. Each database holds a marker row naming it, so a query shows
+ * which one served the transaction.
+ *
+ * <p>Transactions are run by a {@link JpaTransactionManager} over an entity manager factory built on
+ * the lazy routing proxy, as in the service, because the JPA dialect fetches the connection of a
+ * read-only transaction before the read-only flag is published.</p>
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String INSTANCE = "SELECT name FROM instance";
+
+    private final ReplicaProperties properties = new ReplicaProperties();
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, new ReadYourWritesGuard(properties)));
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        String instance = readOnly.execute(status -> instance());
+
+        assertThat(instance).isEqualTo("replica");
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() {
+        String instance = readWrite.execute(status -> instance());
+
+        assertThat(instance).isEqualTo("primary");
+    }
+
+    @Test
+    void testWorkOutsideTransactionUsesPrimary() {
+        assertThat(instance()).isEqualTo("primary");
+    }
+
+    @Test
+    void testReadOnlyWorkJoiningWriteTransactionStaysOnPrimary() {
+        String joined = readWrite.execute(status -> readOnly.execute(inner -> instance()));
+
+        assertThat(joined).isEqualTo("primary");
+    }
+
+    @Test
+    void testUserReadsPrimaryAfterOwnWrite() {
+        authenticate("harry.potter");
+        readWrite.executeWithoutResult(status -> instance());
+
+        String own = readOnly.execute(status -> instance());
+        authenticate("ron.weasley");
+        String other = readOnly.execute(status -> instance());
+
+        assertThat(own).isEqualTo("primary");
+        assertThat(other).isEqualTo("replica");
+    }
+
+    @Test
+    void testSynchronizedWorkWithoutTransactionUsesPrimaryAndIsNoWrite() {
+        TransactionTemplate supports = new TransactionTemplate(readWrite.getTransactionManager());
+        supports.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        authenticate("harry.potter");
+
+        String lookup = supports.execute(status -> instance());
+        String read = readOnly.execute(status -> instance());
+
+        assertThat(lookup).isEqualTo("primary");
+        assertThat(read).isEqualTo("replica");
+    }
+
+    @Test
+    void testRolledBackWriteKeepsReadsOnReplica() {
+        authenticate("harry.potter");
+        readWrite.executeWithoutResult(status -> {
+            instance();
+            status.setRollbackOnly();
+        });
+
+        String instance = readOnly.execute(status -> instance());
+
+        assertThat(instance).isEqualTo("replica");
+    }
+
+    @Test
+    void testDisabledGuardKeepsReadsOnReplica() {
+        properties.setReadYourWritesWindow(0);
+        authenticate("harry.potter");
+        readWrite.executeWithoutResult(status -> instance());
+
+        String instance = readOnly.execute(status -> instance());
+
+        assertThat(instance).isEqualTo("replica");
+    }
+
+    @Test
+    void testNewReadOnlyTransactionInsideWriteUsesReplica() {
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        String inner = readWrite.execute(status -> readOnly.execute(nested -> instance()));
+
+        assertThat(inner).isEqualTo("replica");
+    }
+
+    @Test
+    void testExpiredWindowReturnsReadsToReplica() {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(properties);
+        properties.setReadYourWritesWindow(1);
+        guard.recordWrite("harry.potter");
+
+        await(5);
+
+        assertThat(guard.readsPrimary("harry.potter")).isFalse();
+        guard.purgeExpired();
+        assertThat(guard.readsPrimary("harry.potter")).isFalse();
+    }
+
+    private String instance() {
+        return (String) entityManager.createNativeQuery(INSTANCE).getSingleResult();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS instance (name VARCHAR(16))");
+        template.update("DELETE FROM instance");
+        template.update("INSERT INTO instance (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
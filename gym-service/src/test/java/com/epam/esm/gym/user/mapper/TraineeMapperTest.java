@@ -27,7 +27,6 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -448,18 +447,6 @@ class TraineeMapperTest {
         assertTrue(result.trainers().isEmpty());
     }
 
-    @Test
-    void testToTrainersWithNullInput() {
-        Set<Trainer> result = traineeMapper.toTrainers(null);
-        assertTrue(result.isEmpty());
-    }
-
-    @Test
-    void testToTrainersWithEmptyList() {
-        Set<Trainer> result = traineeMapper.toTrainers(Collections.emptyList());
-        assertTrue(result.isEmpty());
-    }
-
     @Test
     void testToTrainerProfileWithNullTrainer() {
         NullPointerException thrown = assertThrows(NullPointerException.class,
@@ -1,5 +1,6 @@
 package com.epam.esm.gym.user.provider.trainee;
 
+import com.epam.esm.gym.user.dto.training.TrainingProfile;
 import com.epam.esm.gym.user.entity.Specialization;
 import com.epam.esm.gym.user.entity.Trainee;
 import com.epam.esm.gym.user.entity.Trainer;
@@ -42,12 +43,14 @@ public class TraineeTrainingArgumentsProvider implements ArgumentsProvider {
         );
 
         Training training = Training.builder()
+                .id(1L)
                 .trainingDate(LocalDate.of(2024, 1, 10))
                 .trainer(Trainer.builder().user(User.builder().username("Minerva McGonagall").build()).build())
                 .type(TrainingType.builder().specialization(Specialization.TRANSFIGURATION).build())
                 .build();
 
         Trainee trainee = Trainee.builder()
+                .id(1L)
                 .user(User.builder().username("Harry.Potter").build())
                 .trainings(Set.of(training))
                 .build();
@@ -69,10 +72,27 @@ public class TraineeTrainingArgumentsProvider implements ArgumentsProvider {
                 "trainerName", "Minerva McGonagall"
         );
 
+        TrainingProfile minervaFilter = TrainingProfile.builder()
+                .periodFrom(LocalDate.of(2024, 1, 1))
+                .periodTo(LocalDate.of(2024, 12, 31))
+                .trainerName("Minerva McGonagall")
+                .trainingType("TRANSFIGURATION")
+                .build();
+
+        TrainingProfile periodFilter = TrainingProfile.builder()
+                .periodFrom(LocalDate.of(2024, 1, 1))
+                .periodTo(LocalDate.of(2024, 12, 31))
+                .trainerName("Minerva McGonagall")
+                .build();
+
+        TrainingProfile gonagallFilter = TrainingProfile.builder()
+                .trainerName("Minerva McGonagall")
+                .build();
+
         return Stream.of(
-                Arguments.of(minerva, trainee, training, trainingResponse),
-                Arguments.of(period, trainee, training, trainingResponse),
-                Arguments.of(gonagall, trainee, training, trainingResponse)
+                Arguments.of(minerva, minervaFilter, trainee, training, trainingResponse),
+                Arguments.of(period, periodFilter, trainee, training, trainingResponse),
+                Arguments.of(gonagall, gonagallFilter, trainee, training, trainingResponse)
         );
     }
 }
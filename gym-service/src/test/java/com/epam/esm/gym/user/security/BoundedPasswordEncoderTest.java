@@ -0,0 +1,148 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.user.exception.PasswordHashingUnavailableException;
+import com.epam.esm.gym.user.security.service.BoundedPasswordEncoder;
+import com.epam.esm.gym.user.security.service.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link BoundedPasswordEncoder} class.
+ * Verifies hashing on the bounded executor, load shedding and cost upgrades.
+ */
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry registry;
+    private PasswordHashingProperties properties;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new PasswordHashingProperties();
+        properties.setStrength(4);
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    void testEncodeAndMatchOnExecutor() {
+        encoder = new BoundedPasswordEncoder(properties, registry);
+
+        String hash = encoder.encode("password");
+
+        assertTrue(encoder.matches("password", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(1, registry.get(BoundedPasswordEncoder.HASH_TIME).tag("operation", "encode").timer().count());
+        assertEquals(2, registry.get(BoundedPasswordEncoder.QUEUE_WAIT).tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void testEncodeAllHashesInOrder() {
+        properties.setThreads(2);
+        properties.setQueueCapacity(2);
+        encoder = new BoundedPasswordEncoder(properties, registry);
+        List<String> passwords = List.of("one", "two", "three", "four", "five");
+
+        List<String> hashes = encoder.encodeAll(passwords);
+
+        assertEquals(passwords.size(), hashes.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertTrue(encoder.matches(passwords.get(i), hashes.get(i)));
+        }
+        assertEquals(5, registry.get(BoundedPasswordEncoder.HASH_TIME).tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        encoder = new BoundedPasswordEncoder(blocking, properties, registry);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"), callers);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"), callers);
+        while (registry.get(BoundedPasswordEncoder.QUEUE_DEPTH).gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("third"));
+        assertEquals(1, registry.get(BoundedPasswordEncoder.REJECTED)
+                .tags("operation", "encode", "reason", "saturated").counter().count());
+
+        release.countDown();
+        PasswordEncoder verifier = new BCryptPasswordEncoder(4);
+        assertTrue(verifier.matches("first", running.get(5, TimeUnit.SECONDS)));
+        assertTrue(verifier.matches("second", queued.get(5, TimeUnit.SECONDS)));
+        callers.shutdown();
+    }
+
+    @Test
+    void testTimesOut() {
+        properties.setTimeout(50);
+        PasswordEncoder slow = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(slow, properties, registry);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("password", "hash"));
+        assertEquals(1, registry.get(BoundedPasswordEncoder.REJECTED)
+                .tags("operation", "matches", "reason", "timeout").counter().count());
+    }
+
+    @Test
+    void testUpgradeEncodingWhenCostChanges() {
+        encoder = new BoundedPasswordEncoder(properties, registry);
+        String weak = new BCryptPasswordEncoder(4).encode("password");
+        String strong = new BCryptPasswordEncoder(5).encode("password");
+
+        assertFalse(encoder.upgradeEncoding(weak));
+        assertTrue(encoder.upgradeEncoding(strong));
+        properties.setStrength(5);
+        assertTrue(encoder.upgradeEncoding(weak));
+        assertFalse(encoder.upgradeEncoding(strong));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+}
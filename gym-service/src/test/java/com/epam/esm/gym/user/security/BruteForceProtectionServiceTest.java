@@ -1,36 +1,79 @@
 package com.epam.esm.gym.user.security;
 
+import com.epam.esm.gym.user.security.service.BruteForceProperties;
 import com.epam.esm.gym.user.security.service.BruteForceProtectionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BruteForceProtectionServiceTest {
 
-    private final BruteForceProtectionService bruteForceProtectionService = new BruteForceProtectionService();
     private static final String username = "username";
+    private static final String ip = "10.0.0.1";
+
+    private SimpleMeterRegistry registry;
+    private BruteForceProperties properties;
+    private BruteForceProtectionService bruteForceProtectionService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new BruteForceProperties();
+        properties.setMaxIpAttempts(5);
+        bruteForceProtectionService = new BruteForceProtectionService(properties, registry);
+    }
 
     @Test
     void testRegisterFailedAttempt() {
-        bruteForceProtectionService.registerFailedAttempt(username);
-        bruteForceProtectionService.registerFailedAttempt(username);
-        bruteForceProtectionService.registerFailedAttempt(username);
-        assertTrue(bruteForceProtectionService.isLocked(username));
+        bruteForceProtectionService.registerFailedAttempt(username, ip);
+        bruteForceProtectionService.registerFailedAttempt(username, ip);
+        bruteForceProtectionService.registerFailedAttempt(username, ip);
+        assertTrue(bruteForceProtectionService.isLocked(username, null));
+        assertFalse(bruteForceProtectionService.isLocked("other", ip));
+        assertEquals(1, registry.counter(BruteForceProtectionService.LOCKOUTS, "scope", "username").count());
+        assertEquals(1, registry.counter(BruteForceProtectionService.REJECTED, "scope", "username").count());
     }
 
     @Test
     void testIsLockedNotLocked() {
-        assertFalse(bruteForceProtectionService.isLocked(username));
+        assertFalse(bruteForceProtectionService.isLocked(username, ip));
+    }
+
+    @Test
+    void testPasswordSprayLocksClientIp() {
+        for (int i = 0; i < 5; i++) {
+            bruteForceProtectionService.registerFailedAttempt(username + i, ip);
+        }
+        assertTrue(bruteForceProtectionService.isLocked("fresh", ip));
+        assertFalse(bruteForceProtectionService.isLocked("fresh", "10.0.0.2"));
+        assertEquals(1, registry.counter(BruteForceProtectionService.LOCKOUTS, "scope", "ip").count());
     }
 
     @Test
     void testResetAttempts() {
-        bruteForceProtectionService.registerFailedAttempt(username);
-        bruteForceProtectionService.registerFailedAttempt(username);
-        bruteForceProtectionService.registerFailedAttempt(username);
-        assertTrue(bruteForceProtectionService.isLocked(username));
+        bruteForceProtectionService.registerFailedAttempt(username, ip);
+        bruteForceProtectionService.registerFailedAttempt(username, ip);
+        bruteForceProtectionService.registerFailedAttempt(username, ip);
+        assertTrue(bruteForceProtectionService.isLocked(username, ip));
         bruteForceProtectionService.resetAttempts(username);
-        assertFalse(bruteForceProtectionService.isLocked(username));
+        assertFalse(bruteForceProtectionService.isLocked(username, ip));
+    }
+
+    @Test
+    void testTrackedUsernamesAreBounded() {
+        properties.setMaxTrackedKeys(10);
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        bruteForceProtectionService = new BruteForceProtectionService(properties, meters);
+        for (int i = 0; i < 1000; i++) {
+            bruteForceProtectionService.registerFailedAttempt("user" + i, null);
+        }
+        double tracked = meters.get(BruteForceProtectionService.TRACKED).tag("scope", "username").gauge().value();
+        assertTrue(tracked <= 10);
+        assertEquals(990, meters.get(BruteForceProtectionService.EVICTIONS)
+                .tag("scope", "username").functionCounter().count());
     }
 }
@@ -0,0 +1,199 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.user.dao.JpaSigningKeyDao;
+import com.epam.esm.gym.user.dto.auth.UserPrincipal;
+import com.epam.esm.gym.user.entity.RoleType;
+import com.epam.esm.gym.user.entity.User;
+import com.epam.esm.gym.user.security.filter.JwtAuthenticationFilter;
+import com.epam.esm.gym.user.security.service.ClaimsCacheProperties;
+import com.epam.esm.gym.user.security.service.JwtProperties;
+import com.epam.esm.gym.user.security.service.JwtProvider;
+import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
+import com.epam.esm.gym.user.security.service.SigningKeyProperties;
+import com.epam.esm.gym.user.security.service.SigningKeyService;
+import com.epam.esm.gym.user.security.service.TokenDigest;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
+import com.epam.esm.gym.user.service.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String USERNAME = "Remus.Lupin";
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int BENCHMARK_REQUESTS = 5000;
+    private static final String KEY_ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private JwtProperties jwtProperties;
+
+    @Mock
+    private SecurityUserDetailsService userDetailsService;
+
+    private JwtProvider jwtProvider;
+    private ClaimsCacheProperties cacheProperties;
+    private TokenRevocationIndex revocationIndex;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        revocationIndex = new TokenRevocationIndex(tokenService, meterRegistry);
+        jwtProvider = spy(new JwtProvider(jwtProperties, tokenService, signingKeys(), revocationIndex));
+        cacheProperties = new ClaimsCacheProperties();
+        VerifiedClaimsCache claimsCache = new VerifiedClaimsCache(jwtProvider, cacheProperties, meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtProvider, userDetailsService, claimsCache, revocationIndex);
+        token = jwtProvider.generateToken(USERNAME, new HashMap<>());
+        User user = User.builder().username(USERNAME).permission(RoleType.ROLE_TRAINER).active(true).build();
+        lenient().when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(new UserPrincipal(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testRepeatedRequestsVerifyTokenOnce() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = authenticate(token);
+            assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        }
+
+        verify(jwtProvider, times(1)).verify(token);
+    }
+
+    @Test
+    void testAuthenticationIsSetFromVerifiedClaims() throws Exception {
+        MockHttpServletRequest request = bearerRequest(token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(USERNAME, SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    void testTokenSignedWithAnotherKeyIsRejected() throws Exception {
+        String forged = new JwtProvider(jwtProperties, tokenService, signingKeys(), revocationIndex)
+                .generateToken(USERNAME, new HashMap<>());
+
+        MockHttpServletResponse response = authenticate(forged);
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testClaimsAuthenticationSkipsUserLookup() throws Exception {
+        when(jwtProperties.isClaimsAuthentication()).thenReturn(true);
+        String roleToken = jwtProvider.generateToken(USERNAME, Map.of(JwtProvider.ROLES_CLAIM, RoleType.ROLE_TRAINER));
+
+        MockHttpServletResponse response = authenticate(roleToken);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(RoleType.ROLE_TRAINER.getGrantedAuthoritySet(),
+                Set.copyOf(SecurityContextHolder.getContext().getAuthentication().getAuthorities()));
+        verify(userDetailsService, never()).loadUserByUsername(USERNAME);
+    }
+
+    @Test
+    void testRevokedTokenIsRejected() throws Exception {
+        revocationIndex.revokeToken(TokenDigest.of(token), System.currentTimeMillis() + 60000);
+
+        MockHttpServletResponse response = authenticate(token);
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testTokenIssuedBeforeUserRevocationIsRejected() throws Exception {
+        String oldToken = jwtProvider.generateToken(USERNAME, new HashMap<>());
+        revocationIndex.revokeUser(USERNAME, System.currentTimeMillis() / 1000);
+        String newToken = jwtProvider.generateToken(USERNAME, new HashMap<>());
+
+        MockHttpServletResponse response = authenticate(oldToken);
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(HttpServletResponse.SC_OK, authenticate(newToken).getStatus());
+    }
+
+    @Test
+    void testBenchmarkCachedAgainstUncachedVerification() throws Exception {
+        cacheProperties.setEnabled(false);
+        long uncached = nanosPerRequest();
+        cacheProperties.setEnabled(true);
+        long cached = nanosPerRequest();
+
+        when(jwtProperties.isClaimsAuthentication()).thenReturn(true);
+        token = jwtProvider.generateToken(USERNAME, Map.of(JwtProvider.ROLES_CLAIM, RoleType.ROLE_TRAINER));
+        long claimsOnly = nanosPerRequest();
+
+        log.info("JwtAuthenticationFilter over {} requests: uncached {} ns/request, cached {} ns/request, "
+                + "cached without user lookup {} ns/request", BENCHMARK_REQUESTS, uncached, cached, claimsOnly);
+    }
+
+    private long nanosPerRequest() throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            authenticate(token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_REQUESTS; i++) {
+            assertEquals(HttpServletResponse.SC_OK, authenticate(token).getStatus());
+        }
+        return (System.nanoTime() - start) / BENCHMARK_REQUESTS;
+    }
+
+    private MockHttpServletResponse authenticate(String jwt) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(bearerRequest(jwt), response, new MockFilterChain());
+        return response;
+    }
+
+    private SigningKeyService signingKeys() {
+        SigningKeyProperties properties = new SigningKeyProperties();
+        properties.setKeyEncryptionKey(KEY_ENCRYPTION_KEY);
+        return new SigningKeyService(mock(JpaSigningKeyDao.class), properties);
+    }
+
+    private MockHttpServletRequest bearerRequest(String jwt) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/trainers");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        return request;
+    }
+}
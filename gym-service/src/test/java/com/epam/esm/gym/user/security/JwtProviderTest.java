@@ -1,19 +1,33 @@
 package com.epam.esm.gym.user.security;
 
+import com.epam.esm.gym.user.dao.JpaSigningKeyDao;
+import com.epam.esm.gym.user.dto.auth.AuthenticationResponse;
+import com.epam.esm.gym.user.entity.RoleType;
+import com.epam.esm.gym.user.entity.SigningKey;
 import com.epam.esm.gym.user.entity.Token;
 import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.user.dto.auth.UserPrincipal;
 import com.epam.esm.gym.user.security.service.JwtProperties;
 import com.epam.esm.gym.user.security.service.JwtProvider;
+import com.epam.esm.gym.user.security.service.SigningKeyProperties;
+import com.epam.esm.gym.user.security.service.SigningKeyService;
+import com.epam.esm.gym.user.security.service.TokenDigest;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
 import com.epam.esm.gym.user.service.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -22,9 +36,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+@Slf4j
 @ExtendWith(MockitoExtension.class)
 class JwtProviderTest {
 
@@ -37,19 +54,32 @@ class JwtProviderTest {
     @Mock
     private JwtProperties jwtProperties;
 
+    @Mock
+    private JpaSigningKeyDao signingKeyDao;
+
     @InjectMocks
     private JwtProvider jwtProvider;
 
     private static final String accessToken = "accessToken";
     private static final String USERNAME = "testUser";
     private static final String TOKEN = "testToken";
+    private static final String KEY_ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+    private static final int BENCHMARK_WARMUP = 2000;
+    private static final int BENCHMARK_LOGINS = 5000;
     private Set<Token> tokens;
     private Token token;
     private User user;
+    private SigningKeyProperties signingKeyProperties;
+    private SigningKeyService signingKeyService;
+    private TokenRevocationIndex revocationIndex;
 
     @BeforeEach
     void setUp() {
-        jwtProvider = new JwtProvider(jwtProperties, tokenService);
+        signingKeyProperties = new SigningKeyProperties();
+        signingKeyProperties.setKeyEncryptionKey(KEY_ENCRYPTION_KEY);
+        signingKeyService = new SigningKeyService(signingKeyDao, signingKeyProperties);
+        revocationIndex = new TokenRevocationIndex(tokenService, new SimpleMeterRegistry());
+        jwtProvider = new JwtProvider(jwtProperties, tokenService, signingKeyService, revocationIndex);
         token = jwtProvider.getToken(userPrincipal, accessToken);
         Token token2 = jwtProvider.getToken(userPrincipal, TOKEN);
         tokens = Set.of(token, token2);
@@ -92,13 +122,8 @@ class JwtProviderTest {
 
     @Test
     void testRevokeAllUserTokens() {
-        when(tokenService.findAllValidAccessTokenByUserId(user.getId())).thenReturn(tokens);
         jwtProvider.revokeAllUserTokens(user);
-        tokens.forEach(jwt -> {
-            assertTrue(jwt.isExpired());
-            assertTrue(jwt.isRevoked());
-        });
-        verify(tokenService).saveAll(tokens);
+        verify(tokenService).revokeAllByUserId(user.getId());
     }
 
     @Test
@@ -138,6 +163,74 @@ class JwtProviderTest {
     void testGetToken() {
         assertNotNull(token);
         assertEquals(userPrincipal.user(), token.getUser());
-        assertEquals(accessToken, token.getAccessToken());
+        assertEquals(TokenDigest.of(accessToken), token.getTokenDigest());
+        assertNotNull(token.getExpiresAt());
+    }
+
+    @Test
+    void testAuthenticationResponseReusesAccessTokenAsRefreshToken() {
+        User trainer = User.builder().username(USERNAME).permission(RoleType.ROLE_TRAINER).build();
+        UserPrincipal principal = new UserPrincipal(trainer);
+        String jwt = jwtProvider.generateToken(principal);
+
+        AuthenticationResponse response = jwtProvider.getAuthenticationResponse(principal, jwt, 1000L);
+
+        assertEquals(jwt, response.getAccessToken());
+        assertEquals(jwt, response.getRefreshToken());
+        assertEquals(USERNAME, response.getUsername());
+    }
+
+    @Test
+    void testTokenIsSignedWithActiveKeyId() {
+        String jwt = jwtProvider.generateToken(USERNAME, new HashMap<>());
+
+        String header = new String(Base64.getUrlDecoder().decode(jwt.substring(0, jwt.indexOf('.'))));
+
+        assertTrue(header.contains("\"alg\":\"RS256\""));
+        assertTrue(header.contains("\"kid\":\"" + signingKeyService.currentKey().kid() + "\""));
+    }
+
+    @Test
+    void testTokenVerifiesOnInstanceSharingKeys() {
+        String jwt = jwtProvider.generateToken(USERNAME, new HashMap<>());
+        ArgumentCaptor<SigningKey> stored = ArgumentCaptor.forClass(SigningKey.class);
+        verify(signingKeyDao).save(stored.capture());
+        JpaSigningKeyDao sharedDao = mock(JpaSigningKeyDao.class);
+        when(sharedDao.findByExpiresAtAfterOrderByCreatedAtDesc(any(LocalDateTime.class)))
+                .thenReturn(List.of(stored.getValue()));
+        JwtProvider otherInstance = new JwtProvider(jwtProperties, tokenService,
+                new SigningKeyService(sharedDao, signingKeyProperties), revocationIndex);
+
+        assertEquals(USERNAME, otherInstance.extractUserName(jwt));
+    }
+
+    @Test
+    void testBenchmarkLoginTokenIssuance() {
+        UserPrincipal principal = new UserPrincipal(
+                User.builder().id(1).username(USERNAME).permission(RoleType.ROLE_TRAINER).build());
+        long separateRefresh = loginsPerSecond(() -> {
+            String jwt = jwtProvider.generateToken(principal);
+            jwtProvider.getToken(principal, jwt);
+            jwtProvider.generateToken(principal);
+        });
+        long consolidated = loginsPerSecond(() -> {
+            String jwt = jwtProvider.generateToken(principal);
+            jwtProvider.getToken(principal, jwt);
+            jwtProvider.getAuthenticationResponse(principal, jwt, 1000L);
+        });
+
+        log.info("Login token issuance on one core: separate refresh token {} logins/s, "
+                + "consolidated {} logins/s", separateRefresh, consolidated);
+    }
+
+    private long loginsPerSecond(Runnable login) {
+        for (int i = 0; i < BENCHMARK_WARMUP; i++) {
+            login.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_LOGINS; i++) {
+            login.run();
+        }
+        return BENCHMARK_LOGINS * 1_000_000_000L / Math.max(System.nanoTime() - start, 1);
     }
 }
@@ -0,0 +1,161 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.user.dao.JpaSigningKeyDao;
+import com.epam.esm.gym.user.entity.SigningKey;
+import com.epam.esm.gym.user.security.service.JwtSigningKey;
+import com.epam.esm.gym.user.security.service.SigningKeyProperties;
+import com.epam.esm.gym.user.security.service.SigningKeyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link SigningKeyService} class.
+ * Verifies key creation, pre-published rotation and sharing keys between instances.
+ */
+@ExtendWith(MockitoExtension.class)
+class SigningKeyServiceTest {
+
+    private static final String KEY_ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    @Mock
+    private JpaSigningKeyDao dao;
+
+    private SigningKeyProperties properties;
+    private SigningKeyService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SigningKeyProperties();
+        properties.setKeyEncryptionKey(KEY_ENCRYPTION_KEY);
+        service = new SigningKeyService(dao, properties);
+    }
+
+    @Test
+    void testCurrentKeyIsCreatedOnceAndStored() {
+        JwtSigningKey key = service.currentKey();
+
+        assertEquals(key, service.currentKey());
+        verify(dao, times(1)).save(any(SigningKey.class));
+        assertEquals(List.of(key), service.publishedKeys());
+    }
+
+    @Test
+    void testSuccessorIsPublishedBeforeRotation() {
+        properties.setRotationInterval(60000);
+        properties.setPrePublish(120000);
+        JwtSigningKey current = service.currentKey();
+
+        service.rotate();
+
+        List<JwtSigningKey> published = service.publishedKeys();
+        assertEquals(2, published.size());
+        JwtSigningKey successor = published.get(0);
+        assertEquals(current.retiresAt(), successor.activatesAt());
+        assertEquals(current, service.currentKey());
+    }
+
+    @Test
+    void testUnknownKeyIsLoadedFromDatabase() {
+        JpaSigningKeyDao otherDao = mock(JpaSigningKeyDao.class);
+        new SigningKeyService(otherDao, properties).currentKey();
+        ArgumentCaptor<SigningKey> stored = ArgumentCaptor.forClass(SigningKey.class);
+        verify(otherDao).save(stored.capture());
+        when(dao.findByExpiresAtAfterOrderByCreatedAtDesc(any(LocalDateTime.class)))
+                .thenReturn(List.of(stored.getValue()));
+
+        assertTrue(service.publicKey(stored.getValue().getKid()).isPresent());
+        assertTrue(service.publicKey("unknown").isEmpty());
+        verify(dao, times(1)).findByExpiresAtAfterOrderByCreatedAtDesc(any(LocalDateTime.class));
+    }
+
+    @Test
+    void testRotationFailsAndKeepsPreviousKeyWhenKeyCannotBeStored() {
+        properties.setRotationInterval(60000);
+        properties.setPrePublish(120000);
+        JwtSigningKey current = service.currentKey();
+        when(dao.save(any(SigningKey.class))).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, service::rotate);
+
+        assertEquals(List.of(current), service.publishedKeys());
+        assertEquals(current, service.currentKey());
+    }
+
+    @Test
+    void testNoKeyIsActiveWhenFirstKeyCannotBeStored() {
+        when(dao.save(any(SigningKey.class))).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, service::currentKey);
+        assertTrue(service.publishedKeys().isEmpty());
+    }
+
+    @Test
+    void testPrivateKeyIsStoredEncrypted() {
+        JwtSigningKey key = service.currentKey();
+        ArgumentCaptor<SigningKey> stored = ArgumentCaptor.forClass(SigningKey.class);
+        verify(dao).save(stored.capture());
+
+        String privateKey = stored.getValue().getPrivateKey();
+        assertNotEquals(Base64.getEncoder().encodeToString(key.privateKey().getEncoded()), privateKey);
+        assertFalse(privateKey.contains(Base64.getEncoder().encodeToString(key.privateKey().getEncoded())));
+    }
+
+    @Test
+    void testEncryptedKeyIsBoundToKeyEncryptionKeyAndKid() {
+        service.currentKey();
+        ArgumentCaptor<SigningKey> stored = ArgumentCaptor.forClass(SigningKey.class);
+        verify(dao).save(stored.capture());
+        SigningKeyProperties otherProperties = new SigningKeyProperties();
+        otherProperties.setKeyEncryptionKey(Base64.getEncoder().encodeToString(new byte[32]));
+        JpaSigningKeyDao otherDao = mock(JpaSigningKeyDao.class);
+        when(otherDao.findByExpiresAtAfterOrderByCreatedAtDesc(any(LocalDateTime.class)))
+                .thenReturn(List.of(stored.getValue()));
+
+        assertTrue(new SigningKeyService(otherDao, otherProperties).publicKey(stored.getValue().getKid()).isEmpty());
+
+        SigningKey moved = stored.getValue();
+        moved.setKid("moved");
+        when(dao.findByExpiresAtAfterOrderByCreatedAtDesc(any(LocalDateTime.class))).thenReturn(List.of(moved));
+        assertTrue(new SigningKeyService(dao, properties).publicKey("moved").isEmpty());
+    }
+
+    @Test
+    void testMissingKeyEncryptionKeyIsRejected() {
+        SigningKeyProperties unconfigured = new SigningKeyProperties();
+
+        assertThrows(IllegalStateException.class, () -> new SigningKeyService(dao, unconfigured));
+        unconfigured.setKeyEncryptionKey(Base64.getEncoder().encodeToString(new byte[16]));
+        assertThrows(IllegalStateException.class, () -> new SigningKeyService(dao, unconfigured));
+    }
+
+    @Test
+    void testJwkContainsPublicKeyOnly() {
+        Map<String, Object> jwk = service.currentKey().toJwk();
+
+        assertEquals("RSA", jwk.get("kty"));
+        assertEquals("RS256", jwk.get("alg"));
+        assertEquals("sig", jwk.get("use"));
+        assertEquals("AQAB", jwk.get("e"));
+        assertEquals(6, jwk.size());
+    }
+}
@@ -0,0 +1,173 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.user.security.service.SlidingWindowRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link SlidingWindowRateLimiter} class.
+ * Time is driven by a manual clock; the window is 10 seconds split into 10 buckets.
+ */
+class SlidingWindowRateLimiterTest {
+
+    private static final String KEY = "key";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private SlidingWindowRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new SlidingWindowRateLimiter(3, 10_000, 10, 60_000, 100, clock::get);
+    }
+
+    @Test
+    void testLocksOnceLimitIsReached() {
+        assertFalse(limiter.recordFailure(KEY));
+        assertFalse(limiter.recordFailure(KEY));
+        assertTrue(limiter.recordFailure(KEY));
+        assertFalse(limiter.recordFailure(KEY));
+        assertTrue(limiter.isLocked(KEY));
+    }
+
+    @Test
+    void testFailuresOutsideWindowAreNotCounted() {
+        limiter.recordFailure(KEY);
+        limiter.recordFailure(KEY);
+        clock.addAndGet(10_000);
+
+        assertEquals(0, limiter.attempts(KEY));
+        assertFalse(limiter.recordFailure(KEY));
+        assertFalse(limiter.isLocked(KEY));
+    }
+
+    @Test
+    void testWindowSlidesBucketByBucket() {
+        limiter.recordFailure(KEY);
+        clock.addAndGet(5_000);
+        limiter.recordFailure(KEY);
+        clock.addAndGet(5_000);
+
+        assertEquals(1, limiter.attempts(KEY));
+    }
+
+    @Test
+    void testLockExpires() {
+        limiter.recordFailure(KEY);
+        limiter.recordFailure(KEY);
+        limiter.recordFailure(KEY);
+        clock.addAndGet(60_001);
+
+        assertFalse(limiter.isLocked(KEY));
+    }
+
+    @Test
+    void testPurgeDropsExpiredKeysOnly() {
+        limiter.recordFailure("stale");
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("locked");
+        }
+        clock.addAndGet(20_000);
+        limiter.recordFailure("recent");
+
+        limiter.purgeExpired();
+
+        assertEquals(2, limiter.size());
+        assertTrue(limiter.isLocked("locked"));
+        assertEquals(1, limiter.attempts("recent"));
+    }
+
+    @Test
+    void testKeysAreCapped() {
+        for (int i = 0; i < 1000; i++) {
+            limiter.recordFailure("key" + i);
+        }
+
+        assertEquals(100, limiter.size());
+        assertEquals(900, limiter.evictions());
+    }
+
+    @Test
+    void testLockedKeysAreNeverEvicted() {
+        limiter = capped(3);
+        limiter.recordFailure("unlocked");
+
+        limiter.recordFailure("new");
+
+        assertEquals(4, limiter.size());
+        assertEquals(0, limiter.attempts("unlocked"));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.isLocked("locked" + i));
+        }
+        assertEquals(1, limiter.evictions());
+    }
+
+    @Test
+    void testNewKeyIsNotTrackedWhenAllKeysAreLocked() {
+        limiter = capped(4);
+
+        assertFalse(limiter.recordFailure("new"));
+
+        assertEquals(4, limiter.size());
+        assertEquals(0, limiter.attempts("new"));
+        assertEquals(0, limiter.evictions());
+        assertEquals(1, limiter.untracked());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.isLocked("locked" + i));
+        }
+    }
+
+    @Test
+    void testConcurrentFailuresAreCountedExactly() throws Exception {
+        limiter = new SlidingWindowRateLimiter(Integer.MAX_VALUE, 10_000, 10, 60_000, 100, clock::get);
+        int threads = 8;
+        int failures = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < failures; i++) {
+                    limiter.recordFailure(KEY);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(threads * failures, limiter.attempts(KEY));
+    }
+
+    /**
+     * Creates a limiter capped at four keys, locked after two failures, that already tracks the given
+     * number of locked keys, seen before any key added later.
+     *
+     * @param locked the number of locked keys
+     * @return the limiter
+     */
+    private SlidingWindowRateLimiter capped(int locked) {
+        SlidingWindowRateLimiter capped = new SlidingWindowRateLimiter(2, 10_000, 10, 60_000, 4, clock::get);
+        for (int i = 0; i < locked; i++) {
+            capped.recordFailure("locked" + i);
+            capped.recordFailure("locked" + i);
+        }
+        clock.addAndGet(1_000);
+        return capped;
+    }
+}
@@ -2,6 +2,7 @@ package com.epam.esm.gym.user.security;
 
 import com.epam.esm.gym.user.dao.JpaTokenDao;
 import com.epam.esm.gym.user.entity.Token;
+import com.epam.esm.gym.user.security.service.TokenDigest;
 import com.epam.esm.gym.user.service.profile.TokenProfileService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,10 +11,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,10 +54,25 @@ class TokenProfileServiceTest {
 
     @Test
     void testFindByAccessToken() {
-        when(dao.findByAccessToken("jwt")).thenReturn(Optional.of(token));
+        when(dao.findByTokenDigest(TokenDigest.of("jwt"))).thenReturn(Optional.of(token));
         Optional<Token> result = tokenService.findByAccessToken("jwt");
         assertEquals(Optional.of(token), result);
-        verify(dao).findByAccessToken("jwt");
+        verify(dao).findByTokenDigest(TokenDigest.of("jwt"));
+    }
+
+    @Test
+    void testRevokeAllByUserId() {
+        when(dao.revokeAllByUserId(1)).thenReturn(2);
+        int result = tokenService.revokeAllByUserId(1);
+        assertEquals(2, result);
+        verify(dao).revokeAllByUserId(1);
+    }
+
+    @Test
+    void testFindRevokedTokenDigests() {
+        when(dao.findRevokedDigests(any(LocalDateTime.class))).thenReturn(List.of("digest"));
+        List<String> result = tokenService.findRevokedTokenDigests();
+        assertEquals(List.of("digest"), result);
     }
 
     @Test
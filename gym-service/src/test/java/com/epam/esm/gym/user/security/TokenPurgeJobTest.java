@@ -0,0 +1,92 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.user.dao.JpaTokenDao;
+import com.epam.esm.gym.user.security.service.TokenPurgeJob;
+import com.epam.esm.gym.user.security.service.TokenPurgeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link TokenPurgeJob} class.
+ * Verifies that expired tokens are deleted in bounded batches.
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenPurgeJobTest {
+
+    @Mock
+    private JpaTokenDao dao;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TokenPurgeProperties properties;
+    private SimpleMeterRegistry registry;
+    private TokenPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenPurgeProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatches(3);
+        registry = new SimpleMeterRegistry();
+        job = new TokenPurgeJob(dao, properties, transactionManager, registry);
+    }
+
+    @Test
+    void testPurgeStopsAtPartialBatch() {
+        when(dao.findExpiredIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1, 2), List.of(3));
+        when(dao.deleteByIdIn(anyList())).thenReturn(2, 1);
+
+        int purged = job.purgeExpired();
+
+        assertEquals(3, purged);
+        verify(dao, times(2)).deleteByIdIn(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3, registry.counter(TokenPurgeJob.PURGED).count());
+    }
+
+    @Test
+    void testPurgeIsBoundedByMaxBatches() {
+        when(dao.findExpiredIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1, 2));
+        when(dao.deleteByIdIn(anyList())).thenReturn(2);
+
+        int purged = job.purgeExpired();
+
+        assertEquals(6, purged);
+        verify(dao, times(3)).deleteByIdIn(anyList());
+    }
+
+    @Test
+    void testPurgeSkipsDeleteWhenNothingExpired() {
+        when(dao.findExpiredIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, job.purgeExpired());
+        verify(dao, never()).deleteByIdIn(anyList());
+    }
+
+    @Test
+    void testPurgeDisabled() {
+        properties.setEnabled(false);
+
+        assertEquals(0, job.purgeExpired());
+        verifyNoInteractions(dao, transactionManager);
+    }
+}
@@ -0,0 +1,116 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.jms.dto.TokenRevocation;
+import com.epam.esm.gym.user.security.service.TokenDigest;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.service.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static com.epam.esm.gym.user.security.service.TokenRevocationIndex.REVOKED_TOKENS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationIndexTest {
+
+    private static final String USERNAME = "Remus.Lupin";
+    private static final String DIGEST = TokenDigest.of("token");
+
+    @Mock
+    private TokenService tokenService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new TokenRevocationIndex(tokenService, meterRegistry);
+    }
+
+    @Test
+    void testTokenWithoutRevocationIsNotRevoked() {
+        assertFalse(index.isRevoked(DIGEST, USERNAME, new Date()));
+    }
+
+    @Test
+    void testRevokedTokenIsRevoked() {
+        index.revokeToken(DIGEST, System.currentTimeMillis() + 60000);
+
+        assertTrue(index.isRevoked(DIGEST, USERNAME, new Date()));
+        assertFalse(index.isRevoked(TokenDigest.of("other"), USERNAME, new Date()));
+    }
+
+    @Test
+    void testTokenIssuedBeforeUserRevocationIsRevoked() {
+        index.revokeUser(USERNAME, System.currentTimeMillis() / 1000);
+
+        assertTrue(index.isRevoked(DIGEST, USERNAME, new Date(System.currentTimeMillis() - 5000)));
+        assertTrue(index.isRevoked(DIGEST, USERNAME, null));
+        assertFalse(index.isRevoked(DIGEST, "Minerva.McGonagall", new Date(System.currentTimeMillis() - 5000)));
+    }
+
+    @Test
+    void testTokenIssuedInTheSecondOfTheUserRevocationIsRevoked() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        index.revokeUser(USERNAME, epochSecond);
+
+        assertTrue(index.isRevoked(DIGEST, USERNAME, new Date(epochSecond * 1000 + 999)));
+        assertFalse(index.isRevoked(DIGEST, USERNAME, new Date((epochSecond + 1) * 1000)));
+    }
+
+    @Test
+    void testTokenIssuedAfterUserRevocationIsDatedPastTheEpochSecond() {
+        long now = System.currentTimeMillis();
+        index.revokeUser(USERNAME, now / 1000);
+
+        long issuedAt = index.issueTime(USERNAME, now);
+
+        assertEquals((now / 1000 + 1) * 1000, issuedAt);
+        assertFalse(index.isRevoked(DIGEST, USERNAME, new Date(issuedAt)));
+        assertEquals(now, index.issueTime("Minerva.McGonagall", now));
+        assertEquals(now + 1000, index.issueTime(USERNAME, now + 1000));
+    }
+
+    @Test
+    void testApplyAnnouncedRevocations() {
+        index.apply(TokenRevocation.builder().digest(DIGEST).expiresAt(System.currentTimeMillis() + 60000).build());
+        index.apply(TokenRevocation.builder()
+                .username(USERNAME)
+                .revokedBefore(System.currentTimeMillis() / 1000)
+                .build());
+
+        assertTrue(index.isRevoked(DIGEST, "Minerva.McGonagall", new Date()));
+        assertTrue(index.isRevoked(TokenDigest.of("other"), USERNAME, new Date(System.currentTimeMillis() - 5000)));
+    }
+
+    @Test
+    void testWarmUpLoadsRevokedTokens() {
+        when(tokenService.findRevokedTokenDigests()).thenReturn(List.of(DIGEST));
+
+        index.warmUp();
+
+        assertTrue(index.isRevoked(DIGEST, USERNAME, new Date()));
+    }
+
+    @Test
+    void testPurgeRemovesExpiredTokens() {
+        index.revokeToken(DIGEST, System.currentTimeMillis() - 1);
+        index.revokeToken(TokenDigest.of("other"), System.currentTimeMillis() + 60000);
+
+        index.purgeExpired();
+
+        assertFalse(index.isRevoked(DIGEST, USERNAME, new Date()));
+        assertEquals(1, meterRegistry.get(REVOKED_TOKENS).gauge().value());
+    }
+}
@@ -0,0 +1,85 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.jms.dto.TokenRevocation;
+import com.epam.esm.gym.user.broker.TokenRevocationBroadcaster;
+import com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException;
+import com.epam.esm.gym.user.security.service.TokenDigest;
+import com.epam.esm.gym.user.security.service.TokenRevocationIndex;
+import com.epam.esm.gym.user.security.service.TokenRevocationService;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final String USERNAME = "Remus.Lupin";
+    private static final String TOKEN = "token";
+
+    @Mock
+    private TokenRevocationIndex index;
+
+    @Mock
+    private VerifiedClaimsCache claimsCache;
+
+    @Mock
+    private TokenRevocationBroadcaster broadcaster;
+
+    @InjectMocks
+    private TokenRevocationService revocationService;
+
+    @Test
+    void testRevokeTokenUpdatesIndexAndAnnouncesDigest() {
+        Date expiration = new Date((System.currentTimeMillis() + 60000) / 1000 * 1000);
+        String digest = TokenDigest.of(TOKEN);
+        when(claimsCache.verify(TOKEN, digest))
+                .thenReturn(Jwts.claims().subject(USERNAME).expiration(expiration).build());
+
+        revocationService.revokeToken(TOKEN);
+
+        verify(index).revokeToken(digest, expiration.getTime());
+        verify(claimsCache).invalidate(TOKEN);
+        ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(broadcaster).publish(captor.capture());
+        assertEquals(digest, captor.getValue().digest());
+        assertEquals(expiration.getTime(), captor.getValue().expiresAt());
+        assertNull(captor.getValue().username());
+    }
+
+    @Test
+    void testRevokeInvalidTokenIsSkipped() {
+        when(claimsCache.verify(eq(TOKEN), anyString())).thenThrow(new InvalidJwtAuthenticationException("bad"));
+
+        revocationService.revokeToken(TOKEN);
+
+        verify(index, never()).revokeToken(anyString(), anyLong());
+        verify(broadcaster, never()).publish(any());
+    }
+
+    @Test
+    void testRevokeUserUpdatesIndexAndAnnouncesEpoch() {
+        revocationService.revokeUser(USERNAME);
+
+        verify(index).revokeUser(eq(USERNAME), anyLong());
+        ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+        verify(broadcaster).publish(captor.capture());
+        assertEquals(USERNAME, captor.getValue().username());
+    }
+}
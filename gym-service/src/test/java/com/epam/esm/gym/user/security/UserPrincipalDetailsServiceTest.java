@@ -1,6 +1,8 @@
 package com.epam.esm.gym.user.security;
 
 import com.epam.esm.gym.user.dao.JpaUserDao;
+import com.epam.esm.gym.user.dto.auth.UserPrincipal;
+import com.epam.esm.gym.user.entity.User;
 import com.epam.esm.gym.user.security.service.SecurityUserDetailsService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +13,9 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -37,4 +41,16 @@ class UserPrincipalDetailsServiceTest {
                 securityUserDetailsService.loadUserByUsername("nonexistent")
         );
     }
+
+    @Test
+    void testUpdatePasswordStoresRehashedPassword() {
+        User user = User.builder().username("Harry.Potter").password("old").build();
+        when(userRepository.findByUsername("Harry.Potter")).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        UserPrincipal updated = securityUserDetailsService.updatePassword(new UserPrincipal(user), "new");
+
+        assertEquals("new", updated.getPassword());
+        verify(userRepository).save(user);
+    }
 }
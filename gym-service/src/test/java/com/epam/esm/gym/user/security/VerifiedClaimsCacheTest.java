@@ -0,0 +1,126 @@
+package com.epam.esm.gym.user.security;
+
+import com.epam.esm.gym.user.exception.InvalidJwtAuthenticationException;
+import com.epam.esm.gym.user.security.service.ClaimsCacheProperties;
+import com.epam.esm.gym.user.security.service.JwtProvider;
+import com.epam.esm.gym.user.security.service.VerifiedClaimsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static com.epam.esm.gym.user.security.service.VerifiedClaimsCache.CACHE_REQUESTS;
+import static com.epam.esm.gym.user.security.service.VerifiedClaimsCache.CACHE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedClaimsCacheTest {
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClaimsCacheProperties properties;
+    private VerifiedClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ClaimsCacheProperties();
+        cache = new VerifiedClaimsCache(jwtProvider, properties, meterRegistry);
+    }
+
+    @Test
+    void testCachedClaimsAreReturnedWithoutVerification() {
+        Claims claims = claims("Remus.Lupin", 60000);
+        when(jwtProvider.verify("token")).thenReturn(claims);
+
+        assertSame(claims, cache.verify("token"));
+        assertSame(claims, cache.verify("token"));
+
+        verify(jwtProvider, times(1)).verify("token");
+        assertEquals(1, meterRegistry.get(CACHE_REQUESTS).tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get(CACHE_REQUESTS).tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void testExpiredEntryIsVerifiedAgain() throws InterruptedException {
+        when(jwtProvider.verify("token")).thenReturn(claims("Remus.Lupin", 50));
+
+        cache.verify("token");
+        Thread.sleep(100);
+        cache.verify("token");
+
+        verify(jwtProvider, times(2)).verify("token");
+    }
+
+    @Test
+    void testPurgeRemovesExpiredEntries() throws InterruptedException {
+        when(jwtProvider.verify("short")).thenReturn(claims("Remus.Lupin", 50));
+        when(jwtProvider.verify("long")).thenReturn(claims("Minerva.McGonagall", 60000));
+        cache.verify("short");
+        cache.verify("long");
+
+        Thread.sleep(100);
+        cache.purgeExpired();
+
+        assertEquals(1, meterRegistry.get(CACHE_SIZE).gauge().value());
+    }
+
+    @Test
+    void testFullCacheEvictsEntryClosestToExpiry() {
+        properties.setMaxSize(2);
+        when(jwtProvider.verify("first")).thenReturn(claims("Remus.Lupin", 30000));
+        when(jwtProvider.verify("second")).thenReturn(claims("Minerva.McGonagall", 60000));
+        when(jwtProvider.verify("third")).thenReturn(claims("Severus.Snape", 90000));
+
+        cache.verify("first");
+        cache.verify("second");
+        cache.verify("third");
+        cache.verify("second");
+        cache.verify("first");
+
+        assertEquals(2, meterRegistry.get(CACHE_SIZE).gauge().value());
+        verify(jwtProvider, times(1)).verify("second");
+        verify(jwtProvider, times(2)).verify("first");
+    }
+
+    @Test
+    void testInvalidTokenIsNotCached() {
+        when(jwtProvider.verify("forged")).thenThrow(new InvalidJwtAuthenticationException("bad signature"));
+
+        assertThrows(InvalidJwtAuthenticationException.class, () -> cache.verify("forged"));
+        assertThrows(InvalidJwtAuthenticationException.class, () -> cache.verify("forged"));
+
+        verify(jwtProvider, times(2)).verify("forged");
+    }
+
+    @Test
+    void testDisabledCacheAlwaysVerifies() {
+        properties.setEnabled(false);
+        when(jwtProvider.verify("token")).thenReturn(claims("Remus.Lupin", 60000));
+
+        cache.verify("token");
+        cache.verify("token");
+
+        verify(jwtProvider, times(2)).verify("token");
+    }
+
+    private Claims claims(String subject, long ttlMillis) {
+        return Jwts.claims()
+                .subject(subject)
+                .expiration(new Date(System.currentTimeMillis() + ttlMillis))
+                .build();
+    }
+}
@@ -35,7 +35,7 @@ class BruteForceAuthenticationFailureHandlerTest {
         AuthenticationException exception = mock(AuthenticationException.class);
         request.setParameter("username", "testUser");
         handler.onAuthenticationFailure(request, response, exception);
-        verify(protectionService).registerFailedAttempt("testUser");
+        verify(protectionService).registerFailedAttempt("testUser", request.getRemoteAddr());
         assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
         assertTrue(Objects.requireNonNull(response.getErrorMessage()).contains("Authentication Failed"));
     }
@@ -8,16 +8,21 @@ import com.epam.esm.gym.user.dto.auth.UserPrincipal;
 import com.epam.esm.gym.user.entity.RoleType;
 import com.epam.esm.gym.user.entity.Token;
 import com.epam.esm.gym.user.entity.User;
-import com.epam.esm.gym.user.exception.UserNotFoundException;
 import com.epam.esm.gym.user.security.service.JwtProvider;
+import com.epam.esm.gym.user.security.service.TokenRevocationService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.io.IOException;
@@ -32,6 +37,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +50,12 @@ class AuthenticationUserServiceTest {
     private JwtProvider jwtProvider;
     @Mock
     private PasswordEncoder encoder;
+    @Mock
+    private TokenRevocationService revocationService;
+    @Mock
+    private AuthenticationManager manager;
+    @Mock
+    private UsernameSequenceService usernameSequence;
     @InjectMocks
     private AuthenticationUserService userService;
     private static final String username = "Harry.Potter";
@@ -53,7 +66,7 @@ class AuthenticationUserServiceTest {
     @BeforeEach
     void setUp() {
         token = Token.builder()
-                .accessToken("accessToken")
+                .tokenDigest("tokenDigest")
                 .accessTokenTTL(Instant.now().toEpochMilli())
                 .build();
         user = User.builder()
@@ -64,6 +77,31 @@ class AuthenticationUserServiceTest {
 
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testAuthenticateReusesAuthenticatedUser() {
+        UserPrincipal principal = new UserPrincipal(user);
+        AuthenticationResponse expected = AuthenticationResponse.builder()
+                .username(username).accessToken("jwt").refreshToken("jwt").build();
+        when(manager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(jwtProvider.generateToken(principal)).thenReturn("jwt");
+        when(jwtProvider.updateUserTokens(principal, "jwt")).thenReturn(token);
+        when(jwtProvider.getAuthenticationResponse(principal, "jwt", token.getAccessTokenTTL())).thenReturn(expected);
+
+        AuthenticationResponse response = userService.authenticate(new AuthenticationRequest(username, password));
+
+        assertEquals(expected, response);
+        verify(userDao, never()).findByUsername(anyString());
+        verify(jwtProvider).revokeAllUserTokens(user);
+        verify(revocationService).revokeUser(username);
+        verify(jwtProvider, times(1)).generateToken(any(UserPrincipal.class));
+    }
+
     @Test
     void testLogout() throws IOException {
         HttpServletRequest request = mock(HttpServletRequest.class);
@@ -74,6 +112,7 @@ class AuthenticationUserServiceTest {
         when(response.getWriter()).thenReturn(writer);
         userService.logout(request, response);
         verify(jwtProvider).save(any(Token.class));
+        verify(revocationService).revokeToken("token");
         verify(response).setStatus(HttpServletResponse.SC_OK);
         verify(writer).write("Logout successful");
     }
@@ -105,15 +144,36 @@ class AuthenticationUserServiceTest {
                 userService.refresh("Bearer " + refreshToken, mock(HttpServletResponse.class));
 
         assertNotNull(response);
-        assertEquals("accessToken", Objects.requireNonNull(response).getAccessToken());
+        assertEquals("newAccessToken", Objects.requireNonNull(response).getAccessToken());
         assertEquals(refreshToken, response.getRefreshToken());
     }
 
+    @Test
+    void testLoginStoresToken() {
+        UserPrincipal principal = new UserPrincipal(user);
+        AuthenticationResponse expected = AuthenticationResponse.builder()
+                .username(username).accessToken("jwt").refreshToken("jwt").build();
+        when(manager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(jwtProvider.generateToken(principal)).thenReturn("jwt");
+        when(jwtProvider.getAuthenticationResponse(principal, "jwt", JwtProvider.TOKEN_LIFETIME)).thenReturn(expected);
+
+        AuthenticationResponse response = userService.login(new AuthenticationRequest(username, password));
+
+        assertEquals(expected, response);
+        verify(jwtProvider).updateUserTokens(principal, "jwt");
+        verify(userDao, never()).findByUsername(anyString());
+    }
+
     @Test
     void testLoginUserNotFound() {
         AuthenticationRequest request = new AuthenticationRequest(username, password);
-        when(userDao.findByUsername(username)).thenReturn(Optional.empty());
-        Exception exception = assertThrows(UserNotFoundException.class, () -> userService.login(request));
-        assertEquals("User not found " + username, exception.getMessage());
+        when(manager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThrows(BadCredentialsException.class, () -> userService.login(request));
+
+        verify(jwtProvider, never()).generateToken(any(UserPrincipal.class));
+        verify(jwtProvider, never()).updateUserTokens(any(UserPrincipal.class), anyString());
     }
 }
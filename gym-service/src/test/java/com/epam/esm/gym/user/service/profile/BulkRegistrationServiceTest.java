@@ -0,0 +1,122 @@
+package com.epam.esm.gym.user.service.profile;
+
+import com.epam.esm.gym.user.dao.JpaTraineeDao;
+import com.epam.esm.gym.user.dao.JpaTrainerDao;
+import com.epam.esm.gym.user.dao.JpaTrainingTypeDao;
+import com.epam.esm.gym.user.dto.profile.ProfileResponse;
+import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
+import com.epam.esm.gym.user.dto.trainer.TrainerRequest;
+import com.epam.esm.gym.user.entity.Specialization;
+import com.epam.esm.gym.user.entity.Trainee;
+import com.epam.esm.gym.user.entity.Trainer;
+import com.epam.esm.gym.user.entity.TrainingType;
+import com.epam.esm.gym.user.mapper.TraineeMapper;
+import com.epam.esm.gym.user.mapper.TrainerMapper;
+import com.epam.esm.gym.user.mapper.UserMapper;
+import com.epam.esm.gym.user.security.service.BoundedPasswordEncoder;
+import com.epam.esm.gym.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link BulkRegistrationService} class.
+ * Verifies chunking, username reservation per base name and the credentials handed to the caller.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkRegistrationServiceTest {
+
+    @Mock
+    private UserService userService;
+    @Mock
+    private UsernameSequenceService usernameSequence;
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+    @Mock
+    private JpaTraineeDao traineeDao;
+    @Mock
+    private JpaTrainerDao trainerDao;
+    @Mock
+    private JpaTrainingTypeDao trainingTypeDao;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkRegistrationService service;
+
+    @BeforeEach
+    void setUp() {
+        BulkRegistrationProperties properties = new BulkRegistrationProperties();
+        properties.setChunkSize(2);
+        service = new BulkRegistrationService(userService, usernameSequence, passwordEncoder, new UserMapper(),
+                new TraineeMapper(), new TrainerMapper(), traineeDao, trainerDao, trainingTypeDao,
+                properties, transactionManager);
+        when(userService.generateRandomPassword()).thenReturn("secret");
+        when(passwordEncoder.encodeAll(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0)
+                .stream().map(raw -> "hash-" + raw).toList());
+    }
+
+    @Test
+    void testRegisterTraineesReservesUsernamesPerChunk() throws Exception {
+        when(usernameSequence.nextUsernames("Harry.Potter", 2))
+                .thenReturn(List.of("Harry.Potter.1", "Harry.Potter.2"));
+        when(usernameSequence.nextUsernames("Ron.Weasley", 1)).thenReturn(List.of("Ron.Weasley.1"));
+        List<List<ProfileResponse>> written = new ArrayList<>();
+
+        service.registerTrainees(List.of(trainee("Harry", "Potter"), trainee("Harry", "Potter"),
+                trainee("Ron", "Weasley")), written::add);
+
+        assertEquals(List.of(
+                List.of(new ProfileResponse("Harry.Potter.1", "secret"),
+                        new ProfileResponse("Harry.Potter.2", "secret")),
+                List.of(new ProfileResponse("Ron.Weasley.1", "secret"))), written);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Trainee>> saved = ArgumentCaptor.forClass(List.class);
+        verify(traineeDao, times(2)).saveAll(saved.capture());
+        Trainee first = saved.getAllValues().get(0).get(0);
+        assertEquals("Harry.Potter.1", first.getUser().getUsername());
+        assertEquals("hash-secret", first.getUser().getPassword());
+        verify(traineeDao, times(2)).flush();
+    }
+
+    @Test
+    void testRegisterTrainersLooksUpTrainingTypeOncePerChunk() throws Exception {
+        TrainingType potions = TrainingType.builder().specialization(Specialization.POTIONS).build();
+        when(usernameSequence.nextUsernames("Severus.Snape", 1)).thenReturn(List.of("Severus.Snape.1"));
+        when(usernameSequence.nextUsernames("Minerva.McGonagall", 1)).thenReturn(List.of("Minerva.McGonagall.1"));
+        when(trainingTypeDao.findBySpecialization(Specialization.POTIONS)).thenReturn(Optional.of(potions));
+        List<List<ProfileResponse>> written = new ArrayList<>();
+
+        service.registerTrainers(List.of(trainer("Severus", "Snape"), trainer("Minerva", "McGonagall")),
+                written::add);
+
+        assertEquals(1, written.size());
+        verify(trainingTypeDao, times(1)).findBySpecialization(Specialization.POTIONS);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Trainer>> saved = ArgumentCaptor.forClass(List.class);
+        verify(trainerDao).saveAll(saved.capture());
+        assertEquals(potions, saved.getValue().get(1).getTrainingType());
+    }
+
+    private PostTraineeRequest trainee(String firstName, String lastName) {
+        return PostTraineeRequest.builder().firstName(firstName).lastName(lastName).build();
+    }
+
+    private TrainerRequest trainer(String firstName, String lastName) {
+        return TrainerRequest.builder().firstName(firstName).lastName(lastName)
+                .specialization(Specialization.POTIONS.name()).build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.epam.esm.gym.user.service.profile;
+
+import com.epam.esm.gym.user.dao.JpaTraineeDao;
+import com.epam.esm.gym.user.dao.JpaTrainerDao;
+import com.epam.esm.gym.user.dao.JpaTrainingTypeDao;
+import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
+import com.epam.esm.gym.user.mapper.TraineeMapper;
+import com.epam.esm.gym.user.mapper.TrainerMapper;
+import com.epam.esm.gym.user.mapper.UserMapper;
+import com.epam.esm.gym.user.security.service.BoundedPasswordEncoder;
+import com.epam.esm.gym.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the SQL statements of {@link BulkRegistrationService} against the embedded database.
+ *
+ * <p>Users and trainees take their ids from pooled sequences, so the rows of a chunk are inserted
+ * as one JDBC batch per table and the statement count must not grow with the size of the chunk.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"})
+@Import(UsernameSequenceService.class)
+class BulkRegistrationStatementsTest {
+
+    @Autowired
+    private UsernameSequenceService usernameSequence;
+
+    @Autowired
+    private JpaTraineeDao traineeDao;
+
+    @Autowired
+    private JpaTrainerDao trainerDao;
+
+    @Autowired
+    private JpaTrainingTypeDao trainingTypeDao;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private BoundedPasswordEncoder passwordEncoder;
+
+    private BulkRegistrationService service;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        BulkRegistrationProperties properties = new BulkRegistrationProperties();
+        properties.setChunkSize(50);
+        service = new BulkRegistrationService(userService, usernameSequence, passwordEncoder, new UserMapper(),
+                new TraineeMapper(), new TrainerMapper(), traineeDao, trainerDao, trainingTypeDao,
+                properties, transactionManager);
+        when(userService.generateRandomPassword()).thenReturn("secret");
+        when(passwordEncoder.encodeAll(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0)
+                .stream().map(raw -> "hash-" + raw).toList());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testChunkIsInsertedInBatches() throws Exception {
+        register(1);
+        statistics.clear();
+
+        register(10);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(traineeDao.count()).isEqualTo(11);
+    }
+
+    @Test
+    void testStatementsDoNotGrowWithChunkSize() throws Exception {
+        register(1);
+        statistics.clear();
+        register(1);
+        long single = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        register(10);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(single);
+    }
+
+    /**
+     * Registers trainees sharing one base name, so the usernames take one counter update.
+     *
+     * @param count the number of trainees
+     */
+    private void register(int count) throws Exception {
+        PostTraineeRequest request = new PostTraineeRequest("Neville", "Longbottom",
+                LocalDate.of(1980, 7, 30), "Hogwarts");
+        service.registerTrainees(Collections.nCopies(count, request), credentials -> {
+        });
+    }
+}
@@ -1,7 +1,9 @@
 package com.epam.esm.gym.user.service.profile;
 
 import com.epam.esm.gym.user.dao.JpaTraineeDao;
+import com.epam.esm.gym.user.dao.JpaTrainingDao;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.profile.UserResponse;
@@ -10,7 +12,9 @@ import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
 import com.epam.esm.gym.user.dto.trainee.PutTraineeRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerResponse;
 import com.epam.esm.gym.user.dto.trainer.TrainerResponseDto;
+import com.epam.esm.gym.user.dto.training.TrainingProfile;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
+import com.epam.esm.gym.user.entity.Specialization;
 import com.epam.esm.gym.user.entity.Trainee;
 import com.epam.esm.gym.user.entity.Trainer;
 import com.epam.esm.gym.user.entity.Training;
@@ -30,28 +34,28 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
-import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -67,6 +71,8 @@ class TraineeProfileServiceTest {
     @Mock
     private JpaTraineeDao dao;
     @Mock
+    private JpaTrainingDao trainingDao;
+    @Mock
     private UserService userService;
     @Mock
     private TrainerService trainerService;
@@ -95,6 +101,31 @@ class TraineeProfileServiceTest {
         verify(dao).findAll();
     }
 
+    @Test
+    void testFindPageFetchesOnlyThePageIds() {
+        Trainee trainee = new Trainee();
+        FullTraineeProfileResponse profile = FullTraineeProfileResponse.builder().build();
+        when(dao.findIdsAfter(0L, PageRequest.ofSize(3))).thenReturn(List.of(4L, 7L, 9L));
+        when(dao.findWithTrainersByIdIn(List.of(4L, 7L))).thenReturn(List.of(trainee, trainee));
+        when(mapper.toTraineeProfile(trainee)).thenReturn(profile);
+
+        CursorPage<FullTraineeProfileResponse> page = service.findPage(null, 2);
+
+        assertEquals(List.of(profile, profile), page.getItems());
+        assertEquals(KeysetCursor.encode("trainees", 7L), page.getNextCursor());
+    }
+
+    @Test
+    void testFindPageWithoutTrainees() {
+        when(dao.findIdsAfter(7L, PageRequest.ofSize(3))).thenReturn(List.of());
+
+        CursorPage<FullTraineeProfileResponse> page = service.findPage(KeysetCursor.encode("trainees", 7L), 2);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(dao, never()).findWithTrainersByIdIn(anyList());
+    }
+
     @Test
     void testGetActiveTrainersForTraineeSuccess() {
         String username = "traineeUser";
@@ -199,26 +230,47 @@ class TraineeProfileServiceTest {
     void testGetTraineeTrainingsByNameSuccess() {
         String username = "traineeUser";
         Map<String, String> params = new HashMap<>();
-        Trainee trainee = new Trainee();
-        Training training = new Training();
-        trainee.setTrainings(Set.of(training));
-        when(dao.findByUsername(username)).thenReturn(Optional.of(trainee));
-        when(mapper.toResponse(training)).thenReturn(new TrainingResponse());
-        List<TrainingResponse> responses = service.getTraineeTrainingsByName(username, params);
-        assertNotNull(responses);
-        assertFalse(responses.isEmpty());
-        verify(dao).findByUsername(username);
+        Training first = Training.builder().id(3L).build();
+        Training second = Training.builder().id(5L).build();
+        when(dao.findIdByUsername(username)).thenReturn(Optional.of(1L));
+        when(trainingDao.findTraineeTrainingsAfter(1L, 0L, null, null, null, null, PageRequest.ofSize(2)))
+                .thenReturn(List.of(first, second));
+        when(mapper.toResponse(first)).thenReturn(new TrainingResponse());
+        CursorPage<TrainingResponse> page = service.getTraineeTrainingsByName(username, params, null, 1);
+        assertEquals(1, page.getItems().size());
+        assertEquals(KeysetCursor.encode("trainee-trainings", 3L), page.getNextCursor());
+        verify(dao, never()).findByUsername(username);
     }
 
     @Test
     void testGetTraineeTrainingsByNameNotFound() {
         String username = "unknownUser";
-        when(dao.findByUsername(username)).thenReturn(Optional.empty());
+        when(dao.findIdByUsername(username)).thenReturn(Optional.empty());
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
-                () -> service.getTraineeTrainingsByName(username, new HashMap<>()));
+                () -> service.getTraineeTrainingsByName(username, new HashMap<>(), null, 10));
         assertEquals(username, exception.getMessage());
     }
 
+    @Test
+    void testGetTraineeTrainingsByUnknownTypeMatchesNothing() {
+        String username = "traineeUser";
+        when(dao.findIdByUsername(username)).thenReturn(Optional.of(1L));
+        CursorPage<TrainingResponse> page = service.getTraineeTrainingsByName(
+                username, Map.of("trainingType", "Juggling"), null, 10);
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(trainingDao, never()).findTraineeTrainingsAfter(
+                any(), anyLong(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetTraineeTrainingsRejectsCursorOfAnotherListing() {
+        String cursor = KeysetCursor.encode("trainings", 1L);
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getTraineeTrainingsByName("traineeUser", new HashMap<>(), cursor, 10));
+        verify(dao, never()).findIdByUsername(any());
+    }
+
     @ParameterizedTest
     @ArgumentsSource(TraineeRegistrationArgumentsProvider.class)
     void register(PostTraineeRequest request,
@@ -272,7 +324,7 @@ class TraineeProfileServiceTest {
     @ArgumentsSource(TraineeArgumentsProvider.class)
     void getTraineeProfileByNameWhenTraineeExists(
             String username, Trainee trainee, FullTraineeProfileResponse profile) {
-        when(dao.findByUsername(username)).thenReturn(Optional.of(trainee));
+        when(dao.findWithTrainersByUsername(username)).thenReturn(Optional.of(trainee));
         when(mapper.toTraineeProfile(trainee)).thenReturn(profile);
         FullTraineeProfileResponse response = service.getTraineeProfileByName(username);
         assertEquals(profile, response);
@@ -281,7 +333,7 @@ class TraineeProfileServiceTest {
     @ParameterizedTest
     @ArgumentsSource(TraineeArgumentsProvider.class)
     void getTraineeProfileByNameWhenTraineeDoesNotExist(String username) {
-        when(dao.findByUsername(username)).thenReturn(Optional.empty());
+        when(dao.findWithTrainersByUsername(username)).thenReturn(Optional.empty());
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> service.getTraineeProfileByName(username));
         assertEquals(String.format("User by name: %s not found", username), exception.getMessage());
@@ -349,26 +401,64 @@ class TraineeProfileServiceTest {
     @Test
     void updateTraineeTrainersByName() {
         String username = "Harry.Potter";
-        List<String> trainerUsernames = List.of("Trainer1", "Trainer2");
-        List<TrainerResponse> profiles = List.of(new TrainerResponse(), new TrainerResponse());
-        Trainee trainee = new Trainee();
-        when(trainerService.getTrainer(anyString())).thenReturn(Optional.of(new Trainer()));
-        when(mapper.toTrainerProfile(any())).thenReturn(new TrainerResponse());
-        when(dao.findByUsername(username)).thenReturn(Optional.of(trainee));
-        when(mapper.toTrainers(anyList())).thenReturn(new HashSet<>());
+        List<String> trainerUsernames = List.of("minerva.mcgonagall", "severus.snape", "gilderoy.lockhart");
+        Trainer minerva = trainer(1L, "minerva.mcgonagall");
+        Trainer severus = trainer(2L, "severus.snape");
+        TrainerResponse minervaResponse = TrainerResponse.builder().username("minerva.mcgonagall").build();
+        TrainerResponse severusResponse = TrainerResponse.builder().username("severus.snape").build();
+        when(dao.findIdByUsername(username)).thenReturn(Optional.of(7L));
+        when(trainerService.getTrainers(trainerUsernames)).thenReturn(List.of(severus, minerva));
+        when(dao.findTrainerIds(7L)).thenReturn(List.of(2L, 3L));
+        when(mapper.toTrainerProfile(minerva)).thenReturn(minervaResponse);
+        when(mapper.toTrainerProfile(severus)).thenReturn(severusResponse);
+
         List<TrainerResponse> response = service.updateTraineeTrainersByName(username, trainerUsernames);
-        assertEquals(profiles, response);
+
+        assertEquals(List.of(minervaResponse, severusResponse), response);
+        verify(dao).removeTrainers(7L, List.of(3L));
+        verify(dao).addTrainers(7L, List.of(1L));
+    }
+
+    @Test
+    void updateTraineeTrainersByNameWritesNothingWhenUnchanged() {
+        String username = "Harry.Potter";
+        Trainer minerva = trainer(1L, "minerva.mcgonagall");
+        when(dao.findIdByUsername(username)).thenReturn(Optional.of(7L));
+        when(trainerService.getTrainers(List.of("minerva.mcgonagall"))).thenReturn(List.of(minerva));
+        when(dao.findTrainerIds(7L)).thenReturn(List.of(1L));
+        when(mapper.toTrainerProfile(minerva)).thenReturn(new TrainerResponse());
+
+        service.updateTraineeTrainersByName(username, List.of("minerva.mcgonagall"));
+
+        verify(dao, never()).removeTrainers(anyLong(), anyList());
+        verify(dao, never()).addTrainers(anyLong(), anyList());
+    }
+
+    @Test
+    void updateTraineeTrainersByNameForUnknownTrainee() {
+        when(dao.findIdByUsername("Tom.Riddle")).thenReturn(Optional.empty());
+
+        List<TrainerResponse> response = service.updateTraineeTrainersByName("Tom.Riddle", List.of("severus.snape"));
+
+        assertTrue(response.isEmpty());
+        verify(trainerService, never()).getTrainers(any());
     }
 
     @ParameterizedTest
     @ArgumentsSource(TraineeTrainingArgumentsProvider.class)
     void getTraineeTrainingsByName(
-            Map<String, String> params, Trainee trainee,
+            Map<String, String> params, TrainingProfile filter, Trainee trainee,
             Training training, TrainingResponse trainingResponse) {
-        when(dao.findByUsername(trainee.getUser().getUsername())).thenReturn(Optional.of(trainee));
+        String username = trainee.getUser().getUsername();
+        Specialization type = filter.getTrainingType() != null
+                ? Specialization.valueOf(filter.getTrainingType()) : null;
+        when(dao.findIdByUsername(username)).thenReturn(Optional.of(trainee.getId()));
+        when(trainingDao.findTraineeTrainingsAfter(trainee.getId(), 0L, filter.getPeriodFrom(), filter.getPeriodTo(),
+                filter.getTrainerName(), type, PageRequest.ofSize(11))).thenReturn(List.of(training));
         when(mapper.toResponse(training)).thenReturn(trainingResponse);
-        List<TrainingResponse> response = service.getTraineeTrainingsByName(trainee.getUser().getUsername(), params);
-        assertEquals(List.of(trainingResponse), response);
+        CursorPage<TrainingResponse> response = service.getTraineeTrainingsByName(username, params, null, 10);
+        assertEquals(List.of(trainingResponse), response.getItems());
+        assertNull(response.getNextCursor());
     }
 
     @Test
@@ -415,4 +505,8 @@ class TraineeProfileServiceTest {
         verify(dao).save(trainee);
         verify(mapper).toProfile(user.getUsername(), rawPassword);
     }
+
+    private static Trainer trainer(Long id, String username) {
+        return Trainer.builder().id(id).user(User.builder().username(username).build()).build();
+    }
 }
@@ -0,0 +1,87 @@
+package com.epam.esm.gym.user.service.profile;
+
+import com.epam.esm.gym.user.actuator.SqlStatementBudget;
+import com.epam.esm.gym.user.actuator.SqlStatisticsConfig;
+import com.epam.esm.gym.user.dao.JpaTraineeDao;
+import com.epam.esm.gym.user.dto.trainer.TrainerResponse;
+import com.epam.esm.gym.user.mapper.TraineeMapper;
+import com.epam.esm.gym.user.mapper.TrainerMapper;
+import com.epam.esm.gym.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements of {@link TraineeProfileService#updateTraineeTrainersByName} against the
+ * embedded database. The trainers are resolved with one query and the assignments are written as a
+ * diff, so the statement count must not grow with the number of trainers.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TraineeProfileService.class, TrainerProfileService.class, TraineeMapper.class, TrainerMapper.class,
+        SqlStatisticsConfig.class})
+@Sql("/test-data-trainer.sql")
+class TraineeTrainersStatementsTest {
+
+    @Autowired
+    private TraineeProfileService service;
+
+    @Autowired
+    private JpaTraineeDao traineeDao;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private UserService userService;
+
+    @Test
+    void testAssignmentsAreWrittenAsDiff() {
+        List<TrainerResponse> trainers = SqlStatementBudget.within(5,
+                () -> service.updateTraineeTrainersByName("harry.potter",
+                        List.of("severus.snape", "pomona.sprout", "gilderoy.lockhart")));
+
+        assertThat(trainers).extracting(TrainerResponse::getUsername)
+                .containsExactly("severus.snape", "pomona.sprout");
+        assertThat(traineeDao.findTrainerIds(1L)).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    void testUnchangedAssignmentsWriteNothing() {
+        Statistics statistics = statistics();
+
+        service.updateTraineeTrainersByName("hermione.granger", List.of("minerva.mcgonagall", "severus.snape"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(traineeDao.findTrainerIds(3L)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void testStatementsDoNotGrowWithTrainerCount() {
+        Statistics statistics = statistics();
+        service.updateTraineeTrainersByName("ron.weasley", List.of("severus.snape"));
+        long single = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        service.updateTraineeTrainersByName("hermione.granger", List.of("pomona.sprout"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(single);
+        assertThat(traineeDao.findTrainerIds(2L)).containsExactly(2L);
+        assertThat(traineeDao.findTrainerIds(3L)).containsExactly(3L);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
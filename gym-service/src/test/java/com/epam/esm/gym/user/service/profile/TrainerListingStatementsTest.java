@@ -0,0 +1,123 @@
+package com.epam.esm.gym.user.service.profile;
+
+import com.epam.esm.gym.jms.dto.TrainingResponse;
+import com.epam.esm.gym.user.actuator.SqlStatementBudget;
+import com.epam.esm.gym.user.actuator.SqlStatisticsConfig;
+import com.epam.esm.gym.user.dto.page.CursorPage;
+import com.epam.esm.gym.user.dto.trainee.TraineeProfileResponse;
+import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
+import com.epam.esm.gym.user.mapper.TrainerMapper;
+import com.epam.esm.gym.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements of the trainer listings in {@link TrainerProfileService} against the embedded database.
+ *
+ * <p>A page of trainers is read as flat rows with one batched query for the trainings and one for the
+ * trainees of the page, so the statement count must not grow with the number of trainers or their
+ * collections. The timings are logged for comparison only and are not asserted.</p>
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TrainerProfileService.class, TrainerMapper.class, SqlStatisticsConfig.class})
+@Sql("/test-data-trainer.sql")
+class TrainerListingStatementsTest {
+
+    @Autowired
+    private TrainerProfileService service;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private UserService userService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindPageUsesThreeStatements() {
+        long start = System.nanoTime();
+        CursorPage<TrainerProfile> page = service.findPage(null, 3);
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(page.getItems()).extracting(TrainerProfile::getUsername)
+                .containsExactly("minerva.mcgonagall", "severus.snape", "pomona.sprout");
+        assertThat(page.getItems().get(0).getTrainings()).extracting(TrainingResponse::getTrainingName)
+                .containsExactly("Animagus Basics", "Switching Spells", "Vanishing Spells");
+        assertThat(page.getItems().get(0).getTrainees()).extracting(TraineeProfileResponse::getUsername)
+                .containsExactly("harry.potter", "hermione.granger", "ron.weasley");
+        assertThat(page.getItems().get(1).getTrainees()).hasSize(2);
+        assertThat(page.getItems().get(2).getTrainings()).isEmpty();
+        assertThat(page.getItems().get(2).getTrainees()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        log.info("Trainer page of {}: {} statements in {} µs",
+                page.getItems().size(), statistics.getPrepareStatementCount(), elapsed / 1_000);
+    }
+
+    @Test
+    void testFindPageStatementsDoNotGrowWithPageSize() {
+        service.findPage(null, 1);
+        long single = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        service.findPage(null, 3);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(single);
+    }
+
+    @Test
+    void testFindPageStaysWithinStatementBudget() {
+        CursorPage<TrainerProfile> page = SqlStatementBudget.within(3, () -> service.findPage(null, 3));
+
+        assertThat(page.getItems()).hasSize(3);
+    }
+
+    @Test
+    void testFindSyncProfilesUsesTwoStatements() {
+        long start = System.nanoTime();
+        Slice<com.epam.esm.gym.jms.dto.TrainerProfile> chunk = service.findSyncProfiles(PageRequest.of(0, 2));
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(chunk.getContent()).extracting(com.epam.esm.gym.jms.dto.TrainerProfile::username)
+                .containsExactly("minerva.mcgonagall", "severus.snape");
+        assertThat(chunk.getContent().get(1).trainings()).extracting(TrainingResponse::getTrainerName)
+                .containsOnly("severus.snape");
+        assertThat(chunk.hasNext()).isTrue();
+        log.info("Trainer sync chunk of {}: {} statements in {} µs",
+                chunk.getNumberOfElements(), statistics.getPrepareStatementCount(), elapsed / 1_000);
+    }
+
+    @Test
+    void testEmptyPageSkipsBatchQueries() {
+        String cursor = KeysetCursor.encode("trainers", 3L);
+
+        CursorPage<TrainerProfile> page = service.findPage(cursor, 3);
+
+        assertThat(page.getItems()).isEqualTo(List.of());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
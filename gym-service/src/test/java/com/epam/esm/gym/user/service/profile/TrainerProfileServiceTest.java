@@ -2,13 +2,18 @@ package com.epam.esm.gym.user.service.profile;
 
 import com.epam.esm.gym.user.dao.JpaTrainerDao;
 import com.epam.esm.gym.user.dao.JpaTrainingTypeDao;
+import com.epam.esm.gym.user.dao.projection.TrainerRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTraineeRow;
+import com.epam.esm.gym.user.dao.projection.TrainerTrainingRow;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.ProfileResponse;
 import com.epam.esm.gym.user.dto.trainer.UpdateTrainerRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerProfile;
 import com.epam.esm.gym.user.dto.trainer.TrainerRequest;
 import com.epam.esm.gym.user.dto.trainer.TrainerResponseDto;
+import com.epam.esm.gym.user.entity.Specialization;
 import com.epam.esm.gym.user.entity.Trainee;
 import com.epam.esm.gym.user.entity.Trainer;
 import com.epam.esm.gym.user.entity.TrainingType;
@@ -26,17 +31,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -124,20 +136,22 @@ class TrainerProfileServiceTest {
     @Test
     void testGetTrainerProfileByNameSuccess() {
         String username = "trainerName";
-        Trainer trainer = new Trainer();
-        when(trainerDao.findByUsername(username)).thenReturn(Optional.of(trainer));
-        when(mapper.toDto(trainer)).thenReturn(new TrainerProfile());
+        TrainerRow trainer = new TrainerRow(1L, username, "Trainer", "Name", true, Specialization.FLEXIBILITY);
+        when(trainerDao.findRowByUsername(username)).thenReturn(Optional.of(trainer));
+        when(trainerDao.findTrainingRowsByTrainerIdIn(List.of(1L))).thenReturn(List.of());
+        when(trainerDao.findTraineeRowsByTrainerIdIn(List.of(1L))).thenReturn(List.of());
+        when(mapper.toTrainerProfile(trainer, List.of(), List.of())).thenReturn(new TrainerProfile());
 
         TrainerProfile profile = service.getTrainerProfileByName(username);
 
         assertNotNull(profile);
-        verify(mapper).toDto(trainer);
+        verify(mapper).toTrainerProfile(trainer, List.of(), List.of());
     }
 
     @Test
     void testGetTrainerProfileByNameNotFound() {
         String username = "nonExistentTrainer";
-        when(trainerDao.findByUsername(username)).thenReturn(Optional.empty());
+        when(trainerDao.findRowByUsername(username)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> service.getTrainerProfileByName(username));
     }
@@ -240,16 +254,79 @@ class TrainerProfileServiceTest {
         verify(mapper).toTrainerProfiles(trainers);
     }
 
-    @ParameterizedTest
-    @ArgumentsSource(TrainerArgumentsProvider.class)
-    void testFindAllSuccess(List<Trainer> trainers, List<TrainerProfile> expectedProfiles) {
-        when(trainerDao.findAllWithUsers()).thenReturn(trainers);
-        when(mapper.toTrainerProfiles(trainers)).thenReturn(expectedProfiles);
-        List<TrainerProfile> result = service.findAll();
-        assertNotNull(result);
-        assertEquals(expectedProfiles.size(), result.size());
-        verify(trainerDao).findAllWithUsers();
-        verify(mapper).toTrainerProfiles(trainers);
+    @Test
+    void testFindPageSuccess() {
+        TrainerRow first = new TrainerRow(1L, "Trainer.One", "Trainer", "One", true, Specialization.FLEXIBILITY);
+        TrainerRow second = new TrainerRow(2L, "Trainer.Two", "Trainer", "Two", false, Specialization.CARDIO);
+        TrainerTrainingRow training = new TrainerTrainingRow(
+                1L, "Morning Stretch", Specialization.FLEXIBILITY, LocalDate.of(2024, 1, 1), 60);
+        TrainerTraineeRow trainee = new TrainerTraineeRow(1L, "Trainee.One", "Trainee", "One", "Street", true);
+        TrainerProfile firstProfile = TrainerProfile.builder().username("Trainer.One").build();
+        TrainerProfile secondProfile = TrainerProfile.builder().username("Trainer.Two").build();
+
+        when(trainerDao.findRowsAfter(0L, PageRequest.ofSize(2))).thenReturn(List.of(first, second));
+        when(trainerDao.findTrainingRowsByTrainerIdIn(List.of(1L))).thenReturn(List.of(training));
+        when(trainerDao.findTraineeRowsByTrainerIdIn(List.of(1L))).thenReturn(List.of(trainee));
+        when(mapper.toTrainerProfile(first, List.of(training), List.of(trainee))).thenReturn(firstProfile);
+        CursorPage<TrainerProfile> result = service.findPage(null, 1);
+        assertEquals(List.of(firstProfile), result.getItems());
+        assertNotNull(result.getNextCursor());
+
+        when(trainerDao.findRowsAfter(1L, PageRequest.ofSize(2))).thenReturn(List.of(second));
+        when(trainerDao.findTrainingRowsByTrainerIdIn(List.of(2L))).thenReturn(List.of());
+        when(trainerDao.findTraineeRowsByTrainerIdIn(List.of(2L))).thenReturn(List.of());
+        when(mapper.toTrainerProfile(second, List.of(), List.of())).thenReturn(secondProfile);
+        CursorPage<TrainerProfile> last = service.findPage(result.getNextCursor(), 1);
+        assertEquals(List.of(secondProfile), last.getItems());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void testFindPageSkipsBatchQueriesPastTheLastTrainer() {
+        when(trainerDao.findRowsAfter(0L, PageRequest.ofSize(2))).thenReturn(List.of());
+        CursorPage<TrainerProfile> result = service.findPage(null, 1);
+        assertEquals(List.of(), result.getItems());
+        assertNull(result.getNextCursor());
+        verify(trainerDao, never()).findTrainingRowsByTrainerIdIn(any());
+        verify(trainerDao, never()).findTraineeRowsByTrainerIdIn(any());
+    }
+
+    @Test
+    void testFindPageRejectsCursorOfAnotherListing() {
+        String cursor = KeysetCursor.encode("trainees", 1L);
+        assertThrows(IllegalArgumentException.class, () -> service.findPage(cursor, 1));
+        verify(trainerDao, never()).findRowsAfter(Mockito.anyLong(), any());
+    }
+
+    @Test
+    void testFindSyncProfilesLoadsTrainingsOfTheChunk() {
+        TrainerRow row = new TrainerRow(3L, "Trainer.Three", "Trainer", "Three", true, Specialization.FLEXIBILITY);
+        TrainerTrainingRow training = new TrainerTrainingRow(
+                3L, "Evening Stretch", Specialization.FLEXIBILITY, LocalDate.of(2024, 2, 1), 45);
+        com.epam.esm.gym.jms.dto.TrainerProfile profile = com.epam.esm.gym.jms.dto.TrainerProfile.builder()
+                .username("Trainer.Three")
+                .build();
+        PageRequest chunk = PageRequest.of(0, 1);
+
+        when(trainerDao.findRows(chunk)).thenReturn(new SliceImpl<>(List.of(row), chunk, true));
+        when(trainerDao.findTrainingRowsByTrainerIdIn(List.of(3L))).thenReturn(List.of(training));
+        when(mapper.toSyncProfile(row, List.of(training))).thenReturn(profile);
+
+        Slice<com.epam.esm.gym.jms.dto.TrainerProfile> result = service.findSyncProfiles(chunk);
+
+        assertEquals(List.of(profile), result.getContent());
+        assertTrue(result.hasNext());
+        verify(trainerDao, never()).findTraineeRowsByTrainerIdIn(any());
+    }
+
+    @Test
+    void testFindChangedSyncProfilesSkipsTrainingsWithoutChanges() {
+        LocalDateTime since = LocalDateTime.of(2024, 2, 1, 9, 0);
+        LocalDateTime until = since.plusMinutes(1);
+        when(trainerDao.findRowsChangedBetween(since, until)).thenReturn(List.of());
+
+        assertEquals(List.of(), service.findChangedSyncProfiles(since, until));
+        verify(trainerDao, never()).findTrainingRowsByTrainerIdIn(any());
     }
 
     @ParameterizedTest
@@ -3,6 +3,7 @@ package com.epam.esm.gym.user.service.profile;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.user.dao.JpaTrainingDao;
 import com.epam.esm.gym.user.dao.JpaTrainingTypeDao;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.training.TrainingProfile;
 import com.epam.esm.gym.user.dto.training.TrainingRequest;
 import com.epam.esm.gym.user.dto.training.TrainingTypeDto;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -32,6 +34,7 @@ import java.util.Set;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -141,17 +144,27 @@ class TrainingProfileServiceTest {
     }
 
     @Test
-    void testGetAllTrainings() {
-        List<Training> trainings = List.of(new Training(), new Training());
-        List<TrainingResponse> expectedResponses = List.of(new TrainingResponse(), new TrainingResponse());
+    void testFindPageContinuesAfterLastTraining() {
+        List<Training> trainings = List.of(training(1L), training(2L), training(3L));
+        when(dao.findPageAfter(0L, PageRequest.ofSize(3))).thenReturn(trainings);
 
-        when(dao.findAll()).thenReturn(trainings);
+        CursorPage<TrainingResponse> first = service.findPage(null, 2);
 
-        List<TrainingResponse> result = service.getAllTrainings();
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
 
-        assertNotNull(result);
-        assertEquals(expectedResponses.size(), result.size());
-        verify(dao).findAll();
+        when(dao.findPageAfter(2L, PageRequest.ofSize(3))).thenReturn(List.of(training(3L)));
+
+        CursorPage<TrainingResponse> second = service.findPage(first.getNextCursor(), 2);
+
+        assertEquals(1, second.getItems().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void testFindPageRejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> service.findPage("not a cursor", 2));
+        verifyNoInteractions(dao);
     }
 
     @Test
@@ -190,25 +203,27 @@ class TrainingProfileServiceTest {
     }
 
     @Test
-    void testGetAllTrainingsHappyPath() {
+    void testFindPageHappyPath() {
         List<Training> trainings = List.of(new Training());
-        when(dao.findAll()).thenReturn(trainings);
+        when(dao.findPageAfter(0L, PageRequest.ofSize(51))).thenReturn(trainings);
 
-        List<TrainingResponse> result = service.getAllTrainings();
+        CursorPage<TrainingResponse> result = service.findPage(null, 50);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(dao).findAll();
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(dao).findPageAfter(0L, PageRequest.ofSize(51));
     }
 
     @Test
-    void testGetAllTrainingsEmptyList() {
-        when(dao.findAll()).thenReturn(Collections.emptyList());
+    void testFindPageEmptyList() {
+        when(dao.findPageAfter(0L, PageRequest.ofSize(51))).thenReturn(Collections.emptyList());
 
-        List<TrainingResponse> result = service.getAllTrainings();
+        CursorPage<TrainingResponse> result = service.findPage(null, 50);
 
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -249,4 +264,10 @@ class TrainingProfileServiceTest {
         verify(trainerService).getTrainer(trainerName);
         verify(dao).findTrainingsByTrainerName(trainerName, profile.getPeriodFrom(), profile.getPeriodTo());
     }
+
+    private static Training training(Long id) {
+        Training training = new Training();
+        training.setId(id);
+        return training;
+    }
 }
@@ -2,6 +2,7 @@ package com.epam.esm.gym.user.service.profile;
 
 import com.epam.esm.gym.user.dao.JpaUserDao;
 import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.user.dto.page.CursorPage;
 import com.epam.esm.gym.user.dto.profile.ProfileRequest;
 import com.epam.esm.gym.user.dto.profile.UserResponse;
 import com.epam.esm.gym.user.dto.trainee.PostTraineeRequest;
@@ -12,6 +13,7 @@ import com.epam.esm.gym.user.exception.UserNotFoundException;
 import com.epam.esm.gym.user.mapper.UserMapper;
 import com.epam.esm.gym.user.provider.AuthenticationArgumentsProvider;
 import com.epam.esm.gym.user.provider.UserArgumentsProvider;
+import com.epam.esm.gym.user.security.service.TokenRevocationService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,6 +21,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,6 +31,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyString;
@@ -61,6 +65,10 @@ public class UserProfileServiceTest {
     private UserMapper mapper;
     @Mock
     private JpaUserDao userDao;
+    @Mock
+    private TokenRevocationService revocationService;
+    @Mock
+    private UsernameSequenceService usernameSequence;
     @InjectMocks
     private UserProfileService userProfileService;
 
@@ -163,6 +171,7 @@ public class UserProfileServiceTest {
         MessageResponse response = userProfileService.changePassword(request);
         assertNotNull(response);
         verify(userDao).save(user);
+        verify(revocationService).revokeUser(user.getUsername());
     }
 
     @ParameterizedTest
@@ -183,6 +192,7 @@ public class UserProfileServiceTest {
         ResponseEntity<Void> response = userProfileService.deleteUser(username);
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(userDao).delete(user);
+        verify(revocationService).revokeUser(username);
     }
 
     @ParameterizedTest
@@ -201,11 +211,12 @@ public class UserProfileServiceTest {
         PostTraineeRequest request = PostTraineeRequest.builder()
                 .firstName("Harry").lastName("Potter").build();
         String password = "rawPassword";
+        when(usernameSequence.nextUsername("Harry.Potter")).thenReturn("Harry.Potter.1");
         when(mapper.toUser(anyString(), anyString(), anyString(), eq(password),
                 eq(RoleType.ROLE_TRAINEE))).thenReturn(user);
         User result = userProfileService.createTraineeUser(request, password);
         assertNotNull(result);
-        verify(mapper).toUser(eq("Harry"), eq("Potter"), anyString(),
+        verify(mapper).toUser(eq("Harry"), eq("Potter"), eq("Harry.Potter.1"),
                 eq(password), eq(RoleType.ROLE_TRAINEE));
     }
 
@@ -213,11 +224,12 @@ public class UserProfileServiceTest {
     void createTrainerUser() {
         TrainerRequest request = TrainerRequest.builder().firstName("Harry").lastName("Potter").build();
         String password = "rawPassword";
+        when(usernameSequence.nextUsername("Harry.Potter")).thenReturn("Harry.Potter.1");
         when(mapper.toUser(anyString(), anyString(), anyString(), eq(password),
                 eq(RoleType.ROLE_TRAINER))).thenReturn(user);
         User result = userProfileService.createTrainerUser(request, password);
         assertNotNull(result);
-        verify(mapper).toUser(eq("Harry"), eq("Potter"), anyString(),
+        verify(mapper).toUser(eq("Harry"), eq("Potter"), eq("Harry.Potter.1"),
                 eq(password), eq(RoleType.ROLE_TRAINER));
     }
 
@@ -263,15 +275,16 @@ public class UserProfileServiceTest {
 
     @ParameterizedTest
     @ArgumentsSource(UserArgumentsProvider.class)
-    void testFindAll(String username, User user) {
+    void testFindPage(String username, User user) {
         List<User> users = List.of(user);
-        when(userDao.findAll()).thenReturn(users);
+        when(userDao.findPageAfter(0L, PageRequest.ofSize(51))).thenReturn(users);
         when(mapper.toDto(user)).thenReturn(UserResponse.builder().username(username).build());
-        List<UserResponse> responses = userProfileService.findAll();
-        assertNotNull(responses);
-        assertEquals(1, responses.size());
-        assertEquals(username, responses.get(0).getUsername());
-        verify(userDao).findAll();
+        CursorPage<UserResponse> page = userProfileService.findPage(null, 50);
+        assertNotNull(page);
+        assertEquals(1, page.getItems().size());
+        assertEquals(username, page.getItems().get(0).getUsername());
+        assertNull(page.getNextCursor());
+        verify(userDao).findPageAfter(0L, PageRequest.ofSize(51));
     }
 
     @ParameterizedTest
@@ -0,0 +1,91 @@
+package com.epam.esm.gym.user.service.profile;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link UsernameSequenceService} class against the embedded database.
+ *
+ * <p>The tests run without a surrounding test transaction, so every counter update commits
+ * like it does in production and concurrent registrations really compete for the same row. Since
+ * nothing is rolled back, the counters and users they create are deleted after every test.</p>
+ */
+@DataJpaTest
+@Import(UsernameSequenceService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+@Sql(statements = {"DELETE FROM username_sequences", "DELETE FROM users"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class UsernameSequenceServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int SIGNUPS_PER_THREAD = 25;
+
+    @Autowired
+    private UsernameSequenceService service;
+
+    @Test
+    void testSuffixesAreConsecutive() {
+        assertThat(service.nextUsername("Harry.Potter")).isEqualTo("Harry.Potter.1");
+        assertThat(service.nextUsername("Harry.Potter")).isEqualTo("Harry.Potter.2");
+        assertThat(service.nextUsername("Ron.Weasley")).isEqualTo("Ron.Weasley.1");
+    }
+
+    @Test
+    @Sql(statements = "INSERT INTO users (id, username, first_name, last_name, password, permission, is_active) "
+            + "VALUES (100, 'Luna.Lovegood.7', 'Luna', 'Lovegood', 'password123', 'ROLE_TRAINEE', true)")
+    void testCounterStartsAfterExistingUsers() {
+        assertThat(service.nextUsername("Luna.Lovegood")).isEqualTo("Luna.Lovegood.8");
+    }
+
+    @Test
+    void testParallelSignupsGetUniqueUsernames() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                Callable<List<String>> signups = () -> {
+                    start.await();
+                    List<String> usernames = new ArrayList<>();
+                    for (int i = 0; i < SIGNUPS_PER_THREAD; i++) {
+                        usernames.add(service.nextUsername("John.Smith"));
+                    }
+                    return usernames;
+                };
+                futures.add(executor.submit(signups));
+            }
+            start.countDown();
+            Set<String> usernames = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                usernames.addAll(future.get());
+            }
+
+            assertThat(usernames).isEqualTo(IntStream.rangeClosed(1, THREADS * SIGNUPS_PER_THREAD)
+                    .mapToObj(i -> "John.Smith." + i)
+                    .collect(Collectors.toSet()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
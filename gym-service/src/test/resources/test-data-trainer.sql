@@ -0,0 +1,32 @@
+INSERT INTO users (id, first_name, last_name, username, password, is_active, permission)
+VALUES (1, 'Minerva', 'McGonagall', 'minerva.mcgonagall', 'password123', TRUE, 'ROLE_TRAINER'),
+       (2, 'Severus', 'Snape', 'severus.snape', 'password123', TRUE, 'ROLE_TRAINER'),
+       (3, 'Pomona', 'Sprout', 'pomona.sprout', 'password123', FALSE, 'ROLE_TRAINER'),
+       (4, 'Harry', 'Potter', 'harry.potter', 'password123', TRUE, 'ROLE_TRAINEE'),
+       (5, 'Ron', 'Weasley', 'ron.weasley', 'password123', TRUE, 'ROLE_TRAINEE'),
+       (6, 'Hermione', 'Granger', 'hermione.granger', 'password123', TRUE, 'ROLE_TRAINEE');
+
+INSERT INTO training_type (id, training_type_name)
+VALUES (1, 'TRANSFIGURATION'),
+       (2, 'POTIONS'),
+       (3, 'HERBOLOGY');
+
+INSERT INTO trainer (id, user_id, training_type_id, updated_at)
+VALUES (1, 1, 1, '2024-01-01 00:00:00'),
+       (2, 2, 2, '2024-01-01 00:00:00'),
+       (3, 3, 3, '2024-01-01 00:00:00');
+
+INSERT INTO trainee (id, date_of_birth, address, user_id)
+VALUES (1, '1980-07-31', '4 Privet Drive', 4),
+       (2, '1980-03-01', 'The Burrow', 5),
+       (3, '1979-09-19', 'Hampstead Garden Suburb', 6);
+
+INSERT INTO trainee_trainer (trainee_id, trainer_id)
+VALUES (1, 1), (2, 1), (3, 1), (1, 2), (3, 2);
+
+INSERT INTO training (id, trainee_id, trainer_id, training_type_id, training_name, training_date, training_duration)
+VALUES (1, 1, 1, 1, 'Animagus Basics', '2024-01-10', 60),
+       (2, 2, 1, 1, 'Switching Spells', '2024-01-11', 45),
+       (3, 3, 1, 1, 'Vanishing Spells', '2024-01-12', 90),
+       (4, 1, 2, 2, 'Draught of Peace', '2024-01-13', 120),
+       (5, 3, 2, 2, 'Polyjuice Potion', '2024-01-14', 120);
@@ -13,5 +13,8 @@ public class ActiveMQConfig {
     public static final String TRAINER_QUEUE = "trainer.profile.queue";
     public static final String TRAINERS_QUEUE = "trainers.list.queue";
     public static final String USERNAME_QUEUE = "trainer.name.queue";
+    public static final String TRAINERS_SYNC_QUEUE = "trainers.sync.queue";
+    public static final String TRAINERS_SYNC_ACK_QUEUE = "trainers.sync.ack.queue";
     public static final String ERROR_QUEUE = "trainer.profile.dlq";
+    public static final String TOKEN_REVOCATION_TOPIC = "tokens.revocation.topic";
 }
\ No newline at end of file
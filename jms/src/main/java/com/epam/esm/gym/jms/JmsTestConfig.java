@@ -1,5 +1,6 @@
 package com.epam.esm.gym.jms;
 
+import com.epam.esm.gym.jms.dto.DeadLetterEnvelope;
 import org.apache.activemq.ActiveMQConnectionFactory;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -47,7 +48,7 @@ public class JmsTestConfig {
     public MessageConverter messageConverter() {
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
         converter.setTargetType(MessageType.TEXT);
-        converter.setTypeIdPropertyName("_type");
+        converter.setTypeIdPropertyName(DeadLetterEnvelope.TYPE_ID_PROPERTY);
         return converter;
     }
 
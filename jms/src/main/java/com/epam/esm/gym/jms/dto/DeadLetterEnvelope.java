@@ -0,0 +1,93 @@
+package com.epam.esm.gym.jms.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+/**
+ * Represents a message that could not be processed and was routed to the dead letter queue.
+ * The envelope keeps the original body together with the destination it was received from,
+ * so the message can be replayed to that destination once the cause of the failure is fixed.
+ * The attempt counter is carried to the source queue on replay in the {@link #ATTEMPT_PROPERTY}
+ * message property and incremented every time the message fails again. The type id of the original
+ * message is kept as well and restored in the {@link #TYPE_ID_PROPERTY} on replay, as the message
+ * converter of the listeners cannot read a message without it.
+ */
+@Builder
+public record DeadLetterEnvelope(
+        String payload,
+        String destination,
+        String typeId,
+        String exceptionClass,
+        String errorMessage,
+        int attempt,
+        long timestamp) {
+
+    /**
+     * JMS message property holding the source destination of an envelope.
+     * Only messages carrying this property are picked up by the replay.
+     */
+    public static final String SOURCE_PROPERTY = "dlqSource";
+
+    /**
+     * JMS message property holding the number of times a replayed message has already failed.
+     */
+    public static final String ATTEMPT_PROPERTY = "dlqAttempt";
+
+    /**
+     * JMS message property holding the type id the message converter uses to read a message body.
+     */
+    public static final String TYPE_ID_PROPERTY = "_type";
+
+    /**
+     * Creates a new DeadLetterEnvelope instance.
+     *
+     * @param payload        the original message body
+     * @param destination    the destination the message was received from
+     * @param typeId         the type id of the original message
+     * @param exceptionClass the fully qualified class name of the failure
+     * @param errorMessage   the failure message
+     * @param attempt        the number of times the message has failed so far
+     * @param timestamp      the time of the failure in epoch milliseconds
+     */
+    @JsonCreator
+    public DeadLetterEnvelope(
+            @JsonProperty("payload") String payload,
+            @JsonProperty("destination") String destination,
+            @JsonProperty("typeId") String typeId,
+            @JsonProperty("exceptionClass") String exceptionClass,
+            @JsonProperty("errorMessage") String errorMessage,
+            @JsonProperty("attempt") int attempt,
+            @JsonProperty("timestamp") long timestamp) {
+        this.payload = payload;
+        this.destination = destination;
+        this.typeId = typeId;
+        this.exceptionClass = exceptionClass;
+        this.errorMessage = errorMessage;
+        this.attempt = attempt;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Wraps a failed message into an envelope stamped with the current time.
+     *
+     * @param payload         the original message body
+     * @param destination     the destination the message was received from
+     * @param typeId          the type id of the original message
+     * @param cause           the failure raised while processing the message
+     * @param previousAttempt the number of times the message had already failed before this delivery
+     * @return the envelope describing the failure
+     */
+    public static DeadLetterEnvelope of(String payload, String destination, String typeId, Throwable cause,
+                                        int previousAttempt) {
+        return DeadLetterEnvelope.builder()
+                .payload(payload)
+                .destination(destination)
+                .typeId(typeId)
+                .exceptionClass(cause.getClass().getName())
+                .errorMessage(cause.getMessage())
+                .attempt(previousAttempt + 1)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
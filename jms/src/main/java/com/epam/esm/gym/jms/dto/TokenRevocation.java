@@ -0,0 +1,38 @@
+package com.epam.esm.gym.jms.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+/**
+ * Announces a token revocation to every gym-service instance.
+ * Either a single token is revoked by its digest, or all tokens of a user
+ * issued before the given epoch second.
+ */
+@Builder
+public record TokenRevocation(
+        String digest,
+        Long expiresAt,
+        String username,
+        Long revokedBefore) {
+
+    /**
+     * Creates a new TokenRevocation instance.
+     *
+     * @param digest        the digest of the revoked token, or {@code null} for a user-wide revocation
+     * @param expiresAt     the expiration of the revoked token in milliseconds since the epoch
+     * @param username      the user whose tokens are revoked, or {@code null} for a single token
+     * @param revokedBefore the epoch second before which the user's tokens are revoked
+     */
+    @JsonCreator
+    public TokenRevocation(
+            @JsonProperty("digest") String digest,
+            @JsonProperty("expiresAt") Long expiresAt,
+            @JsonProperty("username") String username,
+            @JsonProperty("revokedBefore") Long revokedBefore) {
+        this.digest = digest;
+        this.expiresAt = expiresAt;
+        this.username = username;
+        this.revokedBefore = revokedBefore;
+    }
+}
@@ -0,0 +1,48 @@
+package com.epam.esm.gym.jms.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents one fixed-size chunk of a trainer list publication.
+ * All chunks of a publication share the batch id and are numbered from zero;
+ * the chunk with {@code last} set is the end marker and tells the consumer how many chunks to expect.
+ * A complete publication replaces the consumer's trainers; when it is sent as a full resync, every chunk
+ * carries the watermark the consumer acknowledges once all chunks have been applied.
+ * Chunks may arrive out of order when several consumers share the queue.
+ */
+@Builder
+public record TrainerListChunk(
+        String batchId,
+        int sequence,
+        boolean last,
+        String watermark,
+        List<TrainerProfile> trainers) {
+
+    /**
+     * Creates a new TrainerListChunk instance.
+     *
+     * @param batchId   the id shared by all chunks of one publication
+     * @param sequence  the zero-based position of the chunk within the publication
+     * @param last      whether this is the final chunk of the publication
+     * @param watermark the position up to which the publication covers all trainer changes,
+     *                  {@code null} if it is not acknowledged
+     * @param trainers  the trainers contained in the chunk
+     */
+    @JsonCreator
+    public TrainerListChunk(
+            @JsonProperty("batchId") String batchId,
+            @JsonProperty("sequence") int sequence,
+            @JsonProperty("last") boolean last,
+            @JsonProperty("watermark") String watermark,
+            @JsonProperty("trainers") List<TrainerProfile> trainers) {
+        this.batchId = batchId;
+        this.sequence = sequence;
+        this.last = last;
+        this.watermark = watermark;
+        this.trainers = trainers;
+    }
+}
@@ -0,0 +1,32 @@
+package com.epam.esm.gym.jms.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Acknowledges that a consumer has applied every trainer change up to the given watermark.
+ * The next delta sent to the consumer starts from this watermark.
+ */
+public record TrainerSyncAck(
+        String consumer,
+        String watermark) {
+
+    /**
+     * The consumer name used by the workload service.
+     */
+    public static final String WORKLOAD_CONSUMER = "workload-service";
+
+    /**
+     * Creates a new TrainerSyncAck instance.
+     *
+     * @param consumer  the name of the acknowledging consumer
+     * @param watermark the watermark of the applied {@link TrainerSyncBatch}
+     */
+    @JsonCreator
+    public TrainerSyncAck(
+            @JsonProperty("consumer") String consumer,
+            @JsonProperty("watermark") String watermark) {
+        this.consumer = consumer;
+        this.watermark = watermark;
+    }
+}
@@ -0,0 +1,38 @@
+package com.epam.esm.gym.jms.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Represents one trainer synchronisation message sent from the gym service to the workload service.
+ * A delta batch carries only the trainers changed since the consumer's last acknowledged watermark,
+ * while a full resync batch carries every trainer and replaces the consumer's data.
+ * The watermark is opaque to the consumer, which echoes it back in a {@link TrainerSyncAck}
+ * once the batch has been applied.
+ */
+@Builder
+public record TrainerSyncBatch(
+        String watermark,
+        boolean fullResync,
+        List<TrainerProfile> trainers) {
+
+    /**
+     * Creates a new TrainerSyncBatch instance.
+     *
+     * @param watermark  the position up to which the batch covers all trainer changes
+     * @param fullResync whether the batch contains every trainer and replaces the consumer's data
+     * @param trainers   the changed trainers, or all trainers for a full resync
+     */
+    @JsonCreator
+    public TrainerSyncBatch(
+            @JsonProperty("watermark") String watermark,
+            @JsonProperty("fullResync") boolean fullResync,
+            @JsonProperty("trainers") List<TrainerProfile> trainers) {
+        this.watermark = watermark;
+        this.fullResync = fullResync;
+        this.trainers = trainers;
+    }
+}
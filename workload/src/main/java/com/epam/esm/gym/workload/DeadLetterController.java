@@ -0,0 +1,50 @@
+package com.epam.esm.gym.workload;
+
+import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.workload.config.DeadLetterReplayProperties;
+import com.epam.esm.gym.workload.service.DeadLetterReplayService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Administrative REST controller for the dead letter queue.
+ * This controller exposes an endpoint that drains replayable envelopes from the dead letter queue
+ * back to the queues they were received from. The work is delegated to the {@link DeadLetterReplayService},
+ * which paces the replay so that live traffic keeps flowing while a backlog is being recovered.
+ * The replay runs on the request thread, so a call is capped to what the configured rate replays
+ * within a normal request timeout; larger backlogs are drained by calling the endpoint again.
+ */
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/workload/dlq")
+public class DeadLetterController {
+
+    private final DeadLetterReplayService replayService;
+    private final DeadLetterReplayProperties properties;
+
+    /**
+     * Replays dead letter envelopes to their source queues.
+     *
+     * @param limit the maximum number of envelopes to replay in this call,
+     *              the {@link DeadLetterReplayProperties#getMaxLimit() cap} if not given.
+     * @return a {@link MessageResponse} with the number of replayed envelopes.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<MessageResponse> replay(
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int maxLimit = properties.getMaxLimit();
+        int requested = limit != null ? limit : maxLimit;
+        if (requested <= 0) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Limit must be positive"));
+        }
+        if (requested > maxLimit) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Limit must not exceed " + maxLimit));
+        }
+        int replayed = replayService.replay(requested);
+        return ResponseEntity.ok(new MessageResponse("Replayed " + replayed + " dead letter messages"));
+    }
+}
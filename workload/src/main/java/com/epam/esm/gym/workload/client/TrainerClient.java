@@ -5,7 +5,6 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,17 +23,4 @@ public interface TrainerClient {
      */
     @GetMapping("/{username}")
     TrainerProfile findByUsername(@PathVariable("username") String username);
-
-    /**
-     * Retrieves a list of all trainers from the system.
-     * This method queries the underlying data source to fetch
-     * the complete list of trainers, returning their details
-     * encapsulated in {@link com.epam.esm.gym.jms.dto.TrainerProfile} objects.
-     *
-     * @return a list of {@link com.epam.esm.gym.jms.dto.TrainerProfile} containing details
-     * such as usernames, names, and active status of all trainers.
-     * If no trainers are found, an empty list is returned.
-     */
-    @GetMapping
-    List<TrainerProfile> findAll();
 }
@@ -0,0 +1,57 @@
+package com.epam.esm.gym.workload.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for replaying the dead letter queue.
+ * <p>
+ * The replay moves envelopes back to their source queues in batches. Each batch is committed
+ * in a single JMS transaction and batches are spaced out so that the overall throughput stays
+ * below {@link #ratePerSecond}, leaving room on the broker and the listeners for live traffic.
+ * A replay runs on the request thread, so one call replays at most what the rate allows within
+ * {@link #maxDuration}.
+ * </p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("dlq.replay")
+public class DeadLetterReplayProperties {
+
+    /**
+     * The number of envelopes moved and committed together.
+     */
+    private int batchSize = 50;
+
+    /**
+     * The maximum number of envelopes replayed per second.
+     */
+    private int ratePerSecond = 100;
+
+    /**
+     * How long to wait for the next envelope before a batch is considered drained, in milliseconds.
+     */
+    private long receiveTimeout = 1000;
+
+    /**
+     * Envelopes that already failed this many times are parked in the dead letter queue and not replayed.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * The longest a single replay call is paced for, in milliseconds; it must fit the request timeout.
+     */
+    private long maxDuration = 5000;
+
+    /**
+     * Returns the largest number of envelopes a single replay call may request.
+     *
+     * @return the envelopes replayable at {@link #ratePerSecond} within {@link #maxDuration}, at least one
+     */
+    public int getMaxLimit() {
+        return (int) Math.max(1, (long) ratePerSecond * maxDuration / 1000);
+    }
+}
@@ -0,0 +1,73 @@
+package com.epam.esm.gym.workload.config;
+
+import io.micrometer.core.instrument.Timer;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+import lombok.AllArgsConstructor;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Listener container factory whose containers report every invocation to {@link JmsMetrics}.
+ *
+ * <p>Instrumenting the container instead of each {@code @JmsListener} method keeps the listener
+ * signatures untouched while still giving access to the raw {@link Message}, which carries the
+ * destination and the JMS timestamp needed for the end-to-end latency.</p>
+ */
+@AllArgsConstructor
+public class InstrumentedJmsListenerContainerFactory extends DefaultJmsListenerContainerFactory {
+
+    private final JmsMetrics metrics;
+
+    /**
+     * {@inheritDoc}
+     * Creates a container that times and counts each listener invocation.
+     *
+     * @return the instrumented {@link DefaultMessageListenerContainer}
+     */
+    @Override
+    protected DefaultMessageListenerContainer createContainerInstance() {
+        return new InstrumentedMessageListenerContainer(metrics);
+    }
+
+    /**
+     * Message listener container recording the consume timer, the in-flight gauge
+     * and the end-to-end latency around the listener call.
+     */
+    @AllArgsConstructor
+    static class InstrumentedMessageListenerContainer extends DefaultMessageListenerContainer {
+
+        private final JmsMetrics metrics;
+
+        /**
+         * {@inheritDoc}
+         * Wraps the listener call with the consume metrics of the container destination.
+         *
+         * @param session the JMS session to operate on
+         * @param message the received JMS message
+         * @throws JMSException if thrown by JMS API methods
+         */
+        @Override
+        protected void invokeListener(Session session, Message message) throws JMSException {
+            String destination = Objects.toString(getDestinationName(), "unknown");
+            metrics.recordEndToEnd(destination, message.getJMSTimestamp());
+            AtomicInteger active = metrics.inFlight(destination);
+            Timer.Sample sample = metrics.startConsume();
+            String outcome = "success";
+            active.incrementAndGet();
+            try {
+                super.invokeListener(session, message);
+            } catch (JMSException | RuntimeException e) {
+                outcome = "error";
+                throw e;
+            } finally {
+                active.decrementAndGet();
+                metrics.stopConsume(sample, destination, outcome);
+            }
+        }
+    }
+}
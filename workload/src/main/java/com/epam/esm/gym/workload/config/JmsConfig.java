@@ -1,5 +1,6 @@
 package com.epam.esm.gym.workload.config;
 
+import com.epam.esm.gym.jms.dto.DeadLetterEnvelope;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Queue;
 import jakarta.jms.Session;
@@ -63,7 +64,7 @@ public class JmsConfig {
     public MessageConverter messageConverter() {
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
         converter.setTargetType(MessageType.TEXT);
-        converter.setTypeIdPropertyName("_type");
+        converter.setTypeIdPropertyName(DeadLetterEnvelope.TYPE_ID_PROPERTY);
         return converter;
     }
 
@@ -90,13 +91,17 @@ public class JmsConfig {
     }
 
     /**
-     * Creates a default JMS listener container factory.
+     * Creates a default JMS listener container factory whose containers report
+     * consume time, in-flight messages and end-to-end latency to {@link JmsMetrics}.
+     * The containers also run when workload events are consumed from Kafka, because the dead letter
+     * replay still sends messages back to their JMS source queues.
      *
+     * @param jmsMetrics the metrics recorder shared by all listener containers
      * @return the DefaultJmsListenerContainerFactory instance
      */
     @Bean
-    public DefaultJmsListenerContainerFactory jmsListenerContainerFactory() {
-        DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+    public DefaultJmsListenerContainerFactory jmsListenerContainerFactory(JmsMetrics jmsMetrics) {
+        DefaultJmsListenerContainerFactory factory = new InstrumentedJmsListenerContainerFactory(jmsMetrics);
         factory.setConnectionFactory(connectionFactory());
         factory.setMessageConverter(messageConverter());
         factory.setTransactionManager(jmsTransactionManager(connectionFactory()));
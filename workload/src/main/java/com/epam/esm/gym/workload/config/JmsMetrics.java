@@ -0,0 +1,107 @@
+package com.epam.esm.gym.workload.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records Micrometer meters for messages consumed from the JMS broker.
+ *
+ * <p>Listener invocations are timed per destination and outcome, the end-to-end latency is
+ * derived from the JMS timestamp set by the producer, the number of messages currently being
+ * processed is exposed as a gauge and every message routed to or replayed from the dead letter
+ * queue is counted against the destination it belongs to.</p>
+ */
+@Component
+@AllArgsConstructor
+public class JmsMetrics {
+
+    public static final String CONSUME_TIMER = "jms.consume";
+    public static final String END_TO_END_TIMER = "jms.end.to.end.latency";
+    public static final String CONSUME_IN_FLIGHT = "jms.consume.in.flight";
+    public static final String DEAD_LETTERS = "jms.dlq.messages";
+    public static final String REPLAYED = "jms.dlq.replayed";
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Starts timing a listener invocation.
+     *
+     * @return the running sample to be passed to {@link #stopConsume(Timer.Sample, String, String)}
+     */
+    public Timer.Sample startConsume() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Stops the sample and records it against the consume timer of the destination.
+     *
+     * @param sample      the sample returned by {@link #startConsume()}
+     * @param destination the JMS destination the message was received from
+     * @param outcome     {@code success} or {@code error}
+     */
+    public void stopConsume(Timer.Sample sample, String destination, String outcome) {
+        sample.stop(Timer.builder(CONSUME_TIMER)
+                .description("Time spent by the listener processing a JMS message")
+                .tags("destination", destination, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /**
+     * Records the time elapsed between the producer sending the message and now.
+     * Messages without a JMS timestamp are ignored.
+     *
+     * @param destination  the JMS destination the message was received from
+     * @param jmsTimestamp the {@code JMSTimestamp} header in epoch milliseconds
+     */
+    public void recordEndToEnd(String destination, long jmsTimestamp) {
+        if (jmsTimestamp <= 0) {
+            return;
+        }
+        long latency = Math.max(0, System.currentTimeMillis() - jmsTimestamp);
+        Timer.builder(END_TO_END_TIMER)
+                .description("Time between the producer sending a JMS message and the listener receiving it")
+                .tags("destination", destination)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(Duration.ofMillis(latency));
+    }
+
+    /**
+     * Counts a message that was routed to the dead letter queue.
+     *
+     * @param source the destination the failed message was received from
+     */
+    public void recordDeadLetter(String source) {
+        registry.counter(DEAD_LETTERS, "source", source).increment();
+    }
+
+    /**
+     * Counts a dead letter that was replayed to its source destination.
+     *
+     * @param destination the destination the message was replayed to
+     */
+    public void recordReplay(String destination) {
+        registry.counter(REPLAYED, "destination", destination).increment();
+    }
+
+    /**
+     * Returns the in-flight counter for the destination, registering its gauge on first use.
+     *
+     * @param destination the JMS destination
+     * @return the counter backing the {@value #CONSUME_IN_FLIGHT} gauge
+     */
+    public AtomicInteger inFlight(String destination) {
+        return inFlight.computeIfAbsent(destination, key -> registry.gauge(
+                CONSUME_IN_FLIGHT, Tags.of("destination", key), new AtomicInteger()));
+    }
+}
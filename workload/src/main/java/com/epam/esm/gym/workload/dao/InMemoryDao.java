@@ -5,6 +5,7 @@ import com.epam.esm.gym.jms.dto.TrainerSummary;
 import com.epam.esm.gym.jms.dto.WorkloadRequest;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * InMemoryDao defines methods for managing trainer profiles in an in-memory database.
@@ -25,6 +26,20 @@ public interface InMemoryDao {
      */
     void save(List<TrainerProfile> trainerProfiles);
 
+    /**
+     * Replaces all trainer profiles in the in-memory database with the given ones.
+     *
+     * @param trainerProfiles the complete list of {@link TrainerProfile} objects.
+     */
+    void replaceAll(List<TrainerProfile> trainerProfiles);
+
+    /**
+     * Removes every trainer profile whose username is not among the given ones.
+     *
+     * @param usernames the usernames of the trainer profiles to keep.
+     */
+    void retainAll(Set<String> usernames);
+
     /**
      * Saves a single trainer profile to the in-memory database.
      *
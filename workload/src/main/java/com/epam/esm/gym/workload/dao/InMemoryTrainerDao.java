@@ -8,7 +8,9 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * In-memory implementation of the Trainer Data Access Object (DAO).
@@ -52,6 +54,31 @@ public class InMemoryTrainerDao implements InMemoryDao {
         trainerProfiles.forEach(profile -> this.profile.put(profile.username(), profile));
     }
 
+    /**
+     * Replaces all trainer profiles in the in-memory database.
+     * Profiles are upserted first and trainers missing from the list removed afterwards,
+     * so readers never observe an empty store.
+     *
+     * @param trainerProfiles the complete list of {@link TrainerProfile} objects.
+     */
+    @Override
+    public void replaceAll(List<TrainerProfile> trainerProfiles) {
+        save(trainerProfiles);
+        retainAll(trainerProfiles.stream()
+                .map(TrainerProfile::username)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Removes every trainer profile whose username is not among the given ones.
+     *
+     * @param usernames the usernames of the trainer profiles to keep.
+     */
+    @Override
+    public void retainAll(Set<String> usernames) {
+        profile.keySet().retainAll(usernames);
+    }
+
     /**
      * Saves a single trainer profile to the in-memory database.
      *
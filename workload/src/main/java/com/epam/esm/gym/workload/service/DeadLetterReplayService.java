@@ -0,0 +1,170 @@
+package com.epam.esm.gym.workload.service;
+
+import com.epam.esm.gym.jms.dto.DeadLetterEnvelope;
+import com.epam.esm.gym.workload.config.DeadLetterReplayProperties;
+import com.epam.esm.gym.workload.config.JmsMetrics;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.ATTEMPT_PROPERTY;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.SOURCE_PROPERTY;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.TYPE_ID_PROPERTY;
+
+/**
+ * Drains {@link DeadLetterEnvelope} messages from the dead letter queue back to their source queues.
+ *
+ * <p>Only envelopes tagged with a source destination and an attempt count below the configured
+ * maximum are selected; bare error strings and parked envelopes stay in the queue untouched.
+ * Every batch is received and re-sent within one transacted session, so an envelope is either
+ * moved to its source queue or left in the dead letter queue. Batches are paced according to
+ * {@link DeadLetterReplayProperties} so the replay does not starve live traffic.</p>
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayService {
+
+    private final JmsTemplate replayTemplate;
+    private final MessageConverter messageConverter;
+    private final DeadLetterReplayProperties properties;
+    private final JmsMetrics jmsMetrics;
+
+    /**
+     * Creates the service with a dedicated transacted {@link JmsTemplate}, so the replay
+     * never changes the settings of the template shared with the listeners.
+     *
+     * @param connectionFactory the broker connection factory
+     * @param messageConverter  the converter used to read envelopes and write the replayed messages
+     * @param properties        the replay batching and pacing settings
+     * @param jmsMetrics        the metrics recorder
+     */
+    public DeadLetterReplayService(ConnectionFactory connectionFactory,
+                                   MessageConverter messageConverter,
+                                   DeadLetterReplayProperties properties,
+                                   JmsMetrics jmsMetrics) {
+        this.replayTemplate = new JmsTemplate(connectionFactory);
+        this.replayTemplate.setSessionTransacted(true);
+        this.messageConverter = messageConverter;
+        this.properties = properties;
+        this.jmsMetrics = jmsMetrics;
+    }
+
+    /**
+     * Replays up to {@code limit} envelopes, batch by batch, at the configured rate.
+     * The replay stops early once the dead letter queue holds no more replayable envelopes.
+     *
+     * @param limit the maximum number of envelopes to replay
+     * @return the number of envelopes moved back to their source queues
+     */
+    public int replay(int limit) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long batchWindow = 1000L * batchSize / Math.max(1, properties.getRatePerSecond());
+        int replayed = 0;
+        while (replayed < limit) {
+            long start = System.currentTimeMillis();
+            int requested = Math.min(batchSize, limit - replayed);
+            int moved = replayBatch(requested);
+            replayed += moved;
+            if (moved < requested) {
+                break;
+            }
+            pause(batchWindow - (System.currentTimeMillis() - start));
+        }
+        log.info("Replayed {} dead letter messages", replayed);
+        return replayed;
+    }
+
+    /**
+     * Moves a single batch of envelopes to their source queues and commits it.
+     * Replays are counted once the batch is committed.
+     *
+     * @param size the maximum number of envelopes in the batch
+     * @return the number of envelopes moved
+     */
+    int replayBatch(int size) {
+        Integer moved = replayTemplate.execute(session -> {
+            MessageConsumer consumer = session.createConsumer(session.createQueue(ERROR_QUEUE), selector());
+            try {
+                List<String> destinations = new ArrayList<>();
+                Message message;
+                while (destinations.size() < size
+                        && (message = consumer.receive(properties.getReceiveTimeout())) != null) {
+                    destinations.add(forward(session, (DeadLetterEnvelope) messageConverter.fromMessage(message)));
+                }
+                session.commit();
+                destinations.forEach(jmsMetrics::recordReplay);
+                return destinations.size();
+            } catch (JMSException | RuntimeException e) {
+                session.rollback();
+                log.error("Dead letter replay batch rolled back: {}", e.getMessage());
+                throw e;
+            } finally {
+                consumer.close();
+            }
+        }, true);
+        return Objects.requireNonNullElse(moved, 0);
+    }
+
+    /**
+     * Sends the original body of the envelope to its source queue, carrying the attempt count.
+     * The body is written by the message converter the listeners read it with, and the original
+     * type id is restored so the converter resolves the same type as on the first delivery.
+     *
+     * @param session  the transacted session of the current batch
+     * @param envelope the envelope to replay
+     * @return the destination the envelope was sent to
+     * @throws JMSException if the message cannot be sent
+     */
+    private String forward(Session session, DeadLetterEnvelope envelope) throws JMSException {
+        Message message = messageConverter.toMessage(envelope.payload(), session);
+        if (envelope.typeId() != null) {
+            message.setStringProperty(TYPE_ID_PROPERTY, envelope.typeId());
+        }
+        message.setIntProperty(ATTEMPT_PROPERTY, envelope.attempt());
+        MessageProducer producer = session.createProducer(session.createQueue(envelope.destination()));
+        try {
+            producer.send(message);
+        } finally {
+            producer.close();
+        }
+        return envelope.destination();
+    }
+
+    /**
+     * Builds the selector matching replayable envelopes.
+     *
+     * @return the JMS message selector
+     */
+    private String selector() {
+        return String.format("%s IS NOT NULL AND %s < %d",
+                SOURCE_PROPERTY, ATTEMPT_PROPERTY, properties.getMaxAttempts());
+    }
+
+    /**
+     * Sleeps for the remainder of the batch window to keep the replay within the configured rate.
+     *
+     * @param millis the time to sleep, ignored when not positive
+     */
+    private void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.esm.gym.workload.service;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.ADD_TRAINING_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.DELETE_TRAINING_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_SUMMARY_QUEUE;
+
+/**
+ * Kafka consumer for workload events, used instead of the JMS listeners when
+ * {@code workload.transport.type} is {@code kafka}.
+ *
+ * <p>Records are consumed in batches and handed to the same {@link TrainerReceiverService} methods
+ * the JMS listeners use, one by one and in partition order. Since the producer keys records by
+ * trainer username, the events of one trainer are always processed in the order they were sent,
+ * while the partitions are spread over the consumers of the group.</p>
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(name = "workload.transport.type", havingValue = "kafka")
+public class KafkaTrainerListener {
+
+    private final TrainerReceiverService receiverService;
+
+    /**
+     * Receives a batch of workload event records and dispatches them by topic.
+     *
+     * @param records the records of the batch, in partition order
+     */
+    @KafkaListener(
+            topics = {ADD_TRAINING_QUEUE, DELETE_TRAINING_QUEUE, TRAINER_QUEUE,
+                    TRAINERS_QUEUE, TRAINERS_SYNC_QUEUE, TRAINER_SUMMARY_QUEUE},
+            groupId = "${spring.kafka.consumer.group-id:workload-service}",
+            batch = "true")
+    public void receiveBatch(List<ConsumerRecord<String, String>> records) {
+        log.debug("Received batch of {} workload events", records.size());
+        records.forEach(this::dispatch);
+    }
+
+    /**
+     * Hands a single record to the receiver method of its topic.
+     *
+     * @param consumerRecord the record to process
+     */
+    void dispatch(ConsumerRecord<String, String> consumerRecord) {
+        String json = consumerRecord.value();
+        switch (consumerRecord.topic()) {
+            case ADD_TRAINING_QUEUE -> receiverService.listenAddTraining(json, 0);
+            case DELETE_TRAINING_QUEUE -> receiverService.listenDeleteTraining(json, 0);
+            case TRAINER_QUEUE -> receiverService.receive(json, 0);
+            case TRAINERS_QUEUE -> receiverService.receiveTrainerProfileChunk(json, 0);
+            case TRAINERS_SYNC_QUEUE -> receiverService.receiveTrainerSync(json, 0);
+            case TRAINER_SUMMARY_QUEUE -> receiverService.receiveTrainerSummary(json, 0);
+            default -> log.warn("Ignoring record from unexpected topic {}", consumerRecord.topic());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.epam.esm.gym.workload.service;
+
+import com.epam.esm.gym.jms.dto.TrainerListChunk;
+import com.epam.esm.gym.workload.dao.InMemoryDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assembles chunked trainer list publications incrementally.
+ *
+ * <p>Every chunk is stored as soon as it arrives, so the full trainer list is never held in memory.
+ * Per batch only the sequence numbers of the received chunks, the position of the end marker and the
+ * usernames of the received trainers are tracked, which is enough to tell when a batch is complete even
+ * if its chunks arrive out of order or are redelivered. Once complete, the batch replaces the stored
+ * trainers: those it did not contain are removed.
+ * Batches that do not complete within {@link #BATCH_TIMEOUT} are dropped from tracking and logged.</p>
+ */
+@Slf4j
+@Component
+public class TrainerListAssembler {
+
+    static final Duration BATCH_TIMEOUT = Duration.ofHours(1);
+
+    private final InMemoryDao dao;
+    private final Map<String, BatchProgress> batches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the assembler.
+     *
+     * @param dao the store the trainers are saved to
+     */
+    public TrainerListAssembler(InMemoryDao dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * Stores the trainers of the chunk and records it against its batch.
+     * The chunk completing its batch also removes the stored trainers missing from the batch.
+     *
+     * @param chunk the received chunk
+     * @return {@code true} if the chunk completed its batch
+     */
+    public boolean accept(TrainerListChunk chunk) {
+        evictExpired();
+        dao.save(chunk.trainers());
+        BatchProgress progress = batches.computeIfAbsent(chunk.batchId(), id -> new BatchProgress(System.nanoTime()));
+        if (progress.record(chunk)) {
+            batches.remove(chunk.batchId());
+            dao.retainAll(progress.usernames());
+            log.info("Trainer list {} completed with {} chunks", chunk.batchId(), progress.receivedCount());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of batches still waiting for chunks.
+     *
+     * @return the number of incomplete batches
+     */
+    int pendingBatches() {
+        return batches.size();
+    }
+
+    /**
+     * Stops tracking batches that did not complete in time.
+     */
+    private void evictExpired() {
+        long now = System.nanoTime();
+        batches.entrySet().removeIf(entry -> {
+            boolean expired = now - entry.getValue().startedAt > BATCH_TIMEOUT.toNanos();
+            if (expired) {
+                log.warn("Trainer list {} incomplete after {} chunks, giving up", entry.getKey(),
+                        entry.getValue().receivedCount());
+            }
+            return expired;
+        });
+    }
+
+    /**
+     * Progress of one batch.
+     */
+    private static final class BatchProgress {
+
+        private final long startedAt;
+        private final BitSet received = new BitSet();
+        private final Set<String> usernames = new HashSet<>();
+        private int expected = -1;
+
+        /**
+         * Creates the progress of a batch whose first chunk arrived at the given time.
+         *
+         * @param startedAt the {@link System#nanoTime()} the first chunk arrived at
+         */
+        private BatchProgress(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Records a received chunk.
+         *
+         * @param chunk the received chunk
+         * @return {@code true} if all chunks up to the end marker have been received
+         */
+        private synchronized boolean record(TrainerListChunk chunk) {
+            received.set(chunk.sequence());
+            chunk.trainers().forEach(trainer -> usernames.add(trainer.username()));
+            if (chunk.last()) {
+                expected = chunk.sequence() + 1;
+            }
+            return expected >= 0 && received.cardinality() == expected;
+        }
+
+        /**
+         * Returns the number of distinct chunks received so far.
+         *
+         * @return the received chunk count
+         */
+        private synchronized int receivedCount() {
+            return received.cardinality();
+        }
+
+        /**
+         * Returns the usernames of the trainers received so far.
+         *
+         * @return a copy of the received usernames
+         */
+        private synchronized Set<String> usernames() {
+            return Set.copyOf(usernames);
+        }
+    }
+}
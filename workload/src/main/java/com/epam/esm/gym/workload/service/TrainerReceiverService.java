@@ -1,11 +1,16 @@
 package com.epam.esm.gym.workload.service;
 
+import com.epam.esm.gym.jms.dto.DeadLetterEnvelope;
+import com.epam.esm.gym.jms.dto.TrainerListChunk;
 import com.epam.esm.gym.jms.dto.TrainerProfile;
 import com.epam.esm.gym.jms.dto.TrainerStatus;
 import com.epam.esm.gym.jms.dto.TrainerSummary;
+import com.epam.esm.gym.jms.dto.TrainerSyncAck;
+import com.epam.esm.gym.jms.dto.TrainerSyncBatch;
 import com.epam.esm.gym.jms.dto.TrainerWorkloadResponse;
 import com.epam.esm.gym.jms.dto.TrainingResponse;
 import com.epam.esm.gym.jms.dto.WorkloadRequest;
+import com.epam.esm.gym.workload.config.JmsMetrics;
 import com.epam.esm.gym.workload.dao.InMemoryDao;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,6 +18,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jms.annotation.JmsListener;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.retry.annotation.CircuitBreaker;
 import org.springframework.stereotype.Service;
 
@@ -25,8 +31,12 @@ import static com.epam.esm.gym.jms.ActiveMQConfig.ADD_TRAINING_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.DELETE_TRAINING_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_ACK_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_QUEUE;
 import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_SUMMARY_QUEUE;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.ATTEMPT_PROPERTY;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.SOURCE_PROPERTY;
 
 /**
  * WarehouseReceiveService is responsible for receiving TrainerProfile messages
@@ -37,42 +47,52 @@ import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_SUMMARY_QUEUE;
 @AllArgsConstructor
 public class TrainerReceiverService {
 
+    /**
+     * The type id of the messages read by the listeners, all of which receive their body as a string.
+     */
+    private static final String PAYLOAD_TYPE_ID = String.class.getName();
+
     private final InMemoryDao dao;
     private final JmsTemplate jmsTemplate;
     private final ObjectMapper objectMapper;
+    private final JmsMetrics jmsMetrics;
+    private final TrainerListAssembler assembler;
 
     /**
      * Receives a trainer summary from the JMS queue and saves it to the database.
      *
      * @param jsonTrainerSummary the JSON string representation of the trainer summary
+     * @param attempt            the number of times the message already failed, {@code 0} on first delivery
      */
     @JmsListener(destination = TRAINER_SUMMARY_QUEUE, containerFactory = "jmsListenerContainerFactory")
-    public void receiveTrainerSummary(String jsonTrainerSummary) {
+    public void receiveTrainerSummary(
+            String jsonTrainerSummary, @Header(name = ATTEMPT_PROPERTY, defaultValue = "0") int attempt) {
         try {
             TrainerSummary trainerSummary = objectMapper.readValue(jsonTrainerSummary, TrainerSummary.class);
             dao.saveSummary(trainerSummary);
             log.info("Trainer summary saved: {}", trainerSummary);
         } catch (Exception e) {
             log.error("Unexpected error in listener method: {}", e.getMessage());
-            jmsTemplate.convertAndSend(ERROR_QUEUE, e.getMessage());
+            sendToErrorQueue(TRAINER_SUMMARY_QUEUE, jsonTrainerSummary, e, attempt);
         }
     }
 
     /**
      * Listens for ADD training requests from the specified JMS queue.
      *
-     * @param json the JSON string containing the WorkloadRequest details
+     * @param json    the JSON string containing the WorkloadRequest details
+     * @param attempt the number of times the message already failed, {@code 0} on first delivery
      */
     @JmsListener(destination = ADD_TRAINING_QUEUE, containerFactory = "jmsListenerContainerFactory")
     @CircuitBreaker(openTimeout = 5000, resetTimeout = 10000)
-    public void listenAddTraining(String json) {
+    public void listenAddTraining(String json, @Header(name = ATTEMPT_PROPERTY, defaultValue = "0") int attempt) {
         log.info("Received ADD training request");
         try {
             WorkloadRequest request = objectMapper.readValue(json, WorkloadRequest.class);
             dao.saveWorkload(request);
             log.info("Successfully added training session for trainer: {}", request.trainerUsername());
         } catch (Exception e) {
-            jmsTemplate.convertAndSend(ERROR_QUEUE, "Failed to process ADD training request");
+            sendToErrorQueue(ADD_TRAINING_QUEUE, json, e, attempt);
             log.error("Failed to process ADD training request {}", e.getMessage());
         }
     }
@@ -80,18 +100,19 @@ public class TrainerReceiverService {
     /**
      * Listens for DELETE training requests from the specified JMS queue.
      *
-     * @param json the WorkloadRequest containing training session details
+     * @param json    the WorkloadRequest containing training session details
+     * @param attempt the number of times the message already failed, {@code 0} on first delivery
      */
     @JmsListener(destination = DELETE_TRAINING_QUEUE, containerFactory = "jmsListenerContainerFactory")
     @CircuitBreaker(openTimeout = 5000, resetTimeout = 10000)
-    public void listenDeleteTraining(String json) {
+    public void listenDeleteTraining(String json, @Header(name = ATTEMPT_PROPERTY, defaultValue = "0") int attempt) {
         log.info("Received DELETE training request for trainer: {}", json);
         try {
             WorkloadRequest request = new ObjectMapper().readValue(json, WorkloadRequest.class);
             dao.removeWorkload(request);
             log.info("Successfully deleted training session for trainer: {}", request.trainerUsername());
         } catch (Exception e) {
-            jmsTemplate.convertAndSend(ERROR_QUEUE, "Failed to process ADD training request");
+            sendToErrorQueue(DELETE_TRAINING_QUEUE, json, e, attempt);
             log.error("Failed to process DELETE training request for trainer: {}", e.getMessage());
         }
     }
@@ -100,12 +121,13 @@ public class TrainerReceiverService {
      * Receives TrainerProfile messages from the queue asynchronously.
      *
      * @param trainerProfileJson the received TrainerProfile object
+     * @param attempt            the number of times the message already failed, {@code 0} on first delivery
      */
     @JmsListener(destination = TRAINER_QUEUE, containerFactory = "jmsListenerContainerFactory")
-    public void receive(String trainerProfileJson) {
+    public void receive(String trainerProfileJson, @Header(name = ATTEMPT_PROPERTY, defaultValue = "0") int attempt) {
         if (trainerProfileJson == null) {
             log.error("Username cannot be null");
-            jmsTemplate.convertAndSend(ERROR_QUEUE, "Username cannot be null");
+            sendToErrorQueue(TRAINER_QUEUE, null, new IllegalArgumentException("Username cannot be null"), attempt);
             return;
         }
         try {
@@ -113,25 +135,83 @@ public class TrainerReceiverService {
             dao.save(trainerProfile);
             log.info("WarehouseService received {}", trainerProfile);
         } catch (JsonProcessingException e){
-            jmsTemplate.convertAndSend(ERROR_QUEUE, e.getMessage());
+            sendToErrorQueue(TRAINER_QUEUE, trainerProfileJson, e, attempt);
         }
     }
 
     /**
-     * Receives a list of TrainerProfile objects from the TRAINER_LIST_QUEUE,
-     * processes each trainer by generating a weekly report.
+     * Receives one chunk of a trainer list publication from the TRAINERS_QUEUE.
+     * The chunk is stored right away by the {@link TrainerListAssembler}, which tracks
+     * the batch until its end marker and all preceding chunks have arrived.
+     * Once the batch is complete, its watermark is acknowledged like that of a full resync batch.
      *
-     * @param trainerProfiles the list of TrainerProfile objects received from the queue
+     * @param json    the JSON string representation of the {@link TrainerListChunk}
+     * @param attempt the number of times the message already failed, {@code 0} on first delivery
      */
     @JmsListener(destination = TRAINERS_QUEUE, containerFactory = "jmsListenerContainerFactory")
-    public void receiveTrainerProfileList(List<TrainerProfile> trainerProfiles) {
-        if (trainerProfiles == null || trainerProfiles.isEmpty()) {
-            jmsTemplate.convertAndSend(ERROR_QUEUE, "Invalid List of TrainerProfile received");
-        } else {
-            dao.save(trainerProfiles);
+    public void receiveTrainerProfileChunk(
+            String json, @Header(name = ATTEMPT_PROPERTY, defaultValue = "0") int attempt) {
+        try {
+            TrainerListChunk chunk = objectMapper.readValue(json, TrainerListChunk.class);
+            if (assembler.accept(chunk) && chunk.watermark() != null) {
+                jmsTemplate.convertAndSend(TRAINERS_SYNC_ACK_QUEUE,
+                        new TrainerSyncAck(TrainerSyncAck.WORKLOAD_CONSUMER, chunk.watermark()));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Failed to apply trainer list chunk: {}", e.getMessage());
+            sendToErrorQueue(TRAINERS_QUEUE, json, e, attempt);
+        }
+    }
+
+    /**
+     * Receives a trainer synchronisation batch from the gym service and applies it.
+     * Delta batches are merged into the stored trainers, while full resync batches replace them.
+     * Once applied, the batch watermark is acknowledged so the next delta starts after it.
+     *
+     * @param json    the JSON string representation of the {@link TrainerSyncBatch}
+     * @param attempt the number of times the message already failed, {@code 0} on first delivery
+     */
+    @JmsListener(destination = TRAINERS_SYNC_QUEUE, containerFactory = "jmsListenerContainerFactory")
+    public void receiveTrainerSync(String json, @Header(name = ATTEMPT_PROPERTY, defaultValue = "0") int attempt) {
+        try {
+            TrainerSyncBatch batch = objectMapper.readValue(json, TrainerSyncBatch.class);
+            if (batch.fullResync()) {
+                dao.replaceAll(batch.trainers());
+            } else {
+                dao.save(batch.trainers());
+            }
+            jmsTemplate.convertAndSend(TRAINERS_SYNC_ACK_QUEUE,
+                    new TrainerSyncAck(TrainerSyncAck.WORKLOAD_CONSUMER, batch.watermark()));
+            log.info("Applied {} trainers up to {}", batch.trainers().size(), batch.watermark());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Failed to apply trainer sync batch: {}", e.getMessage());
+            sendToErrorQueue(TRAINERS_SYNC_QUEUE, json, e, attempt);
         }
     }
 
+    /**
+     * Wraps the failed message into a {@link DeadLetterEnvelope}, sends it to the dead letter queue
+     * and counts it against the source destination. Envelopes carrying a payload are tagged with the
+     * {@link DeadLetterEnvelope#SOURCE_PROPERTY} and {@link DeadLetterEnvelope#ATTEMPT_PROPERTY}
+     * so they can later be selected by the replay, and keep the type id the message was read with.
+     *
+     * @param source  the destination the failed message was received from
+     * @param payload the original message body, {@code null} if nothing can be replayed
+     * @param cause   the failure raised while processing the message
+     * @param attempt the number of times the message had already failed before this delivery
+     */
+    private void sendToErrorQueue(String source, String payload, Throwable cause, int attempt) {
+        jmsMetrics.recordDeadLetter(source);
+        DeadLetterEnvelope envelope = DeadLetterEnvelope.of(payload, source, PAYLOAD_TYPE_ID, cause, attempt);
+        jmsTemplate.convertAndSend(ERROR_QUEUE, envelope, message -> {
+            if (payload != null) {
+                message.setStringProperty(SOURCE_PROPERTY, source);
+                message.setIntProperty(ATTEMPT_PROPERTY, envelope.attempt());
+            }
+            return message;
+        });
+    }
+
     /**
      * Retrieves all trainers and converts them into a list of TrainerWorkloadResponse objects.
      *
@@ -0,0 +1,53 @@
+package com.epam.esm.gym.workload;
+
+import com.epam.esm.gym.jms.dto.MessageResponse;
+import com.epam.esm.gym.workload.config.DeadLetterReplayProperties;
+import com.epam.esm.gym.workload.service.DeadLetterReplayService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterControllerTest {
+
+    @Mock
+    private DeadLetterReplayService replayService;
+
+    private final DeadLetterReplayProperties properties = new DeadLetterReplayProperties();
+    private DeadLetterController controller;
+
+    @BeforeEach
+    void setUp() {
+        properties.setRatePerSecond(100);
+        properties.setMaxDuration(5000);
+        controller = new DeadLetterController(replayService, properties);
+    }
+
+    @Test
+    void testReplayDefaultsToTheCap() {
+        when(replayService.replay(500)).thenReturn(3);
+
+        ResponseEntity<MessageResponse> response = controller.replay(null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(replayService).replay(500);
+    }
+
+    @Test
+    void testReplayRejectsLimitAboveTheCap() {
+        ResponseEntity<MessageResponse> response = controller.replay(501);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(replayService, never()).replay(anyInt());
+    }
+}
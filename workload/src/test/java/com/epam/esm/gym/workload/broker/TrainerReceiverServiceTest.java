@@ -1,22 +1,31 @@
 package com.epam.esm.gym.workload.broker;
 
+import com.epam.esm.gym.jms.dto.DeadLetterEnvelope;
 import com.epam.esm.gym.jms.dto.TrainerProfile;
+import com.epam.esm.gym.jms.dto.TrainerSyncAck;
 import com.epam.esm.gym.workload.dao.InMemoryDao;
 import com.epam.esm.gym.workload.service.TrainerReceiverService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
+import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINERS_SYNC_ACK_QUEUE;
+import static com.epam.esm.gym.jms.ActiveMQConfig.TRAINER_QUEUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -37,29 +46,91 @@ class TrainerReceiverServiceTest {
 
     @Test
     void testReceiveTrainerProfile() {
-        TrainerProfile profile = new TrainerProfile("harry_potter", "Harry", "Potter", true, new ArrayList<>());
-        trainerReceiverService.receive(profile.toString());
+        String json = "{\"username\":\"harry_potter\",\"firstName\":\"Harry\",\"lastName\":\"Potter\","
+                + "\"active\":true,\"trainings\":[]}";
+
+        trainerReceiverService.receive(json, 0);
+
+        verify(holderTrainer).save(new TrainerProfile("harry_potter", "Harry", "Potter", true, List.of()));
+    }
+
+    @Test
+    void testReceiveTrainerProfileChunk_completedListIsAcknowledged() {
+        String json = "{\"batchId\":\"batch\",\"sequence\":0,\"last\":true,\"watermark\":\"2024-10-01T10:00\","
+                + "\"trainers\":[{\"username\":\"harry_potter\",\"firstName\":\"Harry\",\"lastName\":\"Potter\","
+                + "\"active\":true,\"trainings\":[]}]}";
+
+        trainerReceiverService.receiveTrainerProfileChunk(json, 0);
+
+        verify(holderTrainer).save(List.of(
+                new TrainerProfile("harry_potter", "Harry", "Potter", true, List.of())));
+        verify(holderTrainer).retainAll(Set.of("harry_potter"));
+        verify(jmsTemplate).convertAndSend(TRAINERS_SYNC_ACK_QUEUE,
+                new TrainerSyncAck(TrainerSyncAck.WORKLOAD_CONSUMER, "2024-10-01T10:00"));
     }
 
     @Test
-    void testReceiveTrainerProfileList() {
-        List<TrainerProfile> profiles = List.of(
-                new TrainerProfile("harry_potter", "Harry", "Potter", true, new ArrayList<>()),
-                new TrainerProfile("hermione_granger", "Hermione", "Granger", true, new ArrayList<>())
-        );
+    void testReceiveTrainerProfileChunk_incompleteListIsNotAcknowledged() {
+        String json = "{\"batchId\":\"pending\",\"sequence\":1,\"last\":true,\"watermark\":\"2024-10-01T10:00\","
+                + "\"trainers\":[]}";
+
+        trainerReceiverService.receiveTrainerProfileChunk(json, 0);
+
+        verify(holderTrainer, never()).retainAll(any());
+        verify(jmsTemplate, never()).convertAndSend(eq(TRAINERS_SYNC_ACK_QUEUE), any(Object.class));
+    }
 
-        trainerReceiverService.receiveTrainerProfileList(profiles);
+    @Test
+    void testReceiveTrainerProfileChunk_invalidChunkSendsEnvelope() {
+        trainerReceiverService.receiveTrainerProfileChunk("{not a chunk", 0);
 
-        verify(holderTrainer, times(1)).save(eq(profiles));
+        ArgumentCaptor<DeadLetterEnvelope> captor = ArgumentCaptor.forClass(DeadLetterEnvelope.class);
+        verify(jmsTemplate).convertAndSend(eq(ERROR_QUEUE), captor.capture(), any(MessagePostProcessor.class));
+        assertEquals(TRAINERS_QUEUE, captor.getValue().destination());
     }
 
     @Test
     void testReceiveTrainerProfile_invalidProfile() {
-        trainerReceiverService.receive("");
+        trainerReceiverService.receive("", 0);
+
+        verify(holderTrainer, never()).save(any(TrainerProfile.class));
     }
 
     @Test
-    void testReceiveTrainerProfileList_emptyList() {
-        trainerReceiverService.receiveTrainerProfileList(Collections.emptyList());
+    void testReceiveTrainerProfile_invalidProfileSendsEnvelope() {
+        trainerReceiverService.receive("{not a profile", 2);
+
+        ArgumentCaptor<DeadLetterEnvelope> captor = ArgumentCaptor.forClass(DeadLetterEnvelope.class);
+        verify(jmsTemplate).convertAndSend(eq(ERROR_QUEUE), captor.capture(), any(MessagePostProcessor.class));
+        DeadLetterEnvelope envelope = captor.getValue();
+        assertEquals("{not a profile", envelope.payload());
+        assertEquals(TRAINER_QUEUE, envelope.destination());
+        assertEquals(3, envelope.attempt());
+    }
+
+    @Test
+    void testReceiveTrainerSync_deltaMergesAndAcknowledges() {
+        String json = "{\"watermark\":\"2024-10-01T10:00\",\"fullResync\":false,\"trainers\":"
+                + "[{\"username\":\"harry_potter\",\"firstName\":\"Harry\",\"lastName\":\"Potter\","
+                + "\"active\":true,\"trainings\":[]}]}";
+
+        trainerReceiverService.receiveTrainerSync(json, 0);
+
+        verify(holderTrainer).save(List.of(
+                new TrainerProfile("harry_potter", "Harry", "Potter", true, List.of())));
+        verify(holderTrainer, never()).replaceAll(any());
+        verify(jmsTemplate).convertAndSend(TRAINERS_SYNC_ACK_QUEUE,
+                new TrainerSyncAck(TrainerSyncAck.WORKLOAD_CONSUMER, "2024-10-01T10:00"));
+    }
+
+    @Test
+    void testReceiveTrainerSync_fullResyncReplacesAll() {
+        String json = "{\"watermark\":\"2024-10-01T10:00\",\"fullResync\":true,\"trainers\":[]}";
+
+        trainerReceiverService.receiveTrainerSync(json, 0);
+
+        verify(holderTrainer).replaceAll(List.of());
+        verify(jmsTemplate).convertAndSend(TRAINERS_SYNC_ACK_QUEUE,
+                new TrainerSyncAck(TrainerSyncAck.WORKLOAD_CONSUMER, "2024-10-01T10:00"));
     }
 }
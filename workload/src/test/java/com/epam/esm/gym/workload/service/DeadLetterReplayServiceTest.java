@@ -0,0 +1,166 @@
+package com.epam.esm.gym.workload.service;
+
+import com.epam.esm.gym.jms.dto.DeadLetterEnvelope;
+import com.epam.esm.gym.workload.config.DeadLetterReplayProperties;
+import com.epam.esm.gym.workload.config.JmsMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.converter.MappingJackson2MessageConverter;
+import org.springframework.jms.support.converter.MessageType;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.epam.esm.gym.jms.ActiveMQConfig.ERROR_QUEUE;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.ATTEMPT_PROPERTY;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.SOURCE_PROPERTY;
+import static com.epam.esm.gym.jms.dto.DeadLetterEnvelope.TYPE_ID_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link DeadLetterReplayService} against an embedded, non-persistent broker.
+ */
+class DeadLetterReplayServiceTest {
+
+    private static final String SOURCE_QUEUE = "replay.source";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DeadLetterReplayProperties properties = new DeadLetterReplayProperties();
+    private BrokerService broker;
+    private JmsTemplate jmsTemplate;
+    private DeadLetterReplayService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName(UUID.randomUUID().toString());
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(
+                "vm://" + broker.getBrokerName() + "?create=false");
+        connectionFactory.setTrustAllPackages(true);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setTargetType(MessageType.TEXT);
+        converter.setTypeIdPropertyName(TYPE_ID_PROPERTY);
+        jmsTemplate = new JmsTemplate(connectionFactory);
+        jmsTemplate.setMessageConverter(converter);
+        jmsTemplate.setReceiveTimeout(500);
+        properties.setReceiveTimeout(200);
+        service = new DeadLetterReplayService(connectionFactory, converter, properties, new JmsMetrics(registry));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        broker.stop();
+    }
+
+    @Test
+    void testBatchMovesEnvelopesReadableByTheListenerConverter() {
+        deadLetter("{\"username\":\"first\"}");
+        deadLetter("{\"username\":\"second\"}");
+        deadLetter("{\"username\":\"third\"}");
+
+        assertEquals(2, service.replayBatch(2));
+
+        assertEquals("{\"username\":\"first\"}", jmsTemplate.receiveAndConvert(SOURCE_QUEUE));
+        assertEquals("{\"username\":\"second\"}", jmsTemplate.receiveAndConvert(SOURCE_QUEUE));
+        assertEquals(1, depth(ERROR_QUEUE));
+        assertEquals(2, registry.get(JmsMetrics.REPLAYED).tag("destination", SOURCE_QUEUE).counter().count());
+    }
+
+    @Test
+    void testReplayedMessageCarriesTypeIdAndAttempt() throws JMSException {
+        deadLetter("{\"username\":\"first\"}");
+
+        service.replayBatch(1);
+
+        Message message = Objects.requireNonNull(jmsTemplate.receive(SOURCE_QUEUE));
+        assertEquals(String.class.getName(), message.getStringProperty(TYPE_ID_PROPERTY));
+        assertEquals(1, message.getIntProperty(ATTEMPT_PROPERTY));
+    }
+
+    @Test
+    void testFailedBatchIsRolledBack() {
+        deadLetter("{\"username\":\"first\"}");
+        jmsTemplate.send(ERROR_QUEUE, session -> {
+            Message message = session.createTextMessage("not an envelope");
+            message.setStringProperty(SOURCE_PROPERTY, SOURCE_QUEUE);
+            message.setIntProperty(ATTEMPT_PROPERTY, 1);
+            message.setStringProperty(TYPE_ID_PROPERTY, DeadLetterEnvelope.class.getName());
+            return message;
+        });
+
+        assertThrows(RuntimeException.class, () -> service.replayBatch(2));
+
+        assertEquals(0, depth(SOURCE_QUEUE));
+        assertEquals(2, depth(ERROR_QUEUE));
+        assertNull(registry.find(JmsMetrics.REPLAYED).counter());
+    }
+
+    @Test
+    void testReplayIsPacedByBatch() {
+        properties.setBatchSize(2);
+        properties.setRatePerSecond(10);
+        for (int i = 0; i < 4; i++) {
+            deadLetter("{\"username\":\"trainer" + i + "\"}");
+        }
+
+        long start = System.currentTimeMillis();
+        int replayed = service.replay(4);
+        long elapsed = System.currentTimeMillis() - start;
+
+        assertEquals(4, replayed);
+        assertEquals(4, depth(SOURCE_QUEUE));
+        assertTrue(elapsed >= 400, "two batches of 2 at 10 per second must take at least 400 ms, took " + elapsed);
+    }
+
+    @Test
+    void testReplayStopsWhenNothingIsLeft() {
+        deadLetter("{\"username\":\"first\"}");
+
+        assertEquals(1, service.replay(10));
+        assertEquals(0, depth(ERROR_QUEUE));
+    }
+
+    /**
+     * Sends an envelope to the dead letter queue the way the listeners do.
+     *
+     * @param payload the body the listener failed to process
+     */
+    private void deadLetter(String payload) {
+        DeadLetterEnvelope envelope = DeadLetterEnvelope.of(payload, SOURCE_QUEUE, String.class.getName(),
+                new IllegalStateException("failed"), 0);
+        jmsTemplate.convertAndSend(ERROR_QUEUE, envelope, message -> {
+            message.setStringProperty(SOURCE_PROPERTY, SOURCE_QUEUE);
+            message.setIntProperty(ATTEMPT_PROPERTY, envelope.attempt());
+            return message;
+        });
+    }
+
+    /**
+     * Counts the messages waiting in the queue.
+     *
+     * @param queue the queue name
+     * @return the number of messages in the queue
+     */
+    private int depth(String queue) {
+        Integer depth = jmsTemplate.browse(queue, (session, browser) -> {
+            Enumeration<?> messages = browser.getEnumeration();
+            return Collections.list(messages).size();
+        });
+        return Objects.requireNonNullElse(depth, 0);
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.esm.gym.workload.service;
+
+import com.epam.esm.gym.jms.dto.TrainerListChunk;
+import com.epam.esm.gym.jms.dto.TrainerProfile;
+import com.epam.esm.gym.workload.dao.InMemoryDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerListAssemblerTest {
+
+    @Mock
+    private InMemoryDao dao;
+
+    private TrainerListAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        assembler = new TrainerListAssembler(dao);
+    }
+
+    @Test
+    void testAcceptStoresEveryChunkImmediately() {
+        List<TrainerProfile> trainers = List.of(profile("Minerva.McGonagall"));
+
+        assertFalse(assembler.accept(new TrainerListChunk("batch", 0, false, null, trainers)));
+
+        verify(dao).save(trainers);
+        assertEquals(1, assembler.pendingBatches());
+    }
+
+    @Test
+    void testAcceptCompletesBatchOutOfOrder() {
+        assertFalse(assembler.accept(new TrainerListChunk("batch", 2, true, null, List.of(profile("Severus.Snape")))));
+        assertFalse(assembler.accept(new TrainerListChunk("batch", 0, false, null, List.of(profile("Remus.Lupin")))));
+        assertTrue(assembler.accept(new TrainerListChunk("batch", 1, false, null, List.of(profile("Rubeus.Hagrid")))));
+
+        assertEquals(0, assembler.pendingBatches());
+        verify(dao).retainAll(Set.of("Severus.Snape", "Remus.Lupin", "Rubeus.Hagrid"));
+    }
+
+    @Test
+    void testAcceptIgnoresRedeliveredChunk() {
+        assertFalse(assembler.accept(new TrainerListChunk("batch", 0, false, null, List.of(profile("Remus.Lupin")))));
+        assertFalse(assembler.accept(new TrainerListChunk("batch", 0, false, null, List.of(profile("Remus.Lupin")))));
+
+        assertFalse(assembler.accept(new TrainerListChunk("batch", 2, true, null, List.of(profile("Severus.Snape")))));
+        assertEquals(1, assembler.pendingBatches());
+        verify(dao, never()).retainAll(anySet());
+    }
+
+    private TrainerProfile profile(String username) {
+        return new TrainerProfile(username, "First", "Last", true, List.of());
+    }
+}